@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.util.HashUtil;
 import java.io.Serializable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -59,6 +60,8 @@ public class DDMForm implements Serializable {
 		ddmFormField.setDDMForm(this);
 
 		_ddmFormFields.add(ddmFormField);
+
+		clearDDMFormFieldsIndex();
 	}
 
 	public void addDDMFormRule(DDMFormRule ddmFormRule) {
@@ -95,25 +98,19 @@ public class DDMForm implements Serializable {
 		return _availableLocales;
 	}
 
+	/**
+	 * Returns the form fields. Changes made through the returned list are
+	 * written to the form and discard its field name index.
+	 */
 	public List<DDMFormField> getDDMFormFields() {
-		return _ddmFormFields;
+		return new DDMFormFieldsList(_ddmFormFields, this);
 	}
 
 	public Map<String, DDMFormField> getDDMFormFieldsMap(
 		boolean includeNestedDDMFormFields) {
 
-		Map<String, DDMFormField> ddmFormFieldsMap = new LinkedHashMap<>();
-
-		for (DDMFormField ddmFormField : _ddmFormFields) {
-			ddmFormFieldsMap.put(ddmFormField.getName(), ddmFormField);
-
-			if (includeNestedDDMFormFields) {
-				ddmFormFieldsMap.putAll(
-					ddmFormField.getNestedDDMFormFieldsMap());
-			}
-		}
-
-		return ddmFormFieldsMap;
+		return new LinkedHashMap<>(
+			getReadOnlyDDMFormFieldsMap(includeNestedDDMFormFields));
 	}
 
 	public List<DDMFormRule> getDDMFormRules() {
@@ -128,6 +125,31 @@ public class DDMForm implements Serializable {
 		return _defaultLocale;
 	}
 
+	/**
+	 * Returns the form fields indexed by name. The index is built on first use
+	 * and reused until the form's fields change, so the returned map cannot be
+	 * modified. Use {@link #getDDMFormFieldsMap(boolean)} for a copy that can.
+	 */
+	public Map<String, DDMFormField> getReadOnlyDDMFormFieldsMap(
+		boolean includeNestedDDMFormFields) {
+
+		DDMFormFieldsIndex ddmFormFieldsIndex = _ddmFormFieldsIndex;
+
+		if ((ddmFormFieldsIndex == null) ||
+			!ddmFormFieldsIndex.isValid(_ddmFormFields)) {
+
+			ddmFormFieldsIndex = new DDMFormFieldsIndex(_ddmFormFields);
+
+			_ddmFormFieldsIndex = ddmFormFieldsIndex;
+		}
+
+		if (includeNestedDDMFormFields) {
+			return ddmFormFieldsIndex._nestedDDMFormFieldsMap;
+		}
+
+		return ddmFormFieldsIndex._ddmFormFieldsMap;
+	}
+
 	@Override
 	public int hashCode() {
 		int hash = HashUtil.hash(0, _availableLocales);
@@ -151,6 +173,8 @@ public class DDMForm implements Serializable {
 		}
 
 		_ddmFormFields = ddmFormFields;
+
+		clearDDMFormFieldsIndex();
 	}
 
 	public void setDDMFormRules(List<DDMFormRule> ddmFormRules) {
@@ -168,11 +192,70 @@ public class DDMForm implements Serializable {
 		_defaultLocale = defaultLocale;
 	}
 
+	/**
+	 * Discards the field name index. Fields call this when their name or
+	 * nested fields change.
+	 */
+	protected void clearDDMFormFieldsIndex() {
+		_ddmFormFieldsIndex = null;
+	}
+
 	private Set<Locale> _availableLocales = new LinkedHashSet<>();
 	private List<DDMFormField> _ddmFormFields = new ArrayList<>();
+	private transient volatile DDMFormFieldsIndex _ddmFormFieldsIndex;
 	private List<DDMFormRule> _ddmFormRules = new ArrayList<>();
 	private DDMFormSuccessPageSettings _ddmFormSuccessPageSettings =
 		new DDMFormSuccessPageSettings();
 	private Locale _defaultLocale;
 
+	private static class DDMFormFieldsIndex {
+
+		public DDMFormFieldsIndex(List<DDMFormField> ddmFormFields) {
+			Map<String, DDMFormField> ddmFormFieldsMap = new LinkedHashMap<>();
+			Map<String, DDMFormField> nestedDDMFormFieldsMap =
+				new LinkedHashMap<>();
+
+			for (DDMFormField ddmFormField : ddmFormFields) {
+				ddmFormFieldsMap.put(ddmFormField.getName(), ddmFormField);
+
+				addDDMFormField(nestedDDMFormFieldsMap, ddmFormField);
+			}
+
+			_ddmFormFields = ddmFormFields;
+			_ddmFormFieldsCount = ddmFormFields.size();
+			_ddmFormFieldsMap = Collections.unmodifiableMap(ddmFormFieldsMap);
+			_nestedDDMFormFieldsMap = Collections.unmodifiableMap(
+				nestedDDMFormFieldsMap);
+		}
+
+		public boolean isValid(List<DDMFormField> ddmFormFields) {
+			if ((_ddmFormFields == ddmFormFields) &&
+				(_ddmFormFieldsCount == ddmFormFields.size())) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		protected void addDDMFormField(
+			Map<String, DDMFormField> ddmFormFieldsMap,
+			DDMFormField ddmFormField) {
+
+			ddmFormFieldsMap.put(ddmFormField.getName(), ddmFormField);
+
+			for (DDMFormField nestedDDMFormField :
+					ddmFormField.getNestedDDMFormFields()) {
+
+				addDDMFormField(ddmFormFieldsMap, nestedDDMFormField);
+			}
+		}
+
+		private final List<DDMFormField> _ddmFormFields;
+		private final int _ddmFormFieldsCount;
+		private final Map<String, DDMFormField> _ddmFormFieldsMap;
+		private final Map<String, DDMFormField> _nestedDDMFormFieldsMap;
+
+	}
+
 }
\ No newline at end of file
@@ -94,6 +94,8 @@ public class DDMFormField implements Serializable {
 		nestedDDMFormField.setDDMForm(_ddmForm);
 
 		_nestedDDMFormFields.add(nestedDDMFormField);
+
+		clearDDMFormFieldsIndex();
 	}
 
 	@Override
@@ -165,7 +167,7 @@ public class DDMFormField implements Serializable {
 	}
 
 	public List<DDMFormField> getNestedDDMFormFields() {
-		return _nestedDDMFormFields;
+		return new DDMFormFieldsList(_nestedDDMFormFields, this);
 	}
 
 	public Map<String, DDMFormField> getNestedDDMFormFieldsMap() {
@@ -304,10 +306,14 @@ public class DDMFormField implements Serializable {
 
 	public void setName(String name) {
 		_properties.put("name", name);
+
+		clearDDMFormFieldsIndex();
 	}
 
 	public void setNestedDDMFormFields(List<DDMFormField> nestedDDMFormFields) {
 		_nestedDDMFormFields = nestedDDMFormFields;
+
+		clearDDMFormFieldsIndex();
 	}
 
 	public void setPredefinedValue(LocalizedValue predefinedValue) {
@@ -316,6 +322,10 @@ public class DDMFormField implements Serializable {
 
 	public void setProperty(String name, Object value) {
 		_properties.put(name, value);
+
+		if (name.equals("name")) {
+			clearDDMFormFieldsIndex();
+		}
 	}
 
 	public void setReadOnly(boolean readOnly) {
@@ -350,6 +360,12 @@ public class DDMFormField implements Serializable {
 		_properties.put("visibilityExpression", visibilityExpression);
 	}
 
+	protected void clearDDMFormFieldsIndex() {
+		if (_ddmForm != null) {
+			_ddmForm.clearDDMFormFieldsIndex();
+		}
+	}
+
 	private DDMForm _ddmForm;
 	private List<DDMFormFieldRule> _ddmFormFieldRules = new ArrayList<>();
 	private List<DDMFormField> _nestedDDMFormFields = new ArrayList<>();
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.io.Serializable;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Exposes the fields of a form or the nested fields of a field, discarding the
+ * form's field name index whenever the list is changed.
+ *
+ * @author agent
+ */
+class DDMFormFieldsList
+	extends AbstractList<DDMFormField> implements Serializable {
+
+	public DDMFormFieldsList(
+		List<DDMFormField> ddmFormFields, DDMForm ddmForm) {
+
+		_ddmFormFields = ddmFormFields;
+		_ddmForm = ddmForm;
+
+		_ddmFormField = null;
+	}
+
+	public DDMFormFieldsList(
+		List<DDMFormField> ddmFormFields, DDMFormField ddmFormField) {
+
+		_ddmFormFields = ddmFormFields;
+		_ddmFormField = ddmFormField;
+
+		_ddmForm = null;
+	}
+
+	@Override
+	public void add(int index, DDMFormField ddmFormField) {
+		_ddmFormFields.add(index, ddmFormField);
+
+		modCount++;
+
+		clearDDMFormFieldsIndex();
+	}
+
+	@Override
+	public void clear() {
+		_ddmFormFields.clear();
+
+		modCount++;
+
+		clearDDMFormFieldsIndex();
+	}
+
+	@Override
+	public DDMFormField get(int index) {
+		return _ddmFormFields.get(index);
+	}
+
+	@Override
+	public DDMFormField remove(int index) {
+		DDMFormField ddmFormField = _ddmFormFields.remove(index);
+
+		modCount++;
+
+		clearDDMFormFieldsIndex();
+
+		return ddmFormField;
+	}
+
+	@Override
+	public DDMFormField set(int index, DDMFormField ddmFormField) {
+		DDMFormField oldDDMFormField = _ddmFormFields.set(index, ddmFormField);
+
+		clearDDMFormFieldsIndex();
+
+		return oldDDMFormField;
+	}
+
+	@Override
+	public int size() {
+		return _ddmFormFields.size();
+	}
+
+	protected void clearDDMFormFieldsIndex() {
+		if (_ddmForm != null) {
+			_ddmForm.clearDDMFormFieldsIndex();
+		}
+
+		if (_ddmFormField != null) {
+			_ddmFormField.clearDDMFormFieldsIndex();
+		}
+	}
+
+	private final DDMForm _ddmForm;
+	private final DDMFormField _ddmFormField;
+	private final List<DDMFormField> _ddmFormFields;
+
+}
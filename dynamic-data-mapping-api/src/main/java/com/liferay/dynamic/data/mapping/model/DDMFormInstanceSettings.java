@@ -53,7 +53,8 @@ import com.liferay.dynamic.data.mapping.annotations.DDMFormRule;
 							value = {
 								"requireAuthentication", "requireCaptcha",
 								"redirectURL", "storageType",
-								"workflowDefinition"
+								"workflowDefinition",
+								"processEntriesInBackground"
 							}
 						)
 					}
@@ -102,6 +103,12 @@ public interface DDMFormInstanceSettings {
 	)
 	public String emailToAddress();
 
+	@DDMFormField(
+		label = "%process-entries-in-the-background",
+		properties = {"showAsSwitcher=true"}, type = "checkbox"
+	)
+	public boolean processEntriesInBackground();
+
 	@DDMFormField
 	public boolean published();
 
@@ -114,6 +114,8 @@ public interface DDMStructure extends DDMStructureModel, PersistedModel {
 	public DDMStructureVersion getLatestStructureVersion()
 		throws com.liferay.portal.kernel.exception.PortalException;
 
+	public DDMForm getReadOnlyDDMForm();
+
 	public java.util.List<java.lang.String> getRootFieldNames();
 
 	public DDMStructureVersion getStructureVersion()
@@ -148,4 +150,6 @@ public interface DDMStructure extends DDMStructureModel, PersistedModel {
 		throws com.liferay.portal.kernel.exception.PortalException;
 
 	public void setDDMForm(DDMForm ddmForm);
+
+	public void setReadOnlyDDMForm(DDMForm ddmForm);
 }
\ No newline at end of file
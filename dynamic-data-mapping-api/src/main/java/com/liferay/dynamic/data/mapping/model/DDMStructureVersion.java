@@ -61,8 +61,12 @@ public interface DDMStructureVersion extends DDMStructureVersionModel,
 	public DDMFormLayout getDDMFormLayout()
 		throws com.liferay.portal.kernel.exception.PortalException;
 
+	public DDMForm getReadOnlyDDMForm();
+
 	public DDMStructure getStructure()
 		throws com.liferay.portal.kernel.exception.PortalException;
 
 	public void setDDMForm(DDMForm ddmForm);
+
+	public void setReadOnlyDDMForm(DDMForm ddmForm);
 }
\ No newline at end of file
@@ -447,6 +447,11 @@ public class DDMStructureVersionWrapper implements DDMStructureVersion,
 		return _ddmStructureVersion.getPrimaryKeyObj();
 	}
 
+	@Override
+	public DDMForm getReadOnlyDDMForm() {
+		return _ddmStructureVersion.getReadOnlyDDMForm();
+	}
+
 	/**
 	* Returns the status of this ddm structure version.
 	*
@@ -922,6 +927,11 @@ public class DDMStructureVersionWrapper implements DDMStructureVersion,
 		_ddmStructureVersion.setPrimaryKeyObj(primaryKeyObj);
 	}
 
+	@Override
+	public void setReadOnlyDDMForm(DDMForm ddmForm) {
+		_ddmStructureVersion.setReadOnlyDDMForm(ddmForm);
+	}
+
 	/**
 	* Sets the status of this ddm structure version.
 	*
@@ -609,6 +609,11 @@ public class DDMStructureWrapper implements DDMStructure,
 		return _ddmStructure.getPrimaryKeyObj();
 	}
 
+	@Override
+	public DDMForm getReadOnlyDDMForm() {
+		return _ddmStructure.getReadOnlyDDMForm();
+	}
+
 	@Override
 	public java.util.List<java.lang.String> getRootFieldNames() {
 		return _ddmStructure.getRootFieldNames();
@@ -1080,6 +1085,11 @@ public class DDMStructureWrapper implements DDMStructure,
 		_ddmStructure.setPrimaryKeyObj(primaryKeyObj);
 	}
 
+	@Override
+	public void setReadOnlyDDMForm(DDMForm ddmForm) {
+		_ddmStructure.setReadOnlyDDMForm(ddmForm);
+	}
+
 	/**
 	* Sets the storage type of this ddm structure.
 	*
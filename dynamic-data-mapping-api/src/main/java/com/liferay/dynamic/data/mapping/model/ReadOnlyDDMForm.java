@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Provides a snapshot of a {@link DDMForm} whose locales, fields, field
+ * properties, rules and success page settings cannot be modified, so a single
+ * instance can be shared by every caller that only reads the form. The field
+ * maps are computed once, when the snapshot is created. Use {@link
+ * DDMForm#DDMForm(DDMForm)} to get a modifiable copy.
+ *
+ * @author agent
+ */
+public class ReadOnlyDDMForm extends DDMForm {
+
+	public ReadOnlyDDMForm(DDMForm ddmForm) {
+		super.setAvailableLocales(
+			Collections.unmodifiableSet(
+				new LinkedHashSet<>(ddmForm.getAvailableLocales())));
+
+		List<DDMFormField> ddmFormFields = new ArrayList<>();
+
+		for (DDMFormField ddmFormField : ddmForm.getDDMFormFields()) {
+			ddmFormFields.add(new ReadOnlyDDMFormField(ddmFormField));
+		}
+
+		super.setDDMFormFields(Collections.unmodifiableList(ddmFormFields));
+
+		List<DDMFormRule> ddmFormRules = new ArrayList<>();
+
+		for (DDMFormRule ddmFormRule : ddmForm.getDDMFormRules()) {
+			ddmFormRules.add(new ReadOnlyDDMFormRule(ddmFormRule));
+		}
+
+		super.setDDMFormRules(Collections.unmodifiableList(ddmFormRules));
+
+		super.setDDMFormSuccessPageSettings(
+			ddmForm.getDDMFormSuccessPageSettings());
+		super.setDefaultLocale(ddmForm.getDefaultLocale());
+
+		_ddmFormSuccessPageSettings = new ReadOnlyDDMFormSuccessPageSettings(
+			ddmForm.getDDMFormSuccessPageSettings());
+
+		_ddmFormFieldsMap = super.getReadOnlyDDMFormFieldsMap(false);
+		_nestedDDMFormFieldsMap = super.getReadOnlyDDMFormFieldsMap(true);
+	}
+
+	@Override
+	public void addAvailableLocale(Locale locale) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addDDMFormField(DDMFormField ddmFormField) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addDDMFormRule(DDMFormRule ddmFormRule) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public DDMFormSuccessPageSettings getDDMFormSuccessPageSettings() {
+		return _ddmFormSuccessPageSettings;
+	}
+
+	@Override
+	public Map<String, DDMFormField> getReadOnlyDDMFormFieldsMap(
+		boolean includeNestedDDMFormFields) {
+
+		if (includeNestedDDMFormFields) {
+			return _nestedDDMFormFieldsMap;
+		}
+
+		return _ddmFormFieldsMap;
+	}
+
+	@Override
+	public void setAvailableLocales(Set<Locale> availableLocales) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setDDMFormFields(List<DDMFormField> ddmFormFields) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setDDMFormRules(List<DDMFormRule> ddmFormRules) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setDDMFormSuccessPageSettings(
+		DDMFormSuccessPageSettings ddmFormSuccessPageSettings) {
+
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setDefaultLocale(Locale defaultLocale) {
+		throw new UnsupportedOperationException();
+	}
+
+	private final Map<String, DDMFormField> _ddmFormFieldsMap;
+	private final DDMFormSuccessPageSettings _ddmFormSuccessPageSettings;
+	private final Map<String, DDMFormField> _nestedDDMFormFieldsMap;
+
+}
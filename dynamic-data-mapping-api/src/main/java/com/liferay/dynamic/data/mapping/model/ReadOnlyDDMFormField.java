@@ -0,0 +1,340 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author agent
+ */
+class ReadOnlyDDMFormField extends DDMFormField {
+
+	public ReadOnlyDDMFormField(DDMFormField ddmFormField) {
+		super(ddmFormField);
+
+		List<DDMFormField> nestedDDMFormFields = new ArrayList<>();
+
+		for (DDMFormField nestedDDMFormField :
+				ddmFormField.getNestedDDMFormFields()) {
+
+			nestedDDMFormFields.add(
+				new ReadOnlyDDMFormField(nestedDDMFormField));
+		}
+
+		super.setNestedDDMFormFields(
+			Collections.unmodifiableList(nestedDDMFormFields));
+
+		_ddmFormFieldRules = Collections.unmodifiableList(
+			super.getDDMFormFieldRules());
+		_nestedDDMFormFieldsMap = Collections.unmodifiableMap(
+			super.getNestedDDMFormFieldsMap());
+
+		Map<String, Object> properties = new LinkedHashMap<>();
+
+		for (Map.Entry<String, Object> entry :
+				super.getProperties().entrySet()) {
+
+			properties.put(
+				entry.getKey(), _toReadOnlyPropertyValue(entry.getValue()));
+		}
+
+		_properties = Collections.unmodifiableMap(properties);
+
+		_readOnly = true;
+	}
+
+	/**
+	 * @deprecated As of 3.5.0, with no direct replacement
+	 */
+	@Deprecated
+	@Override
+	public void addDDMFormFieldRule(DDMFormFieldRule ddmFormFieldRule) {
+		checkModifiable();
+
+		super.addDDMFormFieldRule(ddmFormFieldRule);
+	}
+
+	@Override
+	public void addNestedDDMFormField(DDMFormField nestedDDMFormField) {
+		checkModifiable();
+
+		super.addNestedDDMFormField(nestedDDMFormField);
+	}
+
+	@Override
+	public DDMFormFieldOptions getDDMFormFieldOptions() {
+		return (DDMFormFieldOptions)_properties.get("options");
+	}
+
+	/**
+	 * @deprecated As of 3.5.0, with no direct replacement
+	 */
+	@Deprecated
+	@Override
+	public List<DDMFormFieldRule> getDDMFormFieldRules() {
+		return _ddmFormFieldRules;
+	}
+
+	@Override
+	public DDMFormFieldValidation getDDMFormFieldValidation() {
+		Object value = _properties.get("validation");
+
+		if (value instanceof DDMFormFieldValidation) {
+			return (DDMFormFieldValidation)value;
+		}
+
+		return null;
+	}
+
+	@Override
+	public LocalizedValue getLabel() {
+		return (LocalizedValue)_properties.get("label");
+	}
+
+	@Override
+	public Map<String, DDMFormField> getNestedDDMFormFieldsMap() {
+		return _nestedDDMFormFieldsMap;
+	}
+
+	@Override
+	public LocalizedValue getPredefinedValue() {
+		return (LocalizedValue)_properties.get("predefinedValue");
+	}
+
+	@Override
+	public Map<String, Object> getProperties() {
+		return _properties;
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		return _properties.get(name);
+	}
+
+	@Override
+	public LocalizedValue getStyle() {
+		return (LocalizedValue)_properties.get("style");
+	}
+
+	@Override
+	public LocalizedValue getTip() {
+		return (LocalizedValue)_properties.get("tip");
+	}
+
+	@Override
+	public void setDataType(String dataType) {
+		checkModifiable();
+
+		super.setDataType(dataType);
+	}
+
+	/**
+	 * Binds the field to the form it belongs to. A read only field can only be
+	 * bound once, by the {@link ReadOnlyDDMForm} that holds it.
+	 */
+	@Override
+	public void setDDMForm(DDMForm ddmForm) {
+		if (getDDMForm() != null) {
+			checkModifiable();
+		}
+
+		super.setDDMForm(ddmForm);
+	}
+
+	@Override
+	public void setDDMFormFieldOptions(
+		DDMFormFieldOptions ddmFormFieldOptions) {
+
+		checkModifiable();
+
+		super.setDDMFormFieldOptions(ddmFormFieldOptions);
+	}
+
+	/**
+	 * @deprecated As of 3.5.0, with no direct replacement
+	 */
+	@Deprecated
+	@Override
+	public void setDDMFormFieldRules(List<DDMFormFieldRule> ddmFormFieldRules) {
+		checkModifiable();
+
+		super.setDDMFormFieldRules(ddmFormFieldRules);
+	}
+
+	@Override
+	public void setDDMFormFieldValidation(
+		DDMFormFieldValidation ddmFormFieldValidation) {
+
+		checkModifiable();
+
+		super.setDDMFormFieldValidation(ddmFormFieldValidation);
+	}
+
+	@Override
+	public void setFieldNamespace(String fieldNamespace) {
+		checkModifiable();
+
+		super.setFieldNamespace(fieldNamespace);
+	}
+
+	@Override
+	public void setIndexType(String indexType) {
+		checkModifiable();
+
+		super.setIndexType(indexType);
+	}
+
+	@Override
+	public void setLabel(LocalizedValue label) {
+		checkModifiable();
+
+		super.setLabel(label);
+	}
+
+	@Override
+	public void setLocalizable(boolean localizable) {
+		checkModifiable();
+
+		super.setLocalizable(localizable);
+	}
+
+	@Override
+	public void setMultiple(boolean multiple) {
+		checkModifiable();
+
+		super.setMultiple(multiple);
+	}
+
+	@Override
+	public void setName(String name) {
+		checkModifiable();
+
+		super.setName(name);
+	}
+
+	@Override
+	public void setNestedDDMFormFields(List<DDMFormField> nestedDDMFormFields) {
+		checkModifiable();
+
+		super.setNestedDDMFormFields(nestedDDMFormFields);
+	}
+
+	@Override
+	public void setPredefinedValue(LocalizedValue predefinedValue) {
+		checkModifiable();
+
+		super.setPredefinedValue(predefinedValue);
+	}
+
+	@Override
+	public void setProperty(String name, Object value) {
+		checkModifiable();
+
+		super.setProperty(name, value);
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) {
+		checkModifiable();
+
+		super.setReadOnly(readOnly);
+	}
+
+	@Override
+	public void setRepeatable(boolean repeatable) {
+		checkModifiable();
+
+		super.setRepeatable(repeatable);
+	}
+
+	@Override
+	public void setRequired(boolean required) {
+		checkModifiable();
+
+		super.setRequired(required);
+	}
+
+	@Override
+	public void setShowLabel(boolean showLabel) {
+		checkModifiable();
+
+		super.setShowLabel(showLabel);
+	}
+
+	@Override
+	public void setStyle(LocalizedValue style) {
+		checkModifiable();
+
+		super.setStyle(style);
+	}
+
+	@Override
+	public void setTip(LocalizedValue tip) {
+		checkModifiable();
+
+		super.setTip(tip);
+	}
+
+	@Override
+	public void setType(String type) {
+		checkModifiable();
+
+		super.setType(type);
+	}
+
+	@Override
+	public void setVisibilityExpression(String visibilityExpression) {
+		checkModifiable();
+
+		super.setVisibilityExpression(visibilityExpression);
+	}
+
+	/**
+	 * The copy constructor of {@link DDMFormField} populates this field through
+	 * its setters, so they only reject changes once construction is complete.
+	 */
+	protected void checkModifiable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private Object _toReadOnlyPropertyValue(Object value) {
+		if (value instanceof DDMFormFieldOptions) {
+			return new ReadOnlyDDMFormFieldOptions((DDMFormFieldOptions)value);
+		}
+
+		if (value instanceof DDMFormFieldValidation) {
+			return new ReadOnlyDDMFormFieldValidation(
+				(DDMFormFieldValidation)value);
+		}
+
+		if (value instanceof LocalizedValue) {
+			return new ReadOnlyLocalizedValue((LocalizedValue)value);
+		}
+
+		return value;
+	}
+
+	private List<DDMFormFieldRule> _ddmFormFieldRules;
+	private Map<String, DDMFormField> _nestedDDMFormFieldsMap;
+	private Map<String, Object> _properties;
+	private boolean _readOnly;
+
+}
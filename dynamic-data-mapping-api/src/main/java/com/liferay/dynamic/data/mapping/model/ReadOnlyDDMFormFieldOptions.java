@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author agent
+ */
+class ReadOnlyDDMFormFieldOptions extends DDMFormFieldOptions {
+
+	public ReadOnlyDDMFormFieldOptions(
+		DDMFormFieldOptions ddmFormFieldOptions) {
+
+		super(ddmFormFieldOptions);
+
+		Map<String, LocalizedValue> options = new LinkedHashMap<>();
+
+		for (Map.Entry<String, LocalizedValue> entry :
+				super.getOptions().entrySet()) {
+
+			options.put(
+				entry.getKey(), new ReadOnlyLocalizedValue(entry.getValue()));
+		}
+
+		_options = Collections.unmodifiableMap(options);
+
+		_readOnly = true;
+	}
+
+	@Override
+	public void addOption(String value) {
+		checkModifiable();
+
+		super.addOption(value);
+	}
+
+	@Override
+	public void addOptionLabel(
+		String optionValue, Locale locale, String label) {
+
+		checkModifiable();
+
+		super.addOptionLabel(optionValue, locale, label);
+	}
+
+	@Override
+	public LocalizedValue getOptionLabels(String optionValue) {
+		return _options.get(optionValue);
+	}
+
+	@Override
+	public Map<String, LocalizedValue> getOptions() {
+		return _options;
+	}
+
+	@Override
+	public Set<String> getOptionsValues() {
+		return _options.keySet();
+	}
+
+	@Override
+	public void setDefaultLocale(Locale defaultLocale) {
+		checkModifiable();
+
+		super.setDefaultLocale(defaultLocale);
+	}
+
+	/**
+	 * The copy constructor of {@link DDMFormFieldOptions} populates these
+	 * options through {@link #addOptionLabel(String, Locale, String)}, so it
+	 * only rejects changes once construction is complete.
+	 */
+	protected void checkModifiable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private final Map<String, LocalizedValue> _options;
+	private final boolean _readOnly;
+
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author agent
+ */
+class ReadOnlyDDMFormRule extends DDMFormRule {
+
+	public ReadOnlyDDMFormRule(DDMFormRule ddmFormRule) {
+		super(ddmFormRule);
+
+		_actions = Collections.unmodifiableList(super.getActions());
+	}
+
+	@Override
+	public List<String> getActions() {
+		return _actions;
+	}
+
+	@Override
+	public void setActions(List<String> actions) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setCondition(String condition) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		throw new UnsupportedOperationException();
+	}
+
+	private final List<String> _actions;
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+/**
+ * @author agent
+ */
+class ReadOnlyDDMFormSuccessPageSettings extends DDMFormSuccessPageSettings {
+
+	public ReadOnlyDDMFormSuccessPageSettings(
+		DDMFormSuccessPageSettings ddmFormSuccessPageSettings) {
+
+		super(ddmFormSuccessPageSettings);
+
+		_body = _toReadOnlyLocalizedValue(super.getBody());
+		_title = _toReadOnlyLocalizedValue(super.getTitle());
+	}
+
+	@Override
+	public LocalizedValue getBody() {
+		return _body;
+	}
+
+	@Override
+	public LocalizedValue getTitle() {
+		return _title;
+	}
+
+	@Override
+	public void setBody(LocalizedValue body) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setTitle(LocalizedValue title) {
+		throw new UnsupportedOperationException();
+	}
+
+	private LocalizedValue _toReadOnlyLocalizedValue(
+		LocalizedValue localizedValue) {
+
+		if (localizedValue == null) {
+			return null;
+		}
+
+		return new ReadOnlyLocalizedValue(localizedValue);
+	}
+
+	private final LocalizedValue _body;
+	private final LocalizedValue _title;
+
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author agent
+ */
+class ReadOnlyLocalizedValue extends LocalizedValue {
+
+	public ReadOnlyLocalizedValue(LocalizedValue localizedValue) {
+		super(localizedValue);
+
+		_values = Collections.unmodifiableMap(super.getValues());
+
+		_readOnly = true;
+	}
+
+	@Override
+	public void addString(Locale locale, String value) {
+		checkModifiable();
+
+		super.addString(locale, value);
+	}
+
+	@Override
+	public Set<Locale> getAvailableLocales() {
+		return _values.keySet();
+	}
+
+	@Override
+	public Map<Locale, String> getValues() {
+		return _values;
+	}
+
+	@Override
+	public void setDefaultLocale(Locale defaultLocale) {
+		checkModifiable();
+
+		super.setDefaultLocale(defaultLocale);
+	}
+
+	/**
+	 * The copy constructor of {@link LocalizedValue} populates this value
+	 * through {@link #addString(Locale, String)}, so it only rejects changes
+	 * once construction is complete.
+	 */
+	protected void checkModifiable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private final Map<Locale, String> _values;
+	private final boolean _readOnly;
+
+}
@@ -86,6 +86,11 @@ public interface DDMFormInstanceRecordLocalService extends BaseLocalService,
 		long groupId, long ddmFormInstanceId, DDMFormValues ddmFormValues,
 		ServiceContext serviceContext) throws PortalException;
 
+	public List<DDMFormInstanceRecord> addFormInstanceRecords(long userId,
+		long groupId, long ddmFormInstanceId,
+		List<DDMFormValues> ddmFormValuesList, ServiceContext serviceContext)
+		throws PortalException;
+
 	/**
 	* Creates a new ddm form instance record with the primary key. Does not add the ddm form instance record to the database.
 	*
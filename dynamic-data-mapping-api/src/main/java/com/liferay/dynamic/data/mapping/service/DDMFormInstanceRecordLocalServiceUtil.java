@@ -63,6 +63,16 @@ public class DDMFormInstanceRecordLocalServiceUtil {
 			ddmFormValues, serviceContext);
 	}
 
+	public static java.util.List<com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord> addFormInstanceRecords(
+		long userId, long groupId, long ddmFormInstanceId,
+		java.util.List<com.liferay.dynamic.data.mapping.storage.DDMFormValues> ddmFormValuesList,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .addFormInstanceRecords(userId, groupId, ddmFormInstanceId,
+			ddmFormValuesList, serviceContext);
+	}
+
 	/**
 	* Creates a new ddm form instance record with the primary key. Does not add the ddm form instance record to the database.
 	*
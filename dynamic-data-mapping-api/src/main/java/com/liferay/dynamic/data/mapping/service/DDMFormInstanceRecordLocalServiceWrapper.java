@@ -56,6 +56,16 @@ public class DDMFormInstanceRecordLocalServiceWrapper
 			groupId, ddmFormInstanceId, ddmFormValues, serviceContext);
 	}
 
+	@Override
+	public java.util.List<com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord> addFormInstanceRecords(
+		long userId, long groupId, long ddmFormInstanceId,
+		java.util.List<com.liferay.dynamic.data.mapping.storage.DDMFormValues> ddmFormValuesList,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _ddmFormInstanceRecordLocalService.addFormInstanceRecords(userId,
+			groupId, ddmFormInstanceId, ddmFormValuesList, serviceContext);
+	}
+
 	/**
 	* Creates a new ddm form instance record with the primary key. Does not add the ddm form instance record to the database.
 	*
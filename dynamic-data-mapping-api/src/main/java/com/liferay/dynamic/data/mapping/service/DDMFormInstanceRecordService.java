@@ -60,6 +60,10 @@ public interface DDMFormInstanceRecordService extends BaseService {
 		long ddmFormInstanceId, DDMFormValues ddmFormValues,
 		ServiceContext serviceContext) throws PortalException;
 
+	public List<DDMFormInstanceRecord> addFormInstanceRecords(long groupId,
+		long ddmFormInstanceId, List<DDMFormValues> ddmFormValuesList,
+		ServiceContext serviceContext) throws PortalException;
+
 	public void deleteFormInstanceRecord(long ddmFormInstanceRecordId)
 		throws PortalException;
 
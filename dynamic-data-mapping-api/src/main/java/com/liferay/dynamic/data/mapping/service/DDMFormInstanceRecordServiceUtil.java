@@ -51,6 +51,16 @@ public class DDMFormInstanceRecordServiceUtil {
 			ddmFormValues, serviceContext);
 	}
 
+	public static java.util.List<com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord> addFormInstanceRecords(
+		long groupId, long ddmFormInstanceId,
+		java.util.List<com.liferay.dynamic.data.mapping.storage.DDMFormValues> ddmFormValuesList,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .addFormInstanceRecords(groupId, ddmFormInstanceId,
+			ddmFormValuesList, serviceContext);
+	}
+
 	public static void deleteFormInstanceRecord(long ddmFormInstanceRecordId)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		getService().deleteFormInstanceRecord(ddmFormInstanceRecordId);
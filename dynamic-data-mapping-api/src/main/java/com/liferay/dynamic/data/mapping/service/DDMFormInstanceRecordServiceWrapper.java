@@ -44,6 +44,16 @@ public class DDMFormInstanceRecordServiceWrapper
 			ddmFormInstanceId, ddmFormValues, serviceContext);
 	}
 
+	@Override
+	public java.util.List<com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord> addFormInstanceRecords(
+		long groupId, long ddmFormInstanceId,
+		java.util.List<com.liferay.dynamic.data.mapping.storage.DDMFormValues> ddmFormValuesList,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _ddmFormInstanceRecordService.addFormInstanceRecords(groupId,
+			ddmFormInstanceId, ddmFormValuesList, serviceContext);
+	}
+
 	@Override
 	public void deleteFormInstanceRecord(long ddmFormInstanceRecordId)
 		throws com.liferay.portal.kernel.exception.PortalException {
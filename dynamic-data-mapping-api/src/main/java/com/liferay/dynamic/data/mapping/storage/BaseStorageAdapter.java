@@ -22,6 +22,10 @@ import com.liferay.dynamic.data.mapping.util.HTMLSanitizerDDMFormFieldValueTrans
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.service.ServiceContext;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Eduardo Lundgren
  * @author Brian Wing Shun Chan
@@ -49,6 +53,29 @@ public abstract class BaseStorageAdapter implements StorageAdapter {
 		}
 	}
 
+	@Override
+	public long[] create(
+			long companyId, long ddmStructureId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws StorageException {
+
+		try {
+			for (DDMFormValues ddmFormValues : ddmFormValuesList) {
+				transformDDMFormValues(ddmFormValues, serviceContext);
+			}
+
+			return doCreate(
+				companyId, ddmStructureId, ddmFormValuesList, serviceContext);
+		}
+		catch (StorageException se) {
+			throw se;
+		}
+		catch (Exception e) {
+			throw new StorageException(e);
+		}
+	}
+
 	@Override
 	public void deleteByClass(long classPK) throws StorageException {
 		try {
@@ -92,6 +119,21 @@ public abstract class BaseStorageAdapter implements StorageAdapter {
 		}
 	}
 
+	@Override
+	public Map<Long, DDMFormValues> getDDMFormValues(long[] classPKs)
+		throws StorageException {
+
+		try {
+			return doGetDDMFormValues(classPKs);
+		}
+		catch (StorageException se) {
+			throw se;
+		}
+		catch (Exception e) {
+			throw new StorageException(e);
+		}
+	}
+
 	@Override
 	public void update(
 			long classPK, DDMFormValues ddmFormValues,
@@ -116,6 +158,23 @@ public abstract class BaseStorageAdapter implements StorageAdapter {
 			ServiceContext serviceContext)
 		throws Exception;
 
+	protected long[] doCreate(
+			long companyId, long ddmStructureId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws Exception {
+
+		long[] classPKs = new long[ddmFormValuesList.size()];
+
+		for (int i = 0; i < classPKs.length; i++) {
+			classPKs[i] = doCreate(
+				companyId, ddmStructureId, ddmFormValuesList.get(i),
+				serviceContext);
+		}
+
+		return classPKs;
+	}
+
 	protected abstract void doDeleteByClass(long classPK) throws Exception;
 
 	protected abstract void doDeleteByDDMStructure(long ddmStructureId)
@@ -124,6 +183,18 @@ public abstract class BaseStorageAdapter implements StorageAdapter {
 	protected abstract DDMFormValues doGetDDMFormValues(long classPK)
 		throws Exception;
 
+	protected Map<Long, DDMFormValues> doGetDDMFormValues(long[] classPKs)
+		throws Exception {
+
+		Map<Long, DDMFormValues> ddmFormValuesMap = new LinkedHashMap<>();
+
+		for (long classPK : classPKs) {
+			ddmFormValuesMap.put(classPK, doGetDDMFormValues(classPK));
+		}
+
+		return ddmFormValuesMap;
+	}
+
 	protected abstract void doUpdate(
 			long classPK, DDMFormValues ddmFormValues,
 			ServiceContext serviceContext)
@@ -71,7 +71,7 @@ public class DDMFormFieldValue implements Serializable {
 		DDMForm ddmForm = _ddmFormValues.getDDMForm();
 
 		Map<String, DDMFormField> ddmFormFieldsMap =
-			ddmForm.getDDMFormFieldsMap(true);
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
 
 		return ddmFormFieldsMap.get(_name);
 	}
@@ -155,6 +155,10 @@ public class DDMFormFieldValue implements Serializable {
 
 	public void setName(String name) {
 		_name = name;
+
+		if (_ddmFormValues != null) {
+			_ddmFormValues.clearDDMFormFieldValuesIndex();
+		}
 	}
 
 	public void setNestedDDMFormFields(
@@ -19,7 +19,9 @@ import com.liferay.portal.kernel.util.HashUtil;
 
 import java.io.Serializable;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -46,6 +48,8 @@ public class DDMFormValues implements Serializable {
 		ddmFormFieldValue.setDDMFormValues(this);
 
 		_ddmFormFieldValues.add(ddmFormFieldValue);
+
+		clearDDMFormFieldValuesIndex();
 	}
 
 	@Override
@@ -80,26 +84,26 @@ public class DDMFormValues implements Serializable {
 		return _ddmForm;
 	}
 
+	/**
+	 * Returns the form field values. Changes made through the returned list
+	 * are written to the form values and discard their field name index.
+	 */
 	public List<DDMFormFieldValue> getDDMFormFieldValues() {
-		return _ddmFormFieldValues;
+		return new DDMFormFieldValuesList();
 	}
 
 	public Map<String, List<DDMFormFieldValue>> getDDMFormFieldValuesMap() {
+		Map<String, List<DDMFormFieldValue>> readOnlyDDMFormFieldValuesMap =
+			getReadOnlyDDMFormFieldValuesMap();
+
 		Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
 			new LinkedHashMap<>();
 
-		for (DDMFormFieldValue ddmFormFieldValue : _ddmFormFieldValues) {
-			List<DDMFormFieldValue> ddmFormFieldValues =
-				ddmFormFieldValuesMap.get(ddmFormFieldValue.getName());
-
-			if (ddmFormFieldValues == null) {
-				ddmFormFieldValues = new ArrayList<>();
-
-				ddmFormFieldValuesMap.put(
-					ddmFormFieldValue.getName(), ddmFormFieldValues);
-			}
+		for (Map.Entry<String, List<DDMFormFieldValue>> entry :
+				readOnlyDDMFormFieldValuesMap.entrySet()) {
 
-			ddmFormFieldValues.add(ddmFormFieldValue);
+			ddmFormFieldValuesMap.put(
+				entry.getKey(), new ArrayList<>(entry.getValue()));
 		}
 
 		return ddmFormFieldValuesMap;
@@ -109,6 +113,30 @@ public class DDMFormValues implements Serializable {
 		return _defaultLocale;
 	}
 
+	/**
+	 * Returns the form field values grouped by field name. The index is built
+	 * on first use and reused until the form field values change, so neither
+	 * the returned map nor its lists can be modified. Use {@link
+	 * #getDDMFormFieldValuesMap()} for a copy that can.
+	 */
+	public Map<String, List<DDMFormFieldValue>>
+		getReadOnlyDDMFormFieldValuesMap() {
+
+		DDMFormFieldValuesIndex ddmFormFieldValuesIndex =
+			_ddmFormFieldValuesIndex;
+
+		if ((ddmFormFieldValuesIndex == null) ||
+			!ddmFormFieldValuesIndex.isValid(_ddmFormFieldValues)) {
+
+			ddmFormFieldValuesIndex = new DDMFormFieldValuesIndex(
+				_ddmFormFieldValues);
+
+			_ddmFormFieldValuesIndex = ddmFormFieldValuesIndex;
+		}
+
+		return ddmFormFieldValuesIndex._ddmFormFieldValuesMap;
+	}
+
 	@Override
 	public int hashCode() {
 		int hash = HashUtil.hash(0, _availableLocales);
@@ -130,15 +158,135 @@ public class DDMFormValues implements Serializable {
 		}
 
 		_ddmFormFieldValues = ddmFormFieldValues;
+
+		clearDDMFormFieldValuesIndex();
 	}
 
 	public void setDefaultLocale(Locale defaultLocale) {
 		_defaultLocale = defaultLocale;
 	}
 
+	/**
+	 * Discards the field name index. Field values call this when their name
+	 * changes.
+	 */
+	protected void clearDDMFormFieldValuesIndex() {
+		_ddmFormFieldValuesIndex = null;
+	}
+
 	private Set<Locale> _availableLocales = new LinkedHashSet<>();
 	private final DDMForm _ddmForm;
 	private List<DDMFormFieldValue> _ddmFormFieldValues = new ArrayList<>();
+	private transient volatile DDMFormFieldValuesIndex
+		_ddmFormFieldValuesIndex;
 	private Locale _defaultLocale;
 
+	private static class DDMFormFieldValuesIndex {
+
+		public DDMFormFieldValuesIndex(
+			List<DDMFormFieldValue> ddmFormFieldValues) {
+
+			Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
+				new LinkedHashMap<>();
+
+			for (DDMFormFieldValue ddmFormFieldValue : ddmFormFieldValues) {
+				List<DDMFormFieldValue> curDDMFormFieldValues =
+					ddmFormFieldValuesMap.get(ddmFormFieldValue.getName());
+
+				if (curDDMFormFieldValues == null) {
+					curDDMFormFieldValues = new ArrayList<>();
+
+					ddmFormFieldValuesMap.put(
+						ddmFormFieldValue.getName(), curDDMFormFieldValues);
+				}
+
+				curDDMFormFieldValues.add(ddmFormFieldValue);
+			}
+
+			for (Map.Entry<String, List<DDMFormFieldValue>> entry :
+					ddmFormFieldValuesMap.entrySet()) {
+
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+
+			_ddmFormFieldValues = ddmFormFieldValues;
+			_ddmFormFieldValuesCount = ddmFormFieldValues.size();
+			_ddmFormFieldValuesMap = Collections.unmodifiableMap(
+				ddmFormFieldValuesMap);
+		}
+
+		public boolean isValid(List<DDMFormFieldValue> ddmFormFieldValues) {
+			if ((_ddmFormFieldValues == ddmFormFieldValues) &&
+				(_ddmFormFieldValuesCount == ddmFormFieldValues.size())) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		private final List<DDMFormFieldValue> _ddmFormFieldValues;
+		private final int _ddmFormFieldValuesCount;
+		private final Map<String, List<DDMFormFieldValue>>
+			_ddmFormFieldValuesMap;
+
+	}
+
+	private class DDMFormFieldValuesList
+		extends AbstractList<DDMFormFieldValue> implements Serializable {
+
+		@Override
+		public void add(int index, DDMFormFieldValue ddmFormFieldValue) {
+			_ddmFormFieldValues.add(index, ddmFormFieldValue);
+
+			modCount++;
+
+			clearDDMFormFieldValuesIndex();
+		}
+
+		@Override
+		public void clear() {
+			_ddmFormFieldValues.clear();
+
+			modCount++;
+
+			clearDDMFormFieldValuesIndex();
+		}
+
+		@Override
+		public DDMFormFieldValue get(int index) {
+			return _ddmFormFieldValues.get(index);
+		}
+
+		@Override
+		public DDMFormFieldValue remove(int index) {
+			DDMFormFieldValue ddmFormFieldValue = _ddmFormFieldValues.remove(
+				index);
+
+			modCount++;
+
+			clearDDMFormFieldValuesIndex();
+
+			return ddmFormFieldValue;
+		}
+
+		@Override
+		public DDMFormFieldValue set(
+			int index, DDMFormFieldValue ddmFormFieldValue) {
+
+			DDMFormFieldValue oldDDMFormFieldValue = _ddmFormFieldValues.set(
+				index, ddmFormFieldValue);
+
+			clearDDMFormFieldValuesIndex();
+
+			return oldDDMFormFieldValue;
+		}
+
+		@Override
+		public int size() {
+			return _ddmFormFieldValues.size();
+		}
+
+	}
+
 }
\ No newline at end of file
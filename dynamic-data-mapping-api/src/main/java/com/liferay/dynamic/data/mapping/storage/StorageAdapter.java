@@ -17,6 +17,10 @@ package com.liferay.dynamic.data.mapping.storage;
 import com.liferay.dynamic.data.mapping.exception.StorageException;
 import com.liferay.portal.kernel.service.ServiceContext;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Eduardo Lundgren
  * @author Brian Wing Shun Chan
@@ -29,6 +33,23 @@ public interface StorageAdapter {
 			ServiceContext serviceContext)
 		throws StorageException;
 
+	public default long[] create(
+			long companyId, long ddmStructureId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws StorageException {
+
+		long[] classPKs = new long[ddmFormValuesList.size()];
+
+		for (int i = 0; i < classPKs.length; i++) {
+			classPKs[i] = create(
+				companyId, ddmStructureId, ddmFormValuesList.get(i),
+				serviceContext);
+		}
+
+		return classPKs;
+	}
+
 	public void deleteByClass(long classPK) throws StorageException;
 
 	public void deleteByDDMStructure(long ddmStructureId)
@@ -36,6 +57,18 @@ public interface StorageAdapter {
 
 	public DDMFormValues getDDMFormValues(long classPK) throws StorageException;
 
+	public default Map<Long, DDMFormValues> getDDMFormValues(long[] classPKs)
+		throws StorageException {
+
+		Map<Long, DDMFormValues> ddmFormValuesMap = new LinkedHashMap<>();
+
+		for (long classPK : classPKs) {
+			ddmFormValuesMap.put(classPK, getDDMFormValues(classPK));
+		}
+
+		return ddmFormValuesMap;
+	}
+
 	public String getStorageType();
 
 	public void update(
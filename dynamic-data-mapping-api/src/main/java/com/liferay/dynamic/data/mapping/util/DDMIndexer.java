@@ -19,10 +19,13 @@ import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.petra.string.StringPool;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.filter.QueryFilter;
+import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 
 import java.io.Serializable;
 
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * @author Alexander Chow
@@ -41,6 +44,43 @@ public interface DDMIndexer {
 		Document document, DDMStructure ddmStructure,
 		DDMFormValues ddmFormValues);
 
+	/**
+	 * Adds the attributes of the form values to the document and, for each
+	 * available locale, a text field named
+	 * <code>indexableAttributesFieldName_languageId</code> holding what
+	 * {@link #extractIndexableAttributes(DDMStructure, DDMFormValues, Locale)}
+	 * returns for that locale. The form values are converted and the field
+	 * properties are read only once for all locales.
+	 */
+	public default void addAttributes(
+		Document document, DDMStructure ddmStructure,
+		DDMFormValues ddmFormValues, String indexableAttributesFieldName) {
+
+		addAttributes(document, ddmStructure, ddmFormValues);
+
+		for (Locale locale : ddmFormValues.getAvailableLocales()) {
+			document.addText(
+				StringBundler.concat(
+					indexableAttributesFieldName, StringPool.UNDERLINE,
+					LocaleUtil.toLanguageId(locale)),
+				extractIndexableAttributes(
+					ddmStructure, ddmFormValues, locale));
+		}
+	}
+
+	/**
+	 * Adds the attributes of the given structure fields only, so the document
+	 * can be used to partially update the document of an entity after those
+	 * fields changed. The default implementation adds the attributes of every
+	 * field, which is a valid, if larger, partial update.
+	 */
+	public default void addAttributes(
+		Document document, DDMStructure ddmStructure,
+		DDMFormValues ddmFormValues, Set<String> ddmFormFieldNames) {
+
+		addAttributes(document, ddmStructure, ddmFormValues);
+	}
+
 	public QueryFilter createFieldValueQueryFilter(
 			String ddmStructureFieldName, Serializable ddmStructureFieldValue,
 			Locale locale)
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.util;
+
+import com.liferay.portal.kernel.search.DDMStructureIndexer;
+import com.liferay.portal.kernel.search.SearchException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implemented by the indexers of entities whose structure field values are
+ * indexed with {@link DDMIndexer}, so that only the document fields of the
+ * changed structure fields are updated when a structure is updated, instead
+ * of reindexing its entities in full.
+ *
+ * <p>
+ * The structure and its descendant structures are reindexed in parallel, so
+ * {@link #reindexDDMStructureFields(List, Set)} and {@link
+ * #reindexDDMStructures(List)} are called concurrently from different threads
+ * and must be thread safe.
+ * </p>
+ *
+ * @author agent
+ */
+public interface DDMStructureFieldsIndexer extends DDMStructureIndexer {
+
+	/**
+	 * Partially updates the documents of the entities of the structures with
+	 * the document fields that {@link DDMIndexer} builds for the given
+	 * structure fields.
+	 */
+	public void reindexDDMStructureFields(
+			List<Long> ddmStructureIds, Set<String> ddmFormFieldNames)
+		throws SearchException;
+
+}
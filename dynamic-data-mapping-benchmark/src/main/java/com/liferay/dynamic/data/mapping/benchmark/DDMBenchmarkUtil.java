@@ -0,0 +1,369 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+import com.liferay.dynamic.data.mapping.expression.internal.DDMExpressionFactoryImpl;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.DDMFormEvaluatorImpl;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.ContainsFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.EqualsFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.IsEmptyFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.MatchFunction;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.model.DDMFormLayout;
+import com.liferay.dynamic.data.mapping.model.DDMFormLayoutColumn;
+import com.liferay.dynamic.data.mapping.model.DDMFormLayoutPage;
+import com.liferay.dynamic.data.mapping.model.DDMFormLayoutRow;
+import com.liferay.dynamic.data.mapping.model.DDMFormRule;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.test.util.DDMFormTestUtil;
+import com.liferay.dynamic.data.mapping.test.util.DDMFormValuesTestUtil;
+import com.liferay.portal.json.JSONFactoryImpl;
+import com.liferay.portal.kernel.json.JSONFactory;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.language.Language;
+import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.util.LocaleThreadLocal;
+import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.ResourceBundleLoaderUtil;
+import com.liferay.portal.kernel.util.ResourceBundleUtil;
+import com.liferay.registry.BasicRegistryImpl;
+import com.liferay.registry.RegistryUtil;
+import com.liferay.registry.collections.ServiceTrackerMap;
+import com.liferay.registry.collections.ServiceTrackerMapFactory;
+import com.liferay.registry.collections.ServiceTrackerMapFactoryUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the fixtures and the service graph shared by the benchmarks. Every
+ * collaborator that would be looked up in OSGi is either the real
+ * implementation or a stub that returns fixed values, so the benchmarks run
+ * without a portal.
+ *
+ * @author agent
+ */
+public class DDMBenchmarkUtil {
+
+	public static DDMExpressionFactory createDDMExpressionFactory(
+			Map<String, Object> properties)
+		throws Exception {
+
+		DDMExpressionFactoryImpl ddmExpressionFactoryImpl =
+			new DDMExpressionFactoryImpl();
+
+		invokeDeclaredMethod(
+			ddmExpressionFactoryImpl, "activate", new Class<?>[] {Map.class},
+			properties);
+
+		registerDDMExpressionFunction(
+			ddmExpressionFactoryImpl, "contains", new ContainsFunction());
+		registerDDMExpressionFunction(
+			ddmExpressionFactoryImpl, "equals", new EqualsFunction());
+		registerDDMExpressionFunction(
+			ddmExpressionFactoryImpl, "isEmpty", new IsEmptyFunction());
+		registerDDMExpressionFunction(
+			ddmExpressionFactoryImpl, "match", new MatchFunction());
+
+		return ddmExpressionFactoryImpl;
+	}
+
+	/**
+	 * Returns a form with the given number of text fields and as many rules.
+	 * Each rule reads one field and sets a property of the next one, cycling
+	 * through the kinds of conditions and actions found in typical forms.
+	 */
+	public static DDMForm createDDMForm(int fieldsCount) {
+		String[] ddmFormFieldNames = new String[fieldsCount];
+
+		for (int i = 0; i < fieldsCount; i++) {
+			ddmFormFieldNames[i] = getDDMFormFieldName(i);
+		}
+
+		DDMForm ddmForm = DDMFormTestUtil.createDDMForm(ddmFormFieldNames);
+
+		for (int i = 0; i < fieldsCount; i++) {
+			String ddmFormFieldName = getDDMFormFieldName(i);
+			String targetDDMFormFieldName = getDDMFormFieldName(
+				(i + 1) % fieldsCount);
+
+			String getValue = "getValue('" + ddmFormFieldName + "')";
+
+			String action = null;
+			String condition = null;
+
+			if ((i % 4) == 0) {
+				action = "setVisible('" + targetDDMFormFieldName + "', false)";
+				condition = "isEmpty(" + getValue + ")";
+			}
+			else if ((i % 4) == 1) {
+				action = "setRequired('" + targetDDMFormFieldName + "', true)";
+				condition = "contains(" + getValue + ", 'liferay')";
+			}
+			else if ((i % 4) == 2) {
+				action = "setEnabled('" + targetDDMFormFieldName + "', false)";
+				condition =
+					"not(isEmpty(" + getValue + ")) and match(" + getValue +
+						", '[a-z]+[0-9]*')";
+			}
+			else {
+				action =
+					"setInvalid('" + targetDDMFormFieldName + "', 'Invalid')";
+				condition = "equals(" + getValue + ", 'value" + i + "')";
+			}
+
+			ddmForm.addDDMFormRule(
+				new DDMFormRule(condition, Arrays.asList(action)));
+		}
+
+		return ddmForm;
+	}
+
+	public static DDMFormEvaluator createDDMFormEvaluator(
+			DDMExpressionFactory ddmExpressionFactory)
+		throws Exception {
+
+		DDMFormEvaluatorImpl ddmFormEvaluatorImpl = new DDMFormEvaluatorImpl();
+
+		setDeclaredField(
+			ddmFormEvaluatorImpl, "_ddmExpressionFactory",
+			ddmExpressionFactory);
+		setDeclaredField(
+			ddmFormEvaluatorImpl, "_ddmFormFieldTypeServicesTracker",
+			createStub(
+				DDMFormFieldTypeServicesTracker.class,
+				Collections.<String, Object>emptyMap()));
+		setDeclaredField(ddmFormEvaluatorImpl, "_jsonFactory", _jsonFactory);
+
+		return ddmFormEvaluatorImpl;
+	}
+
+	public static DDMFormLayout createDDMFormLayout(DDMForm ddmForm) {
+		DDMFormLayout ddmFormLayout = new DDMFormLayout();
+
+		ddmFormLayout.setDefaultLocale(ddmForm.getDefaultLocale());
+
+		DDMFormLayoutPage ddmFormLayoutPage = new DDMFormLayoutPage();
+
+		for (DDMFormField ddmFormField : ddmForm.getDDMFormFields()) {
+			DDMFormLayoutRow ddmFormLayoutRow = new DDMFormLayoutRow();
+
+			ddmFormLayoutRow.addDDMFormLayoutColumn(
+				new DDMFormLayoutColumn(12, ddmFormField.getName()));
+
+			ddmFormLayoutPage.addDDMFormLayoutRow(ddmFormLayoutRow);
+		}
+
+		ddmFormLayout.addDDMFormLayoutPage(ddmFormLayoutPage);
+
+		return ddmFormLayout;
+	}
+
+	public static DDMFormValues createDDMFormValues(DDMForm ddmForm) {
+		DDMFormValues ddmFormValues = DDMFormValuesTestUtil.createDDMFormValues(
+			ddmForm);
+
+		List<DDMFormField> ddmFormFields = ddmForm.getDDMFormFields();
+
+		for (int i = 0; i < ddmFormFields.size(); i++) {
+			DDMFormField ddmFormField = ddmFormFields.get(i);
+
+			ddmFormValues.addDDMFormFieldValue(
+				DDMFormValuesTestUtil.createLocalizedDDMFormFieldValue(
+					ddmFormField.getName(), "value" + i));
+		}
+
+		return ddmFormValues;
+	}
+
+	/**
+	 * Returns a proxy of the interface whose methods return the value mapped
+	 * to the method name, the first string argument for methods returning a
+	 * string, or the default value of the return type.
+	 */
+	public static <T> T createStub(
+		Class<T> interfaceClass, Map<String, Object> returnValues) {
+
+		return (T)ProxyUtil.newProxyInstance(
+			interfaceClass.getClassLoader(), new Class<?>[] {interfaceClass},
+			new StubInvocationHandler(returnValues));
+	}
+
+	public static String getDDMFormFieldName(int index) {
+		return "field" + index;
+	}
+
+	public static JSONFactory getJSONFactory() {
+		return _jsonFactory;
+	}
+
+	public static Object invokeDeclaredMethod(
+			Object targetObject, String methodName, Class<?>[] parameterTypes,
+			Object... arguments)
+		throws Exception {
+
+		Class<?> clazz = targetObject.getClass();
+
+		Method method = clazz.getDeclaredMethod(methodName, parameterTypes);
+
+		method.setAccessible(true);
+
+		return method.invoke(targetObject, arguments);
+	}
+
+	public static void setDeclaredField(
+			Object targetObject, String fieldName, Object fieldValue)
+		throws Exception {
+
+		Class<?> clazz = targetObject.getClass();
+
+		Field field = clazz.getDeclaredField(fieldName);
+
+		field.setAccessible(true);
+
+		field.set(targetObject, fieldValue);
+	}
+
+	public static void setUpPortalUtil() {
+		RegistryUtil.setRegistry(new BasicRegistryImpl());
+
+		ServiceTrackerMap<?, ?> serviceTrackerMap = createStub(
+			ServiceTrackerMap.class, Collections.<String, Object>emptyMap());
+
+		Map<String, Object> returnValues = new HashMap<>();
+
+		returnValues.put("multiValueMap", serviceTrackerMap);
+		returnValues.put("singleValueMap", serviceTrackerMap);
+
+		ServiceTrackerMapFactoryUtil.setServiceTrackerMapFactory(
+			createStub(ServiceTrackerMapFactory.class, returnValues));
+
+		JSONFactoryUtil jsonFactoryUtil = new JSONFactoryUtil();
+
+		jsonFactoryUtil.setJSONFactory(_jsonFactory);
+
+		returnValues = new HashMap<>();
+
+		returnValues.put(
+			"getAvailableLocales",
+			DDMFormTestUtil.createAvailableLocales(
+				LocaleUtil.BRAZIL, LocaleUtil.US));
+		returnValues.put("isAvailableLocale", true);
+
+		LanguageUtil languageUtil = new LanguageUtil();
+
+		languageUtil.setLanguage(createStub(Language.class, returnValues));
+
+		LocaleThreadLocal.setSiteDefaultLocale(LocaleUtil.US);
+
+		PortalClassLoaderUtil.setClassLoader(
+			DDMBenchmarkUtil.class.getClassLoader());
+
+		ResourceBundleLoaderUtil.setPortalResourceBundleLoader(
+			(Locale locale) -> ResourceBundleUtil.EMPTY_RESOURCE_BUNDLE);
+	}
+
+	protected static void registerDDMExpressionFunction(
+			DDMExpressionFactoryImpl ddmExpressionFactoryImpl,
+			String functionName, DDMExpressionFunction ddmExpressionFunction)
+		throws Exception {
+
+		invokeDeclaredMethod(
+			ddmExpressionFactoryImpl, "addDDMExpressionFunction",
+			new Class<?>[] {DDMExpressionFunction.class, Map.class},
+			ddmExpressionFunction,
+			Collections.singletonMap(
+				"ddm.form.evaluator.function.name", functionName));
+	}
+
+	private static final JSONFactory _jsonFactory = new JSONFactoryImpl();
+
+	private static class StubInvocationHandler implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] arguments) {
+			String methodName = method.getName();
+
+			if (_returnValues.containsKey(methodName)) {
+				return _returnValues.get(methodName);
+			}
+
+			if (methodName.equals("equals")) {
+				return proxy == arguments[0];
+			}
+
+			if (methodName.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			Class<?> returnType = method.getReturnType();
+
+			if (returnType == String.class) {
+				if (arguments == null) {
+					return null;
+				}
+
+				for (Object argument : arguments) {
+					if (argument instanceof String) {
+						return argument;
+					}
+				}
+
+				return null;
+			}
+
+			if (returnType == boolean.class) {
+				return false;
+			}
+
+			if (returnType == double.class) {
+				return 0D;
+			}
+
+			if (returnType == int.class) {
+				return 0;
+			}
+
+			if (returnType == long.class) {
+				return 0L;
+			}
+
+			return null;
+		}
+
+		private StubInvocationHandler(Map<String, Object> returnValues) {
+			_returnValues = returnValues;
+		}
+
+		private final Map<String, Object> _returnValues;
+
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+import com.liferay.dynamic.data.mapping.expression.internal.CompiledDDMExpression;
+import com.liferay.dynamic.data.mapping.expression.internal.CompiledDDMExpressionCache;
+import com.liferay.dynamic.data.mapping.expression.internal.DDMExpressionImpl;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.ContainsFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.EqualsFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.IsEmptyFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.MatchFunction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of typical form rule conditions with the parse
+ * tree visitor and with the compiled program.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMExpressionBenchmark {
+
+	@Benchmark
+	public Boolean evaluate() throws DDMExpressionException {
+		DDMExpressionImpl<Boolean> ddmExpression = new DDMExpressionImpl<>(
+			_compiledDDMExpression, Boolean.class, _compiledDDMExpressionCache);
+
+		ddmExpression.setCompiledEvaluatorEnabled(_compiledEvaluatorEnabled);
+
+		for (Map.Entry<String, DDMExpressionFunction> entry :
+				_ddmExpressionFunctions.entrySet()) {
+
+			ddmExpression.setDDMExpressionFunction(
+				entry.getKey(), entry.getValue());
+		}
+
+		return ddmExpression.evaluate();
+	}
+
+	@Setup
+	public void setUp() throws DDMExpressionException {
+		_compiledDDMExpression =
+			_compiledDDMExpressionCache.getCompiledDDMExpression(condition);
+		_compiledEvaluatorEnabled = evaluator.equals("compiled");
+
+		Map<String, Object> values = new HashMap<>();
+
+		values.put("country", "Brazil");
+		values.put("email", "test@liferay.com");
+		values.put("name", "");
+		values.put("phone", "+55 81 3033-1405");
+
+		_ddmExpressionFunctions.put("contains", new ContainsFunction());
+		_ddmExpressionFunctions.put("equals", new EqualsFunction());
+		_ddmExpressionFunctions.put("getValue", new GetValueFunction(values));
+		_ddmExpressionFunctions.put("isEmpty", new IsEmptyFunction());
+		_ddmExpressionFunctions.put("match", new MatchFunction());
+	}
+
+	@Param(
+		{
+			"isEmpty(getValue('name')) or match(getValue('email'), " +
+				"'[a-z0-9._%+-]+@[a-z0-9.-]+[.][a-z]{2,}')",
+			"not(isEmpty(getValue('name'))) and " +
+				"match(getValue('phone'), '[+]?[0-9 ()-]{8,20}')",
+			"equals(getValue('country'), 'Brazil') and " +
+				"contains(getValue('email'), 'liferay')",
+			"(2 * 60 > 100) and (3600 / 60 >= 60) and " +
+				"match(getValue('email'), '.+@liferay[.]com')"
+		}
+	)
+	public String condition;
+
+	@Param({"compiled", "visitor"})
+	public String evaluator;
+
+	private CompiledDDMExpression _compiledDDMExpression;
+	private final CompiledDDMExpressionCache _compiledDDMExpressionCache =
+		new CompiledDDMExpressionCache(100);
+	private boolean _compiledEvaluatorEnabled;
+	private final Map<String, DDMExpressionFunction> _ddmExpressionFunctions =
+		new HashMap<>();
+
+	private static class GetValueFunction implements DDMExpressionFunction {
+
+		@Override
+		public Object evaluate(Object... parameters) {
+			return _values.get(parameters[0]);
+		}
+
+		private GetValueFunction(Map<String, Object> values) {
+			_values = values;
+		}
+
+		private final Map<String, Object> _values;
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.dynamic.data.mapping.expression.internal.CompiledDDMExpression;
+import com.liferay.dynamic.data.mapping.expression.internal.DDMExpressionImpl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what folding constant sub-expressions saves in the compiled
+ * program. Both benchmarks evaluate the same condition with the same values.
+ * In {@link #folded()} the constants are literals, which the compiler folds.
+ * In {@link #unfolded()} they are variables, which it cannot fold.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMExpressionConstantFoldingBenchmark {
+
+	@Benchmark
+	public Boolean folded() throws DDMExpressionException {
+		return evaluate(_foldedCompiledDDMExpression);
+	}
+
+	@Setup
+	public void setUp() throws DDMExpressionException {
+		_foldedCompiledDDMExpression = new CompiledDDMExpression(
+			"(2 * 60 > 100) and (3600 / 60 >= 60) and (x * 2 > 1)");
+		_unfoldedCompiledDDMExpression = new CompiledDDMExpression(
+			"(a * b > c) and (d / b >= b) and (x * 2 > 1)");
+	}
+
+	@Benchmark
+	public Boolean unfolded() throws DDMExpressionException {
+		return evaluate(_unfoldedCompiledDDMExpression);
+	}
+
+	protected Boolean evaluate(CompiledDDMExpression compiledDDMExpression)
+		throws DDMExpressionException {
+
+		DDMExpressionImpl<Boolean> ddmExpression = new DDMExpressionImpl<>(
+			compiledDDMExpression, Boolean.class, null);
+
+		ddmExpression.setCompiledEvaluatorEnabled(true);
+		ddmExpression.setDoubleVariableValue("a", 2D);
+		ddmExpression.setDoubleVariableValue("b", 60D);
+		ddmExpression.setDoubleVariableValue("c", 100D);
+		ddmExpression.setDoubleVariableValue("d", 3600D);
+		ddmExpression.setDoubleVariableValue("x", 1D);
+
+		return ddmExpression.evaluate();
+	}
+
+	private CompiledDDMExpression _foldedCompiledDDMExpression;
+	private CompiledDDMExpression _unfoldedCompiledDDMExpression;
+
+}
\ No newline at end of file
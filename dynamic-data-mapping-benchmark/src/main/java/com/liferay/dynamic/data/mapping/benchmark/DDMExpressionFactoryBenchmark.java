@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpression;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing and evaluating expressions through the expression
+ * factory, with and without the compiled expression cache.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMExpressionFactoryBenchmark {
+
+	@Benchmark
+	public Boolean evaluate() throws Exception {
+		DDMExpression<Boolean> ddmExpression =
+			_ddmExpressionFactory.createBooleanDDMExpression(expression);
+
+		return ddmExpression.evaluate();
+	}
+
+	@Benchmark
+	public DDMExpression<Boolean> parse() throws Exception {
+		return _ddmExpressionFactory.createBooleanDDMExpression(expression);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("compiledEvaluatorEnabled", compiledEvaluatorEnabled);
+		properties.put(
+			"compiledExpressionCacheMaxSize", compiledExpressionCacheMaxSize);
+
+		_ddmExpressionFactory = DDMBenchmarkUtil.createDDMExpressionFactory(
+			properties);
+	}
+
+	@Param({"false", "true"})
+	public boolean compiledEvaluatorEnabled;
+
+	@Param({"0", "1000"})
+	public int compiledExpressionCacheMaxSize;
+
+	@Param(
+		{
+			"isEmpty('') or match('test@liferay.com', '[a-z]+@[a-z]+[.]com')",
+			"(2 * 60 > 100) and contains('Liferay Forms', 'forms')",
+			"equals(1 + 2 * 3, 7) and not(isEmpty('value'))"
+		}
+	)
+	public String expression;
+
+	private DDMExpressionFactory _ddmExpressionFactory;
+
+}
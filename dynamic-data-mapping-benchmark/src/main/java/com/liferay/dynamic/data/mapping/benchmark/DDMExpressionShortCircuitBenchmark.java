@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+import com.liferay.dynamic.data.mapping.expression.internal.CompiledDDMExpression;
+import com.liferay.dynamic.data.mapping.expression.internal.DDMExpressionImpl;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.EqualsFunction;
+import com.liferay.dynamic.data.mapping.form.evaluator.internal.functions.MatchFunction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what short-circuiting "and" and "or" saves. Both benchmarks
+ * evaluate the same two operands. In {@link #shortCircuited()} the operand
+ * that decides the result comes first, so the regular expression match is
+ * skipped. In {@link #eager()} it comes last, so both operands are evaluated,
+ * which is what every evaluation did before short-circuiting.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMExpressionShortCircuitBenchmark {
+
+	@Benchmark
+	public Boolean eager() throws DDMExpressionException {
+		return evaluate(_eagerCompiledDDMExpression);
+	}
+
+	@Setup
+	public void setUp() throws DDMExpressionException {
+		_compiledEvaluatorEnabled = evaluator.equals("compiled");
+
+		String decidingCondition = "equals(getValue('country'), 'Chile')";
+
+		if (operator.equals("or")) {
+			decidingCondition = "equals(getValue('country'), 'Brazil')";
+		}
+
+		String matchCondition =
+			"match(getValue('email'), " +
+				"'[a-z0-9._%+-]+@[a-z0-9.-]+[.][a-z]{2,}')";
+
+		_eagerCompiledDDMExpression = new CompiledDDMExpression(
+			matchCondition + " " + operator + " " + decidingCondition);
+		_shortCircuitedCompiledDDMExpression = new CompiledDDMExpression(
+			decidingCondition + " " + operator + " " + matchCondition);
+
+		Map<String, Object> values = new HashMap<>();
+
+		values.put("country", "Brazil");
+		values.put("email", "test@liferay.com");
+
+		_ddmExpressionFunctions.put("equals", new EqualsFunction());
+		_ddmExpressionFunctions.put("getValue", new GetValueFunction(values));
+		_ddmExpressionFunctions.put("match", new MatchFunction());
+	}
+
+	@Benchmark
+	public Boolean shortCircuited() throws DDMExpressionException {
+		return evaluate(_shortCircuitedCompiledDDMExpression);
+	}
+
+	@Param({"compiled", "visitor"})
+	public String evaluator;
+
+	@Param({"and", "or"})
+	public String operator;
+
+	protected Boolean evaluate(CompiledDDMExpression compiledDDMExpression)
+		throws DDMExpressionException {
+
+		DDMExpressionImpl<Boolean> ddmExpression = new DDMExpressionImpl<>(
+			compiledDDMExpression, Boolean.class, null);
+
+		ddmExpression.setCompiledEvaluatorEnabled(_compiledEvaluatorEnabled);
+
+		for (Map.Entry<String, DDMExpressionFunction> entry :
+				_ddmExpressionFunctions.entrySet()) {
+
+			ddmExpression.setDDMExpressionFunction(
+				entry.getKey(), entry.getValue());
+		}
+
+		return ddmExpression.evaluate();
+	}
+
+	private boolean _compiledEvaluatorEnabled;
+	private final Map<String, DDMExpressionFunction> _ddmExpressionFunctions =
+		new HashMap<>();
+	private CompiledDDMExpression _eagerCompiledDDMExpression;
+	private CompiledDDMExpression _shortCircuitedCompiledDDMExpression;
+
+	private static class GetValueFunction implements DDMExpressionFunction {
+
+		@Override
+		public Object evaluate(Object... parameters) {
+			return _values.get(parameters[0]);
+		}
+
+		private GetValueFunction(Map<String, Object> values) {
+			_values = values;
+		}
+
+		private final Map<String, Object> _values;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationResult;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluatorContext;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.portal.kernel.util.LocaleUtil;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of synthetic forms with as many rules as fields,
+ * either evaluating the whole form or only what depends on one changed
+ * field.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMFormEvaluatorBenchmark {
+
+	@Benchmark
+	public DDMFormEvaluationResult evaluate() throws Exception {
+		DDMFormEvaluatorContext ddmFormEvaluatorContext =
+			new DDMFormEvaluatorContext(
+				_ddmForm, _ddmFormValues, LocaleUtil.US);
+
+		ddmFormEvaluatorContext.addProperty("groupId", 0L);
+
+		if (evaluation.equals("incremental")) {
+			ddmFormEvaluatorContext.setChangedDDMFormFieldNames(
+				Collections.singleton(DDMBenchmarkUtil.getDDMFormFieldName(0)));
+		}
+
+		return _ddmFormEvaluator.evaluate(ddmFormEvaluatorContext);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		DDMBenchmarkUtil.setUpPortalUtil();
+
+		DDMExpressionFactory ddmExpressionFactory =
+			DDMBenchmarkUtil.createDDMExpressionFactory(
+				Collections.<String, Object>emptyMap());
+
+		_ddmForm = DDMBenchmarkUtil.createDDMForm(fieldsCount);
+		_ddmFormEvaluator = DDMBenchmarkUtil.createDDMFormEvaluator(
+			ddmExpressionFactory);
+		_ddmFormValues = DDMBenchmarkUtil.createDDMFormValues(_ddmForm);
+	}
+
+	@Param({"full", "incremental"})
+	public String evaluation;
+
+	@Param({"10", "100", "1000"})
+	public int fieldsCount;
+
+	private DDMForm _ddmForm;
+	private DDMFormEvaluator _ddmFormEvaluator;
+	private DDMFormValues _ddmFormValues;
+
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
+import com.liferay.dynamic.data.mapping.form.renderer.DDMFormRenderingContext;
+import com.liferay.dynamic.data.mapping.form.renderer.internal.DDMFormTemplateContextFactoryImpl;
+import com.liferay.dynamic.data.mapping.io.DDMFormFieldTypesJSONSerializer;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormLayout;
+import com.liferay.dynamic.data.mapping.service.DDMDataProviderInstanceService;
+import com.liferay.portal.kernel.util.LocaleUtil;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.Servlet;
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building the template context of synthetic forms, which includes
+ * evaluating their rules.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMFormTemplateContextFactoryBenchmark {
+
+	@Benchmark
+	public Map<String, Object> create() throws Exception {
+		return _ddmFormTemplateContextFactoryImpl.create(
+			_ddmForm, _ddmFormLayout, _ddmFormRenderingContext);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		DDMBenchmarkUtil.setUpPortalUtil();
+
+		_ddmForm = DDMBenchmarkUtil.createDDMForm(fieldsCount);
+		_ddmFormLayout = DDMBenchmarkUtil.createDDMFormLayout(_ddmForm);
+
+		_ddmFormRenderingContext = new DDMFormRenderingContext();
+
+		_ddmFormRenderingContext.setContainerId("container");
+		_ddmFormRenderingContext.setDDMFormValues(
+			DDMBenchmarkUtil.createDDMFormValues(_ddmForm));
+		_ddmFormRenderingContext.setLocale(LocaleUtil.US);
+		_ddmFormRenderingContext.setPortletNamespace("_namespace_");
+
+		_ddmFormTemplateContextFactoryImpl =
+			new DDMFormTemplateContextFactoryImpl();
+
+		DDMExpressionFactory ddmExpressionFactory =
+			DDMBenchmarkUtil.createDDMExpressionFactory(
+				Collections.<String, Object>emptyMap());
+
+		DDMBenchmarkUtil.setDeclaredField(
+			_ddmFormTemplateContextFactoryImpl,
+			"_ddmDataProviderInstanceService",
+			DDMBenchmarkUtil.createStub(
+				DDMDataProviderInstanceService.class,
+				Collections.<String, Object>emptyMap()));
+		DDMBenchmarkUtil.setDeclaredField(
+			_ddmFormTemplateContextFactoryImpl,
+			"_ddmFormContextProviderServlet", createServlet());
+		DDMBenchmarkUtil.setDeclaredField(
+			_ddmFormTemplateContextFactoryImpl, "_ddmFormEvaluator",
+			DDMBenchmarkUtil.createDDMFormEvaluator(ddmExpressionFactory));
+		DDMBenchmarkUtil.setDeclaredField(
+			_ddmFormTemplateContextFactoryImpl,
+			"_ddmFormFieldTypeServicesTracker",
+			DDMBenchmarkUtil.createStub(
+				DDMFormFieldTypeServicesTracker.class,
+				Collections.<String, Object>singletonMap(
+					"getDDMFormFieldTypes", Collections.emptyList())));
+		DDMBenchmarkUtil.setDeclaredField(
+			_ddmFormTemplateContextFactoryImpl,
+			"_ddmFormFieldTypesJSONSerializer",
+			DDMBenchmarkUtil.createStub(
+				DDMFormFieldTypesJSONSerializer.class,
+				Collections.<String, Object>singletonMap("serialize", "[]")));
+		DDMBenchmarkUtil.setDeclaredField(
+			_ddmFormTemplateContextFactoryImpl, "_jsonFactory",
+			DDMBenchmarkUtil.getJSONFactory());
+
+		_ddmFormTemplateContextFactoryImpl.activate();
+	}
+
+	protected Servlet createServlet() {
+		ServletContext servletContext = DDMBenchmarkUtil.createStub(
+			ServletContext.class,
+			Collections.<String, Object>singletonMap("getContextPath", ""));
+
+		ServletConfig servletConfig = DDMBenchmarkUtil.createStub(
+			ServletConfig.class,
+			Collections.<String, Object>singletonMap(
+				"getServletContext", servletContext));
+
+		return DDMBenchmarkUtil.createStub(
+			Servlet.class,
+			Collections.<String, Object>singletonMap(
+				"getServletConfig", servletConfig));
+	}
+
+	@Param({"10", "100", "1000"})
+	public int fieldsCount;
+
+	private DDMForm _ddmForm;
+	private DDMFormLayout _ddmFormLayout;
+	private DDMFormRenderingContext _ddmFormRenderingContext;
+	private DDMFormTemplateContextFactoryImpl
+		_ddmFormTemplateContextFactoryImpl;
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.storage.DDMFormFieldValue;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures walking every value of a form and looking up its field, or its
+ * sibling values by name, the way renderers, exporters and indexers do. The
+ * cost per walk should grow linearly with the number of fields.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMFormValuesBenchmark {
+
+	@Benchmark
+	public void getDDMFormField(Blackhole blackhole) {
+		for (DDMFormFieldValue ddmFormFieldValue :
+				_ddmFormValues.getDDMFormFieldValues()) {
+
+			blackhole.consume(ddmFormFieldValue.getDDMFormField());
+		}
+	}
+
+	@Benchmark
+	public void getReadOnlyDDMFormFieldsMap(Blackhole blackhole) {
+		for (DDMFormField ddmFormField : _ddmForm.getDDMFormFields()) {
+			Map<String, DDMFormField> ddmFormFieldsMap =
+				_ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+			blackhole.consume(ddmFormFieldsMap.get(ddmFormField.getName()));
+		}
+	}
+
+	@Benchmark
+	public void getReadOnlyDDMFormFieldValuesMap(Blackhole blackhole) {
+		for (DDMFormField ddmFormField : _ddmForm.getDDMFormFields()) {
+			Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
+				_ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+			blackhole.consume(
+				ddmFormFieldValuesMap.get(ddmFormField.getName()));
+		}
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		DDMBenchmarkUtil.setUpPortalUtil();
+
+		_ddmForm = DDMBenchmarkUtil.createDDMForm(fieldsCount);
+		_ddmFormValues = DDMBenchmarkUtil.createDDMFormValues(_ddmForm);
+	}
+
+	@Param({"100", "500", "1000"})
+	public int fieldsCount;
+
+	private DDMForm _ddmForm;
+	private DDMFormValues _ddmFormValues;
+
+}
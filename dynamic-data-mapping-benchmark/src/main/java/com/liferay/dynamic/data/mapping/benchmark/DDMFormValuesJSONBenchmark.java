@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONSerializer;
+import com.liferay.dynamic.data.mapping.io.internal.DDMFormValuesJSONDeserializerImpl;
+import com.liferay.dynamic.data.mapping.io.internal.DDMFormValuesJSONSerializerImpl;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.portal.kernel.json.JSONFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing form values to JSON, deserializing them back, and
+ * the round trip of both.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMFormValuesJSONBenchmark {
+
+	@Benchmark
+	public DDMFormValues deserialize() throws Exception {
+		return _ddmFormValuesJSONDeserializer.deserialize(
+			_ddmForm, _serializedDDMFormValues);
+	}
+
+	@Benchmark
+	public DDMFormValues roundTrip() throws Exception {
+		String serializedDDMFormValues =
+			_ddmFormValuesJSONSerializer.serialize(_ddmFormValues);
+
+		return _ddmFormValuesJSONDeserializer.deserialize(
+			_ddmForm, serializedDDMFormValues);
+	}
+
+	@Benchmark
+	public String serialize() {
+		return _ddmFormValuesJSONSerializer.serialize(_ddmFormValues);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		DDMBenchmarkUtil.setUpPortalUtil();
+
+		_ddmForm = DDMBenchmarkUtil.createDDMForm(fieldsCount);
+		_ddmFormValues = DDMBenchmarkUtil.createDDMFormValues(_ddmForm);
+
+		_ddmFormValuesJSONDeserializer =
+			new DDMFormValuesJSONDeserializerImpl();
+
+		DDMBenchmarkUtil.invokeDeclaredMethod(
+			_ddmFormValuesJSONDeserializer, "setJSONFactory",
+			new Class<?>[] {JSONFactory.class},
+			DDMBenchmarkUtil.getJSONFactory());
+
+		_ddmFormValuesJSONSerializer = new DDMFormValuesJSONSerializerImpl();
+
+		DDMBenchmarkUtil.invokeDeclaredMethod(
+			_ddmFormValuesJSONSerializer, "setJSONFactory",
+			new Class<?>[] {JSONFactory.class},
+			DDMBenchmarkUtil.getJSONFactory());
+
+		_serializedDDMFormValues = _ddmFormValuesJSONSerializer.serialize(
+			_ddmFormValues);
+	}
+
+	@Param({"10", "100", "1000"})
+	public int fieldsCount;
+
+	private DDMForm _ddmForm;
+	private DDMFormValues _ddmFormValues;
+	private DDMFormValuesJSONDeserializer _ddmFormValuesJSONDeserializer;
+	private DDMFormValuesJSONSerializer _ddmFormValuesJSONSerializer;
+	private String _serializedDDMFormValues;
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.benchmark;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+
+import com.liferay.dynamic.data.mapping.data.provider.internal.rest.StreamingJSONPathReader;
+
+import java.io.ByteArrayInputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures extracting the key and value lists of a REST data provider
+ * response from a fully parsed document and from the document pruned by the
+ * streaming reader, for the whole list and for its first page.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DDMRESTDataProviderResponseBenchmark {
+
+	@Benchmark
+	public List<Object> readDocument() {
+		return read(JsonPath.parse(new String(_bytes, StandardCharsets.UTF_8)));
+	}
+
+	@Benchmark
+	public List<Object> readPrunedDocument() throws Exception {
+		return read(
+			JsonPath.parse(
+				_streamingJSONPathReader.read(
+					new ByteArrayInputStream(_bytes), Integer.MAX_VALUE)));
+	}
+
+	@Benchmark
+	public List<Object> readPrunedDocumentPage() throws Exception {
+		return read(
+			JsonPath.parse(
+				_streamingJSONPathReader.read(
+					new ByteArrayInputStream(_bytes), _PAGE_SIZE)));
+	}
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("{\"items\": [");
+
+		for (int i = 0; i < itemsCount; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+
+			sb.append("{\"description\": \"Description of item ");
+			sb.append(i);
+			sb.append("\", \"id\": \"");
+			sb.append(i);
+			sb.append("\", \"name\": \"Item ");
+			sb.append(i);
+			sb.append("\", \"price\": ");
+			sb.append(i * 1.5);
+			sb.append(", \"tags\": [\"a\", \"b\", \"c\"]}");
+		}
+
+		sb.append("], \"total\": ");
+		sb.append(itemsCount);
+		sb.append("}");
+
+		String json = sb.toString();
+
+		_bytes = json.getBytes(StandardCharsets.UTF_8);
+
+		_streamingJSONPathReader = new StreamingJSONPathReader(
+			Arrays.asList(_KEY_PATH, _VALUE_PATH));
+	}
+
+	@Param({"100", "1000", "10000"})
+	public int itemsCount;
+
+	protected List<Object> read(DocumentContext documentContext) {
+		List<Object> keys = documentContext.read(_KEY_PATH);
+		List<Object> values = documentContext.read(_VALUE_PATH);
+
+		keys.addAll(values);
+
+		return keys;
+	}
+
+	private static final String _KEY_PATH = "$.items[*].id";
+
+	private static final int _PAGE_SIZE = 10;
+
+	private static final String _VALUE_PATH = "$.items[*].name";
+
+	private byte[] _bytes;
+	private StreamingJSONPathReader _streamingJSONPathReader;
+
+}
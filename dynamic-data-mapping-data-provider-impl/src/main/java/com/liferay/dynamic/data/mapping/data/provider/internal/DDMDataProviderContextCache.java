@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal;
+
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProvider;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderContext;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
+import com.liferay.dynamic.data.mapping.model.DDMDataProviderInstance;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.util.DDMFormFactory;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPool;
+import com.liferay.portal.kernel.exception.PortalException;
+
+import java.util.Date;
+import java.util.Objects;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Keeps the settings of each data provider instance parsed, so they are not
+ * deserialized from the instance definition on every invocation. The cache is
+ * local to each node. Entries are removed when the instance is updated or
+ * deleted on this node, and are checked against the modified date of the
+ * instance so updates made on other nodes are picked up as well.
+ *
+ * @author agent
+ */
+@Component(immediate = true, service = DDMDataProviderContextCache.class)
+public class DDMDataProviderContextCache {
+
+	public DDMDataProviderContext getDDMDataProviderContext(
+			DDMDataProviderInstance ddmDataProviderInstance,
+			DDMDataProvider ddmDataProvider)
+		throws PortalException {
+
+		long dataProviderInstanceId =
+			ddmDataProviderInstance.getDataProviderInstanceId();
+
+		DDMDataProviderContextCacheEntry ddmDataProviderContextCacheEntry =
+			_portalCache.get(dataProviderInstanceId);
+
+		if ((ddmDataProviderContextCacheEntry == null) ||
+			!Objects.equals(
+				ddmDataProviderContextCacheEntry.getModifiedDate(),
+				ddmDataProviderInstance.getModifiedDate())) {
+
+			DDMForm ddmForm = DDMFormFactory.create(
+				ddmDataProvider.getSettings());
+
+			DDMFormValues ddmFormValues =
+				_ddmFormValuesJSONDeserializer.deserialize(
+					ddmForm, ddmDataProviderInstance.getDefinition());
+
+			ddmDataProviderContextCacheEntry =
+				new DDMDataProviderContextCacheEntry(
+					new DDMDataProviderContext(ddmFormValues),
+					ddmDataProviderInstance.getModifiedDate());
+
+			_portalCache.put(
+				dataProviderInstanceId, ddmDataProviderContextCacheEntry);
+		}
+
+		return new DDMDataProviderContext(
+			ddmDataProviderContextCacheEntry.getDDMDataProviderContext());
+	}
+
+	public void remove(long dataProviderInstanceId) {
+		_portalCache.remove(dataProviderInstanceId);
+	}
+
+	@Reference(unbind = "-")
+	protected void setDDMFormValuesJSONDeserializer(
+		DDMFormValuesJSONDeserializer ddmFormValuesJSONDeserializer) {
+
+		_ddmFormValuesJSONDeserializer = ddmFormValuesJSONDeserializer;
+	}
+
+	@Reference(unbind = "-")
+	protected void setSingleVMPool(SingleVMPool singleVMPool) {
+		_portalCache =
+			(PortalCache<Long, DDMDataProviderContextCacheEntry>)
+				singleVMPool.getPortalCache(
+					DDMDataProviderContextCache.class.getName());
+	}
+
+	private DDMFormValuesJSONDeserializer _ddmFormValuesJSONDeserializer;
+	private PortalCache<Long, DDMDataProviderContextCacheEntry> _portalCache;
+
+	private static class DDMDataProviderContextCacheEntry {
+
+		public DDMDataProviderContextCacheEntry(
+			DDMDataProviderContext ddmDataProviderContext, Date modifiedDate) {
+
+			_ddmDataProviderContext = ddmDataProviderContext;
+			_modifiedDate = modifiedDate;
+		}
+
+		public DDMDataProviderContext getDDMDataProviderContext() {
+			return _ddmDataProviderContext;
+		}
+
+		public Date getModifiedDate() {
+			return _modifiedDate;
+		}
+
+		private final DDMDataProviderContext _ddmDataProviderContext;
+		private final Date _modifiedDate;
+
+	}
+
+}
@@ -22,31 +22,49 @@ import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderRequest;
 import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse;
 import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse.Status;
 import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderTracker;
-import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
 import com.liferay.dynamic.data.mapping.model.DDMDataProviderInstance;
-import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.service.DDMDataProviderInstanceService;
-import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
-import com.liferay.dynamic.data.mapping.util.DDMFormFactory;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
 import com.liferay.portal.kernel.security.auth.PrincipalException;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.util.LocaleThreadLocal;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
 import com.liferay.portal.kernel.util.Validator;
 
-import com.netflix.hystrix.HystrixCommand;
 import com.netflix.hystrix.HystrixCommandGroupKey;
 import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixObservableCommand;
 import com.netflix.hystrix.exception.HystrixRuntimeException;
 import com.netflix.hystrix.exception.HystrixRuntimeException.FailureType;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
+import rx.Observable;
+import rx.subscriptions.Subscriptions;
+
 /**
  * @author Marcellus Tavares
  */
@@ -60,6 +78,8 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 			return doInvoke(ddmDataProviderRequest);
 		}
 		catch (Exception e) {
+			e = getException(e);
+
 			if (_log.isWarnEnabled()) {
 				_log.warn(
 					"Unable to invoke DDM Data Provider instance ID " +
@@ -71,6 +91,61 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 		}
 	}
 
+	public CompletableFuture<DDMDataProviderResponse> invokeAsync(
+		DDMDataProviderRequest ddmDataProviderRequest) {
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture;
+
+		try {
+			completableFuture = doInvokeAsync(ddmDataProviderRequest);
+		}
+		catch (Exception e) {
+			completableFuture = new CompletableFuture<>();
+
+			completableFuture.completeExceptionally(e);
+		}
+
+		return completableFuture.handle(
+			(ddmDataProviderResponse, throwable) -> {
+				if (throwable == null) {
+					return ddmDataProviderResponse;
+				}
+
+				Exception e = getException(throwable);
+
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to invoke DDM Data Provider instance ID " +
+							ddmDataProviderRequest.
+								getDDMDataProviderInstanceId(),
+						e);
+				}
+
+				return createDDMDataProviderErrorResponse(e);
+			});
+	}
+
+	@Activate
+	protected void activate() {
+
+		// A saturated pool rejects the call instead of running it on the
+		// caller, because the submitted callables clear the thread locals of
+		// the thread that runs them
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			_ASYNC_THREAD_POOL_SIZE, _ASYNC_THREAD_POOL_SIZE, 60,
+			TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(_ASYNC_THREAD_POOL_QUEUE_SIZE),
+			new NamedThreadFactory(
+				DDMDataProviderInvokerImpl.class.getName(),
+				Thread.NORM_PRIORITY,
+				DDMDataProviderInvokerImpl.class.getClassLoader()));
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		_executorService = threadPoolExecutor;
+	}
+
 	protected void addDDMDataProviderRequestParameters(
 		DDMDataProviderRequest ddmDataProviderRequest,
 		DDMDataProviderInstance ddmDataProviderInstance) {
@@ -106,14 +181,8 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 				ddmDataProviderTracker.getDDMDataProvider(
 					ddmDataProviderInstance.getType());
 
-			DDMForm ddmForm = DDMFormFactory.create(
-				ddmDataProvider.getSettings());
-
-			DDMFormValues ddmFormValues =
-				ddmFormValuesJSONDeserializer.deserialize(
-					ddmForm, ddmDataProviderInstance.getDefinition());
-
-			return new DDMDataProviderContext(ddmFormValues);
+			return ddmDataProviderContextCache.getDDMDataProviderContext(
+				ddmDataProviderInstance, ddmDataProvider);
 		}
 		catch (PortalException pe) {
 			throw new IllegalStateException(pe);
@@ -132,14 +201,29 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 			else if (failureType == FailureType.SHORTCIRCUIT) {
 				return DDMDataProviderResponse.error(Status.SHORTCIRCUIT);
 			}
+			else if ((failureType ==
+						FailureType.REJECTED_SEMAPHORE_EXECUTION) ||
+					 (e.getCause() instanceof RejectedExecutionException)) {
+
+				return DDMDataProviderResponse.error(
+					Status.SERVICE_UNAVAILABLE);
+			}
 		}
 		else if (e instanceof PrincipalException) {
 			return DDMDataProviderResponse.error(Status.UNAUTHORIZED);
 		}
+		else if (e instanceof RejectedExecutionException) {
+			return DDMDataProviderResponse.error(Status.SERVICE_UNAVAILABLE);
+		}
 
 		return DDMDataProviderResponse.error(Status.UNKNOWN_ERROR);
 	}
 
+	@Deactivate
+	protected void deactivate() {
+		_executorService.shutdownNow();
+	}
+
 	protected DDMDataProviderResponse doInvoke(
 			DDMDataProviderRequest ddmDataProviderRequest)
 		throws Exception {
@@ -157,25 +241,88 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 			ddmDataProviderInstanceId, ddmDataProviderInstanceOptional);
 
 		if (ddmDataProviderInstanceOptional.isPresent()) {
-			return doInvokeExternal(
-				ddmDataProviderInstanceOptional.get(), ddmDataProvider,
-				ddmDataProviderRequest);
+			DDMDataProviderInstance ddmDataProviderInstance =
+				ddmDataProviderInstanceOptional.get();
+
+			return _ddmDataProviderRequestCoalescer.coalesce(
+				getCoalescingKey(
+					ddmDataProviderInstance, ddmDataProviderRequest),
+				() -> doInvokeExternal(
+					ddmDataProviderInstance, ddmDataProvider,
+					ddmDataProviderRequest));
 		}
 
 		return ddmDataProvider.getData(ddmDataProviderRequest);
 	}
 
+	protected CompletableFuture<DDMDataProviderResponse> doInvokeAsync(
+			DDMDataProviderRequest ddmDataProviderRequest)
+		throws Exception {
+
+		String ddmDataProviderInstanceId =
+			ddmDataProviderRequest.getDDMDataProviderInstanceId();
+
+		Optional<DDMDataProviderInstance> ddmDataProviderInstanceOptional =
+			fetchDDMDataProviderInstance(ddmDataProviderInstanceId);
+
+		setDDMDataProviderRequestAttributes(
+			ddmDataProviderRequest, ddmDataProviderInstanceOptional);
+
+		DDMDataProvider ddmDataProvider = getDDMDataProvider(
+			ddmDataProviderInstanceId, ddmDataProviderInstanceOptional);
+
+		if (ddmDataProviderInstanceOptional.isPresent()) {
+			DDMDataProviderInstance ddmDataProviderInstance =
+				ddmDataProviderInstanceOptional.get();
+
+			return _ddmDataProviderRequestCoalescer.coalesceAsync(
+				getCoalescingKey(
+					ddmDataProviderInstance, ddmDataProviderRequest),
+				() -> doInvokeExternalAsync(
+					ddmDataProviderInstance, ddmDataProvider,
+					ddmDataProviderRequest));
+		}
+
+		return ddmDataProvider.getDataAsync(
+			ddmDataProviderRequest, this::submit);
+	}
+
 	protected DDMDataProviderResponse doInvokeExternal(
-		DDMDataProviderInstance ddmDataProviderInstance,
-		DDMDataProvider ddmDataProvider,
-		DDMDataProviderRequest ddmDataProviderRequest) {
+			DDMDataProviderInstance ddmDataProviderInstance,
+			DDMDataProvider ddmDataProvider,
+			DDMDataProviderRequest ddmDataProviderRequest)
+		throws Exception {
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			doInvokeExternalAsync(
+				ddmDataProviderInstance, ddmDataProvider,
+				ddmDataProviderRequest);
+
+		return completableFuture.get();
+	}
+
+	protected CompletableFuture<DDMDataProviderResponse>
+		doInvokeExternalAsync(
+			DDMDataProviderInstance ddmDataProviderInstance,
+			DDMDataProvider ddmDataProvider,
+			DDMDataProviderRequest ddmDataProviderRequest) {
 
 		DDMDataProviderInvokeCommand ddmDataProviderInvokeCommand =
 			new DDMDataProviderInvokeCommand(
 				ddmDataProviderInstance.getNameCurrentValue(), ddmDataProvider,
 				ddmDataProviderRequest);
 
-		return ddmDataProviderInvokeCommand.execute();
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			new CompletableFuture<>();
+
+		Observable<DDMDataProviderResponse> observable =
+			ddmDataProviderInvokeCommand.toObservable();
+
+		observable.subscribe(
+			completableFuture::complete,
+			completableFuture::completeExceptionally);
+
+		return completableFuture;
 	}
 
 	protected Optional<DDMDataProviderInstance> fetchDDMDataProviderInstance(
@@ -197,6 +344,21 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 		return Optional.ofNullable(ddmDataProviderInstance);
 	}
 
+	protected Object getCoalescingKey(
+		DDMDataProviderInstance ddmDataProviderInstance,
+		DDMDataProviderRequest ddmDataProviderRequest) {
+
+		// Context contributors and permission checks make the response
+		// depend on the current user, so requests are only shared among the
+		// calls of the same user
+
+		return Arrays.asList(
+			ddmDataProviderInstance.getDataProviderInstanceId(),
+			CompanyThreadLocal.getCompanyId(), PrincipalThreadLocal.getUserId(),
+			LocaleThreadLocal.getThemeDisplayLocale(),
+			new HashMap<>(ddmDataProviderRequest.getParameters()));
+	}
+
 	protected DDMDataProvider getDDMDataProvider(
 		String ddmDataProviderInstanceId,
 		Optional<DDMDataProviderInstance> ddmDataProviderInstanceOptional) {
@@ -212,6 +374,21 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 				ddmDataProviderInstanceId));
 	}
 
+	protected Exception getException(Throwable throwable) {
+		while (((throwable instanceof CompletionException) ||
+				(throwable instanceof ExecutionException)) &&
+			   (throwable.getCause() != null)) {
+
+			throwable = throwable.getCause();
+		}
+
+		if (throwable instanceof Exception) {
+			return (Exception)throwable;
+		}
+
+		return new Exception(throwable);
+	}
+
 	protected FailureType getHystrixFailureType(Exception e) {
 		HystrixRuntimeException hystrixRuntimeException =
 			(HystrixRuntimeException)e;
@@ -249,25 +426,56 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 			ddmDataProviderRequest.getParameters());
 	}
 
+	protected Future<?> submit(Runnable runnable) {
+		return _executorService.submit(
+			new CopyThreadLocalCallable<Void>(true, true) {
+
+				@Override
+				public Void doCall() {
+					runnable.run();
+
+					return null;
+				}
+
+			});
+	}
+
+	@Reference
+	protected DDMDataProviderContextCache ddmDataProviderContextCache;
+
 	@Reference
 	protected DDMDataProviderInstanceService ddmDataProviderInstanceService;
 
 	@Reference
 	protected DDMDataProviderTracker ddmDataProviderTracker;
 
-	@Reference
-	protected DDMFormValuesJSONDeserializer ddmFormValuesJSONDeserializer;
+	private static final int _ASYNC_THREAD_POOL_QUEUE_SIZE = 100;
+
+	private static final int _ASYNC_THREAD_POOL_SIZE = 10;
 
+	private static final HystrixCommandGroupKey _hystrixCommandGroupKey =
+		HystrixCommandGroupKey.Factory.asKey(
+			"DDMDataProviderInvokeCommandGroup");
 	private static final Log _log = LogFactoryUtil.getLog(
 		DDMDataProviderInvokerImpl.class);
 
-	private static class DDMDataProviderInvokeCommand
-		extends HystrixCommand<DDMDataProviderResponse> {
+	private final DDMDataProviderRequestCoalescer
+		_ddmDataProviderRequestCoalescer =
+			new DDMDataProviderRequestCoalescer();
+	private ExecutorService _executorService;
+
+	private class DDMDataProviderInvokeCommand
+		extends HystrixObservableCommand<DDMDataProviderResponse> {
 
 		public DDMDataProviderInvokeCommand(
 			String ddmDataProviderInstanceName, DDMDataProvider ddmDataProvider,
 			DDMDataProviderRequest ddmDataProviderRequest) {
 
+			// Synchronous and asynchronous calls run the same command, so that
+			// they share the timeout and the circuit breaker of the data
+			// provider instance. It is isolated with a semaphore and runs the
+			// blocking calls on the invoker's own pool.
+
 			super(
 				Setter.withGroupKey(_hystrixCommandGroupKey).andCommandKey(
 					HystrixCommandKey.Factory.asKey(
@@ -279,14 +487,42 @@ public class DDMDataProviderInvokerImpl implements DDMDataProviderInvoker {
 		}
 
 		@Override
-		protected DDMDataProviderResponse run() throws Exception {
-			return _ddmDataProvider.getData(_ddmDataProviderRequest);
+		protected Observable<DDMDataProviderResponse> construct() {
+			return Observable.create(
+				subscriber -> {
+					List<Future<?>> futures = new CopyOnWriteArrayList<>();
+
+					// Hystrix unsubscribes when the command times out.
+					// Interrupt the calls that are still running, so that
+					// they release their pool threads.
+
+					subscriber.add(
+						Subscriptions.create(
+							() -> {
+								for (Future<?> future : futures) {
+									future.cancel(true);
+								}
+							}));
+
+					CompletableFuture<DDMDataProviderResponse>
+						completableFuture = _ddmDataProvider.getDataAsync(
+							_ddmDataProviderRequest,
+							runnable -> futures.add(submit(runnable)));
+
+					completableFuture.whenComplete(
+						(ddmDataProviderResponse, throwable) -> {
+							if (throwable != null) {
+								subscriber.onError(throwable);
+
+								return;
+							}
+
+							subscriber.onNext(ddmDataProviderResponse);
+							subscriber.onCompleted();
+						});
+				});
 		}
 
-		private static final HystrixCommandGroupKey _hystrixCommandGroupKey =
-			HystrixCommandGroupKey.Factory.asKey(
-				"DDMDataProviderInvokeCommandGroup");
-
 		private final DDMDataProvider _ddmDataProvider;
 		private final DDMDataProviderRequest _ddmDataProviderRequest;
 
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal;
+
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares a single in-flight data provider call among all the concurrent
+ * callers that use the same key. The first caller invokes the data provider,
+ * and the callers that arrive before it finishes receive its response or its
+ * exception. The counters are written to the debug log every time a call is
+ * coalesced.
+ *
+ * @author agent
+ */
+public class DDMDataProviderRequestCoalescer {
+
+	public DDMDataProviderResponse coalesce(
+			Object key, Callable<DDMDataProviderResponse> callable)
+		throws Exception {
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			new CompletableFuture<>();
+
+		CompletableFuture<DDMDataProviderResponse> inFlightCompletableFuture =
+			_completableFutures.putIfAbsent(key, completableFuture);
+
+		if (inFlightCompletableFuture != null) {
+			_coalescedCount.increment();
+
+			_logCoalescedCall();
+
+			try {
+				return inFlightCompletableFuture.join();
+			}
+			catch (CompletionException ce) {
+				Throwable cause = ce.getCause();
+
+				if (cause instanceof Exception) {
+					throw (Exception)cause;
+				}
+
+				throw ce;
+			}
+		}
+
+		_invokedCount.increment();
+
+		try {
+			DDMDataProviderResponse ddmDataProviderResponse = callable.call();
+
+			completableFuture.complete(ddmDataProviderResponse);
+
+			return ddmDataProviderResponse;
+		}
+		catch (Throwable t) {
+			completableFuture.completeExceptionally(t);
+
+			throw t;
+		}
+		finally {
+			_completableFutures.remove(key, completableFuture);
+		}
+	}
+
+	public CompletableFuture<DDMDataProviderResponse> coalesceAsync(
+		Object key,
+		Supplier<CompletableFuture<DDMDataProviderResponse>> supplier) {
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			new CompletableFuture<>();
+
+		CompletableFuture<DDMDataProviderResponse> inFlightCompletableFuture =
+			_completableFutures.putIfAbsent(key, completableFuture);
+
+		if (inFlightCompletableFuture != null) {
+			_coalescedCount.increment();
+
+			_logCoalescedCall();
+
+			return inFlightCompletableFuture;
+		}
+
+		_invokedCount.increment();
+
+		CompletableFuture<DDMDataProviderResponse> suppliedCompletableFuture;
+
+		try {
+			suppliedCompletableFuture = supplier.get();
+		}
+		catch (Throwable t) {
+			suppliedCompletableFuture = new CompletableFuture<>();
+
+			suppliedCompletableFuture.completeExceptionally(t);
+		}
+
+		suppliedCompletableFuture.whenComplete(
+			(ddmDataProviderResponse, throwable) -> {
+				_completableFutures.remove(key, completableFuture);
+
+				if (throwable != null) {
+					completableFuture.completeExceptionally(throwable);
+				}
+				else {
+					completableFuture.complete(ddmDataProviderResponse);
+				}
+			});
+
+		return completableFuture;
+	}
+
+	/**
+	 * Returns the number of calls that received the response of a call that
+	 * was already in flight instead of invoking the data provider.
+	 *
+	 * @return the number of coalesced calls
+	 */
+	public long getCoalescedCount() {
+		return _coalescedCount.sum();
+	}
+
+	public int getInFlightCount() {
+		return _completableFutures.size();
+	}
+
+	/**
+	 * Returns the number of calls that invoked the data provider.
+	 *
+	 * @return the number of calls that invoked the data provider
+	 */
+	public long getInvokedCount() {
+		return _invokedCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"{coalescedCount=%d, inFlightCount=%d, invokedCount=%d}",
+			getCoalescedCount(), getInFlightCount(), getInvokedCount());
+	}
+
+	private void _logCoalescedCall() {
+		if (_log.isDebugEnabled()) {
+			_log.debug("Coalesced data provider call " + toString());
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		DDMDataProviderRequestCoalescer.class);
+
+	private final LongAdder _coalescedCount = new LongAdder();
+	private final Map<Object, CompletableFuture<DDMDataProviderResponse>>
+		_completableFutures = new ConcurrentHashMap<>();
+	private final LongAdder _invokedCount = new LongAdder();
+
+}
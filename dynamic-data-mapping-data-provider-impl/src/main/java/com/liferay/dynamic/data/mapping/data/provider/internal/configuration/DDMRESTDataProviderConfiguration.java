@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+/**
+ * @author agent
+ */
+@ExtendedObjectClassDefinition(category = "forms-and-workflow")
+@Meta.OCD(
+	id = "com.liferay.dynamic.data.mapping.data.provider.internal.configuration.DDMRESTDataProviderConfiguration",
+	localization = "content/Language",
+	name = "ddm-rest-data-provider-configuration-name"
+)
+public interface DDMRESTDataProviderConfiguration {
+
+	/**
+	 * Returns the maximum size, in bytes, of a response read from a REST
+	 * provider. A value of <code>0</code> or less disables the limit.
+	 *
+	 * @return the maximum size, in bytes, of a response
+	 */
+	@Meta.AD(
+		deflt = "10485760", description = "maximum-response-size-description",
+		name = "maximum-response-size", required = false
+	)
+	public int maximumResponseSize();
+
+	/**
+	 * Returns <code>true</code> if responses should be read in a single pass
+	 * that keeps only the values matched by the output parameter paths,
+	 * instead of being parsed into a full document.
+	 *
+	 * @return <code>true</code> if responses should be read in a single pass;
+	 *         <code>false</code> otherwise
+	 */
+	@Meta.AD(
+		deflt = "true",
+		description = "streaming-response-reader-enabled-description",
+		name = "streaming-response-reader-enabled", required = false
+	)
+	public boolean streamingResponseReaderEnabled();
+
+}
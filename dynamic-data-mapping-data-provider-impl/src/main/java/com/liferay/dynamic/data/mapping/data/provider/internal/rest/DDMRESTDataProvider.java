@@ -25,36 +25,67 @@ import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderRequest;
 import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse;
 import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse.Status;
 import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponseOutput;
+import com.liferay.dynamic.data.mapping.data.provider.internal.configuration.DDMRESTDataProviderConfiguration;
 import com.liferay.petra.string.CharPool;
 import com.liferay.petra.string.StringPool;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
 import com.liferay.portal.kernel.cache.MultiVMPool;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.concurrent.ConcurrentLFUCache;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
 import com.liferay.portal.kernel.json.JSONFactory;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.Http;
 import com.liferay.portal.kernel.util.KeyValuePair;
-import com.liferay.portal.kernel.util.ListUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import java.net.ConnectException;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletResponse;
 
 import jodd.http.HttpException;
 import jodd.http.HttpRequest;
 import jodd.http.HttpResponse;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * @author Marcellus Tavares
  */
-@Component(immediate = true, property = "ddm.data.provider.type=rest")
+@Component(
+	configurationPid = "com.liferay.dynamic.data.mapping.data.provider.internal.configuration.DDMRESTDataProviderConfiguration",
+	immediate = true, property = "ddm.data.provider.type=rest"
+)
 public class DDMRESTDataProvider implements DDMDataProvider {
 
 	@Override
@@ -111,6 +142,23 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 		return DDMRESTDataProviderSettings.class;
 	}
 
+	@Activate
+	protected void activate(Map<String, Object> properties) {
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			_REVALIDATION_THREAD_POOL_SIZE, _REVALIDATION_THREAD_POOL_SIZE, 60,
+			TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(_REVALIDATION_THREAD_POOL_QUEUE_SIZE),
+			new NamedThreadFactory(
+				DDMRESTDataProvider.class.getName(), Thread.NORM_PRIORITY,
+				DDMRESTDataProvider.class.getClassLoader()));
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		_executorService = threadPoolExecutor;
+
+		modified(properties);
+	}
+
 	protected DDMDataProviderRequest createDDMDataProviderRequest(
 		DDMDataProviderContext ddmDataProviderContext) {
 
@@ -185,7 +233,7 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 					continue;
 				}
 
-				List<String> keys = new ArrayList<>(values);
+				List<String> keys = values;
 
 				if (paths.length >= 2) {
 					normalizedKeyPath = normalizePath(paths[1]);
@@ -193,26 +241,34 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 					keys = documentContext.read(normalizedKeyPath);
 				}
 
-				List<KeyValuePair> keyValuePairs = new ArrayList<>();
+				int start = 0;
+				int end = values.size();
 
-				for (int i = 0; i < values.size(); i++) {
-					keyValuePairs.add(
-						new KeyValuePair(keys.get(i), values.get(i)));
-				}
+				if (isPaginated(
+						ddmDataProviderRequest, ddmRESTDataProviderSettings)) {
 
-				if (ddmRESTDataProviderSettings.pagination()) {
-					int start = Integer.valueOf(
+					int paginationStart = GetterUtil.getInteger(
 						ddmDataProviderRequest.getParameter("paginationStart"));
-
-					int end = Integer.valueOf(
+					int paginationEnd = GetterUtil.getInteger(
 						ddmDataProviderRequest.getParameter("paginationEnd"));
 
-					if (keyValuePairs.size() > (end - start)) {
-						keyValuePairs = ListUtil.subList(
-							keyValuePairs, start, end);
+					// The REST provider returned more than one page, so it
+					// ignored the pagination parameters
+
+					if (values.size() > (paginationEnd - paginationStart)) {
+						end = Math.min(Math.max(paginationEnd, 0), end);
+						start = Math.min(Math.max(paginationStart, 0), end);
 					}
 				}
 
+				List<KeyValuePair> keyValuePairs = new ArrayList<>(
+					end - start);
+
+				for (int i = start; i < end; i++) {
+					keyValuePairs.add(
+						new KeyValuePair(keys.get(i), values.get(i)));
+				}
+
 				ddmDataProviderResponseOutputs.add(
 					DDMDataProviderResponseOutput.of(
 						name, "list", keyValuePairs));
@@ -226,19 +282,80 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 				new DDMDataProviderResponseOutput[size]));
 	}
 
-	protected DDMDataProviderResponse doGetData(
-		DDMDataProviderRequest ddmDataProviderRequest) {
+	protected DocumentContext createDocumentContext(
+			HttpResponse httpResponse,
+			DDMDataProviderRequest ddmDataProviderRequest,
+			DDMRESTDataProviderSettings ddmRESTDataProviderSettings)
+		throws IOException {
 
-		DDMDataProviderContext ddmDataProviderContext =
-			ddmDataProviderRequest.getDDMDataProviderContext();
+		DDMRESTDataProviderConfiguration ddmRESTDataProviderConfiguration =
+			_ddmRESTDataProviderConfiguration;
 
-		DDMRESTDataProviderSettings ddmRESTDataProviderSettings =
-			ddmDataProviderContext.getSettingsInstance(
-				DDMRESTDataProviderSettings.class);
+		byte[] bytes = httpResponse.bodyBytes();
+
+		int maximumResponseSize =
+			ddmRESTDataProviderConfiguration.maximumResponseSize();
+
+		if ((maximumResponseSize > 0) && (bytes.length > maximumResponseSize)) {
+			throw new IOException(
+				StringBundler.concat(
+					"The response from ", ddmRESTDataProviderSettings.url(),
+					" exceeds the maximum size of ",
+					String.valueOf(maximumResponseSize), " bytes"));
+		}
+
+		StreamingJSONPathReader streamingJSONPathReader = null;
+
+		if (ddmRESTDataProviderConfiguration.streamingResponseReaderEnabled()) {
+			streamingJSONPathReader = getStreamingJSONPathReader(
+				ddmRESTDataProviderSettings);
+		}
+
+		if ((streamingJSONPathReader == null) ||
+			!streamingJSONPathReader.isSupported()) {
+
+			return JsonPath.parse(httpResponse.body());
+		}
+
+		int maxWildcardItems = Integer.MAX_VALUE;
+
+		if (isPaginated(ddmDataProviderRequest, ddmRESTDataProviderSettings) &&
+			!streamingJSONPathReader.hasNestedWildcards()) {
+
+			// Elements after the end of the requested page are never read
+
+			maxWildcardItems = Math.max(
+				GetterUtil.getInteger(
+					ddmDataProviderRequest.getParameter("paginationEnd")),
+				0);
+		}
+
+		Object json = streamingJSONPathReader.read(
+			new UnsyncByteArrayInputStream(bytes), maxWildcardItems);
+
+		if (json == null) {
+			return JsonPath.parse(httpResponse.body());
+		}
+
+		return JsonPath.parse(json);
+	}
+
+	protected HttpRequest createHttpRequest(
+		DDMDataProviderRequest ddmDataProviderRequest,
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings) {
 
 		HttpRequest httpRequest = HttpRequest.get(
 			ddmRESTDataProviderSettings.url());
 
+		int timeout = ddmRESTDataProviderSettings.timeout();
+
+		if (timeout <= 0) {
+			timeout = _TIMEOUT_DEFAULT;
+		}
+
+		httpRequest.connectionTimeout(timeout);
+		httpRequest.timeout(timeout);
+
 		if (StringUtil.startsWith(
 				ddmRESTDataProviderSettings.url(), Http.HTTPS)) {
 
@@ -254,37 +371,153 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 		setRequestParameters(
 			ddmDataProviderRequest, ddmRESTDataProviderSettings, httpRequest);
 
-		String cacheKey = getCacheKey(httpRequest);
+		return httpRequest;
+	}
 
-		DDMRESTDataProviderResult ddmRESTDataProviderResult = _portalCache.get(
-			cacheKey);
+	@Deactivate
+	protected void deactivate() {
+		_executorService.shutdownNow();
+	}
 
-		if ((ddmRESTDataProviderResult != null) &&
-			ddmRESTDataProviderSettings.cacheable()) {
+	protected DDMDataProviderResponse doGetData(
+			DDMDataProviderRequest ddmDataProviderRequest)
+		throws IOException {
+
+		DDMDataProviderContext ddmDataProviderContext =
+			ddmDataProviderRequest.getDDMDataProviderContext();
+
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings =
+			ddmDataProviderContext.getSettingsInstance(
+				DDMRESTDataProviderSettings.class);
+
+		HttpRequest httpRequest = createHttpRequest(
+			ddmDataProviderRequest, ddmRESTDataProviderSettings);
+
+		if (!ddmRESTDataProviderSettings.cacheable()) {
+			DDMRESTDataProviderResult ddmRESTDataProviderResult =
+				sendHttpRequest(
+					httpRequest, ddmDataProviderRequest,
+					ddmRESTDataProviderSettings, null);
 
 			return ddmRESTDataProviderResult.getDDMDataProviderResponse();
 		}
 
-		HttpResponse httpResponse = httpRequest.send();
+		String cacheKey = getCacheKey(httpRequest, ddmRESTDataProviderSettings);
 
-		DocumentContext documentContext = JsonPath.parse(httpResponse.body());
+		DDMRESTDataProviderResult ddmRESTDataProviderResult = _portalCache.get(
+			cacheKey);
 
-		DDMDataProviderResponse ddmDataProviderResponse =
-			createDDMDataProviderResponse(
-				documentContext, ddmDataProviderRequest,
+		if (ddmRESTDataProviderResult == null) {
+			ddmRESTDataProviderResult = sendHttpRequest(
+				httpRequest, ddmDataProviderRequest,
+				ddmRESTDataProviderSettings, null);
+
+			putDDMRESTDataProviderResult(
+				cacheKey, ddmRESTDataProviderResult, ddmDataProviderRequest,
 				ddmRESTDataProviderSettings);
+		}
+		else if (ddmRESTDataProviderResult.isExpired(
+					ddmRESTDataProviderSettings.cacheTimeToLive())) {
 
-		if (ddmRESTDataProviderSettings.cacheable()) {
-			_portalCache.put(
-				cacheKey,
-				new DDMRESTDataProviderResult(ddmDataProviderResponse));
+			revalidate(
+				cacheKey, ddmRESTDataProviderResult, ddmDataProviderRequest,
+				ddmRESTDataProviderSettings);
 		}
 
-		return ddmDataProviderResponse;
+		return ddmRESTDataProviderResult.getDDMDataProviderResponse();
 	}
 
-	protected String getCacheKey(HttpRequest httpRequest) {
-		return httpRequest.url();
+	protected String getCacheKey(
+		HttpRequest httpRequest,
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings) {
+
+		StringBundler sb = new StringBundler();
+
+		sb.append(httpRequest.method());
+		sb.append(StringPool.NEW_LINE);
+		sb.append(httpRequest.url());
+		sb.append(StringPool.NEW_LINE);
+		sb.append(ddmRESTDataProviderSettings.username());
+		sb.append(StringPool.NEW_LINE);
+		sb.append(ddmRESTDataProviderSettings.password());
+
+		DDMDataProviderOutputParametersSettings[] outputParameterSettingsArray =
+			ddmRESTDataProviderSettings.outputParameters();
+
+		if (outputParameterSettingsArray != null) {
+			for (DDMDataProviderOutputParametersSettings
+					outputParameterSettings : outputParameterSettingsArray) {
+
+				sb.append(StringPool.NEW_LINE);
+				sb.append(outputParameterSettings.outputParameterName());
+				sb.append(StringPool.NEW_LINE);
+				sb.append(outputParameterSettings.outputParameterType());
+				sb.append(StringPool.NEW_LINE);
+				sb.append(outputParameterSettings.outputParameterPath());
+			}
+		}
+
+		return DigesterUtil.digestHex(Digester.SHA_256, sb.toString());
+	}
+
+	protected StreamingJSONPathReader getStreamingJSONPathReader(
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings) {
+
+		List<String> paths = new ArrayList<>();
+
+		DDMDataProviderOutputParametersSettings[] outputParameterSettingsArray =
+			ddmRESTDataProviderSettings.outputParameters();
+
+		if (outputParameterSettingsArray != null) {
+			for (DDMDataProviderOutputParametersSettings
+					outputParameterSettings : outputParameterSettingsArray) {
+
+				String path = outputParameterSettings.outputParameterPath();
+
+				if (Objects.equals(
+						outputParameterSettings.outputParameterType(),
+						"list")) {
+
+					for (String listPath :
+							StringUtil.split(path, CharPool.SEMICOLON)) {
+
+						paths.add(normalizePath(listPath));
+					}
+				}
+				else {
+					paths.add(normalizePath(path));
+				}
+			}
+		}
+
+		String key = StringUtil.merge(paths, StringPool.NEW_LINE);
+
+		StreamingJSONPathReader streamingJSONPathReader =
+			_streamingJSONPathReaders.get(key);
+
+		if (streamingJSONPathReader == null) {
+			streamingJSONPathReader = new StreamingJSONPathReader(paths);
+
+			_streamingJSONPathReaders.put(key, streamingJSONPathReader);
+		}
+
+		return streamingJSONPathReader;
+	}
+
+	protected boolean isPaginated(
+		DDMDataProviderRequest ddmDataProviderRequest,
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings) {
+
+		if (ddmRESTDataProviderSettings.pagination() &&
+			Validator.isNotNull(
+				ddmDataProviderRequest.getParameter("paginationStart")) &&
+			Validator.isNotNull(
+				ddmDataProviderRequest.getParameter("paginationEnd"))) {
+
+			return true;
+		}
+
+		return false;
 	}
 
 	protected String normalizePath(String path) {
@@ -297,6 +530,152 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 		return StringPool.PERIOD.concat(path);
 	}
 
+	@Modified
+	protected void modified(Map<String, Object> properties) {
+		_ddmRESTDataProviderConfiguration = ConfigurableUtil.createConfigurable(
+			DDMRESTDataProviderConfiguration.class, properties);
+	}
+
+	protected void putDDMRESTDataProviderResult(
+		String cacheKey, DDMRESTDataProviderResult ddmRESTDataProviderResult,
+		DDMDataProviderRequest ddmDataProviderRequest,
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings) {
+
+		_portalCache.put(cacheKey, ddmRESTDataProviderResult);
+
+		int cacheMaxEntries = ddmRESTDataProviderSettings.cacheMaxEntries();
+
+		if (cacheMaxEntries <= 0) {
+			return;
+		}
+
+		String cacheScope = GetterUtil.getString(
+			ddmDataProviderRequest.getDDMDataProviderInstanceId(),
+			ddmRESTDataProviderSettings.url());
+
+		Set<String> cacheKeys = _cacheKeysMap.computeIfAbsent(
+			cacheScope, key -> new LinkedHashSet<>());
+
+		synchronized (cacheKeys) {
+			cacheKeys.remove(cacheKey);
+
+			cacheKeys.add(cacheKey);
+
+			Iterator<String> iterator = cacheKeys.iterator();
+
+			while (cacheKeys.size() > cacheMaxEntries) {
+				_portalCache.remove(iterator.next());
+
+				iterator.remove();
+			}
+		}
+	}
+
+	protected void revalidate(
+		String cacheKey, DDMRESTDataProviderResult ddmRESTDataProviderResult,
+		DDMDataProviderRequest ddmDataProviderRequest,
+		DDMRESTDataProviderSettings ddmRESTDataProviderSettings) {
+
+		if (!_revalidatingCacheKeys.add(cacheKey)) {
+			return;
+		}
+
+		try {
+			_executorService.execute(
+				() -> {
+					try {
+						HttpRequest httpRequest = createHttpRequest(
+							ddmDataProviderRequest,
+							ddmRESTDataProviderSettings);
+
+						putDDMRESTDataProviderResult(
+							cacheKey,
+							sendHttpRequest(
+								httpRequest, ddmDataProviderRequest,
+								ddmRESTDataProviderSettings,
+								ddmRESTDataProviderResult),
+							ddmDataProviderRequest,
+							ddmRESTDataProviderSettings);
+					}
+					catch (Exception e) {
+						_portalCache.remove(cacheKey);
+
+						if (_log.isWarnEnabled()) {
+							_log.warn(
+								"Unable to revalidate cached response from " +
+									ddmRESTDataProviderSettings.url(),
+								e);
+						}
+					}
+					finally {
+						_revalidatingCacheKeys.remove(cacheKey);
+					}
+				});
+		}
+		catch (RejectedExecutionException ree) {
+
+			// The cached response is still returned and is revalidated by a
+			// later request
+
+			_revalidatingCacheKeys.remove(cacheKey);
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Unable to schedule the revalidation of the cached " +
+						"response from " + ddmRESTDataProviderSettings.url(),
+					ree);
+			}
+		}
+	}
+
+	protected DDMRESTDataProviderResult sendHttpRequest(
+			HttpRequest httpRequest,
+			DDMDataProviderRequest ddmDataProviderRequest,
+			DDMRESTDataProviderSettings ddmRESTDataProviderSettings,
+			DDMRESTDataProviderResult ddmRESTDataProviderResult)
+		throws IOException {
+
+		if (ddmRESTDataProviderResult != null) {
+			if (Validator.isNotNull(ddmRESTDataProviderResult.getETag())) {
+				httpRequest.header(
+					HttpHeaders.IF_NONE_MATCH,
+					ddmRESTDataProviderResult.getETag());
+			}
+
+			if (Validator.isNotNull(
+					ddmRESTDataProviderResult.getLastModified())) {
+
+				httpRequest.header(
+					HttpHeaders.IF_MODIFIED_SINCE,
+					ddmRESTDataProviderResult.getLastModified());
+			}
+		}
+
+		HttpResponse httpResponse = httpRequest.send();
+
+		if ((ddmRESTDataProviderResult != null) &&
+			(httpResponse.statusCode() ==
+				HttpServletResponse.SC_NOT_MODIFIED)) {
+
+			return new DDMRESTDataProviderResult(
+				ddmRESTDataProviderResult.getDDMDataProviderResponse(),
+				ddmRESTDataProviderResult.getETag(),
+				ddmRESTDataProviderResult.getLastModified());
+		}
+
+		DocumentContext documentContext = createDocumentContext(
+			httpResponse, ddmDataProviderRequest, ddmRESTDataProviderSettings);
+
+		DDMDataProviderResponse ddmDataProviderResponse =
+			createDDMDataProviderResponse(
+				documentContext, ddmDataProviderRequest,
+				ddmRESTDataProviderSettings);
+
+		return new DDMRESTDataProviderResult(
+			ddmDataProviderResponse, httpResponse.header(HttpHeaders.ETAG),
+			httpResponse.header(HttpHeaders.LAST_MODIFIED));
+	}
+
 	@Reference(unbind = "-")
 	protected void setJSONFactory(JSONFactory jsonFactory) {
 		_jsonFactory = jsonFactory;
@@ -320,9 +699,9 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 				ddmDataProviderRequest.getParameter("filterParameterValue"));
 		}
 
-		if (ddmRESTDataProviderSettings.pagination()) {
+		if (isPaginated(ddmDataProviderRequest, ddmRESTDataProviderSettings)) {
 			httpRequest.query(
-				ddmRESTDataProviderSettings.paginationEndParameterName(),
+				ddmRESTDataProviderSettings.paginationStartParameterName(),
 				ddmDataProviderRequest.getParameter("paginationStart"));
 			httpRequest.query(
 				ddmRESTDataProviderSettings.paginationEndParameterName(),
@@ -332,22 +711,73 @@ public class DDMRESTDataProvider implements DDMDataProvider {
 		httpRequest.query(ddmDataProviderRequest.getParameters());
 	}
 
+	private static final int _REVALIDATION_THREAD_POOL_QUEUE_SIZE = 100;
+
+	private static final int _REVALIDATION_THREAD_POOL_SIZE = 5;
+
+	private static final int _STREAMING_JSON_PATH_READERS_MAX_SIZE = 1000;
+
+	private static final int _TIMEOUT_DEFAULT = 1000;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		DDMRESTDataProvider.class);
+
+	private final Map<String, Set<String>> _cacheKeysMap =
+		new ConcurrentHashMap<>();
+	private volatile DDMRESTDataProviderConfiguration
+		_ddmRESTDataProviderConfiguration;
+	private ExecutorService _executorService;
 	private JSONFactory _jsonFactory;
 	private PortalCache<String, DDMRESTDataProviderResult> _portalCache;
+	private final Set<String> _revalidatingCacheKeys =
+		ConcurrentHashMap.newKeySet();
+	private final ConcurrentLFUCache<String, StreamingJSONPathReader>
+		_streamingJSONPathReaders = new ConcurrentLFUCache<>(
+			_STREAMING_JSON_PATH_READERS_MAX_SIZE);
 
 	private static class DDMRESTDataProviderResult implements Serializable {
 
 		public DDMRESTDataProviderResult(
-			DDMDataProviderResponse ddmDataProviderResponse) {
+			DDMDataProviderResponse ddmDataProviderResponse, String eTag,
+			String lastModified) {
 
 			_ddmDataProviderResponse = ddmDataProviderResponse;
+			_eTag = eTag;
+			_lastModified = lastModified;
+
+			_createTime = System.currentTimeMillis();
 		}
 
 		public DDMDataProviderResponse getDDMDataProviderResponse() {
 			return _ddmDataProviderResponse;
 		}
 
+		public String getETag() {
+			return _eTag;
+		}
+
+		public String getLastModified() {
+			return _lastModified;
+		}
+
+		public boolean isExpired(int timeToLive) {
+			if (timeToLive <= 0) {
+				return false;
+			}
+
+			long age = System.currentTimeMillis() - _createTime;
+
+			if (age > (timeToLive * Time.SECOND)) {
+				return true;
+			}
+
+			return false;
+		}
+
+		private final long _createTime;
 		private final DDMDataProviderResponse _ddmDataProviderResponse;
+		private final String _eTag;
+		private final String _lastModified;
 
 	}
 
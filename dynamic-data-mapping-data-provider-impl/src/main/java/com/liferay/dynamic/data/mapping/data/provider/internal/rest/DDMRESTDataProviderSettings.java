@@ -37,6 +37,8 @@ import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderParameterSe
 		),
 		@DDMFormRule(
 			actions = {
+				"setVisible('cacheMaxEntries', equals(getValue('cacheable'), true))",
+				"setVisible('cacheTimeToLive', equals(getValue('cacheable'), true))",
 				"setVisible('paginationStartParameterName', equals(getValue('pagination'), true))",
 				"setVisible('paginationEndParameterName', equals(getValue('pagination'), true))",
 				"setRequired('paginationStartParameterName', equals(getValue('pagination'), true))",
@@ -55,8 +57,10 @@ import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderParameterSe
 						@DDMFormLayoutColumn(
 							size = 12,
 							value = {
-								"url", "username", "password", "filterable",
-								"filterParameterName", "cacheable",
+								"url", "username", "password", "timeout",
+								"filterable", "filterParameterName",
+								"cacheable",
+								"cacheTimeToLive", "cacheMaxEntries",
 								"pagination", "paginationStartParameterName",
 								"paginationEndParameterName", "inputParameters",
 								"outputParameters"
@@ -71,6 +75,24 @@ import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderParameterSe
 public interface DDMRESTDataProviderSettings
 	extends DDMDataProviderParameterSettings {
 
+	@DDMFormField(
+		label = "%maximum-number-of-cached-responses", predefinedValue = "100",
+		properties = {
+			"tooltip=%the-oldest-cached-response-is-discarded-when-this-number-is-exceeded"
+		},
+		type = "numeric"
+	)
+	public int cacheMaxEntries();
+
+	@DDMFormField(
+		label = "%cache-time-to-live-in-seconds", predefinedValue = "600",
+		properties = {
+			"tooltip=%a-cached-response-older-than-this-is-revalidated-with-the-rest-provider-in-the-background"
+		},
+		type = "numeric"
+	)
+	public int cacheTimeToLive();
+
 	@DDMFormField(
 		label = "%cache-data-on-the-first-request",
 		properties = "showAsSwitcher=true"
@@ -125,6 +147,15 @@ public interface DDMRESTDataProviderSettings
 	)
 	public String password();
 
+	@DDMFormField(
+		label = "%timeout-in-milliseconds", predefinedValue = "1000",
+		properties = {
+			"tooltip=%the-time-to-wait-for-the-rest-provider-to-connect-and-to-send-data"
+		},
+		type = "numeric"
+	)
+	public int timeout();
+
 	@DDMFormField(
 		label = "%url",
 		properties = {"placeholder=%enter-the-rest-service-url"},
@@ -0,0 +1,711 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minidev.json.JSONArray;
+
+/**
+ * Reads a JSON document in a single pass and keeps only the branches that can
+ * be reached by a set of JSONPath expressions. The paths are compiled once,
+ * and the pruned document can be evaluated with JsonPath exactly like the
+ * full document, without ever building the full document in memory.
+ *
+ * <p>
+ * Only member (<code>.name</code>, <code>['name']</code>), index
+ * (<code>[0]</code>), wildcard (<code>.*</code>, <code>[*]</code>) and deep
+ * scan (<code>..</code>) steps are supported. If any path uses other
+ * operators, such as filters, slices or functions, {@link #isSupported()}
+ * returns <code>false</code> and the full document must be parsed instead.
+ * </p>
+ *
+ * @author agent
+ */
+public class StreamingJSONPathReader {
+
+	public StreamingJSONPathReader(Collection<String> paths) {
+		PathNode rootPathNode = new PathNode();
+
+		for (String path : paths) {
+			if (!rootPathNode.addPath(path)) {
+				rootPathNode = null;
+
+				break;
+			}
+		}
+
+		_rootPathNode = rootPathNode;
+	}
+
+	/**
+	 * Returns <code>true</code> if any path has more than one wildcard step or
+	 * a deep scan step. Limiting the number of elements read from each array
+	 * only preserves the first matches of paths with at most one wildcard
+	 * step.
+	 *
+	 * @return <code>true</code> if any path has more than one wildcard step or
+	 *         a deep scan step; <code>false</code> otherwise
+	 */
+	public boolean hasNestedWildcards() {
+		if ((_rootPathNode != null) && _rootPathNode._nestedWildcards) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public boolean isSupported() {
+		return _rootPathNode != null;
+	}
+
+	/**
+	 * Returns the pruned document read from the input stream, or
+	 * <code>null</code> if the document is not a JSON object or array.
+	 *
+	 * @param  inputStream the input stream of the JSON document
+	 * @param  maxWildcardItems the maximum number of elements read from each
+	 *         array matched by a wildcard step
+	 * @return the pruned document
+	 */
+	public Object read(InputStream inputStream, int maxWildcardItems)
+		throws IOException {
+
+		if (_rootPathNode == null) {
+			throw new IllegalStateException("Unsupported JSONPath expression");
+		}
+
+		try (JsonParser jsonParser = _jsonFactory.createParser(inputStream)) {
+			if (jsonParser.nextToken() == null) {
+				return null;
+			}
+
+			Object value = _readValue(
+				jsonParser, _rootPathNode, maxWildcardItems);
+
+			if ((value instanceof JSONArray) || (value instanceof Map)) {
+				return value;
+			}
+
+			return null;
+		}
+	}
+
+	private Object _readArray(
+			JsonParser jsonParser, PathNode pathNode, int maxWildcardItems)
+		throws IOException {
+
+		JSONArray jsonArray = new JSONArray();
+
+		boolean empty = true;
+		int index = 0;
+
+		while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+			PathNode childPathNode = pathNode.getChildPathNode(
+				index, index < maxWildcardItems);
+
+			Object value = _MISSING;
+
+			if (childPathNode != null) {
+				value = _readValue(jsonParser, childPathNode, maxWildcardItems);
+			}
+			else {
+				jsonParser.skipChildren();
+			}
+
+			if (value != _MISSING) {
+				jsonArray.add(value);
+
+				empty = false;
+			}
+			else if (index < pathNode.getMaxIndex()) {
+
+				// Keep the position of the elements matched by index steps
+
+				jsonArray.add(null);
+			}
+
+			index++;
+		}
+
+		if (empty && pathNode.isDeepScanCarrier()) {
+			return _MISSING;
+		}
+
+		return jsonArray;
+	}
+
+	private Object _readObject(
+			JsonParser jsonParser, PathNode pathNode, int maxWildcardItems)
+		throws IOException {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+
+		while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+			String name = jsonParser.getCurrentName();
+
+			jsonParser.nextToken();
+
+			PathNode childPathNode = pathNode.getChildPathNode(name);
+
+			if (childPathNode == null) {
+				jsonParser.skipChildren();
+
+				continue;
+			}
+
+			Object value = _readValue(
+				jsonParser, childPathNode, maxWildcardItems);
+
+			if (value != _MISSING) {
+				map.put(name, value);
+			}
+		}
+
+		if (map.isEmpty() && pathNode.isDeepScanCarrier()) {
+			return _MISSING;
+		}
+
+		return map;
+	}
+
+	private Object _readScalar(JsonParser jsonParser) throws IOException {
+		JsonToken jsonToken = jsonParser.getCurrentToken();
+
+		if (jsonToken == JsonToken.VALUE_FALSE) {
+			return Boolean.FALSE;
+		}
+		else if (jsonToken == JsonToken.VALUE_NUMBER_FLOAT) {
+			return jsonParser.getDoubleValue();
+		}
+		else if (jsonToken == JsonToken.VALUE_NUMBER_INT) {
+			return jsonParser.getNumberValue();
+		}
+		else if (jsonToken == JsonToken.VALUE_STRING) {
+			return jsonParser.getText();
+		}
+		else if (jsonToken == JsonToken.VALUE_TRUE) {
+			return Boolean.TRUE;
+		}
+
+		return null;
+	}
+
+	private Object _readTree(JsonParser jsonParser) throws IOException {
+		JsonToken jsonToken = jsonParser.getCurrentToken();
+
+		if (jsonToken == JsonToken.START_ARRAY) {
+			JSONArray jsonArray = new JSONArray();
+
+			while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+				jsonArray.add(_readTree(jsonParser));
+			}
+
+			return jsonArray;
+		}
+		else if (jsonToken == JsonToken.START_OBJECT) {
+			Map<String, Object> map = new LinkedHashMap<>();
+
+			while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+				String name = jsonParser.getCurrentName();
+
+				jsonParser.nextToken();
+
+				map.put(name, _readTree(jsonParser));
+			}
+
+			return map;
+		}
+
+		return _readScalar(jsonParser);
+	}
+
+	private Object _readValue(
+			JsonParser jsonParser, PathNode pathNode, int maxWildcardItems)
+		throws IOException {
+
+		if (pathNode.isTerminal()) {
+			return _readTree(jsonParser);
+		}
+
+		JsonToken jsonToken = jsonParser.getCurrentToken();
+
+		if (jsonToken == JsonToken.START_ARRAY) {
+			return _readArray(jsonParser, pathNode, maxWildcardItems);
+		}
+		else if (jsonToken == JsonToken.START_OBJECT) {
+			return _readObject(jsonParser, pathNode, maxWildcardItems);
+		}
+
+		// Values that cannot match any path are only omitted when a deep scan
+		// is all that remains, because other steps tell missing values and
+		// scalar values apart
+
+		if (pathNode.isDeepScanCarrier()) {
+			return _MISSING;
+		}
+
+		return _readScalar(jsonParser);
+	}
+
+	private static final Object _MISSING = new Object();
+
+	private static final JsonFactory _jsonFactory = new JsonFactory();
+
+	private final PathNode _rootPathNode;
+
+	private static class PathNode {
+
+		public boolean addPath(String path) {
+			int i = 0;
+
+			if (path.startsWith("$")) {
+				i++;
+			}
+			else {
+
+				// JsonPath prefixes other paths with "$.", so ".name" is a deep
+				// scan
+
+				path = "$.".concat(path);
+
+				i++;
+			}
+
+			PathNode pathNode = this;
+
+			int wildcardCount = 0;
+
+			while (i < path.length()) {
+				char c = path.charAt(i);
+
+				if (c == '.') {
+					int start = i + 1;
+
+					if ((start < path.length()) &&
+						(path.charAt(start) == '.')) {
+
+						pathNode = pathNode._getDeepScanPathNode();
+
+						wildcardCount += 2;
+
+						if (((start + 1) < path.length()) &&
+							(path.charAt(start + 1) == '[')) {
+
+							i = start + 1;
+
+							continue;
+						}
+
+						start++;
+					}
+
+					int end = start;
+
+					while ((end < path.length()) &&
+						   (path.charAt(end) != '.') &&
+						   (path.charAt(end) != '[')) {
+
+						end++;
+					}
+
+					String name = path.substring(start, end);
+
+					if (name.equals("*")) {
+						pathNode = pathNode._getWildcardChildPathNode();
+
+						wildcardCount++;
+					}
+					else if (_isName(name)) {
+						pathNode = pathNode._getNamedChildPathNode(name);
+					}
+					else {
+						return false;
+					}
+
+					i = end;
+				}
+				else if (c == '[') {
+					int end = path.indexOf(']', i);
+
+					if (end == -1) {
+						return false;
+					}
+
+					String step = path.substring(i + 1, end);
+
+					if (step.equals("*")) {
+						pathNode = pathNode._getWildcardChildPathNode();
+
+						wildcardCount++;
+					}
+					else if (_isIndex(step)) {
+						pathNode = pathNode._getIndexedChildPathNode(
+							Integer.parseInt(step));
+					}
+					else if (_isQuotedName(step)) {
+						pathNode = pathNode._getNamedChildPathNode(
+							step.substring(1, step.length() - 1));
+					}
+					else {
+						return false;
+					}
+
+					i = end + 1;
+				}
+				else {
+					return false;
+				}
+			}
+
+			pathNode._terminal = true;
+
+			if (wildcardCount > 1) {
+				_nestedWildcards = true;
+			}
+
+			return true;
+		}
+
+		public PathNode getChildPathNode(int index, boolean wildcard) {
+			PathNode indexedChildPathNode = _getPathNode(
+				_indexedChildPathNodes, index);
+
+			if (!wildcard ||
+				((_deepScanPathNode == null) &&
+				 (_wildcardChildPathNode == null))) {
+
+				return indexedChildPathNode;
+			}
+
+			if ((_deepScanPathNode == null) && (indexedChildPathNode == null)) {
+				return _wildcardChildPathNode;
+			}
+
+			Object key = index;
+
+			if ((indexedChildPathNode == null) &&
+				((_deepScanPathNode == null) ||
+				 (_getPathNode(
+					 _deepScanPathNode._indexedChildPathNodes, index) ==
+						 null))) {
+
+				key = _OTHER_INDEX;
+			}
+
+			return _mergedChildPathNodes.computeIfAbsent(
+				key,
+				k -> {
+					if (_deepScanPathNode == null) {
+						return _merge(
+							indexedChildPathNode, _wildcardChildPathNode);
+					}
+
+					return _merge(
+						indexedChildPathNode, _wildcardChildPathNode,
+						_getPathNode(
+							_deepScanPathNode._indexedChildPathNodes, index),
+						_deepScanPathNode._wildcardChildPathNode,
+						_deepScanCarrierPathNode);
+				});
+		}
+
+		public PathNode getChildPathNode(String name) {
+			PathNode namedChildPathNode = _getPathNode(
+				_namedChildPathNodes, name);
+
+			if (_deepScanPathNode == null) {
+				if (_wildcardChildPathNode == null) {
+					return namedChildPathNode;
+				}
+
+				if (namedChildPathNode == null) {
+					return _wildcardChildPathNode;
+				}
+			}
+
+			Object key = name;
+
+			if ((namedChildPathNode == null) &&
+				((_deepScanPathNode == null) ||
+				 (_getPathNode(_deepScanPathNode._namedChildPathNodes, name) ==
+					 null))) {
+
+				key = _OTHER_NAME;
+			}
+
+			return _mergedChildPathNodes.computeIfAbsent(
+				key,
+				k -> {
+					if (_deepScanPathNode == null) {
+						return _merge(
+							namedChildPathNode, _wildcardChildPathNode);
+					}
+
+					return _merge(
+						namedChildPathNode, _wildcardChildPathNode,
+						_getPathNode(
+							_deepScanPathNode._namedChildPathNodes, name),
+						_deepScanPathNode._wildcardChildPathNode,
+						_deepScanCarrierPathNode);
+				});
+		}
+
+		public int getMaxIndex() {
+			if (_deepScanPathNode == null) {
+				return _maxIndex;
+			}
+
+			return Math.max(_maxIndex, _deepScanPathNode._maxIndex);
+		}
+
+		public boolean isDeepScanCarrier() {
+			if (_deepScanCarrierPathNode == this) {
+				return true;
+			}
+
+			return false;
+		}
+
+		public boolean isTerminal() {
+			return _terminal;
+		}
+
+		private static <K> PathNode _getPathNode(
+			Map<K, PathNode> pathNodes, K key) {
+
+			if (pathNodes == null) {
+				return null;
+			}
+
+			return pathNodes.get(key);
+		}
+
+		private static boolean _isIndex(String step) {
+			if (step.isEmpty() || (step.length() > 9)) {
+				return false;
+			}
+
+			for (int i = 0; i < step.length(); i++) {
+				if (!Character.isDigit(step.charAt(i))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static boolean _isName(String name) {
+			if (name.isEmpty()) {
+				return false;
+			}
+
+			for (int i = 0; i < name.length(); i++) {
+				char c = name.charAt(i);
+
+				if (!Character.isLetterOrDigit(c) && (c != '_') &&
+					(c != '-') && (c != '$')) {
+
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static boolean _isQuotedName(String step) {
+			if (step.length() < 2) {
+				return false;
+			}
+
+			char quote = step.charAt(0);
+
+			if (((quote != '\'') && (quote != '"')) ||
+				(step.charAt(step.length() - 1) != quote)) {
+
+				return false;
+			}
+
+			String name = step.substring(1, step.length() - 1);
+
+			if ((name.indexOf(quote) != -1) || (name.indexOf(',') != -1) ||
+				(name.indexOf('\\') != -1)) {
+
+				return false;
+			}
+
+			return true;
+		}
+
+		private static PathNode _merge(PathNode... pathNodes) {
+			PathNode mergedPathNode = null;
+
+			int count = 0;
+
+			for (PathNode pathNode : pathNodes) {
+				if (pathNode != null) {
+					mergedPathNode = pathNode;
+
+					count++;
+				}
+			}
+
+			if (count <= 1) {
+				return mergedPathNode;
+			}
+
+			mergedPathNode = new PathNode();
+
+			for (PathNode pathNode : pathNodes) {
+				if (pathNode != null) {
+					mergedPathNode._merge(pathNode);
+				}
+			}
+
+			return mergedPathNode;
+		}
+
+		private PathNode _getDeepScanPathNode() {
+			if (_deepScanPathNode == null) {
+				_setDeepScanPathNode(new PathNode());
+			}
+
+			return _deepScanPathNode;
+		}
+
+		private PathNode _getIndexedChildPathNode(int index) {
+			if (_indexedChildPathNodes == null) {
+				_indexedChildPathNodes = new HashMap<>();
+			}
+
+			_maxIndex = Math.max(_maxIndex, index);
+
+			return _indexedChildPathNodes.computeIfAbsent(
+				index, key -> new PathNode());
+		}
+
+		private PathNode _getNamedChildPathNode(String name) {
+			if (_namedChildPathNodes == null) {
+				_namedChildPathNodes = new HashMap<>();
+			}
+
+			return _namedChildPathNodes.computeIfAbsent(
+				name, key -> new PathNode());
+		}
+
+		private PathNode _getWildcardChildPathNode() {
+			if (_wildcardChildPathNode == null) {
+				_wildcardChildPathNode = new PathNode();
+			}
+
+			return _wildcardChildPathNode;
+		}
+
+		private void _merge(PathNode pathNode) {
+			_terminal |= pathNode._terminal;
+
+			if ((pathNode._deepScanPathNode != null) &&
+				(pathNode._deepScanPathNode != _deepScanPathNode)) {
+
+				if ((_deepScanPathNode == null) &&
+					(pathNode._deepScanCarrierPathNode == pathNode)) {
+
+					// A deep scan carrier continues the same deep scan in every
+					// descendant, so it is shared instead of copied
+
+					_deepScanCarrierPathNode = pathNode;
+					_deepScanPathNode = pathNode._deepScanPathNode;
+				}
+				else {
+					PathNode deepScanPathNode = new PathNode();
+
+					if (_deepScanPathNode != null) {
+						deepScanPathNode._merge(_deepScanPathNode);
+					}
+
+					deepScanPathNode._merge(pathNode._deepScanPathNode);
+
+					_setDeepScanPathNode(deepScanPathNode);
+				}
+			}
+
+			if (pathNode._indexedChildPathNodes != null) {
+				for (Map.Entry<Integer, PathNode> entry :
+						pathNode._indexedChildPathNodes.entrySet()) {
+
+					PathNode childPathNode = _getIndexedChildPathNode(
+						entry.getKey());
+
+					childPathNode._merge(entry.getValue());
+				}
+			}
+
+			if (pathNode._namedChildPathNodes != null) {
+				for (Map.Entry<String, PathNode> entry :
+						pathNode._namedChildPathNodes.entrySet()) {
+
+					PathNode childPathNode = _getNamedChildPathNode(
+						entry.getKey());
+
+					childPathNode._merge(entry.getValue());
+				}
+			}
+
+			if (pathNode._wildcardChildPathNode != null) {
+				PathNode childPathNode = _getWildcardChildPathNode();
+
+				childPathNode._merge(pathNode._wildcardChildPathNode);
+			}
+		}
+
+		private void _setDeepScanPathNode(PathNode deepScanPathNode) {
+			_deepScanPathNode = deepScanPathNode;
+
+			_deepScanCarrierPathNode = new PathNode();
+
+			_deepScanCarrierPathNode._deepScanCarrierPathNode =
+				_deepScanCarrierPathNode;
+			_deepScanCarrierPathNode._deepScanPathNode = deepScanPathNode;
+		}
+
+		private static final Object _OTHER_INDEX = new Object();
+
+		private static final Object _OTHER_NAME = new Object();
+
+		private PathNode _deepScanCarrierPathNode;
+		private PathNode _deepScanPathNode;
+		private Map<Integer, PathNode> _indexedChildPathNodes;
+		private int _maxIndex = -1;
+		private final Map<Object, PathNode> _mergedChildPathNodes =
+			new ConcurrentHashMap<>();
+		private Map<String, PathNode> _namedChildPathNodes;
+		private boolean _nestedWildcards;
+		private boolean _terminal;
+		private PathNode _wildcardChildPathNode;
+
+	}
+
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal;
+
+import com.liferay.dynamic.data.mapping.annotations.DDMForm;
+import com.liferay.dynamic.data.mapping.annotations.DDMFormField;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProvider;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderContext;
+import com.liferay.dynamic.data.mapping.data.provider.internal.model.listener.DDMDataProviderInstanceModelListener;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
+import com.liferay.dynamic.data.mapping.model.DDMDataProviderInstance;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPool;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+
+/**
+ * @author agent
+ */
+public class DDMDataProviderContextCacheTest {
+
+	@Before
+	public void setUp() throws Exception {
+		setUpDDMDataProvider();
+		setUpDDMDataProviderInstance();
+		setUpDDMFormValuesJSONDeserializer();
+		setUpSingleVMPool();
+
+		PowerMockito.field(
+			DDMDataProviderInstanceModelListener.class,
+			"_ddmDataProviderContextCache"
+		).set(
+			_ddmDataProviderInstanceModelListener, _ddmDataProviderContextCache
+		);
+	}
+
+	@Test
+	public void testGetDDMDataProviderContext() throws Exception {
+		DDMDataProviderContext ddmDataProviderContext1 =
+			_ddmDataProviderContextCache.getDDMDataProviderContext(
+				_ddmDataProviderInstance, _ddmDataProvider);
+		DDMDataProviderContext ddmDataProviderContext2 =
+			_ddmDataProviderContextCache.getDDMDataProviderContext(
+				_ddmDataProviderInstance, _ddmDataProvider);
+
+		Assert.assertNotSame(ddmDataProviderContext1, ddmDataProviderContext2);
+
+		assertDeserializeCount(1);
+	}
+
+	@Test
+	public void testGetDDMDataProviderContextAfterRemove() throws Exception {
+		_ddmDataProviderContextCache.getDDMDataProviderContext(
+			_ddmDataProviderInstance, _ddmDataProvider);
+
+		_ddmDataProviderInstanceModelListener.onAfterRemove(
+			_ddmDataProviderInstance);
+
+		_ddmDataProviderContextCache.getDDMDataProviderContext(
+			_ddmDataProviderInstance, _ddmDataProvider);
+
+		assertDeserializeCount(2);
+	}
+
+	@Test
+	public void testGetDDMDataProviderContextAfterUpdate() throws Exception {
+		_ddmDataProviderContextCache.getDDMDataProviderContext(
+			_ddmDataProviderInstance, _ddmDataProvider);
+
+		_ddmDataProviderInstanceModelListener.onAfterUpdate(
+			_ddmDataProviderInstance);
+
+		_ddmDataProviderContextCache.getDDMDataProviderContext(
+			_ddmDataProviderInstance, _ddmDataProvider);
+
+		assertDeserializeCount(2);
+	}
+
+	@Test
+	public void testGetDDMDataProviderContextWithNewModifiedDate()
+		throws Exception {
+
+		_ddmDataProviderContextCache.getDDMDataProviderContext(
+			_ddmDataProviderInstance, _ddmDataProvider);
+
+		Mockito.when(
+			_ddmDataProviderInstance.getModifiedDate()
+		).thenReturn(
+			new Date(2)
+		);
+
+		_ddmDataProviderContextCache.getDDMDataProviderContext(
+			_ddmDataProviderInstance, _ddmDataProvider);
+
+		assertDeserializeCount(2);
+	}
+
+	protected void assertDeserializeCount(int count) throws Exception {
+		Mockito.verify(
+			_ddmFormValuesJSONDeserializer, Mockito.times(count)
+		).deserialize(
+			Matchers.any(com.liferay.dynamic.data.mapping.model.DDMForm.class),
+			Matchers.eq(_DEFINITION)
+		);
+	}
+
+	protected void setUpDDMDataProvider() {
+		Mockito.doReturn(
+			TestDDMDataProviderSettings.class
+		).when(
+			_ddmDataProvider
+		).getSettings();
+	}
+
+	protected void setUpDDMDataProviderInstance() {
+		Mockito.when(
+			_ddmDataProviderInstance.getDataProviderInstanceId()
+		).thenReturn(
+			_DATA_PROVIDER_INSTANCE_ID
+		);
+
+		Mockito.when(
+			_ddmDataProviderInstance.getDefinition()
+		).thenReturn(
+			_DEFINITION
+		);
+
+		Mockito.when(
+			_ddmDataProviderInstance.getModifiedDate()
+		).thenReturn(
+			new Date(1)
+		);
+	}
+
+	protected void setUpDDMFormValuesJSONDeserializer() throws Exception {
+		Mockito.when(
+			_ddmFormValuesJSONDeserializer.deserialize(
+				Matchers.any(
+					com.liferay.dynamic.data.mapping.model.DDMForm.class),
+				Matchers.eq(_DEFINITION))
+		).thenReturn(
+			Mockito.mock(DDMFormValues.class)
+		);
+
+		_ddmDataProviderContextCache.setDDMFormValuesJSONDeserializer(
+			_ddmFormValuesJSONDeserializer);
+	}
+
+	protected void setUpSingleVMPool() {
+		PortalCache<Long, Object> portalCache = Mockito.mock(PortalCache.class);
+
+		Map<Long, Object> map = new HashMap<>();
+
+		Mockito.when(
+			portalCache.get(Matchers.anyLong())
+		).thenAnswer(
+			invocation -> map.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> map.put(
+				(Long)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			portalCache
+		).put(
+			Matchers.anyLong(), Matchers.any()
+		);
+
+		Mockito.doAnswer(
+			invocation -> map.remove(invocation.getArguments()[0])
+		).when(
+			portalCache
+		).remove(
+			Matchers.anyLong()
+		);
+
+		SingleVMPool singleVMPool = Mockito.mock(SingleVMPool.class);
+
+		Mockito.doReturn(
+			portalCache
+		).when(
+			singleVMPool
+		).getPortalCache(
+			DDMDataProviderContextCache.class.getName()
+		);
+
+		_ddmDataProviderContextCache.setSingleVMPool(singleVMPool);
+	}
+
+	private static final long _DATA_PROVIDER_INSTANCE_ID = 1;
+
+	private static final String _DEFINITION = "{}";
+
+	private final DDMDataProvider _ddmDataProvider = Mockito.mock(
+		DDMDataProvider.class);
+	private final DDMDataProviderContextCache _ddmDataProviderContextCache =
+		new DDMDataProviderContextCache();
+	private final DDMDataProviderInstance _ddmDataProviderInstance =
+		Mockito.mock(DDMDataProviderInstance.class);
+	private final DDMDataProviderInstanceModelListener
+		_ddmDataProviderInstanceModelListener =
+			new DDMDataProviderInstanceModelListener();
+	private final DDMFormValuesJSONDeserializer _ddmFormValuesJSONDeserializer =
+		Mockito.mock(DDMFormValuesJSONDeserializer.class);
+
+	@DDMForm
+	private interface TestDDMDataProviderSettings {
+
+		@DDMFormField
+		public String url();
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal;
+
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProvider;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderContext;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderException;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderRequest;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse.Status;
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderTracker;
+import com.liferay.dynamic.data.mapping.model.DDMDataProviderInstance;
+import com.liferay.dynamic.data.mapping.service.DDMDataProviderInstanceService;
+import com.liferay.portal.kernel.util.KeyValuePair;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import com.netflix.config.ConfigurationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.configuration.AbstractConfiguration;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class DDMDataProviderInvokerImplTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_ddmDataProviderInstanceName = StringUtil.randomString();
+
+		DDMDataProviderInstance ddmDataProviderInstance = Mockito.mock(
+			DDMDataProviderInstance.class);
+
+		Mockito.when(
+			ddmDataProviderInstance.getNameCurrentValue()
+		).thenReturn(
+			_ddmDataProviderInstanceName
+		);
+
+		Mockito.when(
+			ddmDataProviderInstance.getType()
+		).thenReturn(
+			"rest"
+		);
+
+		DDMDataProviderInstanceService ddmDataProviderInstanceService =
+			Mockito.mock(DDMDataProviderInstanceService.class);
+
+		Mockito.when(
+			ddmDataProviderInstanceService.fetchDataProviderInstanceByUuid(
+				_DDM_DATA_PROVIDER_INSTANCE_UUID)
+		).thenReturn(
+			ddmDataProviderInstance
+		);
+
+		DDMDataProviderTracker ddmDataProviderTracker = Mockito.mock(
+			DDMDataProviderTracker.class);
+
+		Mockito.when(
+			ddmDataProviderTracker.getDDMDataProvider("rest")
+		).thenReturn(
+			_ddmDataProvider
+		);
+
+		Mockito.when(
+			ddmDataProviderTracker.getDDMDataProviderContextContributors(
+				"rest")
+		).thenReturn(
+			Collections.emptyList()
+		);
+
+		DDMDataProviderContextCache ddmDataProviderContextCache = Mockito.mock(
+			DDMDataProviderContextCache.class);
+
+		Mockito.when(
+			ddmDataProviderContextCache.getDDMDataProviderContext(
+				ddmDataProviderInstance, _ddmDataProvider)
+		).thenReturn(
+			Mockito.mock(DDMDataProviderContext.class)
+		);
+
+		_ddmDataProviderInvokerImpl.ddmDataProviderContextCache =
+			ddmDataProviderContextCache;
+		_ddmDataProviderInvokerImpl.ddmDataProviderInstanceService =
+			ddmDataProviderInstanceService;
+		_ddmDataProviderInvokerImpl.ddmDataProviderTracker =
+			ddmDataProviderTracker;
+
+		_ddmDataProviderInvokerImpl.activate();
+	}
+
+	@After
+	public void tearDown() {
+		_ddmDataProviderInvokerImpl.deactivate();
+	}
+
+	@Test
+	public void testInvokeAsync() throws Exception {
+		DDMDataProviderResponse ddmDataProviderResponse =
+			DDMDataProviderResponse.of();
+
+		_ddmDataProvider.setCallable(() -> ddmDataProviderResponse);
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			_ddmDataProviderInvokerImpl.invokeAsync(
+				createDDMDataProviderRequest());
+
+		Assert.assertSame(
+			ddmDataProviderResponse,
+			completableFuture.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testInvokeAsyncRejected() throws Exception {
+		Thread thread = Thread.currentThread();
+
+		_ddmDataProvider.setCallable(
+			() -> {
+				Assert.assertNotSame(thread, Thread.currentThread());
+
+				return DDMDataProviderResponse.of();
+			});
+
+		_ddmDataProviderInvokerImpl.deactivate();
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			_ddmDataProviderInvokerImpl.invokeAsync(
+				createDDMDataProviderRequest());
+
+		DDMDataProviderResponse ddmDataProviderResponse =
+			completableFuture.get(10, TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			Status.SERVICE_UNAVAILABLE, ddmDataProviderResponse.getStatus());
+
+		Assert.assertEquals(0, _ddmDataProvider.getInvocationsCount());
+	}
+
+	@Test
+	public void testInvokeAsyncShortCircuit() throws Exception {
+		setCommandProperty("circuitBreaker.forceOpen", true);
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			_ddmDataProviderInvokerImpl.invokeAsync(
+				createDDMDataProviderRequest());
+
+		DDMDataProviderResponse ddmDataProviderResponse =
+			completableFuture.get(10, TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			Status.SHORTCIRCUIT, ddmDataProviderResponse.getStatus());
+
+		ddmDataProviderResponse = _ddmDataProviderInvokerImpl.invoke(
+			createDDMDataProviderRequest());
+
+		Assert.assertEquals(
+			Status.SHORTCIRCUIT, ddmDataProviderResponse.getStatus());
+
+		Assert.assertEquals(0, _ddmDataProvider.getInvocationsCount());
+	}
+
+	@Test
+	public void testInvokeAsyncTimeout() throws Exception {
+		setCommandProperty(
+			"execution.isolation.thread.timeoutInMilliseconds", 100);
+
+		CountDownLatch interruptedCountDownLatch = new CountDownLatch(1);
+
+		_ddmDataProvider.setCallable(
+			() -> {
+				try {
+					Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+				}
+				catch (InterruptedException ie) {
+					interruptedCountDownLatch.countDown();
+				}
+
+				return DDMDataProviderResponse.of();
+			});
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			_ddmDataProviderInvokerImpl.invokeAsync(
+				createDDMDataProviderRequest());
+
+		DDMDataProviderResponse ddmDataProviderResponse =
+			completableFuture.get(10, TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			Status.TIMEOUT, ddmDataProviderResponse.getStatus());
+		Assert.assertTrue(
+			interruptedCountDownLatch.await(10, TimeUnit.SECONDS));
+	}
+
+	protected DDMDataProviderRequest createDDMDataProviderRequest() {
+		return new DDMDataProviderRequest(
+			_DDM_DATA_PROVIDER_INSTANCE_UUID, null);
+	}
+
+	protected void setCommandProperty(String name, Object value) {
+		AbstractConfiguration abstractConfiguration =
+			ConfigurationManager.getConfigInstance();
+
+		abstractConfiguration.setProperty(
+			"hystrix.command.DDMDataProviderInvokeCommand#" +
+				_ddmDataProviderInstanceName + "." + name,
+			value);
+	}
+
+	private static final String _DDM_DATA_PROVIDER_INSTANCE_UUID =
+		StringUtil.randomString();
+
+	private final TestDDMDataProvider _ddmDataProvider =
+		new TestDDMDataProvider();
+	private String _ddmDataProviderInstanceName;
+	private final DDMDataProviderInvokerImpl _ddmDataProviderInvokerImpl =
+		new DDMDataProviderInvokerImpl();
+
+	private static class TestDDMDataProvider implements DDMDataProvider {
+
+		@Override
+		public List<KeyValuePair> getData(
+			DDMDataProviderContext ddmDataProviderContext) {
+
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public DDMDataProviderResponse getData(
+				DDMDataProviderRequest ddmDataProviderRequest)
+			throws DDMDataProviderException {
+
+			_invocationsCount.incrementAndGet();
+
+			try {
+				return _callable.call();
+			}
+			catch (Exception e) {
+				throw new DDMDataProviderException(e);
+			}
+		}
+
+		public int getInvocationsCount() {
+			return _invocationsCount.get();
+		}
+
+		@Override
+		public Class<?> getSettings() {
+			return null;
+		}
+
+		public void setCallable(Callable<DDMDataProviderResponse> callable) {
+			_callable = callable;
+		}
+
+		private volatile Callable<DDMDataProviderResponse> _callable;
+		private final AtomicInteger _invocationsCount = new AtomicInteger();
+
+	}
+
+}
\ No newline at end of file
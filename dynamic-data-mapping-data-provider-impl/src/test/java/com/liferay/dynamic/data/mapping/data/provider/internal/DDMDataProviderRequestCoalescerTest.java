@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal;
+
+import com.liferay.dynamic.data.mapping.data.provider.DDMDataProviderResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DDMDataProviderRequestCoalescerTest {
+
+	@Before
+	public void setUp() {
+		_executorService = Executors.newFixedThreadPool(_THREADS_COUNT);
+	}
+
+	@After
+	public void tearDown() {
+		_executorService.shutdownNow();
+	}
+
+	@Test
+	public void testCoalesceAsync() throws Exception {
+		DDMDataProviderRequestCoalescer ddmDataProviderRequestCoalescer =
+			new DDMDataProviderRequestCoalescer();
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture =
+			new CompletableFuture<>();
+
+		CompletableFuture<DDMDataProviderResponse> completableFuture1 =
+			ddmDataProviderRequestCoalescer.coalesceAsync(
+				"key", () -> completableFuture);
+		CompletableFuture<DDMDataProviderResponse> completableFuture2 =
+			ddmDataProviderRequestCoalescer.coalesceAsync(
+				"key",
+				() -> {
+					throw new IllegalStateException();
+				});
+
+		Assert.assertEquals(
+			1, ddmDataProviderRequestCoalescer.getInFlightCount());
+
+		DDMDataProviderResponse ddmDataProviderResponse =
+			DDMDataProviderResponse.of();
+
+		completableFuture.complete(ddmDataProviderResponse);
+
+		Assert.assertSame(ddmDataProviderResponse, completableFuture1.get());
+		Assert.assertSame(ddmDataProviderResponse, completableFuture2.get());
+		Assert.assertEquals(
+			1, ddmDataProviderRequestCoalescer.getCoalescedCount());
+		Assert.assertEquals(
+			0, ddmDataProviderRequestCoalescer.getInFlightCount());
+		Assert.assertEquals(
+			1, ddmDataProviderRequestCoalescer.getInvokedCount());
+	}
+
+	@Test(timeout = 30000)
+	public void testConcurrentCallsWithDifferentKeys() throws Exception {
+		DDMDataProviderRequestCoalescer ddmDataProviderRequestCoalescer =
+			new DDMDataProviderRequestCoalescer();
+
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch countDownLatch = new CountDownLatch(_THREADS_COUNT);
+
+		List<Future<DDMDataProviderResponse>> futures = new ArrayList<>();
+
+		for (int i = 0; i < _THREADS_COUNT; i++) {
+			String key = "key" + i;
+
+			futures.add(
+				_executorService.submit(
+					() -> ddmDataProviderRequestCoalescer.coalesce(
+						key,
+						() -> {
+							count.incrementAndGet();
+
+							countDownLatch.countDown();
+
+							countDownLatch.await(10, TimeUnit.SECONDS);
+
+							return DDMDataProviderResponse.of();
+						})));
+		}
+
+		for (Future<DDMDataProviderResponse> future : futures) {
+			future.get();
+		}
+
+		Assert.assertEquals(_THREADS_COUNT, count.get());
+		Assert.assertEquals(
+			0, ddmDataProviderRequestCoalescer.getCoalescedCount());
+		Assert.assertEquals(
+			_THREADS_COUNT, ddmDataProviderRequestCoalescer.getInvokedCount());
+	}
+
+	@Test(timeout = 30000)
+	public void testConcurrentCallsWithSameKey() throws Exception {
+		DDMDataProviderRequestCoalescer ddmDataProviderRequestCoalescer =
+			new DDMDataProviderRequestCoalescer();
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+		DDMDataProviderResponse ddmDataProviderResponse =
+			DDMDataProviderResponse.of();
+
+		Future<DDMDataProviderResponse> future1 = _executorService.submit(
+			() -> ddmDataProviderRequestCoalescer.coalesce(
+				"key",
+				() -> {
+					countDownLatch.await(10, TimeUnit.SECONDS);
+
+					return ddmDataProviderResponse;
+				}));
+
+		while (ddmDataProviderRequestCoalescer.getInFlightCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		List<Future<DDMDataProviderResponse>> futures = new ArrayList<>();
+
+		for (int i = 1; i < _THREADS_COUNT; i++) {
+			futures.add(
+				_executorService.submit(
+					() -> ddmDataProviderRequestCoalescer.coalesce(
+						"key", () -> DDMDataProviderResponse.of())));
+		}
+
+		while (ddmDataProviderRequestCoalescer.getCoalescedCount() <
+					(_THREADS_COUNT - 1)) {
+
+			Thread.sleep(10);
+		}
+
+		countDownLatch.countDown();
+
+		Assert.assertSame(ddmDataProviderResponse, future1.get());
+
+		for (Future<DDMDataProviderResponse> future : futures) {
+			Assert.assertSame(ddmDataProviderResponse, future.get());
+		}
+
+		Assert.assertEquals(
+			1, ddmDataProviderRequestCoalescer.getInvokedCount());
+		Assert.assertEquals(
+			0, ddmDataProviderRequestCoalescer.getInFlightCount());
+	}
+
+	@Test(timeout = 30000)
+	public void testExceptionIsSharedWithCoalescedCalls() throws Exception {
+		DDMDataProviderRequestCoalescer ddmDataProviderRequestCoalescer =
+			new DDMDataProviderRequestCoalescer();
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Future<DDMDataProviderResponse> future1 = _executorService.submit(
+			() -> ddmDataProviderRequestCoalescer.coalesce(
+				"key",
+				() -> {
+					countDownLatch.await(10, TimeUnit.SECONDS);
+
+					throw new IllegalArgumentException();
+				}));
+
+		while (ddmDataProviderRequestCoalescer.getInFlightCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		Future<DDMDataProviderResponse> future2 = _executorService.submit(
+			() -> ddmDataProviderRequestCoalescer.coalesce(
+				"key", () -> DDMDataProviderResponse.of()));
+
+		while (ddmDataProviderRequestCoalescer.getCoalescedCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		countDownLatch.countDown();
+
+		assertCause(future1, IllegalArgumentException.class);
+		assertCause(future2, IllegalArgumentException.class);
+
+		DDMDataProviderResponse ddmDataProviderResponse =
+			DDMDataProviderResponse.of();
+
+		Assert.assertSame(
+			ddmDataProviderResponse,
+			ddmDataProviderRequestCoalescer.coalesce(
+				"key", () -> ddmDataProviderResponse));
+	}
+
+	protected void assertCause(
+		Future<DDMDataProviderResponse> future, Class<?> clazz) {
+
+		try {
+			future.get();
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+			Throwable cause = e.getCause();
+
+			Assert.assertEquals(clazz, cause.getClass());
+		}
+	}
+
+	private static final int _THREADS_COUNT = 8;
+
+	private ExecutorService _executorService;
+
+}
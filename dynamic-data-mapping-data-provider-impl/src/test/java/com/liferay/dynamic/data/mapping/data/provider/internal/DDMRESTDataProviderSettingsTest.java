@@ -18,6 +18,7 @@ import com.liferay.dynamic.data.mapping.data.provider.internal.rest.DDMRESTDataP
 import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.model.DDMFormField;
 import com.liferay.dynamic.data.mapping.model.DDMFormFieldOptions;
+import com.liferay.dynamic.data.mapping.model.LocalizedValue;
 import com.liferay.dynamic.data.mapping.util.DDMFormFactory;
 import com.liferay.portal.kernel.language.Language;
 import com.liferay.portal.kernel.language.LanguageUtil;
@@ -59,9 +60,11 @@ public class DDMRESTDataProviderSettingsTest {
 		Map<String, DDMFormField> ddmFormFields = ddmForm.getDDMFormFieldsMap(
 			false);
 
-		Assert.assertEquals(ddmFormFields.toString(), 11, ddmFormFields.size());
+		Assert.assertEquals(ddmFormFields.toString(), 14, ddmFormFields.size());
 
 		assertCacheable(ddmFormFields.get("cacheable"));
+		assertCacheMaxEntries(ddmFormFields.get("cacheMaxEntries"));
+		assertCacheTimeToLive(ddmFormFields.get("cacheTimeToLive"));
 		assertFilterable(ddmFormFields.get("filterable"));
 		assertFilterParameterName(ddmFormFields.get("filterParameterName"));
 		assertInputParameters(ddmFormFields.get("inputParameters"));
@@ -72,6 +75,7 @@ public class DDMRESTDataProviderSettingsTest {
 		assertPassword(ddmFormFields.get("password"));
 		assertStartPaginationParameterName(
 			ddmFormFields.get("paginationStartParameterName"));
+		assertTimeout(ddmFormFields.get("timeout"));
 		assertURL(ddmFormFields.get("url"));
 		assertUsername(ddmFormFields.get("username"));
 	}
@@ -84,6 +88,42 @@ public class DDMRESTDataProviderSettingsTest {
 		Assert.assertEquals("checkbox", ddmFormField.getType());
 	}
 
+	protected void assertCacheMaxEntries(DDMFormField ddmFormField) {
+		Assert.assertNotNull(ddmFormField);
+
+		Assert.assertEquals("integer", ddmFormField.getDataType());
+
+		LocalizedValue predefinedValue = ddmFormField.getPredefinedValue();
+
+		Assert.assertEquals(
+			"100",
+			predefinedValue.getString(predefinedValue.getDefaultLocale()));
+
+		Map<String, Object> properties = ddmFormField.getProperties();
+
+		Assert.assertTrue(properties.containsKey("tooltip"));
+
+		Assert.assertEquals("numeric", ddmFormField.getType());
+	}
+
+	protected void assertCacheTimeToLive(DDMFormField ddmFormField) {
+		Assert.assertNotNull(ddmFormField);
+
+		Assert.assertEquals("integer", ddmFormField.getDataType());
+
+		LocalizedValue predefinedValue = ddmFormField.getPredefinedValue();
+
+		Assert.assertEquals(
+			"600",
+			predefinedValue.getString(predefinedValue.getDefaultLocale()));
+
+		Map<String, Object> properties = ddmFormField.getProperties();
+
+		Assert.assertTrue(properties.containsKey("tooltip"));
+
+		Assert.assertEquals("numeric", ddmFormField.getType());
+	}
+
 	protected void assertFilterable(DDMFormField ddmFormField) {
 		Assert.assertNotNull(ddmFormField);
 
@@ -303,6 +343,24 @@ public class DDMRESTDataProviderSettingsTest {
 		Assert.assertEquals("text", ddmFormField.getType());
 	}
 
+	protected void assertTimeout(DDMFormField ddmFormField) {
+		Assert.assertNotNull(ddmFormField);
+
+		Assert.assertEquals("integer", ddmFormField.getDataType());
+
+		LocalizedValue predefinedValue = ddmFormField.getPredefinedValue();
+
+		Assert.assertEquals(
+			"1000",
+			predefinedValue.getString(predefinedValue.getDefaultLocale()));
+
+		Map<String, Object> properties = ddmFormField.getProperties();
+
+		Assert.assertTrue(properties.containsKey("tooltip"));
+
+		Assert.assertEquals("numeric", ddmFormField.getType());
+	}
+
 	protected void assertURL(DDMFormField ddmFormField) {
 		Assert.assertNotNull(ddmFormField);
 
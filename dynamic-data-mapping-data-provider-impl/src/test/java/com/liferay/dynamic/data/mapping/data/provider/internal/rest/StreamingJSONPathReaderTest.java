@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.data.provider.internal.rest;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class StreamingJSONPathReaderTest {
+
+	@Test
+	public void testDeepScanPaths() throws Exception {
+		assertSameValues(
+			_JSON, ".name", "name", ".code", "$..states.*", "$.owner..city",
+			"$..[1]", "$..countries[*].name", ".address.city");
+	}
+
+	@Test
+	public void testDefinitePaths() throws Exception {
+		assertSameValues(
+			_JSON, "$.total", ".name", "$['name']", "$.owner.name",
+			"$.owner['address'].city", "$.countries[1].name",
+			"$.countries[0]['code']", "$.codes", "$.owner", "$.flags[2]");
+	}
+
+	@Test
+	public void testLimitedWildcardPaths() throws Exception {
+		StreamingJSONPathReader streamingJSONPathReader =
+			new StreamingJSONPathReader(
+				Arrays.asList("$.countries[*].code", "$.countries[*].name"));
+
+		DocumentContext documentContext = JsonPath.parse(
+			streamingJSONPathReader.read(getInputStream(_JSON), 2));
+
+		List<String> codes = documentContext.read("$.countries[*].code");
+
+		Assert.assertEquals(Arrays.asList("BR", "US"), codes);
+
+		List<String> names = documentContext.read("$.countries[*].name");
+
+		Assert.assertEquals(Arrays.asList("Brazil", "United States"), names);
+	}
+
+	@Test
+	public void testMemberOrder() throws Exception {
+		StringBuilder sb = new StringBuilder("{");
+
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+
+			sb.append("\"key");
+			sb.append(i);
+			sb.append("\": {\"name\": ");
+			sb.append(i);
+			sb.append(", \"value\": ");
+			sb.append(i);
+			sb.append("}");
+		}
+
+		sb.append("}");
+
+		assertSameValues(sb.toString(), ".name", "$.*.value");
+	}
+
+	@Test
+	public void testNestedWildcards() throws Exception {
+		StreamingJSONPathReader streamingJSONPathReader =
+			new StreamingJSONPathReader(
+				Arrays.asList(
+					"$.countries[*].code", "$.countries[*].states.*"));
+
+		Assert.assertTrue(streamingJSONPathReader.hasNestedWildcards());
+
+		assertSameValues(_JSON, "$.countries[*].states.*");
+	}
+
+	@Test
+	public void testNonContainerDocument() throws Exception {
+		StreamingJSONPathReader streamingJSONPathReader =
+			new StreamingJSONPathReader(Arrays.asList("$.name"));
+
+		Assert.assertNull(
+			streamingJSONPathReader.read(
+				getInputStream("\"Liferay\""), Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testUnsupportedPaths() {
+		String[] paths = {
+			"$..", "$.countries[?(@.code == 'BR')]", "$.countries[0:2]",
+			"$.countries[0,1]", "$.codes.length()", ".", "$.countries[-1]"
+		};
+
+		for (String path : paths) {
+			StreamingJSONPathReader streamingJSONPathReader =
+				new StreamingJSONPathReader(Arrays.asList("$.name", path));
+
+			Assert.assertFalse(path, streamingJSONPathReader.isSupported());
+		}
+	}
+
+	@Test
+	public void testWildcardPaths() throws Exception {
+		assertSameValues(
+			_JSON, "$.countries[*].code", "$.countries[*]['name']",
+			"$.owner.*", "$.codes[*]", "$.countries[*].population",
+			"$.flags[*]");
+
+		StreamingJSONPathReader streamingJSONPathReader =
+			new StreamingJSONPathReader(Arrays.asList("$.countries[*].code"));
+
+		Assert.assertFalse(streamingJSONPathReader.hasNestedWildcards());
+	}
+
+	protected void assertSameValues(String json, String... paths)
+		throws Exception {
+
+		StreamingJSONPathReader streamingJSONPathReader =
+			new StreamingJSONPathReader(Arrays.asList(paths));
+
+		Assert.assertTrue(streamingJSONPathReader.isSupported());
+
+		DocumentContext expectedDocumentContext = JsonPath.parse(json);
+
+		DocumentContext actualDocumentContext = JsonPath.parse(
+			streamingJSONPathReader.read(
+				getInputStream(json), Integer.MAX_VALUE));
+
+		for (String path : paths) {
+			Object expected = expectedDocumentContext.read(path);
+
+			Object actual = actualDocumentContext.read(path);
+
+			Assert.assertEquals(path, expected, actual);
+
+			Assert.assertEquals(
+				path, expectedDocumentContext.read(path, String.class),
+				actualDocumentContext.read(path, String.class));
+		}
+	}
+
+	protected InputStream getInputStream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static final String _JSON =
+		"{\"codes\": [\"BR\", \"US\", \"PT\"], \"countries\": [{\"code\": " +
+			"\"BR\", \"name\": \"Brazil\", \"population\": 209288278, " +
+			"\"states\": {\"PE\": \"Pernambuco\", \"SP\": \"Sao Paulo\"}}, " +
+			"{\"code\": \"US\", \"name\": \"United States\", " +
+			"\"states\": {\"CA\": \"California\"}}, {\"code\": " +
+			"\"PT\", \"name\": \"Portugal\", \"population\": " +
+			"10.3}], \"flags\": [true, false, null], \"name\": " +
+			"\"Liferay\", \"owner\": {\"address\": {\"city\": " +
+			"\"Recife\"}, \"name\": \"Joe\"}, \"total\": 3}";
+
+}
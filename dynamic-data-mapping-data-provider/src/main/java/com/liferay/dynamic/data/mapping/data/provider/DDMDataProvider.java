@@ -17,6 +17,9 @@ package com.liferay.dynamic.data.mapping.data.provider;
 import com.liferay.portal.kernel.util.KeyValuePair;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * @author Luca Comin
@@ -46,6 +49,27 @@ public interface DDMDataProvider {
 		return DDMDataProviderResponse.of(defaultDDMDataProviderResponseOutput);
 	}
 
+	/**
+	 * Returns the data asynchronously. By default, {@link
+	 * #getData(DDMDataProviderRequest)} is called on the given executor.
+	 * Providers backed by a non-blocking client can override this method to
+	 * avoid occupying a thread while the upstream responds.
+	 */
+	public default CompletableFuture<DDMDataProviderResponse> getDataAsync(
+		DDMDataProviderRequest ddmDataProviderRequest, Executor executor) {
+
+		return CompletableFuture.supplyAsync(
+			() -> {
+				try {
+					return getData(ddmDataProviderRequest);
+				}
+				catch (DDMDataProviderException ddmdpe) {
+					throw new CompletionException(ddmdpe);
+				}
+			},
+			executor);
+	}
+
 	public Class<?> getSettings();
 
 }
\ No newline at end of file
@@ -19,14 +19,29 @@ import com.liferay.dynamic.data.mapping.util.DDMFormInstanceFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Marcellus Tavares
  */
 public class DDMDataProviderContext {
 
+	/**
+	 * Creates a context that shares the settings of the given context, and
+	 * the settings instances already created from them, but has its own
+	 * parameters.
+	 */
+	public DDMDataProviderContext(
+		DDMDataProviderContext ddmDataProviderContext) {
+
+		_ddmFormValues = ddmDataProviderContext._ddmFormValues;
+		_settingsInstances = ddmDataProviderContext._settingsInstances;
+	}
+
 	public DDMDataProviderContext(DDMFormValues ddmFormValues) {
 		_ddmFormValues = ddmFormValues;
+
+		_settingsInstances = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -48,10 +63,14 @@ public class DDMDataProviderContext {
 	}
 
 	public <T> T getSettingsInstance(Class<T> clazz) {
-		return DDMFormInstanceFactory.create(clazz, _ddmFormValues);
+		Object settingsInstance = _settingsInstances.computeIfAbsent(
+			clazz, key -> DDMFormInstanceFactory.create(key, _ddmFormValues));
+
+		return clazz.cast(settingsInstance);
 	}
 
 	private final DDMFormValues _ddmFormValues;
 	private final Map<String, String> _parameters = new HashMap<>();
+	private final Map<Class<?>, Object> _settingsInstances;
 
 }
\ No newline at end of file
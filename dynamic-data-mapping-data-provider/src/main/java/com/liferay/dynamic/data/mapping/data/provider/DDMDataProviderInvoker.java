@@ -14,6 +14,8 @@
 
 package com.liferay.dynamic.data.mapping.data.provider;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Marcellus Tavares
  */
@@ -22,4 +24,19 @@ public interface DDMDataProviderInvoker {
 	public DDMDataProviderResponse invoke(
 		DDMDataProviderRequest ddmDataProviderRequest);
 
+	/**
+	 * Invokes the data provider without blocking the calling thread. The
+	 * returned future never completes exceptionally; failures are reported
+	 * through the status of the response, as in {@link
+	 * #invoke(DDMDataProviderRequest)}. By default, the data provider is
+	 * invoked on the calling thread and the returned future is already
+	 * complete.
+	 */
+	public default CompletableFuture<DDMDataProviderResponse> invokeAsync(
+		DDMDataProviderRequest ddmDataProviderRequest) {
+
+		return CompletableFuture.completedFuture(
+			invoke(ddmDataProviderRequest));
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionLexer;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.ExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.model.Expression;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+/**
+ * Holds the parse tree, model and referenced names of an expression string,
+ * and lazily the program compiled from the parse tree. Instances are never
+ * modified after construction, so a single instance can be shared by any
+ * number of {@link DDMExpressionImpl} objects, each of which binds its own
+ * variable values and functions.
+ *
+ * @author agent
+ */
+public class CompiledDDMExpression {
+
+	public CompiledDDMExpression(String expressionString)
+		throws DDMExpressionException {
+
+		if ((expressionString == null) || expressionString.isEmpty()) {
+			throw new IllegalArgumentException();
+		}
+
+		_expressionString = expressionString;
+
+		_expressionContext = createExpressionContext();
+
+		ParseTreeWalker parseTreeWalker = new ParseTreeWalker();
+
+		DDMExpressionListener ddmExpressionListener =
+			new DDMExpressionListener();
+
+		parseTreeWalker.walk(ddmExpressionListener, _expressionContext);
+
+		_functionNames = Collections.unmodifiableSet(
+			new HashSet<>(ddmExpressionListener.getFunctionNames()));
+		_variableNames = Collections.unmodifiableSet(
+			new HashSet<>(ddmExpressionListener.getVariableNames()));
+
+		DDMExpressionModelVisitor ddmExpressionModelVisitor =
+			new DDMExpressionModelVisitor();
+
+		_model = _expressionContext.accept(ddmExpressionModelVisitor);
+	}
+
+	public DDMExpressionProgram getDDMExpressionProgram() {
+		DDMExpressionProgram ddmExpressionProgram = _ddmExpressionProgram;
+
+		if (ddmExpressionProgram == null) {
+			DDMExpressionCompiler ddmExpressionCompiler =
+				new DDMExpressionCompiler();
+
+			ddmExpressionProgram = ddmExpressionCompiler.compile(
+				_expressionContext);
+
+			_ddmExpressionProgram = ddmExpressionProgram;
+		}
+
+		return ddmExpressionProgram;
+	}
+
+	public ExpressionContext getExpressionContext() {
+		return _expressionContext;
+	}
+
+	public String getExpressionString() {
+		return _expressionString;
+	}
+
+	public Set<String> getFunctionNames() {
+		return _functionNames;
+	}
+
+	public Expression getModel() {
+		return _model;
+	}
+
+	public Set<String> getVariableNames() {
+		return _variableNames;
+	}
+
+	protected ExpressionContext createExpressionContext()
+		throws DDMExpressionException {
+
+		try {
+			CharStream charStream = new ANTLRInputStream(_expressionString);
+
+			DDMExpressionLexer ddmExpressionLexer = new DDMExpressionLexer(
+				charStream);
+
+			DDMExpressionParser ddmExpressionParser = new DDMExpressionParser(
+				new CommonTokenStream(ddmExpressionLexer));
+
+			ddmExpressionParser.setErrorHandler(new BailErrorStrategy());
+
+			return ddmExpressionParser.expression();
+		}
+		catch (Exception e) {
+			throw new DDMExpressionException.InvalidSyntax(e);
+		}
+	}
+
+	private volatile DDMExpressionProgram _ddmExpressionProgram;
+	private final ExpressionContext _expressionContext;
+	private final String _expressionString;
+	private final Set<String> _functionNames;
+	private final Expression _model;
+	private final Set<String> _variableNames;
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.portal.kernel.concurrent.ConcurrentLFUCache;
+
+/**
+ * @author agent
+ */
+public class CompiledDDMExpressionCache {
+
+	public CompiledDDMExpressionCache(int maxSize) {
+		if (maxSize > 0) {
+			_compiledDDMExpressions = new ConcurrentLFUCache<>(maxSize);
+		}
+		else {
+			_compiledDDMExpressions = null;
+		}
+	}
+
+	public void clear() {
+		if (_compiledDDMExpressions != null) {
+			_compiledDDMExpressions.clear();
+		}
+	}
+
+	public CompiledDDMExpression getCompiledDDMExpression(
+			String expressionString)
+		throws DDMExpressionException {
+
+		if ((_compiledDDMExpressions == null) || (expressionString == null)) {
+			return new CompiledDDMExpression(expressionString);
+		}
+
+		CompiledDDMExpression compiledDDMExpression =
+			_compiledDDMExpressions.get(expressionString);
+
+		if (compiledDDMExpression == null) {
+			compiledDDMExpression = new CompiledDDMExpression(expressionString);
+
+			_compiledDDMExpressions.put(
+				expressionString, compiledDDMExpression);
+		}
+
+		return compiledDDMExpression;
+	}
+
+	public long getHitCount() {
+		if (_compiledDDMExpressions == null) {
+			return 0;
+		}
+
+		return _compiledDDMExpressions.hitCount();
+	}
+
+	public int getMaxSize() {
+		if (_compiledDDMExpressions == null) {
+			return 0;
+		}
+
+		return _compiledDDMExpressions.maxSize();
+	}
+
+	public long getMissCount() {
+		if (_compiledDDMExpressions == null) {
+			return 0;
+		}
+
+		return _compiledDDMExpressions.missCount();
+	}
+
+	public int getSize() {
+		if (_compiledDDMExpressions == null) {
+			return 0;
+		}
+
+		return _compiledDDMExpressions.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"{hitCount=%d, maxSize=%d, missCount=%d, size=%d}", getHitCount(),
+			getMaxSize(), getMissCount(), getSize());
+	}
+
+	private final ConcurrentLFUCache<String, CompiledDDMExpression>
+		_compiledDDMExpressions;
+
+}
@@ -0,0 +1,795 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionBaseVisitor;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.AdditionExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.AndExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.BooleanParenthesisContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.DivisionExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.EqualsExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.ExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.FloatingPointLiteralContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.FunctionCallExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.FunctionParametersContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.GreaterThanExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.GreaterThanOrEqualsExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.IntegerLiteralContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.LessThanExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.LessThanOrEqualsExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.LogicalConstantContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.LogicalVariableContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.MinusExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.MultiplicationExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.NotEqualsExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.NotExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.NumericParenthesisContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.NumericVariableContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.OrExpressionContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.StringLiteralContext;
+import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.SubtractionExpressionContext;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.misc.NotNull;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Compiles a parse tree into a tree of {@link DDMExpressionNode} closures.
+ * Functions and variables are resolved to slot indexes at compile time, and
+ * arithmetic, comparison and logical nodes work on primitive values, so
+ * evaluating the resulting {@link DDMExpressionProgram} does not box
+ * intermediate results. Operations whose operands are all constants are
+ * evaluated once at compile time, and logical operations whose left operand
+ * is a constant deciding the result are replaced by that constant.
+ *
+ * <p>
+ * The compiled program returns the same results as {@link
+ * DDMExpressionEvaluatorVisitor} for every expression.
+ * </p>
+ *
+ * @author agent
+ */
+public class DDMExpressionCompiler
+	extends DDMExpressionBaseVisitor<DDMExpressionNode> {
+
+	public DDMExpressionProgram compile(ExpressionContext expressionContext) {
+		DDMExpressionNode ddmExpressionNode = expressionContext.accept(this);
+
+		Set<String> functionNames = _functionSlots.keySet();
+		Set<String> variableNames = _variableSlots.keySet();
+
+		return new DDMExpressionProgram(
+			ddmExpressionNode,
+			functionNames.toArray(new String[functionNames.size()]),
+			variableNames.toArray(new String[variableNames.size()]));
+	}
+
+	@Override
+	public DDMExpressionNode visitAdditionExpression(
+		@NotNull AdditionExpressionContext context) {
+
+		return foldArithmeticNode(_ADDITION, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitAndExpression(
+		@NotNull AndExpressionContext context) {
+
+		DDMExpressionNode leftDDMExpressionNode = visitChild(context, 0);
+
+		if (isBooleanConstant(leftDDMExpressionNode, false)) {
+			return leftDDMExpressionNode;
+		}
+
+		DDMExpressionNode rightDDMExpressionNode = visitChild(context, 2);
+
+		return fold(
+			new AndNode(leftDDMExpressionNode, rightDDMExpressionNode),
+			leftDDMExpressionNode, rightDDMExpressionNode);
+	}
+
+	@Override
+	public DDMExpressionNode visitBooleanParenthesis(
+		@NotNull BooleanParenthesisContext context) {
+
+		return visitChild(context, 1);
+	}
+
+	@Override
+	public DDMExpressionNode visitDivisionExpression(
+		@NotNull DivisionExpressionContext context) {
+
+		return foldArithmeticNode(_DIVISION, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitEqualsExpression(
+		@NotNull EqualsExpressionContext context) {
+
+		return foldEqualsNode(context, false);
+	}
+
+	@Override
+	public DDMExpressionNode visitExpression(
+		@NotNull ExpressionContext context) {
+
+		return context.logicalOrExpression().accept(this);
+	}
+
+	@Override
+	public DDMExpressionNode visitFloatingPointLiteral(
+		@NotNull FloatingPointLiteralContext context) {
+
+		return new DoubleConstantNode(Double.parseDouble(context.getText()));
+	}
+
+	@Override
+	public DDMExpressionNode visitFunctionCallExpression(
+		@NotNull FunctionCallExpressionContext context) {
+
+		String functionName = context.functionName.getText();
+
+		return new FunctionCallNode(
+			functionName, getSlot(_functionSlots, functionName),
+			getParameterDDMExpressionNodes(context.functionParameters()));
+	}
+
+	@Override
+	public DDMExpressionNode visitGreaterThanExpression(
+		@NotNull GreaterThanExpressionContext context) {
+
+		return foldComparisonNode(_GREATER_THAN, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitGreaterThanOrEqualsExpression(
+		@NotNull GreaterThanOrEqualsExpressionContext context) {
+
+		return foldComparisonNode(_GREATER_THAN_OR_EQUALS, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitIntegerLiteral(
+		@NotNull IntegerLiteralContext context) {
+
+		Number number = Long.parseLong(context.getText());
+
+		return new DoubleConstantNode(number.doubleValue());
+	}
+
+	@Override
+	public DDMExpressionNode visitLessThanExpression(
+		@NotNull LessThanExpressionContext context) {
+
+		return foldComparisonNode(_LESS_THAN, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitLessThanOrEqualsExpression(
+		@NotNull LessThanOrEqualsExpressionContext context) {
+
+		return foldComparisonNode(_LESS_THAN_OR_EQUALS, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitLogicalConstant(
+		@NotNull LogicalConstantContext context) {
+
+		String booleanString = StringUtil.toLowerCase(context.getText());
+
+		return new BooleanConstantNode(Boolean.parseBoolean(booleanString));
+	}
+
+	@Override
+	public DDMExpressionNode visitLogicalVariable(
+		@NotNull LogicalVariableContext context) {
+
+		String variableName = context.getText();
+
+		return new VariableNode(
+			getSlot(_variableSlots, variableName),
+			String.format("Variable \"%s\" not defined", variableName));
+	}
+
+	@Override
+	public DDMExpressionNode visitMinusExpression(
+		@NotNull MinusExpressionContext context) {
+
+		DDMExpressionNode ddmExpressionNode = visitChild(context, 1);
+
+		return fold(new MinusNode(ddmExpressionNode), ddmExpressionNode);
+	}
+
+	@Override
+	public DDMExpressionNode visitMultiplicationExpression(
+		@NotNull MultiplicationExpressionContext context) {
+
+		return foldArithmeticNode(_MULTIPLICATION, context);
+	}
+
+	@Override
+	public DDMExpressionNode visitNotEqualsExpression(
+		@NotNull NotEqualsExpressionContext context) {
+
+		return foldEqualsNode(context, true);
+	}
+
+	@Override
+	public DDMExpressionNode visitNotExpression(
+		@NotNull NotExpressionContext context) {
+
+		DDMExpressionNode ddmExpressionNode = visitChild(context, 1);
+
+		return fold(new NotNode(ddmExpressionNode), ddmExpressionNode);
+	}
+
+	@Override
+	public DDMExpressionNode visitNumericParenthesis(
+		@NotNull NumericParenthesisContext context) {
+
+		return visitChild(context, 1);
+	}
+
+	@Override
+	public DDMExpressionNode visitNumericVariable(
+		@NotNull NumericVariableContext context) {
+
+		String variableName = context.getText();
+
+		return new VariableNode(
+			getSlot(_variableSlots, variableName),
+			String.format("variable %s not defined", variableName));
+	}
+
+	@Override
+	public DDMExpressionNode visitOrExpression(
+		@NotNull OrExpressionContext context) {
+
+		DDMExpressionNode leftDDMExpressionNode = visitChild(context, 0);
+
+		if (isBooleanConstant(leftDDMExpressionNode, true)) {
+			return leftDDMExpressionNode;
+		}
+
+		DDMExpressionNode rightDDMExpressionNode = visitChild(context, 2);
+
+		return fold(
+			new OrNode(leftDDMExpressionNode, rightDDMExpressionNode),
+			leftDDMExpressionNode, rightDDMExpressionNode);
+	}
+
+	@Override
+	public DDMExpressionNode visitStringLiteral(
+		@NotNull StringLiteralContext context) {
+
+		return new ConstantNode(StringUtil.unquote(context.getText()));
+	}
+
+	@Override
+	public DDMExpressionNode visitSubtractionExpression(
+		@NotNull SubtractionExpressionContext context) {
+
+		return foldArithmeticNode(_SUBTRACTION, context);
+	}
+
+	protected DDMExpressionNode fold(
+		DDMExpressionNode ddmExpressionNode,
+		DDMExpressionNode... operandDDMExpressionNodes) {
+
+		for (DDMExpressionNode operandDDMExpressionNode :
+				operandDDMExpressionNodes) {
+
+			if (!operandDDMExpressionNode.isConstant()) {
+				return ddmExpressionNode;
+			}
+		}
+
+		Object value = null;
+
+		try {
+			value = ddmExpressionNode.evaluate(_constantDDMExpressionFrame);
+		}
+		catch (RuntimeException re) {
+
+			// Let the error be raised when the expression is evaluated
+
+			return ddmExpressionNode;
+		}
+
+		if (value instanceof Boolean) {
+			return new BooleanConstantNode((Boolean)value);
+		}
+
+		if (value instanceof Double) {
+			return new DoubleConstantNode((Double)value);
+		}
+
+		return new ConstantNode(value);
+	}
+
+	protected DDMExpressionNode foldArithmeticNode(
+		int operator, ParserRuleContext parserRuleContext) {
+
+		DDMExpressionNode leftDDMExpressionNode = visitChild(
+			parserRuleContext, 0);
+		DDMExpressionNode rightDDMExpressionNode = visitChild(
+			parserRuleContext, 2);
+
+		return fold(
+			new ArithmeticNode(
+				operator, leftDDMExpressionNode, rightDDMExpressionNode),
+			leftDDMExpressionNode, rightDDMExpressionNode);
+	}
+
+	protected DDMExpressionNode foldComparisonNode(
+		int operator, ParserRuleContext parserRuleContext) {
+
+		DDMExpressionNode leftDDMExpressionNode = visitChild(
+			parserRuleContext, 0);
+		DDMExpressionNode rightDDMExpressionNode = visitChild(
+			parserRuleContext, 2);
+
+		return fold(
+			new ComparisonNode(
+				operator, leftDDMExpressionNode, rightDDMExpressionNode),
+			leftDDMExpressionNode, rightDDMExpressionNode);
+	}
+
+	protected DDMExpressionNode foldEqualsNode(
+		ParserRuleContext parserRuleContext, boolean negate) {
+
+		DDMExpressionNode leftDDMExpressionNode = visitChild(
+			parserRuleContext, 0);
+		DDMExpressionNode rightDDMExpressionNode = visitChild(
+			parserRuleContext, 2);
+
+		return fold(
+			new EqualsNode(
+				leftDDMExpressionNode, rightDDMExpressionNode, negate),
+			leftDDMExpressionNode, rightDDMExpressionNode);
+	}
+
+	protected DDMExpressionNode[] getParameterDDMExpressionNodes(
+		FunctionParametersContext context) {
+
+		if (context == null) {
+			return new DDMExpressionNode[0];
+		}
+
+		DDMExpressionNode[] ddmExpressionNodes =
+			new DDMExpressionNode[(context.getChildCount() + 1) / 2];
+
+		for (int i = 0; i < ddmExpressionNodes.length; i++) {
+			ddmExpressionNodes[i] = visitChild(context, i * 2);
+		}
+
+		return ddmExpressionNodes;
+	}
+
+	protected int getSlot(Map<String, Integer> slots, String name) {
+		Integer slot = slots.get(name);
+
+		if (slot == null) {
+			slot = slots.size();
+
+			slots.put(name, slot);
+		}
+
+		return slot;
+	}
+
+	protected boolean isBooleanConstant(
+		DDMExpressionNode ddmExpressionNode, boolean value) {
+
+		if (ddmExpressionNode instanceof BooleanConstantNode) {
+			BooleanConstantNode booleanConstantNode =
+				(BooleanConstantNode)ddmExpressionNode;
+
+			if (booleanConstantNode._value == value) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	protected DDMExpressionNode visitChild(
+		ParserRuleContext parserRuleContext, int childIndex) {
+
+		ParseTree parseTree = parserRuleContext.getChild(childIndex);
+
+		return parseTree.accept(this);
+	}
+
+	private static final int _ADDITION = 0;
+
+	private static final int _DIVISION = 1;
+
+	private static final int _GREATER_THAN = 2;
+
+	private static final int _GREATER_THAN_OR_EQUALS = 3;
+
+	private static final int _LESS_THAN = 4;
+
+	private static final int _LESS_THAN_OR_EQUALS = 5;
+
+	private static final int _MULTIPLICATION = 6;
+
+	private static final int _SUBTRACTION = 7;
+
+	private static final DDMExpressionFrame _constantDDMExpressionFrame =
+		new DDMExpressionFrame(new DDMExpressionFunction[0], new Object[0]);
+
+	private final Map<String, Integer> _functionSlots = new LinkedHashMap<>();
+	private final Map<String, Integer> _variableSlots = new LinkedHashMap<>();
+
+	private static class AndNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateBoolean(ddmExpressionFrame);
+		}
+
+		@Override
+		public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+			if (!_leftDDMExpressionNode.evaluateBoolean(ddmExpressionFrame)) {
+				return false;
+			}
+
+			return _rightDDMExpressionNode.evaluateBoolean(ddmExpressionFrame);
+		}
+
+		private AndNode(
+			DDMExpressionNode leftDDMExpressionNode,
+			DDMExpressionNode rightDDMExpressionNode) {
+
+			_leftDDMExpressionNode = leftDDMExpressionNode;
+			_rightDDMExpressionNode = rightDDMExpressionNode;
+		}
+
+		private final DDMExpressionNode _leftDDMExpressionNode;
+		private final DDMExpressionNode _rightDDMExpressionNode;
+
+	}
+
+	private static class ArithmeticNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateDouble(ddmExpressionFrame);
+		}
+
+		@Override
+		public double evaluateDouble(DDMExpressionFrame ddmExpressionFrame) {
+			double l = _leftDDMExpressionNode.evaluateDouble(
+				ddmExpressionFrame);
+			double r = _rightDDMExpressionNode.evaluateDouble(
+				ddmExpressionFrame);
+
+			if (_operator == _ADDITION) {
+				return l + r;
+			}
+			else if (_operator == _DIVISION) {
+				return l / r;
+			}
+			else if (_operator == _MULTIPLICATION) {
+				return l * r;
+			}
+
+			return l - r;
+		}
+
+		private ArithmeticNode(
+			int operator, DDMExpressionNode leftDDMExpressionNode,
+			DDMExpressionNode rightDDMExpressionNode) {
+
+			_operator = operator;
+			_leftDDMExpressionNode = leftDDMExpressionNode;
+			_rightDDMExpressionNode = rightDDMExpressionNode;
+		}
+
+		private final DDMExpressionNode _leftDDMExpressionNode;
+		private final int _operator;
+		private final DDMExpressionNode _rightDDMExpressionNode;
+
+	}
+
+	private static class BooleanConstantNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return _value;
+		}
+
+		@Override
+		public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+			return _value;
+		}
+
+		@Override
+		public boolean isConstant() {
+			return true;
+		}
+
+		private BooleanConstantNode(boolean value) {
+			_value = value;
+		}
+
+		private final boolean _value;
+
+	}
+
+	private static class ComparisonNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateBoolean(ddmExpressionFrame);
+		}
+
+		@Override
+		public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+			double l = _leftDDMExpressionNode.evaluateDouble(
+				ddmExpressionFrame);
+			double r = _rightDDMExpressionNode.evaluateDouble(
+				ddmExpressionFrame);
+
+			if (_operator == _GREATER_THAN) {
+				return l > r;
+			}
+			else if (_operator == _GREATER_THAN_OR_EQUALS) {
+				return l >= r;
+			}
+			else if (_operator == _LESS_THAN) {
+				return l < r;
+			}
+
+			return l <= r;
+		}
+
+		private ComparisonNode(
+			int operator, DDMExpressionNode leftDDMExpressionNode,
+			DDMExpressionNode rightDDMExpressionNode) {
+
+			_operator = operator;
+			_leftDDMExpressionNode = leftDDMExpressionNode;
+			_rightDDMExpressionNode = rightDDMExpressionNode;
+		}
+
+		private final DDMExpressionNode _leftDDMExpressionNode;
+		private final int _operator;
+		private final DDMExpressionNode _rightDDMExpressionNode;
+
+	}
+
+	private static class ConstantNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return _value;
+		}
+
+		@Override
+		public boolean isConstant() {
+			return true;
+		}
+
+		private ConstantNode(Object value) {
+			_value = value;
+		}
+
+		private final Object _value;
+
+	}
+
+	private static class DoubleConstantNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return _boxedValue;
+		}
+
+		@Override
+		public double evaluateDouble(DDMExpressionFrame ddmExpressionFrame) {
+			return _value;
+		}
+
+		@Override
+		public boolean isConstant() {
+			return true;
+		}
+
+		private DoubleConstantNode(double value) {
+			_value = value;
+
+			_boxedValue = value;
+		}
+
+		private final Double _boxedValue;
+		private final double _value;
+
+	}
+
+	private static class EqualsNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateBoolean(ddmExpressionFrame);
+		}
+
+		@Override
+		public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+			Object l = _leftDDMExpressionNode.evaluate(ddmExpressionFrame);
+			Object r = _rightDDMExpressionNode.evaluate(ddmExpressionFrame);
+
+			if (_negate) {
+				return !l.equals(r);
+			}
+
+			return l.equals(r);
+		}
+
+		private EqualsNode(
+			DDMExpressionNode leftDDMExpressionNode,
+			DDMExpressionNode rightDDMExpressionNode, boolean negate) {
+
+			_leftDDMExpressionNode = leftDDMExpressionNode;
+			_rightDDMExpressionNode = rightDDMExpressionNode;
+			_negate = negate;
+		}
+
+		private final DDMExpressionNode _leftDDMExpressionNode;
+		private final boolean _negate;
+		private final DDMExpressionNode _rightDDMExpressionNode;
+
+	}
+
+	private static class FunctionCallNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			DDMExpressionFunction ddmExpressionFunction =
+				ddmExpressionFrame.getDDMExpressionFunction(_slot);
+
+			if (ddmExpressionFunction == null) {
+				throw new IllegalStateException(
+					String.format(
+						"Function \"%s\" not defined", _functionName));
+			}
+
+			Object[] parameters =
+				new Object[_parameterDDMExpressionNodes.length];
+
+			for (int i = 0; i < parameters.length; i++) {
+				parameters[i] = _parameterDDMExpressionNodes[i].evaluate(
+					ddmExpressionFrame);
+			}
+
+			return ddmExpressionFunction.evaluate(parameters);
+		}
+
+		private FunctionCallNode(
+			String functionName, int slot,
+			DDMExpressionNode[] parameterDDMExpressionNodes) {
+
+			_functionName = functionName;
+			_slot = slot;
+			_parameterDDMExpressionNodes = parameterDDMExpressionNodes;
+		}
+
+		private final String _functionName;
+		private final DDMExpressionNode[] _parameterDDMExpressionNodes;
+		private final int _slot;
+
+	}
+
+	private static class MinusNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateDouble(ddmExpressionFrame);
+		}
+
+		@Override
+		public double evaluateDouble(DDMExpressionFrame ddmExpressionFrame) {
+			return -_ddmExpressionNode.evaluateDouble(ddmExpressionFrame);
+		}
+
+		private MinusNode(DDMExpressionNode ddmExpressionNode) {
+			_ddmExpressionNode = ddmExpressionNode;
+		}
+
+		private final DDMExpressionNode _ddmExpressionNode;
+
+	}
+
+	private static class NotNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateBoolean(ddmExpressionFrame);
+		}
+
+		@Override
+		public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+			return !_ddmExpressionNode.evaluateBoolean(ddmExpressionFrame);
+		}
+
+		private NotNode(DDMExpressionNode ddmExpressionNode) {
+			_ddmExpressionNode = ddmExpressionNode;
+		}
+
+		private final DDMExpressionNode _ddmExpressionNode;
+
+	}
+
+	private static class OrNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			return evaluateBoolean(ddmExpressionFrame);
+		}
+
+		@Override
+		public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+			if (_leftDDMExpressionNode.evaluateBoolean(ddmExpressionFrame)) {
+				return true;
+			}
+
+			return _rightDDMExpressionNode.evaluateBoolean(ddmExpressionFrame);
+		}
+
+		private OrNode(
+			DDMExpressionNode leftDDMExpressionNode,
+			DDMExpressionNode rightDDMExpressionNode) {
+
+			_leftDDMExpressionNode = leftDDMExpressionNode;
+			_rightDDMExpressionNode = rightDDMExpressionNode;
+		}
+
+		private final DDMExpressionNode _leftDDMExpressionNode;
+		private final DDMExpressionNode _rightDDMExpressionNode;
+
+	}
+
+	private static class VariableNode extends DDMExpressionNode {
+
+		@Override
+		public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+			Object variableValue = ddmExpressionFrame.getVariableValue(_slot);
+
+			if (variableValue == null) {
+				throw new IllegalStateException(_undefinedMessage);
+			}
+
+			return variableValue;
+		}
+
+		private VariableNode(int slot, String undefinedMessage) {
+			_slot = slot;
+			_undefinedMessage = undefinedMessage;
+		}
+
+		private final int _slot;
+		private final String _undefinedMessage;
+
+	}
+
+}
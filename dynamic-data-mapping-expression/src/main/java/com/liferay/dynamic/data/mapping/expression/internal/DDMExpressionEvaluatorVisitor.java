@@ -84,9 +84,14 @@ public class DDMExpressionEvaluatorVisitor
 	@Override
 	public Object visitAndExpression(@NotNull AndExpressionContext context) {
 		boolean l = visitChild(context, 0);
+
+		if (!l) {
+			return false;
+		}
+
 		boolean r = visitChild(context, 2);
 
-		return l && r;
+		return r;
 	}
 
 	@Override
@@ -284,9 +289,14 @@ public class DDMExpressionEvaluatorVisitor
 	@Override
 	public Object visitOrExpression(@NotNull OrExpressionContext context) {
 		boolean l = visitChild(context, 0);
+
+		if (l) {
+			return true;
+		}
+
 		boolean r = visitChild(context, 2);
 
-		return l || r;
+		return r;
 	}
 
 	@Override
@@ -18,12 +18,16 @@ import com.liferay.dynamic.data.mapping.expression.DDMExpression;
 import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
 import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
 import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+import com.liferay.dynamic.data.mapping.expression.internal.configuration.DDMExpressionConfiguration;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
 import com.liferay.portal.kernel.util.MapUtil;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -32,7 +36,10 @@ import org.osgi.service.component.annotations.ReferencePolicyOption;
 /**
  * @author Marcellus Tavares
  */
-@Component(immediate = true, service = DDMExpressionFactory.class)
+@Component(
+	configurationPid = "com.liferay.dynamic.data.mapping.expression.internal.configuration.DDMExpressionConfiguration",
+	immediate = true, service = DDMExpressionFactory.class
+)
 public class DDMExpressionFactoryImpl implements DDMExpressionFactory {
 
 	@Override
@@ -90,6 +97,23 @@ public class DDMExpressionFactoryImpl implements DDMExpressionFactory {
 		return createDDMExpression(expressionString, String.class);
 	}
 
+	public CompiledDDMExpressionCache getCompiledDDMExpressionCache() {
+		return _compiledDDMExpressionCache;
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		DDMExpressionConfiguration ddmExpressionConfiguration =
+			ConfigurableUtil.createConfigurable(
+				DDMExpressionConfiguration.class, properties);
+
+		_compiledDDMExpressionCache = new CompiledDDMExpressionCache(
+			ddmExpressionConfiguration.compiledExpressionCacheMaxSize());
+		_compiledEvaluatorEnabled =
+			ddmExpressionConfiguration.compiledEvaluatorEnabled();
+	}
+
 	@Reference(
 		cardinality = ReferenceCardinality.MULTIPLE,
 		policy = ReferencePolicy.DYNAMIC,
@@ -113,8 +137,15 @@ public class DDMExpressionFactoryImpl implements DDMExpressionFactory {
 			String expressionString, Class<T> expressionClass)
 		throws DDMExpressionException {
 
-		DDMExpression<T> ddmExpression = new DDMExpressionImpl<>(
-			expressionString, expressionClass);
+		CompiledDDMExpressionCache compiledDDMExpressionCache =
+			_compiledDDMExpressionCache;
+
+		DDMExpressionImpl<T> ddmExpression = new DDMExpressionImpl<>(
+			compiledDDMExpressionCache.getCompiledDDMExpression(
+				expressionString),
+			expressionClass, compiledDDMExpressionCache);
+
+		ddmExpression.setCompiledEvaluatorEnabled(_compiledEvaluatorEnabled);
 
 		setDDMExpressionFunctions(ddmExpression);
 
@@ -142,6 +173,11 @@ public class DDMExpressionFactoryImpl implements DDMExpressionFactory {
 		}
 	}
 
+	private static final int _COMPILED_EXPRESSION_CACHE_MAX_SIZE = 1000;
+
+	private volatile CompiledDDMExpressionCache _compiledDDMExpressionCache =
+		new CompiledDDMExpressionCache(_COMPILED_EXPRESSION_CACHE_MAX_SIZE);
+	private volatile boolean _compiledEvaluatorEnabled;
 	private final Map<String, DDMExpressionFunction> _ddmExpressionFunctionMap =
 		new ConcurrentHashMap<>();
 
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+
+/**
+ * @author agent
+ */
+public class DDMExpressionFrame {
+
+	public DDMExpressionFrame(
+		DDMExpressionFunction[] ddmExpressionFunctions,
+		Object[] variableValues) {
+
+		_ddmExpressionFunctions = ddmExpressionFunctions;
+		_variableValues = variableValues;
+	}
+
+	public DDMExpressionFunction getDDMExpressionFunction(int slot) {
+		return _ddmExpressionFunctions[slot];
+	}
+
+	public Object getVariableValue(int slot) {
+		return _variableValues[slot];
+	}
+
+	private final DDMExpressionFunction[] _ddmExpressionFunctions;
+	private final Object[] _variableValues;
+
+}
@@ -18,8 +18,6 @@ import com.liferay.dynamic.data.mapping.expression.DDMExpression;
 import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
 import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
 import com.liferay.dynamic.data.mapping.expression.VariableDependencies;
-import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionLexer;
-import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser;
 import com.liferay.dynamic.data.mapping.expression.internal.parser.DDMExpressionParser.ExpressionContext;
 import com.liferay.dynamic.data.mapping.expression.model.Expression;
 import com.liferay.portal.kernel.util.ListUtil;
@@ -33,34 +31,35 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-
 /**
  * @author Miguel Angelo Caldas Gallindo
  * @author Marcellus Tavares
  */
 public class DDMExpressionImpl<T> implements DDMExpression<T> {
 
-	public DDMExpressionImpl(String expressionString, Class<T> expressionClass)
+	public DDMExpressionImpl(
+			CompiledDDMExpression compiledDDMExpression,
+			Class<T> expressionClass,
+			CompiledDDMExpressionCache compiledDDMExpressionCache)
 		throws DDMExpressionException {
 
-		if ((expressionString == null) || expressionString.isEmpty()) {
-			throw new IllegalArgumentException();
-		}
-
-		_expressionString = expressionString;
+		_compiledDDMExpression = compiledDDMExpression;
 		_expressionClass = expressionClass;
+		_compiledDDMExpressionCache = compiledDDMExpressionCache;
 
-		_expressionContext = createExpressionContext();
+		_expressionContext = compiledDDMExpression.getExpressionContext();
 
 		registerExpressionFunctionsAndVariables();
 		registerExpressionModel();
 	}
 
+	public DDMExpressionImpl(String expressionString, Class<T> expressionClass)
+		throws DDMExpressionException {
+
+		this(
+			new CompiledDDMExpression(expressionString), expressionClass, null);
+	}
+
 	@Override
 	public T evaluate() throws DDMExpressionException {
 		Set<String> undefinedFunctionNames = getUndefinedFunctionNames();
@@ -71,11 +70,22 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		}
 
 		try {
-			DDMExpressionEvaluatorVisitor ddmExpressionEvaluatorVisitor =
-				createDDMExpressionEvaluatorVisitor();
+			Object result = null;
+
+			if (_compiledEvaluatorEnabled) {
+				DDMExpressionProgram ddmExpressionProgram =
+					_compiledDDMExpression.getDDMExpressionProgram();
 
-			Object result = _expressionContext.accept(
-				ddmExpressionEvaluatorVisitor);
+				result = ddmExpressionProgram.evaluate(
+					createDDMExpressionFrame(ddmExpressionProgram));
+			}
+			else {
+				DDMExpressionEvaluatorVisitor ddmExpressionEvaluatorVisitor =
+					createDDMExpressionEvaluatorVisitor();
+
+				result = _expressionContext.accept(
+					ddmExpressionEvaluatorVisitor);
+			}
 
 			return (T)toRetunType(result);
 		}
@@ -115,6 +125,10 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		setVariableValue(variableName, variableValue);
 	}
 
+	public void setCompiledEvaluatorEnabled(boolean compiledEvaluatorEnabled) {
+		_compiledEvaluatorEnabled = compiledEvaluatorEnabled;
+	}
+
 	@Override
 	public void setDDMExpressionFunction(
 		String functionName, DDMExpressionFunction ddmExpressionFunction) {
@@ -208,6 +222,17 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		}
 	}
 
+	protected CompiledDDMExpression compile(String expressionString)
+		throws DDMExpressionException {
+
+		if (_compiledDDMExpressionCache == null) {
+			return new CompiledDDMExpression(expressionString);
+		}
+
+		return _compiledDDMExpressionCache.getCompiledDDMExpression(
+			expressionString);
+	}
+
 	protected DDMExpressionEvaluatorVisitor
 			createDDMExpressionEvaluatorVisitor()
 		throws DDMExpressionException {
@@ -229,11 +254,45 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		return ddmExpressionEvaluatorVisitor;
 	}
 
+	protected DDMExpressionFrame createDDMExpressionFrame(
+			DDMExpressionProgram ddmExpressionProgram)
+		throws DDMExpressionException {
+
+		DDMExpressionFunction[] ddmExpressionFunctions =
+			new DDMExpressionFunction[ddmExpressionProgram.getFunctionsCount()];
+
+		for (int i = 0; i < ddmExpressionFunctions.length; i++) {
+			ddmExpressionFunctions[i] = _ddmExpressionFunctions.get(
+				ddmExpressionProgram.getFunctionName(i));
+		}
+
+		// Resolve every variable of the expression, as the parse tree visitor
+		// does, so that an undefined variable fails the evaluation even when
+		// the compiler dropped the operand that references it
+
+		for (Variable variable : _variables.values()) {
+			getVariableValue(variable);
+		}
+
+		Object[] variableValues =
+			new Object[ddmExpressionProgram.getVariablesCount()];
+
+		for (int i = 0; i < variableValues.length; i++) {
+			variableValues[i] = getVariableValue(
+				_variables.get(ddmExpressionProgram.getVariableName(i)));
+		}
+
+		return new DDMExpressionFrame(ddmExpressionFunctions, variableValues);
+	}
+
 	protected DDMExpression<Object> createExpression(String expressionString)
 		throws DDMExpressionException {
 
 		DDMExpressionImpl<Object> ddmExpression = new DDMExpressionImpl<>(
-			expressionString, Object.class);
+			compile(expressionString), Object.class,
+			_compiledDDMExpressionCache);
+
+		ddmExpression.setCompiledEvaluatorEnabled(_compiledEvaluatorEnabled);
 
 		for (String variableName : ddmExpression.getExpressionVariableNames()) {
 			Variable variable = _variables.get(variableName);
@@ -261,27 +320,6 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		return ddmExpression;
 	}
 
-	protected ExpressionContext createExpressionContext()
-		throws DDMExpressionException {
-
-		try {
-			CharStream charStream = new ANTLRInputStream(_expressionString);
-
-			DDMExpressionLexer ddmExpressionLexer = new DDMExpressionLexer(
-				charStream);
-
-			DDMExpressionParser ddmExpressionParser = new DDMExpressionParser(
-				new CommonTokenStream(ddmExpressionLexer));
-
-			ddmExpressionParser.setErrorHandler(new BailErrorStrategy());
-
-			return ddmExpressionParser.expression();
-		}
-		catch (Exception e) {
-			throw new DDMExpressionException.InvalidSyntax(e);
-		}
-	}
-
 	protected Set<String> getExpressionFunctionNames() {
 		return _expressionFunctionNames;
 	}
@@ -332,11 +370,11 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		variableDependencies = new VariableDependencies(variable.getName());
 
 		if (variable.getExpressionString() != null) {
-			DDMExpressionImpl<?> ddmExpression = new DDMExpressionImpl<>(
-				variable.getExpressionString(), Object.class);
+			CompiledDDMExpression compiledDDMExpression = compile(
+				variable.getExpressionString());
 
 			for (String variableName :
-					ddmExpression.getExpressionVariableNames()) {
+					compiledDDMExpression.getVariableNames()) {
 
 				if (!_variables.containsKey(variableName)) {
 					Variable newVariable = new Variable(variableName);
@@ -361,30 +399,20 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 	}
 
 	protected void registerExpressionFunctionsAndVariables() {
-		ParseTreeWalker parseTreeWalker = new ParseTreeWalker();
-
-		DDMExpressionListener ddmExpressionListener =
-			new DDMExpressionListener();
-
-		parseTreeWalker.walk(ddmExpressionListener, _expressionContext);
 
 		// Function names
 
-		_expressionFunctionNames.addAll(
-			ddmExpressionListener.getFunctionNames());
+		_expressionFunctionNames = _compiledDDMExpression.getFunctionNames();
 
 		// Variables
 
-		for (String variableName : ddmExpressionListener.getVariableNames()) {
+		for (String variableName : _compiledDDMExpression.getVariableNames()) {
 			_variables.put(variableName, new Variable(variableName));
 		}
 	}
 
 	protected void registerExpressionModel() {
-		DDMExpressionModelVisitor ddmExpressionModelVisitor =
-			new DDMExpressionModelVisitor();
-
-		_expressionModel = _expressionContext.accept(ddmExpressionModelVisitor);
+		_expressionModel = _compiledDDMExpression.getModel();
 	}
 
 	protected void setVariableValue(String variableName, Object variableValue) {
@@ -461,13 +489,15 @@ public class DDMExpressionImpl<T> implements DDMExpression<T> {
 		return result;
 	}
 
+	private final CompiledDDMExpression _compiledDDMExpression;
+	private final CompiledDDMExpressionCache _compiledDDMExpressionCache;
+	private boolean _compiledEvaluatorEnabled;
 	private final Map<String, DDMExpressionFunction> _ddmExpressionFunctions =
 		new HashMap<>();
 	private final Class<?> _expressionClass;
 	private final ExpressionContext _expressionContext;
-	private final Set<String> _expressionFunctionNames = new HashSet<>();
+	private Set<String> _expressionFunctionNames;
 	private Expression _expressionModel;
-	private final String _expressionString;
 	private final Map<String, Variable> _variables = new TreeMap<>();
 	private final Map<String, Object> _variableValues = new HashMap<>();
 
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+/**
+ * @author agent
+ */
+public abstract class DDMExpressionNode {
+
+	public abstract Object evaluate(DDMExpressionFrame ddmExpressionFrame);
+
+	public boolean evaluateBoolean(DDMExpressionFrame ddmExpressionFrame) {
+		Boolean value = (Boolean)evaluate(ddmExpressionFrame);
+
+		return value;
+	}
+
+	public double evaluateDouble(DDMExpressionFrame ddmExpressionFrame) {
+		Number number = (Number)evaluate(ddmExpressionFrame);
+
+		return number.doubleValue();
+	}
+
+	public boolean isConstant() {
+		return false;
+	}
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+/**
+ * Holds the closure tree built by {@link DDMExpressionCompiler} together with
+ * the names bound to each function and variable slot. Instances are immutable
+ * and may be evaluated concurrently with different frames.
+ *
+ * @author agent
+ */
+public class DDMExpressionProgram {
+
+	public DDMExpressionProgram(
+		DDMExpressionNode ddmExpressionNode, String[] functionNames,
+		String[] variableNames) {
+
+		_ddmExpressionNode = ddmExpressionNode;
+		_functionNames = functionNames;
+		_variableNames = variableNames;
+	}
+
+	public Object evaluate(DDMExpressionFrame ddmExpressionFrame) {
+		return _ddmExpressionNode.evaluate(ddmExpressionFrame);
+	}
+
+	public String getFunctionName(int slot) {
+		return _functionNames[slot];
+	}
+
+	public int getFunctionsCount() {
+		return _functionNames.length;
+	}
+
+	public String getVariableName(int slot) {
+		return _variableNames[slot];
+	}
+
+	public int getVariablesCount() {
+		return _variableNames.length;
+	}
+
+	private final DDMExpressionNode _ddmExpressionNode;
+	private final String[] _functionNames;
+	private final String[] _variableNames;
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+/**
+ * @author agent
+ */
+@ExtendedObjectClassDefinition(category = "forms-and-workflow")
+@Meta.OCD(
+	id = "com.liferay.dynamic.data.mapping.expression.internal.configuration.DDMExpressionConfiguration",
+	localization = "content/Language",
+	name = "ddm-expression-configuration-name"
+)
+public interface DDMExpressionConfiguration {
+
+	/**
+	 * Returns the maximum number of parsed expressions kept in memory. A value
+	 * of <code>0</code> or less disables the cache.
+	 *
+	 * @return the maximum number of parsed expressions kept in memory
+	 */
+	@Meta.AD(
+		deflt = "1000",
+		description = "compiled-expression-cache-max-size-description",
+		name = "compiled-expression-cache-max-size", required = false
+	)
+	public int compiledExpressionCacheMaxSize();
+
+	/**
+	 * Returns <code>true</code> if expressions should be evaluated by a
+	 * program compiled from the parse tree instead of by walking the parse
+	 * tree on every evaluation.
+	 *
+	 * @return <code>true</code> if expressions should be evaluated by a
+	 *         compiled program; <code>false</code> otherwise
+	 */
+	@Meta.AD(
+		deflt = "false", description = "compiled-evaluator-enabled-description",
+		name = "compiled-evaluator-enabled", required = false
+	)
+	public boolean compiledEvaluatorEnabled();
+
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpression;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CompiledDDMExpressionCacheTest {
+
+	@Test
+	public void testDisabledCache() throws Exception {
+		CompiledDDMExpressionCache compiledDDMExpressionCache =
+			new CompiledDDMExpressionCache(0);
+
+		CompiledDDMExpression compiledDDMExpression1 =
+			compiledDDMExpressionCache.getCompiledDDMExpression("a + b");
+		CompiledDDMExpression compiledDDMExpression2 =
+			compiledDDMExpressionCache.getCompiledDDMExpression("a + b");
+
+		Assert.assertNotSame(compiledDDMExpression1, compiledDDMExpression2);
+		Assert.assertEquals(0, compiledDDMExpressionCache.getHitCount());
+		Assert.assertEquals(0, compiledDDMExpressionCache.getMissCount());
+		Assert.assertEquals(0, compiledDDMExpressionCache.getSize());
+	}
+
+	@Test
+	public void testHitAndMissCounts() throws Exception {
+		CompiledDDMExpressionCache compiledDDMExpressionCache =
+			new CompiledDDMExpressionCache(10);
+
+		CompiledDDMExpression compiledDDMExpression1 =
+			compiledDDMExpressionCache.getCompiledDDMExpression("a + b");
+		CompiledDDMExpression compiledDDMExpression2 =
+			compiledDDMExpressionCache.getCompiledDDMExpression("a + b");
+
+		compiledDDMExpressionCache.getCompiledDDMExpression("a > b");
+
+		Assert.assertSame(compiledDDMExpression1, compiledDDMExpression2);
+		Assert.assertEquals(1, compiledDDMExpressionCache.getHitCount());
+		Assert.assertEquals(2, compiledDDMExpressionCache.getMissCount());
+		Assert.assertEquals(2, compiledDDMExpressionCache.getSize());
+	}
+
+	@Test(expected = DDMExpressionException.InvalidSyntax.class)
+	public void testInvalidExpressionSyntax() throws Exception {
+		CompiledDDMExpressionCache compiledDDMExpressionCache =
+			new CompiledDDMExpressionCache(10);
+
+		compiledDDMExpressionCache.getCompiledDDMExpression("((");
+	}
+
+	@Test
+	public void testMaxSize() throws Exception {
+		CompiledDDMExpressionCache compiledDDMExpressionCache =
+			new CompiledDDMExpressionCache(2);
+
+		for (int i = 0; i < 10; i++) {
+			compiledDDMExpressionCache.getCompiledDDMExpression("a + " + i);
+		}
+
+		Assert.assertTrue(compiledDDMExpressionCache.getSize() <= 2);
+	}
+
+	@Test
+	public void testSharedCompiledExpressionWithDifferentBindings()
+		throws Exception {
+
+		CompiledDDMExpressionCache compiledDDMExpressionCache =
+			new CompiledDDMExpressionCache(10);
+
+		DDMExpression<Double> ddmExpression1 = new DDMExpressionImpl<>(
+			compiledDDMExpressionCache.getCompiledDDMExpression("a * 2"),
+			Double.class, compiledDDMExpressionCache);
+
+		ddmExpression1.setDoubleVariableValue("a", 2D);
+
+		DDMExpression<Double> ddmExpression2 = new DDMExpressionImpl<>(
+			compiledDDMExpressionCache.getCompiledDDMExpression("a * 2"),
+			Double.class, compiledDDMExpressionCache);
+
+		ddmExpression2.setDoubleVariableValue("a", 5D);
+
+		Assert.assertEquals(4D, ddmExpression1.evaluate(), 0);
+		Assert.assertEquals(10D, ddmExpression2.evaluate(), 0);
+	}
+
+}
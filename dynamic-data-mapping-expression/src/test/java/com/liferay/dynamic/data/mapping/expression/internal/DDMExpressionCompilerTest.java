@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.expression.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Evaluates the expressions used by the evaluation tests with both the parse
+ * tree visitor and the compiled program and verifies that they agree.
+ *
+ * @author agent
+ */
+public class DDMExpressionCompilerTest {
+
+	@Test
+	public void testArithmeticExpressions() throws Exception {
+		assertSameResults(
+			"1 + 1", "2 + 2", "2.5 + 1", "-2 + 2.5",
+			"-((1 + 3) - 4 * (2 - (2 + (4 - 5)) * (5 - 2) * 5) + 1)",
+			"1 * 2 - 5 * 4 - 3 - 5 * 2 * 5 - 5 + 7 - 10 - 4 * 3 - 2 + 1",
+			"-(-2.5 + 4 * (2.1 + ((11 + 3.2) - 2) * (.5 + 6) - (2.6 * 1.1 - " +
+				"4)))",
+			"42", "10000000000", "4 / 2", "12 / 3", "15 / 2", "17 / 2", "42.5",
+			"10000000000.5", "-1", "--1", "-.5", "--5.5", "2 * 1", "4 * 2",
+			"2.5 * 2", "2 * 3.5", "1e5", "1E8", ".123e+3", "2e-1", "123E-3",
+			"2 - 1", "4 - 2", "2.5 - 2", "2 - 2.5", "1 / 0", "'Joe'");
+	}
+
+	@Test
+	public void testFunctionExpressions() throws Exception {
+		assertSameResults(
+			"abs(-5)", "not(length(\"123\") > length(\"1\"))",
+			"length('abc') == length('abc')", "pow(2, 4) > (16 - 1)",
+			"pow(2., pow(2., pow(2.,4.)))", "concat()", "concat('a', 1, true)",
+			"time()", "abs('a')");
+	}
+
+	@Test
+	public void testLogicalExpressions() throws Exception {
+		assertSameResults(
+			"true and true", "true AND false", "false && true",
+			"false & false",
+			"((true && 2 > 1) || (4.0 < 3)) && ((2 + 1) > 5 || true)",
+			"true != 1", "true == \"true\"", "true = true", "1 = 1.0",
+			"\"Joe\" == \"Joe\"", "true == FALSE", "false", "FALSE",
+			"true > 1", "false >= 1", "false < \"Joe\"", "false <= 1.5",
+			"true != true", "1 <> 1", "\"Joe\" <> \"Joe\"", "true <> false",
+			"not false", "not true", "true or true", "true OR false",
+			"false || true", "false | false", "true", "TRUE", "1 and true",
+			"not 1", "2 >= 2", "2 <= 1", "3 < 4", "false and 1", "true or 1",
+			"true and 1", "false or 1", "(1 + 2 > 2) and (3 / 0 > 1)");
+	}
+
+	@Test
+	public void testShortCircuitLogicalExpressions() throws Exception {
+		for (boolean compiledEvaluatorEnabled : new boolean[] {false, true}) {
+			DDMExpressionImpl<Boolean> ddmExpression = new DDMExpressionImpl<>(
+				"(z and fail()) or (not z or fail())", Boolean.class);
+
+			ddmExpression.setBooleanVariableValue("z", false);
+			ddmExpression.setCompiledEvaluatorEnabled(compiledEvaluatorEnabled);
+			ddmExpression.setDDMExpressionFunction("fail", new FailFunction());
+
+			Assert.assertTrue(ddmExpression.evaluate());
+		}
+	}
+
+	@Test
+	public void testVariableExpressions() throws Exception {
+		Map<String, Object> variableValues = new HashMap<>();
+
+		variableValues.put("a", "Ray Charles");
+		variableValues.put("x", 1D);
+		variableValues.put("y", .5D);
+		variableValues.put("z", true);
+
+		assertSameResults(
+			variableValues, "x + y", "x / y", "x == 0", "x == 1", "a", "z",
+			"z and x > y", "not z", "x + y + x * y", "a == 'Ray Charles'",
+			"length(a) > x", "-x", "x + z", "undefined", "undefined + 1",
+			"undefined and true", "false and z", "true or z",
+			"false and length(a) > x", "not z and x / 0 > 1");
+	}
+
+	@Test
+	public void testUndefinedVariableOnShortCircuitedSide() throws Exception {
+		Map<String, Object> variableValues = new HashMap<>();
+
+		variableValues.put("x", 1D);
+		variableValues.put("z", true);
+
+		assertSameResults(
+			variableValues, "false and undefined", "true or undefined",
+			"not z and undefined", "z or undefined", "false && undefined > x",
+			"true || undefined + 1 > x", "x > 2 and undefined",
+			"x < 2 or not undefined", "false and (undefined or z)",
+			"true and undefined", "false or undefined", "z and undefined > x",
+			"not z or undefined");
+	}
+
+	protected void assertSameResults(
+			Map<String, Object> variableValues, String... expressionStrings)
+		throws Exception {
+
+		for (String expressionString : expressionStrings) {
+			Object expected = evaluate(expressionString, variableValues, false);
+			Object actual = evaluate(expressionString, variableValues, true);
+
+			Assert.assertEquals(expressionString, expected, actual);
+		}
+	}
+
+	protected void assertSameResults(String... expressionStrings)
+		throws Exception {
+
+		assertSameResults(new HashMap<String, Object>(), expressionStrings);
+	}
+
+	protected Object evaluate(
+			String expressionString, Map<String, Object> variableValues,
+			boolean compiledEvaluatorEnabled)
+		throws Exception {
+
+		DDMExpressionImpl<Object> ddmExpression = new DDMExpressionImpl<>(
+			expressionString, Object.class);
+
+		ddmExpression.setCompiledEvaluatorEnabled(compiledEvaluatorEnabled);
+		ddmExpression.setDDMExpressionFunction("abs", new AbsFunction());
+		ddmExpression.setDDMExpressionFunction("concat", new ConcatFunction());
+		ddmExpression.setDDMExpressionFunction("length", new LengthFunction());
+		ddmExpression.setDDMExpressionFunction("pow", new PowFunction());
+
+		for (Map.Entry<String, Object> entry : variableValues.entrySet()) {
+			ddmExpression.setObjectVariableValue(
+				entry.getKey(), entry.getValue());
+		}
+
+		try {
+			return ddmExpression.evaluate();
+		}
+		catch (Exception e) {
+			Throwable cause = e.getCause();
+
+			if (cause == null) {
+				return e.getClass();
+			}
+
+			return cause.getClass();
+		}
+	}
+
+	private static class AbsFunction implements DDMExpressionFunction {
+
+		public Object evaluate(Object... parameters) {
+			double parameter = (double)parameters[0];
+
+			return Math.abs(parameter);
+		}
+
+	}
+
+	private static class ConcatFunction implements DDMExpressionFunction {
+
+		public Object evaluate(Object... parameters) {
+			StringBuilder sb = new StringBuilder();
+
+			for (Object parameter : parameters) {
+				sb.append(parameter);
+			}
+
+			return sb.toString();
+		}
+
+	}
+
+	private static class FailFunction implements DDMExpressionFunction {
+
+		public Object evaluate(Object... parameters) {
+			throw new IllegalStateException();
+		}
+
+	}
+
+	private static class LengthFunction implements DDMExpressionFunction {
+
+		public Object evaluate(Object... parameters) {
+			String parameter = (String)parameters[0];
+
+			return parameter.length();
+		}
+
+	}
+
+	private static class PowFunction implements DDMExpressionFunction {
+
+		public Object evaluate(Object... parameters) {
+			double parameter1 = (double)parameters[0];
+			double parameter2 = (double)parameters[1];
+
+			return Math.pow(parameter1, parameter2);
+		}
+
+	}
+
+}
@@ -0,0 +1,465 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.evaluator.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpression;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+import com.liferay.dynamic.data.mapping.expression.model.Expression;
+import com.liferay.dynamic.data.mapping.expression.model.FunctionCallExpression;
+import com.liferay.dynamic.data.mapping.expression.model.StringLiteral;
+import com.liferay.dynamic.data.mapping.expression.model.Term;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.model.DDMFormFieldValidation;
+import com.liferay.dynamic.data.mapping.model.DDMFormRule;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the parts of a form evaluation that only depend on the form
+ * definition: the enabled rules whose condition and actions
+ * are valid expressions, the fields each rule and field expression reads and
+ * modifies, and the fields whose boolean properties are set to true by a rule
+ * action. A plan is built once per form and shared by the requests that
+ * evaluate it, so the form must not be modified afterwards.
+ *
+ * @author agent
+ */
+public class DDMFormEvaluationPlan {
+
+	public DDMFormEvaluationPlan(
+		DDMForm ddmForm, DDMExpressionFactory ddmExpressionFactory) {
+
+		createBooleanPropertyActionsIndex(ddmForm, ddmExpressionFactory);
+
+		createDDMFormRules(ddmForm, ddmExpressionFactory);
+
+		createDDMFormFieldsDependencies(ddmForm, ddmExpressionFactory);
+	}
+
+	/**
+	 * Returns the names of the fields whose evaluation result may differ
+	 * after the given fields change: the changed fields, the fields modified
+	 * by rules reading them or reading values set by other such rules, and
+	 * the fields whose visibility or validation expression reads them.
+	 */
+	public Set<String> getAffectedDDMFormFieldNames(
+		Set<String> changedDDMFormFieldNames) {
+
+		Set<String> affectedDDMFormFieldNames = new HashSet<>(
+			changedDDMFormFieldNames);
+
+		Set<String> changedValueDDMFormFieldNames = new HashSet<>(
+			changedDDMFormFieldNames);
+
+		boolean modified = true;
+
+		while (modified) {
+			modified = false;
+
+			for (DDMFormRuleDependencies ddmFormRuleDependencies :
+					_ddmFormRulesDependencies) {
+
+				if (!ddmFormRuleDependencies.reads(
+						changedValueDDMFormFieldNames)) {
+
+					continue;
+				}
+
+				affectedDDMFormFieldNames.addAll(
+					ddmFormRuleDependencies.getTargetDDMFormFieldNames());
+
+				if (changedValueDDMFormFieldNames.addAll(
+						ddmFormRuleDependencies.
+							getValueTargetDDMFormFieldNames())) {
+
+					modified = true;
+				}
+			}
+		}
+
+		for (Map.Entry<String, Set<String>> entry :
+				_ddmFormFieldsDependencies.entrySet()) {
+
+			if (!Collections.disjoint(
+					entry.getValue(), changedDDMFormFieldNames)) {
+
+				affectedDDMFormFieldNames.add(entry.getKey());
+			}
+		}
+
+		return affectedDDMFormFieldNames;
+	}
+
+	public List<DDMFormRule> getDDMFormRules() {
+		return _ddmFormRules;
+	}
+
+	/**
+	 * Returns, in form order, the rules needed to compute the evaluation
+	 * results of the given fields. Besides the rules modifying these fields,
+	 * this includes the rules setting the value of any field read by another
+	 * included rule, and the rules jumping between pages, which are needed to
+	 * compute the disabled pages.
+	 */
+	public List<DDMFormRule> getDDMFormRules(
+		Set<String> affectedDDMFormFieldNames) {
+
+		Set<String> readDDMFormFieldNames = new HashSet<>();
+
+		boolean[] selected = new boolean[_ddmFormRules.size()];
+
+		boolean modified = true;
+
+		while (modified) {
+			modified = false;
+
+			for (int i = 0; i < selected.length; i++) {
+				if (selected[i]) {
+					continue;
+				}
+
+				DDMFormRuleDependencies ddmFormRuleDependencies =
+					_ddmFormRulesDependencies.get(i);
+
+				if (ddmFormRuleDependencies.hasJumpPage() ||
+					ddmFormRuleDependencies.targets(
+						affectedDDMFormFieldNames) ||
+					ddmFormRuleDependencies.targetsValue(
+						readDDMFormFieldNames)) {
+
+					selected[i] = true;
+
+					readDDMFormFieldNames.addAll(
+						ddmFormRuleDependencies.getReadDDMFormFieldNames());
+
+					modified = true;
+				}
+			}
+		}
+
+		List<DDMFormRule> ddmFormRules = new ArrayList<>();
+
+		for (int i = 0; i < selected.length; i++) {
+			if (selected[i]) {
+				ddmFormRules.add(_ddmFormRules.get(i));
+			}
+		}
+
+		return ddmFormRules;
+	}
+
+	/**
+	 * Returns <code>true</code> if any rule of the form, enabled or not, has
+	 * an action calling the function with the field name and
+	 * <code>true</code>, such as <code>setVisible('field', true)</code>.
+	 */
+	public boolean hasBooleanPropertyAction(
+		String functionName, String ddmFormFieldName) {
+
+		Set<String> ddmFormFieldNames = _booleanPropertyActionsIndex.get(
+			functionName);
+
+		if ((ddmFormFieldNames != null) &&
+			ddmFormFieldNames.contains(ddmFormFieldName)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the fields read and modified by every rule
+	 * are known without evaluating it, which is required to evaluate only the
+	 * rules affected by a set of changed fields.
+	 */
+	public boolean isIncrementalEvaluationSupported() {
+		return _incrementalEvaluationSupported;
+	}
+
+	protected void createBooleanPropertyActionsIndex(
+		DDMForm ddmForm, DDMExpressionFactory ddmExpressionFactory) {
+
+		for (DDMFormRule ddmFormRule : ddmForm.getDDMFormRules()) {
+			for (String action : ddmFormRule.getActions()) {
+				if (Validator.isNull(action)) {
+					continue;
+				}
+
+				try {
+					DDMExpression<Boolean> ddmExpression =
+						ddmExpressionFactory.createBooleanDDMExpression(action);
+
+					indexBooleanPropertyAction(ddmExpression.getModel());
+				}
+				catch (DDMExpressionException ddmee) {
+					if (_log.isDebugEnabled()) {
+						_log.debug(ddmee);
+					}
+				}
+			}
+		}
+	}
+
+	protected void createDDMFormFieldsDependencies(
+		DDMForm ddmForm, DDMExpressionFactory ddmExpressionFactory) {
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		for (DDMFormField ddmFormField : ddmFormFieldsMap.values()) {
+			DDMFormFieldNamesExpressionVisitor
+				ddmFormFieldNamesExpressionVisitor =
+					new DDMFormFieldNamesExpressionVisitor(
+						ddmExpressionFactory);
+
+			String visibilityExpression =
+				ddmFormField.getVisibilityExpression();
+
+			if (Validator.isNotNull(visibilityExpression)) {
+				visitDDMExpression(
+					ddmExpressionFactory, ddmFormFieldNamesExpressionVisitor,
+					visibilityExpression);
+			}
+
+			DDMFormFieldValidation ddmFormFieldValidation =
+				ddmFormField.getDDMFormFieldValidation();
+
+			if ((ddmFormFieldValidation != null) &&
+				Validator.isNotNull(ddmFormFieldValidation.getExpression())) {
+
+				visitDDMExpression(
+					ddmExpressionFactory, ddmFormFieldNamesExpressionVisitor,
+					ddmFormFieldValidation.getExpression());
+			}
+
+			Set<String> readDDMFormFieldNames =
+				ddmFormFieldNamesExpressionVisitor.getReadDDMFormFieldNames();
+
+			if (!readDDMFormFieldNames.isEmpty()) {
+				_ddmFormFieldsDependencies.put(
+					ddmFormField.getName(), readDDMFormFieldNames);
+			}
+		}
+	}
+
+	protected void createDDMFormRules(
+		DDMForm ddmForm, DDMExpressionFactory ddmExpressionFactory) {
+
+		List<DDMFormRule> ddmFormRules = new ArrayList<>();
+
+		for (DDMFormRule ddmFormRule : ddmForm.getDDMFormRules()) {
+			if (!ddmFormRule.isEnabled()) {
+				continue;
+			}
+
+			DDMFormFieldNamesExpressionVisitor
+				ddmFormFieldNamesExpressionVisitor =
+					new DDMFormFieldNamesExpressionVisitor(
+						ddmExpressionFactory);
+
+			String condition = ddmFormRule.getCondition();
+
+			if (!visitDDMExpression(
+					ddmExpressionFactory, ddmFormFieldNamesExpressionVisitor,
+					condition)) {
+
+				continue;
+			}
+
+			List<String> actions = new ArrayList<>();
+
+			for (String action : ddmFormRule.getActions()) {
+				if (visitDDMExpression(
+						ddmExpressionFactory,
+						ddmFormFieldNamesExpressionVisitor, action)) {
+
+					actions.add(action);
+				}
+			}
+
+			if (!ddmFormFieldNamesExpressionVisitor.isResolved()) {
+				_incrementalEvaluationSupported = false;
+			}
+
+			ddmFormRules.add(
+				new DDMFormRule(
+					condition, Collections.unmodifiableList(actions)));
+
+			_ddmFormRulesDependencies.add(
+				new DDMFormRuleDependencies(
+					ddmFormFieldNamesExpressionVisitor));
+		}
+
+		_ddmFormRules = Collections.unmodifiableList(ddmFormRules);
+	}
+
+	protected void indexBooleanPropertyAction(Expression expression) {
+		if (!(expression instanceof FunctionCallExpression)) {
+			return;
+		}
+
+		FunctionCallExpression functionCallExpression =
+			(FunctionCallExpression)expression;
+
+		String functionName = functionCallExpression.getFunctionName();
+
+		if (!_booleanPropertyFunctionNames.contains(functionName) ||
+			(functionCallExpression.getArity() != 2)) {
+
+			return;
+		}
+
+		List<Expression> parameterExpressions =
+			functionCallExpression.getParameterExpressions();
+
+		Expression ddmFormFieldNameExpression = parameterExpressions.get(0);
+		Expression valueExpression = parameterExpressions.get(1);
+
+		if (!(ddmFormFieldNameExpression instanceof StringLiteral) ||
+			(valueExpression instanceof StringLiteral) ||
+			!(valueExpression instanceof Term)) {
+
+			return;
+		}
+
+		Term valueTerm = (Term)valueExpression;
+
+		if (!StringUtil.equalsIgnoreCase(valueTerm.getValue(), "true")) {
+			return;
+		}
+
+		Set<String> ddmFormFieldNames = _booleanPropertyActionsIndex.get(
+			functionName);
+
+		if (ddmFormFieldNames == null) {
+			ddmFormFieldNames = new HashSet<>();
+
+			_booleanPropertyActionsIndex.put(functionName, ddmFormFieldNames);
+		}
+
+		StringLiteral ddmFormFieldNameStringLiteral =
+			(StringLiteral)ddmFormFieldNameExpression;
+
+		ddmFormFieldNames.add(ddmFormFieldNameStringLiteral.getValue());
+	}
+
+	protected boolean visitDDMExpression(
+		DDMExpressionFactory ddmExpressionFactory,
+		DDMFormFieldNamesExpressionVisitor ddmFormFieldNamesExpressionVisitor,
+		String ddmExpressionString) {
+
+		try {
+			DDMExpression<Boolean> ddmExpression =
+				ddmExpressionFactory.createBooleanDDMExpression(
+					ddmExpressionString);
+
+			ddmFormFieldNamesExpressionVisitor.visit(ddmExpression);
+
+			return true;
+		}
+		catch (DDMExpressionException ddmee) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(ddmee);
+			}
+
+			return false;
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		DDMFormEvaluationPlan.class);
+
+	private static final Set<String> _booleanPropertyFunctionNames =
+		new HashSet<>(Arrays.asList("setEnabled", "setRequired", "setVisible"));
+
+	private final Map<String, Set<String>> _booleanPropertyActionsIndex =
+		new HashMap<>();
+	private final Map<String, Set<String>> _ddmFormFieldsDependencies =
+		new HashMap<>();
+	private List<DDMFormRule> _ddmFormRules;
+	private final List<DDMFormRuleDependencies> _ddmFormRulesDependencies =
+		new ArrayList<>();
+	private boolean _incrementalEvaluationSupported = true;
+
+	private static class DDMFormRuleDependencies {
+
+		public Set<String> getReadDDMFormFieldNames() {
+			return _readDDMFormFieldNames;
+		}
+
+		public Set<String> getTargetDDMFormFieldNames() {
+			return _targetDDMFormFieldNames;
+		}
+
+		public Set<String> getValueTargetDDMFormFieldNames() {
+			return _valueTargetDDMFormFieldNames;
+		}
+
+		public boolean hasJumpPage() {
+			return _jumpPage;
+		}
+
+		public boolean reads(Set<String> ddmFormFieldNames) {
+			return !Collections.disjoint(
+				_readDDMFormFieldNames, ddmFormFieldNames);
+		}
+
+		public boolean targets(Set<String> ddmFormFieldNames) {
+			return !Collections.disjoint(
+				_targetDDMFormFieldNames, ddmFormFieldNames);
+		}
+
+		public boolean targetsValue(Set<String> ddmFormFieldNames) {
+			return !Collections.disjoint(
+				_valueTargetDDMFormFieldNames, ddmFormFieldNames);
+		}
+
+		private DDMFormRuleDependencies(
+			DDMFormFieldNamesExpressionVisitor
+				ddmFormFieldNamesExpressionVisitor) {
+
+			_jumpPage = ddmFormFieldNamesExpressionVisitor.hasJumpPage();
+			_readDDMFormFieldNames =
+				ddmFormFieldNamesExpressionVisitor.getReadDDMFormFieldNames();
+			_targetDDMFormFieldNames =
+				ddmFormFieldNamesExpressionVisitor.
+					getTargetDDMFormFieldNames();
+			_valueTargetDDMFormFieldNames =
+				ddmFormFieldNamesExpressionVisitor.
+					getValueTargetDDMFormFieldNames();
+		}
+
+		private final boolean _jumpPage;
+		private final Set<String> _readDDMFormFieldNames;
+		private final Set<String> _targetDDMFormFieldNames;
+		private final Set<String> _valueTargetDDMFormFieldNames;
+
+	}
+
+}
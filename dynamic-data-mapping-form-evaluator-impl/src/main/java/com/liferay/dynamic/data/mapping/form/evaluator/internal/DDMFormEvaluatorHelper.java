@@ -65,7 +65,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
 
@@ -85,6 +84,26 @@ public class DDMFormEvaluatorHelper {
 		UserGroupRoleLocalService userGroupRoleLocalService,
 		UserLocalService userLocalService) {
 
+		this(
+			new DDMFormEvaluationPlan(
+				ddmFormEvaluatorContext.getDDMForm(), ddmExpressionFactory),
+			ddmDataProviderInvoker, ddmExpressionFactory,
+			ddmFormEvaluatorContext, ddmFormFieldTypeServicesTracker,
+			jsonFactory, roleLocalService, userGroupRoleLocalService,
+			userLocalService);
+	}
+
+	public DDMFormEvaluatorHelper(
+		DDMFormEvaluationPlan ddmFormEvaluationPlan,
+		DDMDataProviderInvoker ddmDataProviderInvoker,
+		DDMExpressionFactory ddmExpressionFactory,
+		DDMFormEvaluatorContext ddmFormEvaluatorContext,
+		DDMFormFieldTypeServicesTracker ddmFormFieldTypeServicesTracker,
+		JSONFactory jsonFactory, RoleLocalService roleLocalService,
+		UserGroupRoleLocalService userGroupRoleLocalService,
+		UserLocalService userLocalService) {
+
+		_ddmFormEvaluationPlan = ddmFormEvaluationPlan;
 		_ddmDataProviderInvoker = ddmDataProviderInvoker;
 		_ddmExpressionFactory = ddmExpressionFactory;
 		_ddmFormFieldTypeServicesTracker = ddmFormFieldTypeServicesTracker;
@@ -95,7 +114,26 @@ public class DDMFormEvaluatorHelper {
 
 		_ddmForm = ddmFormEvaluatorContext.getDDMForm();
 
-		_ddmFormFieldsMap = _ddmForm.getDDMFormFieldsMap(true);
+		_ddmFormFieldsMap = _ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Set<String> changedDDMFormFieldNames =
+			ddmFormEvaluatorContext.getChangedDDMFormFieldNames();
+
+		if ((changedDDMFormFieldNames != null) &&
+			ddmFormEvaluationPlan.isIncrementalEvaluationSupported()) {
+
+			_evaluatedDDMFormFieldNames =
+				ddmFormEvaluationPlan.getAffectedDDMFormFieldNames(
+					changedDDMFormFieldNames);
+
+			_ddmFormRules = ddmFormEvaluationPlan.getDDMFormRules(
+				_evaluatedDDMFormFieldNames);
+		}
+		else {
+			_evaluatedDDMFormFieldNames = null;
+
+			_ddmFormRules = ddmFormEvaluationPlan.getDDMFormRules();
+		}
 
 		_groupId = ddmFormEvaluatorContext.getProperty("groupId");
 		_locale = ddmFormEvaluatorContext.getLocale();
@@ -113,7 +151,7 @@ public class DDMFormEvaluatorHelper {
 	public DDMFormEvaluationResult evaluate()
 		throws DDMFormEvaluationException {
 
-		for (DDMFormRule ddmFormRule : _ddmForm.getDDMFormRules()) {
+		for (DDMFormRule ddmFormRule : _ddmFormRules) {
 			evaluateDDMFormRule(ddmFormRule);
 		}
 
@@ -170,11 +208,13 @@ public class DDMFormEvaluatorHelper {
 		setDDMFormFieldEvaluationResultRequired(
 			ddmFormFieldEvaluationResult, ddmFormField);
 
-		setDDMFormFieldEvaluationResultVisibility(
-			ddmFormFieldEvaluationResult, ddmFormField, ddmFormFieldValue);
+		if (isEvaluated(ddmFormField.getName())) {
+			setDDMFormFieldEvaluationResultVisibility(
+				ddmFormFieldEvaluationResult, ddmFormField, ddmFormFieldValue);
 
-		setDDMFormFieldEvaluationResultValidation(
-			ddmFormFieldEvaluationResult, ddmFormField, ddmFormFieldValue);
+			setDDMFormFieldEvaluationResultValidation(
+				ddmFormFieldEvaluationResult, ddmFormField, ddmFormFieldValue);
+		}
 
 		Object value = getValue(ddmFormField, ddmFormFieldValue);
 
@@ -185,10 +225,7 @@ public class DDMFormEvaluatorHelper {
 	}
 
 	protected void createDDMFormFieldRuleEvaluationResultsMap() {
-		Map<String, DDMFormField> ddmFormFieldMap =
-			_ddmForm.getDDMFormFieldsMap(true);
-
-		for (DDMFormField ddmFormField : ddmFormFieldMap.values()) {
+		for (DDMFormField ddmFormField : _ddmFormFieldsMap.values()) {
 			createDDMFormFieldRuleEvaluationResultsMap(ddmFormField);
 		}
 	}
@@ -275,8 +312,21 @@ public class DDMFormEvaluatorHelper {
 				ddmFormFieldEvaluationResultInstances :
 					_ddmFormFieldEvaluationResultsMap.values()) {
 
-			ddmFormFieldEvaluationResults.addAll(
-				ddmFormFieldEvaluationResultInstances);
+			if (_evaluatedDDMFormFieldNames == null) {
+				ddmFormFieldEvaluationResults.addAll(
+					ddmFormFieldEvaluationResultInstances);
+
+				continue;
+			}
+
+			for (DDMFormFieldEvaluationResult ddmFormFieldEvaluationResult :
+					ddmFormFieldEvaluationResultInstances) {
+
+				if (isEvaluated(ddmFormFieldEvaluationResult.getName())) {
+					ddmFormFieldEvaluationResults.add(
+						ddmFormFieldEvaluationResult);
+				}
+			}
 		}
 
 		return ddmFormFieldEvaluationResults;
@@ -339,15 +389,10 @@ public class DDMFormEvaluatorHelper {
 	protected boolean getDefaultBooleanPropertyState(
 		String functionName, String ddmFormFieldName, boolean defaultValue) {
 
-		String setFieldAction = String.format(
-			"%s('%s', true)", functionName, ddmFormFieldName);
+		if (_ddmFormEvaluationPlan.hasBooleanPropertyAction(
+				functionName, ddmFormFieldName)) {
 
-		for (DDMFormRule ddmFormRule : _ddmForm.getDDMFormRules()) {
-			for (String action : ddmFormRule.getActions()) {
-				if (Objects.equals(setFieldAction, action)) {
-					return false;
-				}
-			}
+			return false;
 		}
 
 		return defaultValue;
@@ -390,6 +435,16 @@ public class DDMFormEvaluatorHelper {
 		return ddmFormFieldValueAccessor.isEmpty(ddmFormFieldValue, _locale);
 	}
 
+	protected boolean isEvaluated(String ddmFormFieldName) {
+		if ((_evaluatedDDMFormFieldNames == null) ||
+			_evaluatedDDMFormFieldNames.contains(ddmFormFieldName)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	protected void populateDDMFormFieldValues(
 		DDMFormFieldValue ddmFormFieldValue) {
 
@@ -434,8 +489,7 @@ public class DDMFormEvaluatorHelper {
 		_ddmExpressionFunctionRegistry.registerDDMExpressionFunction(
 			"getValue",
 			new GetValueFunction(
-				_ddmForm.getDDMFormFieldsMap(true),
-				_ddmFormFieldEvaluationResultsMap,
+				_ddmFormFieldsMap, _ddmFormFieldEvaluationResultsMap,
 				_ddmFormFieldTypeServicesTracker));
 		_ddmExpressionFunctionRegistry.registerDDMExpressionFunction(
 			"jumpPage", new JumpPageFunction(_pageFlow));
@@ -662,6 +716,7 @@ public class DDMFormEvaluatorHelper {
 	private final DDMExpressionFunctionRegistry _ddmExpressionFunctionRegistry =
 		new DDMExpressionFunctionRegistry();
 	private final DDMForm _ddmForm;
+	private final DDMFormEvaluationPlan _ddmFormEvaluationPlan;
 	private final Map<String, List<DDMFormFieldEvaluationResult>>
 		_ddmFormFieldEvaluationResultsMap = new HashMap<>();
 	private final Map<String, DDMFormField> _ddmFormFieldsMap;
@@ -669,9 +724,11 @@ public class DDMFormEvaluatorHelper {
 		_ddmFormFieldTypeServicesTracker;
 	private final Map<String, List<DDMFormFieldValue>> _ddmFormFieldValuesMap =
 		new LinkedHashMap<>();
+	private final List<DDMFormRule> _ddmFormRules;
 	private final DDMFormFieldValueAccessor<String>
 		_defaultDDMFormFieldValueAccessor =
 			new DefaultDDMFormFieldValueAccessor();
+	private final Set<String> _evaluatedDDMFormFieldNames;
 	private final long _groupId;
 	private final JSONFactory _jsonFactory;
 	private final Locale _locale;
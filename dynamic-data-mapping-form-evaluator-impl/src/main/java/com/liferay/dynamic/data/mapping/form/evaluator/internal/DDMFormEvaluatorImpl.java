@@ -21,11 +21,14 @@ import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationResult;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluatorContext;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.portal.kernel.concurrent.ConcurrentLFUCache;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.json.JSONFactory;
 import com.liferay.portal.kernel.service.RoleLocalService;
 import com.liferay.portal.kernel.service.UserGroupRoleLocalService;
 import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.util.StringPool;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -42,11 +45,15 @@ public class DDMFormEvaluatorImpl implements DDMFormEvaluator {
 		throws DDMFormEvaluationException {
 
 		try {
+			DDMFormEvaluationPlan ddmFormEvaluationPlan =
+				getDDMFormEvaluationPlan(ddmFormEvaluatorContext);
+
 			DDMFormEvaluatorHelper ddmFormRuleEvaluatorHelper =
 				new DDMFormEvaluatorHelper(
-					_ddmDataProviderInvoker, _ddmExpressionFactory,
-					ddmFormEvaluatorContext, _ddmFormFieldTypeServicesTracker,
-					_jsonFactory, _roleLocalService, _userGroupRoleLocalService,
+					ddmFormEvaluationPlan, _ddmDataProviderInvoker,
+					_ddmExpressionFactory, ddmFormEvaluatorContext,
+					_ddmFormFieldTypeServicesTracker, _jsonFactory,
+					_roleLocalService, _userGroupRoleLocalService,
 					_userLocalService);
 
 			return ddmFormRuleEvaluatorHelper.evaluate();
@@ -56,15 +63,80 @@ public class DDMFormEvaluatorImpl implements DDMFormEvaluator {
 		}
 	}
 
+	/**
+	 * Plans of forms built from a structure are keyed by the structure id and
+	 * version, so a lookup does not depend on the size of the form. An
+	 * updated structure yields a different key, so plans of previous
+	 * versions are no longer hit and are eventually evicted. Other forms,
+	 * such as the ones sent by the client, are keyed by a copy of the form,
+	 * since forms are compared by content.
+	 */
+	protected DDMFormEvaluationPlan getDDMFormEvaluationPlan(
+		DDMFormEvaluatorContext ddmFormEvaluatorContext) {
+
+		DDMForm ddmForm = ddmFormEvaluatorContext.getDDMForm();
+
+		String ddmStructureVersion =
+			ddmFormEvaluatorContext.getDDMStructureVersion();
+
+		if ((ddmFormEvaluatorContext.getDDMStructureId() <= 0) ||
+			(ddmStructureVersion == null)) {
+
+			return getDDMFormEvaluationPlan(ddmForm);
+		}
+
+		String key =
+			ddmFormEvaluatorContext.getDDMStructureId() + StringPool.POUND +
+				ddmStructureVersion;
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan =
+			_ddmStructureEvaluationPlans.get(key);
+
+		if (ddmFormEvaluationPlan == null) {
+			ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+				new DDMForm(ddmForm), _ddmExpressionFactory);
+
+			_ddmStructureEvaluationPlans.put(key, ddmFormEvaluationPlan);
+		}
+
+		return ddmFormEvaluationPlan;
+	}
+
+	protected DDMFormEvaluationPlan getDDMFormEvaluationPlan(DDMForm ddmForm) {
+		DDMFormEvaluationPlan ddmFormEvaluationPlan =
+			_ddmFormEvaluationPlans.get(ddmForm);
+
+		if (ddmFormEvaluationPlan == null) {
+			DDMForm copyDDMForm = new DDMForm(ddmForm);
+
+			ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+				copyDDMForm, _ddmExpressionFactory);
+
+			_ddmFormEvaluationPlans.put(copyDDMForm, ddmFormEvaluationPlan);
+		}
+
+		return ddmFormEvaluationPlan;
+	}
+
+	private static final int _DDM_FORM_EVALUATION_PLANS_MAX_SIZE = 100;
+
 	@Reference
 	private DDMDataProviderInvoker _ddmDataProviderInvoker;
 
 	@Reference
 	private DDMExpressionFactory _ddmExpressionFactory;
 
+	private final ConcurrentLFUCache<DDMForm, DDMFormEvaluationPlan>
+		_ddmFormEvaluationPlans = new ConcurrentLFUCache<>(
+			_DDM_FORM_EVALUATION_PLANS_MAX_SIZE);
+
 	@Reference
 	private DDMFormFieldTypeServicesTracker _ddmFormFieldTypeServicesTracker;
 
+	private final ConcurrentLFUCache<String, DDMFormEvaluationPlan>
+		_ddmStructureEvaluationPlans = new ConcurrentLFUCache<>(
+			_DDM_FORM_EVALUATION_PLANS_MAX_SIZE);
+
 	@Reference
 	private JSONFactory _jsonFactory;
 
@@ -0,0 +1,312 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.evaluator.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpression;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionException;
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+import com.liferay.dynamic.data.mapping.expression.model.AndExpression;
+import com.liferay.dynamic.data.mapping.expression.model.ArithmeticExpression;
+import com.liferay.dynamic.data.mapping.expression.model.BinaryExpression;
+import com.liferay.dynamic.data.mapping.expression.model.ComparisonExpression;
+import com.liferay.dynamic.data.mapping.expression.model.Expression;
+import com.liferay.dynamic.data.mapping.expression.model.ExpressionVisitor;
+import com.liferay.dynamic.data.mapping.expression.model.FunctionCallExpression;
+import com.liferay.dynamic.data.mapping.expression.model.MinusExpression;
+import com.liferay.dynamic.data.mapping.expression.model.NotExpression;
+import com.liferay.dynamic.data.mapping.expression.model.OrExpression;
+import com.liferay.dynamic.data.mapping.expression.model.Parenthesis;
+import com.liferay.dynamic.data.mapping.expression.model.StringLiteral;
+import com.liferay.dynamic.data.mapping.expression.model.Term;
+import com.liferay.dynamic.data.mapping.expression.model.UnaryExpression;
+import com.liferay.petra.string.CharPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the names of the fields an expression reads and the names of the
+ * fields its custom functions modify, telling apart the fields whose value is
+ * modified. References that can only be resolved at
+ * evaluation time, such as a field name computed by another expression, mark
+ * the visitor as unresolved.
+ *
+ * @author agent
+ */
+public class DDMFormFieldNamesExpressionVisitor
+	extends ExpressionVisitor<Void> {
+
+	public DDMFormFieldNamesExpressionVisitor(
+		DDMExpressionFactory ddmExpressionFactory) {
+
+		_ddmExpressionFactory = ddmExpressionFactory;
+	}
+
+	public Set<String> getReadDDMFormFieldNames() {
+		return _readDDMFormFieldNames;
+	}
+
+	public Set<String> getTargetDDMFormFieldNames() {
+		return _targetDDMFormFieldNames;
+	}
+
+	public Set<String> getValueTargetDDMFormFieldNames() {
+		return _valueTargetDDMFormFieldNames;
+	}
+
+	public boolean hasJumpPage() {
+		return _jumpPage;
+	}
+
+	public boolean isResolved() {
+		return _resolved;
+	}
+
+	public void visit(DDMExpression<?> ddmExpression) {
+		Expression expression = ddmExpression.getModel();
+
+		expression.accept(this);
+	}
+
+	@Override
+	public Void visit(AndExpression andExpression) {
+		return visitBinaryExpression(andExpression);
+	}
+
+	@Override
+	public Void visit(ArithmeticExpression arithmeticExpression) {
+		return visitBinaryExpression(arithmeticExpression);
+	}
+
+	@Override
+	public Void visit(ComparisonExpression comparisonExpression) {
+		return visitBinaryExpression(comparisonExpression);
+	}
+
+	@Override
+	public Void visit(FunctionCallExpression functionCallExpression) {
+		String functionName = functionCallExpression.getFunctionName();
+
+		List<Expression> parameterExpressions =
+			functionCallExpression.getParameterExpressions();
+
+		if (functionName.equals("all")) {
+			visitAllFunction(parameterExpressions);
+		}
+		else if (functionName.equals("call")) {
+			visitCallFunction(parameterExpressions);
+		}
+		else if (functionName.equals("getValue")) {
+			visitFieldNameParameter(
+				parameterExpressions, _readDDMFormFieldNames);
+		}
+		else if (functionName.equals("jumpPage")) {
+			_jumpPage = true;
+
+			visitParameters(parameterExpressions, 0);
+		}
+		else if (_targetFunctionNames.contains(functionName)) {
+			String ddmFormFieldName = visitFieldNameParameter(
+				parameterExpressions, _targetDDMFormFieldNames);
+
+			if ((ddmFormFieldName != null) &&
+				_valueTargetFunctionNames.contains(functionName)) {
+
+				_valueTargetDDMFormFieldNames.add(ddmFormFieldName);
+			}
+
+			visitParameters(parameterExpressions, 1);
+		}
+		else {
+			visitParameters(parameterExpressions, 0);
+		}
+
+		return null;
+	}
+
+	@Override
+	public Void visit(MinusExpression minusExpression) {
+		return visitUnaryExpression(minusExpression);
+	}
+
+	@Override
+	public Void visit(NotExpression notExpression) {
+		return visitUnaryExpression(notExpression);
+	}
+
+	@Override
+	public Void visit(OrExpression orExpression) {
+		return visitBinaryExpression(orExpression);
+	}
+
+	@Override
+	public Void visit(Parenthesis parenthesis) {
+		return visitUnaryExpression(parenthesis);
+	}
+
+	@Override
+	public Void visit(Term term) {
+		_readDDMFormFieldNames.add(term.getValue());
+
+		return null;
+	}
+
+	protected String getStringLiteralValue(Expression expression) {
+		if (expression instanceof StringLiteral) {
+			StringLiteral stringLiteral = (StringLiteral)expression;
+
+			return stringLiteral.getValue();
+		}
+
+		_resolved = false;
+
+		return null;
+	}
+
+	protected void visitAllFunction(List<Expression> parameterExpressions) {
+		if (parameterExpressions.isEmpty()) {
+			return;
+		}
+
+		String expressionString = getStringLiteralValue(
+			parameterExpressions.get(0));
+
+		if (Validator.isNotNull(expressionString)) {
+			try {
+				visit(
+					_ddmExpressionFactory.createBooleanDDMExpression(
+						StringUtil.replace(expressionString, "#value#", "0")));
+			}
+			catch (DDMExpressionException ddmee) {
+				_resolved = false;
+			}
+		}
+
+		visitParameters(parameterExpressions, 1);
+	}
+
+	protected Void visitBinaryExpression(BinaryExpression binaryExpression) {
+		Expression leftOperandExpression =
+			binaryExpression.getLeftOperandExpression();
+
+		leftOperandExpression.accept(this);
+
+		Expression rightOperandExpression =
+			binaryExpression.getRightOperandExpression();
+
+		rightOperandExpression.accept(this);
+
+		return null;
+	}
+
+	protected void visitCallFunction(List<Expression> parameterExpressions) {
+		if (parameterExpressions.size() < 3) {
+			return;
+		}
+
+		String paramsExpression = getStringLiteralValue(
+			parameterExpressions.get(1));
+
+		visitKeyValuePairs(paramsExpression, 1, _readDDMFormFieldNames);
+
+		String resultMapExpression = getStringLiteralValue(
+			parameterExpressions.get(2));
+
+		visitKeyValuePairs(resultMapExpression, 0, _targetDDMFormFieldNames);
+		visitKeyValuePairs(
+			resultMapExpression, 0, _valueTargetDDMFormFieldNames);
+	}
+
+	protected String visitFieldNameParameter(
+		List<Expression> parameterExpressions, Set<String> ddmFormFieldNames) {
+
+		if (parameterExpressions.isEmpty()) {
+			return null;
+		}
+
+		String ddmFormFieldName = getStringLiteralValue(
+			parameterExpressions.get(0));
+
+		if (ddmFormFieldName != null) {
+			ddmFormFieldNames.add(ddmFormFieldName);
+		}
+
+		return ddmFormFieldName;
+	}
+
+	protected void visitKeyValuePairs(
+		String expression, int index, Set<String> ddmFormFieldNames) {
+
+		if (Validator.isNull(expression)) {
+			return;
+		}
+
+		for (String innerExpression :
+				StringUtil.split(expression, CharPool.SEMICOLON)) {
+
+			String[] tokens = StringUtil.split(innerExpression, CharPool.EQUAL);
+
+			if (tokens.length > index) {
+				ddmFormFieldNames.add(tokens[index]);
+			}
+		}
+	}
+
+	protected void visitParameters(
+		List<Expression> parameterExpressions, int fromIndex) {
+
+		for (int i = fromIndex; i < parameterExpressions.size(); i++) {
+			Expression parameterExpression = parameterExpressions.get(i);
+
+			parameterExpression.accept(this);
+		}
+	}
+
+	protected Void visitUnaryExpression(UnaryExpression unaryExpression) {
+		Expression operandExpression = unaryExpression.getOperandExpression();
+
+		operandExpression.accept(this);
+
+		return null;
+	}
+
+	private static final Set<String> _targetFunctionNames = new HashSet<>();
+	private static final Set<String> _valueTargetFunctionNames =
+		new HashSet<>();
+
+	static {
+		_targetFunctionNames.add("calculate");
+		_targetFunctionNames.add("setEnabled");
+		_targetFunctionNames.add("setInvalid");
+		_targetFunctionNames.add("setOptions");
+		_targetFunctionNames.add("setRequired");
+		_targetFunctionNames.add("setValue");
+		_targetFunctionNames.add("setVisible");
+
+		_valueTargetFunctionNames.add("calculate");
+		_valueTargetFunctionNames.add("setValue");
+	}
+
+	private final DDMExpressionFactory _ddmExpressionFactory;
+	private boolean _jumpPage;
+	private final Set<String> _readDDMFormFieldNames = new HashSet<>();
+	private boolean _resolved = true;
+	private final Set<String> _targetDDMFormFieldNames = new HashSet<>();
+	private final Set<String> _valueTargetDDMFormFieldNames = new HashSet<>();
+
+}
@@ -15,6 +15,7 @@
 package com.liferay.dynamic.data.mapping.form.evaluator.internal.functions;
 
 import com.liferay.dynamic.data.mapping.expression.DDMExpressionFunction;
+import com.liferay.portal.kernel.concurrent.ConcurrentLFUCache;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 
@@ -42,7 +43,7 @@ public class MatchFunction implements DDMExpressionFunction {
 		String regex = String.valueOf(parameters[1]);
 
 		try {
-			Pattern pattern = Pattern.compile(regex);
+			Pattern pattern = getPattern(regex);
 
 			Matcher matcher = pattern.matcher(value);
 
@@ -57,6 +58,23 @@ public class MatchFunction implements DDMExpressionFunction {
 		return false;
 	}
 
+	protected Pattern getPattern(String regex) {
+		Pattern pattern = _patterns.get(regex);
+
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+
+			_patterns.put(regex, pattern);
+		}
+
+		return pattern;
+	}
+
+	private static final int _PATTERNS_MAX_SIZE = 1000;
+
 	private static final Log _log = LogFactoryUtil.getLog(MatchFunction.class);
 
+	private final ConcurrentLFUCache<String, Pattern> _patterns =
+		new ConcurrentLFUCache<>(_PATTERNS_MAX_SIZE);
+
 }
\ No newline at end of file
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.evaluator.internal;
+
+import com.liferay.dynamic.data.mapping.expression.DDMExpressionFactory;
+import com.liferay.dynamic.data.mapping.expression.internal.DDMExpressionFactoryImpl;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DDMFormEvaluationPlanTest {
+
+	@Test
+	public void testAffectedDDMFormFieldNames() throws Exception {
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue('field0') > 1",
+				Arrays.asList("calculate('field1', 2)")));
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"field1 == 2", Arrays.asList("setRequired('field2', true)")));
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue('field3') > 1",
+				Arrays.asList("setEnabled('field4', false)")));
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		Assert.assertTrue(
+			ddmFormEvaluationPlan.isIncrementalEvaluationSupported());
+
+		Set<String> affectedDDMFormFieldNames =
+			ddmFormEvaluationPlan.getAffectedDDMFormFieldNames(
+				Collections.singleton("field0"));
+
+		Assert.assertEquals(
+			new HashSet<>(Arrays.asList("field0", "field1", "field2")),
+			affectedDDMFormFieldNames);
+
+		List<DDMFormRule> ddmFormRules = ddmFormEvaluationPlan.getDDMFormRules(
+			affectedDDMFormFieldNames);
+
+		Assert.assertEquals(ddmFormRules.toString(), 2, ddmFormRules.size());
+	}
+
+	@Test
+	public void testBooleanPropertyActions() throws Exception {
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"true",
+				Arrays.asList(
+					"setVisible( 'field0' ,true )",
+					"setEnabled('field1', false)")));
+
+		DDMFormRule ddmFormRule = new DDMFormRule(
+			"true", Arrays.asList("setRequired(\"field2\", TRUE)"));
+
+		ddmFormRule.setEnabled(false);
+
+		ddmForm.addDDMFormRule(ddmFormRule);
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		Assert.assertTrue(
+			ddmFormEvaluationPlan.hasBooleanPropertyAction(
+				"setVisible", "field0"));
+		Assert.assertFalse(
+			ddmFormEvaluationPlan.hasBooleanPropertyAction(
+				"setEnabled", "field0"));
+		Assert.assertFalse(
+			ddmFormEvaluationPlan.hasBooleanPropertyAction(
+				"setEnabled", "field1"));
+		Assert.assertTrue(
+			ddmFormEvaluationPlan.hasBooleanPropertyAction(
+				"setRequired", "field2"));
+	}
+
+	@Test
+	public void testDDMFormRulesModifyingAffectedDDMFormField()
+		throws Exception {
+
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue('field0') > 1",
+				Arrays.asList("setVisible('field1', false)")));
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue('field2') > 1",
+				Arrays.asList("setEnabled('field1', false)")));
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"true", Arrays.asList("calculate('field2', field3 + 1)")));
+		ddmForm.addDDMFormRule(
+			new DDMFormRule("true", Arrays.asList("jumpPage(0, 2)")));
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		List<DDMFormRule> ddmFormRules = ddmFormEvaluationPlan.getDDMFormRules(
+			ddmFormEvaluationPlan.getAffectedDDMFormFieldNames(
+				Collections.singleton("field0")));
+
+		Assert.assertEquals(ddmFormRules.toString(), 4, ddmFormRules.size());
+	}
+
+	@Test
+	public void testDisabledRuleShouldNotBeInPlan() throws Exception {
+		DDMForm ddmForm = new DDMForm();
+
+		DDMFormRule ddmFormRule = new DDMFormRule(
+			"true", Arrays.asList("setVisible('field0', false)"));
+
+		ddmFormRule.setEnabled(false);
+
+		ddmForm.addDDMFormRule(ddmFormRule);
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		List<DDMFormRule> ddmFormRules =
+			ddmFormEvaluationPlan.getDDMFormRules();
+
+		Assert.assertTrue(ddmFormRules.isEmpty());
+	}
+
+	@Test
+	public void testInvalidActionShouldNotBeInPlan() throws Exception {
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"true",
+				Arrays.asList(
+					"setVisible('field0', false)", "setVisible('field1',")));
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		List<DDMFormRule> ddmFormRules =
+			ddmFormEvaluationPlan.getDDMFormRules();
+
+		Assert.assertEquals(ddmFormRules.toString(), 1, ddmFormRules.size());
+
+		DDMFormRule ddmFormRule = ddmFormRules.get(0);
+
+		Assert.assertEquals(
+			Arrays.asList("setVisible('field0', false)"),
+			ddmFormRule.getActions());
+	}
+
+	@Test
+	public void testInvalidConditionShouldNotBeInPlan() throws Exception {
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"field0 >", Arrays.asList("setVisible('field0', false)")));
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		List<DDMFormRule> ddmFormRules =
+			ddmFormEvaluationPlan.getDDMFormRules();
+
+		Assert.assertTrue(ddmFormRules.isEmpty());
+	}
+
+	@Test
+	public void testUnresolvedDDMFormFieldName() throws Exception {
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"true",
+				Arrays.asList("setVisible(getValue('field0'), false)")));
+
+		DDMFormEvaluationPlan ddmFormEvaluationPlan = new DDMFormEvaluationPlan(
+			ddmForm, _ddmExpressionFactory);
+
+		Assert.assertFalse(
+			ddmFormEvaluationPlan.isIncrementalEvaluationSupported());
+	}
+
+	private final DDMExpressionFactory _ddmExpressionFactory =
+		new DDMExpressionFactoryImpl();
+
+}
@@ -51,6 +51,7 @@ import com.liferay.portal.kernel.util.ResourceBundleLoader;
 import com.liferay.portal.kernel.util.ResourceBundleLoaderUtil;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -800,6 +801,98 @@ public class DDMFormEvaluatorHelperTest {
 				"field2", "field2_instanceId"));
 	}
 
+	@Test
+	public void testShowHideRuleWithChangedDDMFormFieldNames()
+		throws Exception {
+
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormField(
+			createDDMFormField("field0", "text", FieldConstants.DOUBLE));
+
+		ddmForm.addDDMFormField(
+			createDDMFormField("field1", "text", FieldConstants.DOUBLE));
+
+		ddmForm.addDDMFormField(
+			createDDMFormField("field2", "text", FieldConstants.DOUBLE));
+
+		DDMFormValues ddmFormValues = new DDMFormValues(ddmForm);
+
+		ddmFormValues.addDDMFormFieldValue(
+			DDMFormValuesTestUtil.createDDMFormFieldValue(
+				"field0_instanceId", "field0", new UnlocalizedValue("30")));
+
+		ddmFormValues.addDDMFormFieldValue(
+			DDMFormValuesTestUtil.createDDMFormFieldValue(
+				"field1_instanceId", "field1", new UnlocalizedValue("15")));
+
+		ddmFormValues.addDDMFormFieldValue(
+			DDMFormValuesTestUtil.createDDMFormFieldValue(
+				"field2_instanceId", "field2", new UnlocalizedValue("10")));
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue(\"field0\") >= 30",
+				ListUtil.fromArray(
+					new String[] {"setVisible(\"field1\", false)"})));
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue(\"field1\") >= 10",
+				ListUtil.fromArray(
+					new String[] {"setEnabled(\"field2\", false)"})));
+
+		DDMFormEvaluatorContext ddmFormEvaluatorContext =
+			new DDMFormEvaluatorContext(ddmForm, ddmFormValues, LocaleUtil.US);
+
+		ddmFormEvaluatorContext.addProperty("groupId", 1L);
+		ddmFormEvaluatorContext.setChangedDDMFormFieldNames(
+			Collections.singleton("field0"));
+
+		DDMFormEvaluatorHelper ddmFormEvaluatorHelper =
+			new DDMFormEvaluatorHelper(
+				null, _ddmExpressionFactory, ddmFormEvaluatorContext,
+				Mockito.mock(DDMFormFieldTypeServicesTracker.class),
+				_jsonFactory, null, null, null);
+
+		DDMFormEvaluationResult ddmFormEvaluationResult =
+			ddmFormEvaluatorHelper.evaluate();
+
+		Map<String, DDMFormFieldEvaluationResult>
+			ddmFormFieldEvaluationResultMap =
+				ddmFormEvaluationResult.getDDMFormFieldEvaluationResultsMap();
+
+		Assert.assertEquals(
+			ddmFormFieldEvaluationResultMap.toString(), 2,
+			ddmFormFieldEvaluationResultMap.size());
+
+		// Field 0
+
+		DDMFormFieldEvaluationResult
+			expectedField0DDMFormFieldEvaluationResult =
+				createDDMFormFieldEvaluationResult(
+					"field0", "field0_instanceId", StringPool.BLANK, true, 30.,
+					true, false, false);
+
+		assertEquals(
+			expectedField0DDMFormFieldEvaluationResult,
+			ddmFormEvaluationResult.getDDMFormFieldEvaluationResult(
+				"field0", "field0_instanceId"));
+
+		// Field 1
+
+		DDMFormFieldEvaluationResult
+			expectedField1DDMFormFieldEvaluationResult =
+				createDDMFormFieldEvaluationResult(
+					"field1", "field1_instanceId", StringPool.BLANK, true, 15.,
+					false, false, false);
+
+		assertEquals(
+			expectedField1DDMFormFieldEvaluationResult,
+			ddmFormEvaluationResult.getDDMFormFieldEvaluationResult(
+				"field1", "field1_instanceId"));
+	}
+
 	@Test
 	public void testUpdateAndCalculateRule() throws Exception {
 		DDMForm ddmForm = new DDMForm();
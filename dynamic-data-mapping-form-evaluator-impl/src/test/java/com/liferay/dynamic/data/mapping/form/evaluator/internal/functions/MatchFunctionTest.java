@@ -43,6 +43,14 @@ public class MatchFunctionTest {
 		Assert.assertEquals(false, matchFunction.evaluate("invalid*", "\\w+"));
 	}
 
+	@Test
+	public void testEvaluateFalseWithInvalidRegex() throws Exception {
+		MatchFunction matchFunction = new MatchFunction();
+
+		Assert.assertEquals(false, matchFunction.evaluate("texto", "[0-9"));
+		Assert.assertEquals(false, matchFunction.evaluate("texto", "[0-9"));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testEvaluateInvalid() throws Exception {
 		MatchFunction matchFunction = new MatchFunction();
@@ -50,6 +58,17 @@ public class MatchFunctionTest {
 		matchFunction.evaluate("value");
 	}
 
+	@Test
+	public void testEvaluateReusesPattern() throws Exception {
+		MatchFunction matchFunction = new MatchFunction();
+
+		Assert.assertSame(
+			matchFunction.getPattern("[0-9]+"),
+			matchFunction.getPattern("[0-9]+"));
+		Assert.assertEquals(true, matchFunction.evaluate("123", "[0-9]+"));
+		Assert.assertEquals(false, matchFunction.evaluate("abc", "[0-9]+"));
+	}
+
 	@Test
 	public void testEvaluateTrue1() throws Exception {
 		MatchFunction matchFunction = new MatchFunction();
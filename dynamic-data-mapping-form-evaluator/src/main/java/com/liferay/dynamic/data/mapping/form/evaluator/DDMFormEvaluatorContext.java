@@ -20,6 +20,7 @@ import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Leonardo Barros
@@ -38,6 +39,10 @@ public class DDMFormEvaluatorContext {
 		_properties.put(key, value);
 	}
 
+	public Set<String> getChangedDDMFormFieldNames() {
+		return _changedDDMFormFieldNames;
+	}
+
 	public DDMForm getDDMForm() {
 		return _ddmForm;
 	}
@@ -46,6 +51,14 @@ public class DDMFormEvaluatorContext {
 		return _ddmFormValues;
 	}
 
+	public long getDDMStructureId() {
+		return _ddmStructureId;
+	}
+
+	public String getDDMStructureVersion() {
+		return _ddmStructureVersion;
+	}
+
 	public Locale getLocale() {
 		return _locale;
 	}
@@ -54,6 +67,16 @@ public class DDMFormEvaluatorContext {
 		return (T)_properties.get(key);
 	}
 
+	/**
+	 * Sets the names of the fields changed since the previous evaluation. When
+	 * set, the result only contains the fields affected by these changes.
+	 */
+	public void setChangedDDMFormFieldNames(
+		Set<String> changedDDMFormFieldNames) {
+
+		_changedDDMFormFieldNames = changedDDMFormFieldNames;
+	}
+
 	public void setDDMForm(DDMForm ddmForm) {
 		_ddmForm = ddmForm;
 	}
@@ -62,12 +85,29 @@ public class DDMFormEvaluatorContext {
 		_ddmFormValues = ddmFormValues;
 	}
 
+	/**
+	 * Sets the structure the form is built from. Evaluations of forms built
+	 * from the same structure version then share one evaluation plan instead
+	 * of comparing forms by content, so the rules and field expressions of
+	 * the form must be those of that version.
+	 */
+	public void setDDMStructureId(long ddmStructureId) {
+		_ddmStructureId = ddmStructureId;
+	}
+
+	public void setDDMStructureVersion(String ddmStructureVersion) {
+		_ddmStructureVersion = ddmStructureVersion;
+	}
+
 	public void setLocale(Locale locale) {
 		_locale = locale;
 	}
 
+	private Set<String> _changedDDMFormFieldNames;
 	private DDMForm _ddmForm;
 	private DDMFormValues _ddmFormValues;
+	private long _ddmStructureId;
+	private String _ddmStructureVersion;
 	private Locale _locale;
 	private final Map<String, Object> _properties = new HashMap<>();
 
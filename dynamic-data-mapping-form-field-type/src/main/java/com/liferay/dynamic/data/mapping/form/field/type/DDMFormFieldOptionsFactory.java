@@ -27,4 +27,16 @@ public interface DDMFormFieldOptionsFactory {
 		DDMFormField ddmFormField,
 		DDMFormFieldRenderingContext ddmFormFieldRenderingContext);
 
+	/**
+	 * Starts loading the options of the field in the background when they come
+	 * from a data provider, so that the options of several fields can be
+	 * loaded concurrently. The options are picked up by the next call to
+	 * {@link #create(DDMFormField, DDMFormFieldRenderingContext)} with the same
+	 * rendering context. By default, nothing is loaded in advance.
+	 */
+	public default void prefetch(
+		DDMFormField ddmFormField,
+		DDMFormFieldRenderingContext ddmFormFieldRenderingContext) {
+	}
+
 }
\ No newline at end of file
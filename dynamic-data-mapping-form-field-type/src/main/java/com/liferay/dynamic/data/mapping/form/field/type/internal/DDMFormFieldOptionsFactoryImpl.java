@@ -32,6 +32,8 @@ import com.liferay.portal.kernel.util.KeyValuePair;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -48,10 +50,7 @@ public class DDMFormFieldOptionsFactoryImpl
 		DDMFormField ddmFormField,
 		DDMFormFieldRenderingContext ddmFormFieldRenderingContext) {
 
-		String dataSourceType = GetterUtil.getString(
-			ddmFormField.getProperty("dataSourceType"), "manual");
-
-		if (Objects.equals(dataSourceType, "data-provider")) {
+		if (isDataProviderDataSourceType(ddmFormField)) {
 			return createDDMFormFieldOptionsFromDataProvider(
 				ddmFormField, ddmFormFieldRenderingContext);
 		}
@@ -61,6 +60,49 @@ public class DDMFormFieldOptionsFactoryImpl
 		}
 	}
 
+	@Override
+	public void prefetch(
+		DDMFormField ddmFormField,
+		DDMFormFieldRenderingContext ddmFormFieldRenderingContext) {
+
+		if (!isDataProviderDataSourceType(ddmFormField) ||
+			(ddmFormFieldRenderingContext.getProperty(
+				_DDM_DATA_PROVIDER_RESPONSE_FUTURE) != null)) {
+
+			return;
+		}
+
+		DDMDataProviderRequest ddmDataProviderRequest =
+			createDDMDataProviderRequest(
+				ddmFormField, ddmFormFieldRenderingContext);
+
+		Future<DDMDataProviderResponse> future =
+			ddmDataProviderInvoker.invokeAsync(ddmDataProviderRequest);
+
+		ddmFormFieldRenderingContext.setProperty(
+			_DDM_DATA_PROVIDER_RESPONSE_FUTURE, future);
+	}
+
+	protected DDMDataProviderRequest createDDMDataProviderRequest(
+		DDMFormField ddmFormField,
+		DDMFormFieldRenderingContext ddmFormFieldRenderingContext) {
+
+		String ddmDataProviderInstanceId = getJSONArrayFirstValue(
+			GetterUtil.getString(
+				ddmFormField.getProperty("ddmDataProviderInstanceId")));
+
+		DDMDataProviderRequest ddmDataProviderRequest =
+			new DDMDataProviderRequest(
+				ddmDataProviderInstanceId,
+				ddmFormFieldRenderingContext.getHttpServletRequest());
+
+		ddmDataProviderRequest.queryString(
+			"filterParameterValue",
+			String.valueOf(ddmFormFieldRenderingContext.getValue()));
+
+		return ddmDataProviderRequest;
+	}
+
 	protected DDMFormFieldOptions createDDMFormFieldOptions(
 		DDMFormField ddmFormField,
 		DDMFormFieldRenderingContext ddmFormFieldRenderingContext) {
@@ -94,21 +136,9 @@ public class DDMFormFieldOptionsFactoryImpl
 			ddmFormFieldRenderingContext.getLocale());
 
 		try {
-			String ddmDataProviderInstanceId = getJSONArrayFirstValue(
-				GetterUtil.getString(
-					ddmFormField.getProperty("ddmDataProviderInstanceId")));
-
-			DDMDataProviderRequest ddmDataProviderRequest =
-				new DDMDataProviderRequest(
-					ddmDataProviderInstanceId,
-					ddmFormFieldRenderingContext.getHttpServletRequest());
-
-			ddmDataProviderRequest.queryString(
-				"filterParameterValue",
-				String.valueOf(ddmFormFieldRenderingContext.getValue()));
-
 			DDMDataProviderResponse ddmDataProviderResponse =
-				ddmDataProviderInvoker.invoke(ddmDataProviderRequest);
+				getDDMDataProviderResponse(
+					ddmFormField, ddmFormFieldRenderingContext);
 
 			String ddmDataProviderInstanceOutput = getJSONArrayFirstValue(
 				GetterUtil.getString(
@@ -143,6 +173,28 @@ public class DDMFormFieldOptionsFactoryImpl
 		return ddmFormFieldOptions;
 	}
 
+	protected DDMDataProviderResponse getDDMDataProviderResponse(
+			DDMFormField ddmFormField,
+			DDMFormFieldRenderingContext ddmFormFieldRenderingContext)
+		throws Exception {
+
+		Map<String, Object> properties =
+			ddmFormFieldRenderingContext.getProperties();
+
+		Future<DDMDataProviderResponse> future =
+			(Future<DDMDataProviderResponse>)properties.remove(
+				_DDM_DATA_PROVIDER_RESPONSE_FUTURE);
+
+		if (future != null) {
+			return future.get(
+				_DDM_DATA_PROVIDER_RESPONSE_TIMEOUT, TimeUnit.SECONDS);
+		}
+
+		return ddmDataProviderInvoker.invoke(
+			createDDMDataProviderRequest(
+				ddmFormField, ddmFormFieldRenderingContext));
+	}
+
 	protected String getJSONArrayFirstValue(String value) {
 		try {
 			JSONArray jsonArray = jsonFactory.createJSONArray(value);
@@ -154,12 +206,25 @@ public class DDMFormFieldOptionsFactoryImpl
 		}
 	}
 
+	protected boolean isDataProviderDataSourceType(DDMFormField ddmFormField) {
+		String dataSourceType = GetterUtil.getString(
+			ddmFormField.getProperty("dataSourceType"), "manual");
+
+		return Objects.equals(dataSourceType, "data-provider");
+	}
+
 	@Reference
 	protected DDMDataProviderInvoker ddmDataProviderInvoker;
 
 	@Reference
 	protected JSONFactory jsonFactory;
 
+	private static final String _DDM_DATA_PROVIDER_RESPONSE_FUTURE =
+		DDMFormFieldOptionsFactoryImpl.class.getName() +
+			"#DDM_DATA_PROVIDER_RESPONSE_FUTURE";
+
+	private static final long _DDM_DATA_PROVIDER_RESPONSE_TIMEOUT = 30;
+
 	private static final Log _log = LogFactoryUtil.getLog(
 		DDMFormFieldOptionsFactoryImpl.class);
 
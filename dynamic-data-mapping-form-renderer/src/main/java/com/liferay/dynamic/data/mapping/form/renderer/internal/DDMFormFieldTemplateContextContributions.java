@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.renderer.internal;
+
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldOptionsFactory;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTemplateContextContributor;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.render.DDMFormFieldRenderingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defers the template context contributors of the fields of a form until the
+ * template contexts of all of them are built, so that the options of the
+ * fields backed by data providers are requested concurrently instead of one
+ * field after another.
+ *
+ * @author agent
+ */
+public class DDMFormFieldTemplateContextContributions {
+
+	public DDMFormFieldTemplateContextContributions(
+		DDMFormFieldOptionsFactory ddmFormFieldOptionsFactory) {
+
+		_ddmFormFieldOptionsFactory = ddmFormFieldOptionsFactory;
+	}
+
+	public void add(
+		DDMFormFieldTemplateContextContributor
+			ddmFormFieldTemplateContextContributor,
+		DDMFormField ddmFormField,
+		DDMFormFieldRenderingContext ddmFormFieldRenderingContext,
+		Map<String, Object> ddmFormFieldTemplateContext) {
+
+		_contributions.add(
+			new Contribution(
+				ddmFormFieldTemplateContextContributor, ddmFormField,
+				ddmFormFieldRenderingContext, ddmFormFieldTemplateContext));
+	}
+
+	public void contribute() {
+		if (_ddmFormFieldOptionsFactory != null) {
+			for (Contribution contribution : _contributions) {
+				_ddmFormFieldOptionsFactory.prefetch(
+					contribution._ddmFormField,
+					contribution._ddmFormFieldRenderingContext);
+			}
+		}
+
+		for (Contribution contribution : _contributions) {
+			contribution.contribute();
+		}
+
+		_contributions.clear();
+	}
+
+	private final List<Contribution> _contributions = new ArrayList<>();
+	private final DDMFormFieldOptionsFactory _ddmFormFieldOptionsFactory;
+
+	private static class Contribution {
+
+		private Contribution(
+			DDMFormFieldTemplateContextContributor
+				ddmFormFieldTemplateContextContributor,
+			DDMFormField ddmFormField,
+			DDMFormFieldRenderingContext ddmFormFieldRenderingContext,
+			Map<String, Object> ddmFormFieldTemplateContext) {
+
+			_ddmFormFieldTemplateContextContributor =
+				ddmFormFieldTemplateContextContributor;
+			_ddmFormField = ddmFormField;
+			_ddmFormFieldRenderingContext = ddmFormFieldRenderingContext;
+			_ddmFormFieldTemplateContext = ddmFormFieldTemplateContext;
+		}
+
+		public void contribute() {
+			Map<String, Object> contributedParameters =
+				_ddmFormFieldTemplateContextContributor.getParameters(
+					_ddmFormField, _ddmFormFieldRenderingContext);
+
+			if ((contributedParameters == null) ||
+				contributedParameters.isEmpty()) {
+
+				return;
+			}
+
+			_ddmFormFieldTemplateContext.putAll(contributedParameters);
+		}
+
+		private final DDMFormField _ddmFormField;
+		private final DDMFormFieldRenderingContext
+			_ddmFormFieldRenderingContext;
+		private final Map<String, Object> _ddmFormFieldTemplateContext;
+		private final DDMFormFieldTemplateContextContributor
+			_ddmFormFieldTemplateContextContributor;
+
+	}
+
+}
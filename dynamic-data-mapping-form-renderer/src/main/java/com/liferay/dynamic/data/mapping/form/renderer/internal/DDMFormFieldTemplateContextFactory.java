@@ -336,6 +336,14 @@ public class DDMFormFieldTemplateContextFactory {
 		ddmFormFieldRenderingContext.setProperty(
 			"groupId", _ddmFormRenderingContext.getGroupId());
 
+		if (_ddmFormFieldTemplateContextContributions != null) {
+			_ddmFormFieldTemplateContextContributions.add(
+				ddmFormFieldTemplateContextContributor, ddmFormField,
+				ddmFormFieldRenderingContext, ddmFormFieldTemplateContext);
+
+			return;
+		}
+
 		Map<String, Object> contributedParameters =
 			ddmFormFieldTemplateContextContributor.getParameters(
 				ddmFormField, ddmFormFieldRenderingContext);
@@ -624,6 +632,14 @@ public class DDMFormFieldTemplateContextFactory {
 			"visible", ddmFormFieldEvaluationResult.isVisible());
 	}
 
+	protected void setDDMFormFieldTemplateContextContributions(
+		DDMFormFieldTemplateContextContributions
+			ddmFormFieldTemplateContextContributions) {
+
+		_ddmFormFieldTemplateContextContributions =
+			ddmFormFieldTemplateContextContributions;
+	}
+
 	protected void setDDMFormFieldTypeServicesTracker(
 		DDMFormFieldTypeServicesTracker ddmFormFieldTypeServicesTracker) {
 
@@ -639,6 +655,8 @@ public class DDMFormFieldTemplateContextFactory {
 
 	private final DDMFormEvaluationResult _ddmFormEvaluationResult;
 	private final Map<String, DDMFormField> _ddmFormFieldsMap;
+	private DDMFormFieldTemplateContextContributions
+		_ddmFormFieldTemplateContextContributions;
 	private DDMFormFieldTypeServicesTracker _ddmFormFieldTypeServicesTracker;
 	private final List<DDMFormFieldValue> _ddmFormFieldValues;
 	private final DDMFormRenderingContext _ddmFormRenderingContext;
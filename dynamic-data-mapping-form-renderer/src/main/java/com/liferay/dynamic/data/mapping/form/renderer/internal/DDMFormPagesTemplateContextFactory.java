@@ -18,6 +18,8 @@ import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationExceptio
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationResult;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluatorContext;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormFieldEvaluationResult;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldOptionsFactory;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
 import com.liferay.dynamic.data.mapping.form.renderer.DDMFormRenderingContext;
 import com.liferay.dynamic.data.mapping.model.DDMForm;
@@ -38,6 +40,7 @@ import com.liferay.portal.kernel.util.LocaleUtil;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -70,28 +73,55 @@ public class DDMFormPagesTemplateContextFactory {
 		}
 		else {
 			removeStaleDDMFormFieldValues(
-				ddmForm.getDDMFormFieldsMap(true),
+				ddmForm.getReadOnlyDDMFormFieldsMap(true),
 				ddmFormValues.getDDMFormFieldValues());
 		}
 
 		_ddmFormValues = ddmFormValues;
 
-		_ddmFormFieldsMap = ddmForm.getDDMFormFieldsMap(true);
-		_ddmFormFieldValuesMap = ddmFormValues.getDDMFormFieldValuesMap();
+		_ddmFormFieldsMap = ddmForm.getReadOnlyDDMFormFieldsMap(true);
+		_ddmFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
 		_locale = ddmFormRenderingContext.getLocale();
 	}
 
 	public List<Object> create() {
 		_ddmFormEvaluationResult = _createDDMFormEvaluationResult();
 
-		return createPagesTemplateContext(
+		_ddmFormFieldTemplateContextContributions =
+			new DDMFormFieldTemplateContextContributions(
+				_ddmFormFieldOptionsFactory);
+
+		List<Object> pagesTemplateContext = createPagesTemplateContext(
 			_ddmFormLayout.getDDMFormLayoutPages());
+
+		_ddmFormFieldTemplateContextContributions.contribute();
+
+		return pagesTemplateContext;
+	}
+
+	/**
+	 * Sets the fields changed since the previous evaluation, whose result
+	 * is given by {@link #setPreviousDDMFormEvaluationResult}. The evaluator
+	 * then only evaluates the fields affected by the changes, and the other
+	 * fields keep their previous result.
+	 */
+	public void setChangedDDMFormFieldNames(
+		Set<String> changedDDMFormFieldNames) {
+
+		_changedDDMFormFieldNames = changedDDMFormFieldNames;
 	}
 
 	public void setDDMFormEvaluator(DDMFormEvaluator ddmFormEvaluator) {
 		_ddmFormEvaluator = ddmFormEvaluator;
 	}
 
+	public void setDDMFormFieldOptionsFactory(
+		DDMFormFieldOptionsFactory ddmFormFieldOptionsFactory) {
+
+		_ddmFormFieldOptionsFactory = ddmFormFieldOptionsFactory;
+	}
+
 	public void setDDMFormFieldTypeServicesTracker(
 		DDMFormFieldTypeServicesTracker ddmFormFieldTypeServicesTracker) {
 
@@ -102,6 +132,12 @@ public class DDMFormPagesTemplateContextFactory {
 		_jsonFactory = jsonFactory;
 	}
 
+	public void setPreviousDDMFormEvaluationResult(
+		DDMFormEvaluationResult previousDDMFormEvaluationResult) {
+
+		_previousDDMFormEvaluationResult = previousDDMFormEvaluationResult;
+	}
+
 	protected boolean containsRequiredField(List<String> ddmFormFieldNames) {
 		for (String ddmFormFieldName : ddmFormFieldNames) {
 			DDMFormField ddmFormField = _ddmFormFieldsMap.get(ddmFormFieldName);
@@ -161,6 +197,9 @@ public class DDMFormPagesTemplateContextFactory {
 				_ddmFormFieldValuesMap.get(ddmFormFieldName),
 				_ddmFormRenderingContext, _jsonFactory, _pageEnabled);
 
+		ddmFormFieldTemplateContextFactory.
+			setDDMFormFieldTemplateContextContributions(
+				_ddmFormFieldTemplateContextContributions);
 		ddmFormFieldTemplateContextFactory.setDDMFormFieldTypeServicesTracker(
 			_ddmFormFieldTypeServicesTracker);
 
@@ -292,6 +331,29 @@ public class DDMFormPagesTemplateContextFactory {
 		return false;
 	}
 
+	protected DDMFormEvaluationResult mergeDDMFormEvaluationResults(
+		DDMFormEvaluationResult previousDDMFormEvaluationResult,
+		DDMFormEvaluationResult ddmFormEvaluationResult) {
+
+		Map<String, DDMFormFieldEvaluationResult>
+			ddmFormFieldEvaluationResultsMap = new LinkedHashMap<>(
+				previousDDMFormEvaluationResult.
+					getDDMFormFieldEvaluationResultsMap());
+
+		ddmFormFieldEvaluationResultsMap.putAll(
+			ddmFormEvaluationResult.getDDMFormFieldEvaluationResultsMap());
+
+		DDMFormEvaluationResult mergedDDMFormEvaluationResult =
+			new DDMFormEvaluationResult();
+
+		mergedDDMFormEvaluationResult.setDDMFormFieldEvaluationResults(
+			new ArrayList<>(ddmFormFieldEvaluationResultsMap.values()));
+		mergedDDMFormEvaluationResult.setDisabledPagesIndexes(
+			ddmFormEvaluationResult.getDisabledPagesIndexes());
+
+		return mergedDDMFormEvaluationResult;
+	}
+
 	protected void removeStaleDDMFormFieldValues(
 		Map<String, DDMFormField> ddmFormFieldsMap,
 		List<DDMFormFieldValue> ddmFormFieldValues) {
@@ -321,7 +383,28 @@ public class DDMFormPagesTemplateContextFactory {
 			ddmFormEvaluatorContext.addProperty(
 				"request", _ddmFormRenderingContext.getHttpServletRequest());
 
-			return _ddmFormEvaluator.evaluate(ddmFormEvaluatorContext);
+			Long ddmStructureId = _ddmFormRenderingContext.getProperty(
+				"ddmStructureId");
+
+			if (ddmStructureId != null) {
+				ddmFormEvaluatorContext.setDDMStructureId(ddmStructureId);
+				ddmFormEvaluatorContext.setDDMStructureVersion(
+					_ddmFormRenderingContext.getProperty(
+						"ddmStructureVersion"));
+			}
+
+			if ((_changedDDMFormFieldNames == null) ||
+				(_previousDDMFormEvaluationResult == null)) {
+
+				return _ddmFormEvaluator.evaluate(ddmFormEvaluatorContext);
+			}
+
+			ddmFormEvaluatorContext.setChangedDDMFormFieldNames(
+				_changedDDMFormFieldNames);
+
+			return mergeDDMFormEvaluationResults(
+				_previousDDMFormEvaluationResult,
+				_ddmFormEvaluator.evaluate(ddmFormEvaluatorContext));
 		}
 		catch (DDMFormEvaluationException ddmfee) {
 			_log.error("Unable to evaluate the form", ddmfee);
@@ -334,10 +417,14 @@ public class DDMFormPagesTemplateContextFactory {
 	private static final Log _log = LogFactoryUtil.getLog(
 		DDMFormPagesTemplateContextFactory.class);
 
+	private Set<String> _changedDDMFormFieldNames;
 	private final DDMForm _ddmForm;
 	private DDMFormEvaluationResult _ddmFormEvaluationResult;
 	private DDMFormEvaluator _ddmFormEvaluator;
+	private DDMFormFieldOptionsFactory _ddmFormFieldOptionsFactory;
 	private final Map<String, DDMFormField> _ddmFormFieldsMap;
+	private DDMFormFieldTemplateContextContributions
+		_ddmFormFieldTemplateContextContributions;
 	private DDMFormFieldTypeServicesTracker _ddmFormFieldTypeServicesTracker;
 	private final Map<String, List<DDMFormFieldValue>> _ddmFormFieldValuesMap;
 	private final DDMFormLayout _ddmFormLayout;
@@ -346,5 +433,6 @@ public class DDMFormPagesTemplateContextFactory {
 	private JSONFactory _jsonFactory;
 	private final Locale _locale;
 	private boolean _pageEnabled;
+	private DDMFormEvaluationResult _previousDDMFormEvaluationResult;
 
 }
\ No newline at end of file
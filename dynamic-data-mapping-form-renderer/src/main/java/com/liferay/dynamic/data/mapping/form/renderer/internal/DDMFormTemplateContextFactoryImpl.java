@@ -16,6 +16,7 @@ package com.liferay.dynamic.data.mapping.form.renderer.internal;
 
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldType;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldOptionsFactory;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
 import com.liferay.dynamic.data.mapping.form.renderer.DDMFormRenderingContext;
 import com.liferay.dynamic.data.mapping.form.renderer.DDMFormTemplateContextFactory;
@@ -220,6 +221,8 @@ public class DDMFormTemplateContextFactoryImpl
 
 		ddmFormPagesTemplateContextFactory.setDDMFormEvaluator(
 			_ddmFormEvaluator);
+		ddmFormPagesTemplateContextFactory.setDDMFormFieldOptionsFactory(
+			_ddmFormFieldOptionsFactory);
 		ddmFormPagesTemplateContextFactory.setDDMFormFieldTypeServicesTracker(
 			_ddmFormFieldTypeServicesTracker);
 		ddmFormPagesTemplateContextFactory.setJSONFactory(_jsonFactory);
@@ -340,6 +343,9 @@ public class DDMFormTemplateContextFactoryImpl
 	@Reference
 	private DDMFormEvaluator _ddmFormEvaluator;
 
+	@Reference
+	private DDMFormFieldOptionsFactory _ddmFormFieldOptionsFactory;
+
 	@Reference
 	private DDMFormFieldTypeServicesTracker _ddmFormFieldTypeServicesTracker;
 
@@ -15,6 +15,7 @@
 package com.liferay.dynamic.data.mapping.form.renderer.internal.servlet;
 
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldOptionsFactory;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
 import com.liferay.dynamic.data.mapping.form.renderer.DDMFormRenderingContext;
 import com.liferay.dynamic.data.mapping.form.renderer.internal.DDMFormPagesTemplateContextFactory;
@@ -32,9 +33,11 @@ import com.liferay.portal.kernel.util.ContentTypes;
 import com.liferay.portal.kernel.util.LocaleThreadLocal;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.Validator;
 
 import java.io.IOException;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
@@ -99,11 +102,24 @@ public class DDMFormContextProviderServlet extends HttpServlet {
 
 			ddmFormPagesTemplateContextFactory.setDDMFormEvaluator(
 				_ddmFormEvaluator);
+			ddmFormPagesTemplateContextFactory.setDDMFormFieldOptionsFactory(
+				_ddmFormFieldOptionsFactory);
 			ddmFormPagesTemplateContextFactory.
 				setDDMFormFieldTypeServicesTracker(
 					_ddmFormFieldTypeServicesTracker);
 			ddmFormPagesTemplateContextFactory.setJSONFactory(_jsonFactory);
 
+			String trigger = ParamUtil.getString(request, "trigger");
+
+			if (Validator.isNotNull(trigger)) {
+				ddmFormPagesTemplateContextFactory.setChangedDDMFormFieldNames(
+					Collections.singleton(trigger));
+				ddmFormPagesTemplateContextFactory.
+					setPreviousDDMFormEvaluationResult(
+						ddmFormTemplateContextProcessor.
+							getDDMFormEvaluationResult());
+			}
+
 			return ddmFormPagesTemplateContextFactory.create();
 		}
 		catch (Exception e) {
@@ -186,6 +202,9 @@ public class DDMFormContextProviderServlet extends HttpServlet {
 	@Reference
 	private DDMFormEvaluator _ddmFormEvaluator;
 
+	@Reference
+	private DDMFormFieldOptionsFactory _ddmFormFieldOptionsFactory;
+
 	@Reference
 	private DDMFormFieldTypeServicesTracker _ddmFormFieldTypeServicesTracker;
 
@@ -14,6 +14,8 @@
 
 package com.liferay.dynamic.data.mapping.form.renderer.internal.servlet;
 
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationResult;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormFieldEvaluationResult;
 import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.model.DDMFormField;
 import com.liferay.dynamic.data.mapping.model.DDMFormFieldOptions;
@@ -65,6 +67,20 @@ public class DDMFormTemplateContextProcessor {
 		return _ddmForm;
 	}
 
+	/**
+	 * Returns the field states of the previous evaluation, as sent back by
+	 * the client in the form context.
+	 */
+	public DDMFormEvaluationResult getDDMFormEvaluationResult() {
+		DDMFormEvaluationResult ddmFormEvaluationResult =
+			new DDMFormEvaluationResult();
+
+		ddmFormEvaluationResult.setDDMFormFieldEvaluationResults(
+			_ddmFormFieldEvaluationResults);
+
+		return ddmFormEvaluationResult;
+	}
+
 	public DDMFormLayout getDDMFormLayout() {
 		return _ddmFormLayout;
 	}
@@ -92,6 +108,36 @@ public class DDMFormTemplateContextProcessor {
 		_ddmForm.addDDMFormField(ddmFormField);
 	}
 
+	protected void addDDMFormFieldEvaluationResult(JSONObject jsonObject) {
+		DDMFormFieldEvaluationResult ddmFormFieldEvaluationResult =
+			new DDMFormFieldEvaluationResult(
+				jsonObject.getString("fieldName"),
+				jsonObject.getString("instanceId"));
+
+		ddmFormFieldEvaluationResult.setErrorMessage(
+			jsonObject.getString("errorMessage"));
+		ddmFormFieldEvaluationResult.setReadOnly(
+			jsonObject.getBoolean("readOnly", false));
+		ddmFormFieldEvaluationResult.setRequired(
+			jsonObject.getBoolean("required", false));
+		ddmFormFieldEvaluationResult.setValid(
+			jsonObject.getBoolean("valid", true));
+		ddmFormFieldEvaluationResult.setVisible(
+			jsonObject.getBoolean("visible", true));
+
+		_ddmFormFieldEvaluationResults.add(ddmFormFieldEvaluationResult);
+
+		JSONArray jsonArray = jsonObject.getJSONArray("nestedFields");
+
+		if (jsonArray == null) {
+			return;
+		}
+
+		for (int i = 0; i < jsonArray.length(); i++) {
+			addDDMFormFieldEvaluationResult(jsonArray.getJSONObject(i));
+		}
+	}
+
 	protected void addDDMFormValuesDDMFormFieldValue(JSONObject jsonObject) {
 		DDMFormFieldValue ddmFormFieldValue = getDDMFormFieldValue(jsonObject);
 
@@ -388,6 +434,7 @@ public class DDMFormTemplateContextProcessor {
 			JSONObject jsonObject = jsonArray.getJSONObject(i);
 
 			addDDMFormDDMFormField(jsonObject);
+			addDDMFormFieldEvaluationResult(jsonObject);
 			addDDMFormValuesDDMFormFieldValue(jsonObject);
 
 			ddmFormFieldNames.add(jsonObject.getString("fieldName"));
@@ -425,6 +472,8 @@ public class DDMFormTemplateContextProcessor {
 	}
 
 	private final DDMForm _ddmForm;
+	private final List<DDMFormFieldEvaluationResult>
+		_ddmFormFieldEvaluationResults = new ArrayList<>();
 	private final DDMFormLayout _ddmFormLayout;
 	private final DDMFormValues _ddmFormValues;
 	private long _groupId;
@@ -17,6 +17,7 @@ package com.liferay.dynamic.data.mapping.form.renderer.internal;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationResult;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormFieldEvaluationResult;
 import com.liferay.dynamic.data.mapping.form.field.type.BaseDDMFormFieldRenderer;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldOptionsFactory;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldRenderer;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTemplateContextContributor;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
@@ -61,6 +62,73 @@ public class DDMFormFieldTemplateContextFactoryTest {
 		setUpLanguageUtil();
 	}
 
+	@Test
+	public void testDeferredContributedParameters() {
+		DDMForm ddmForm = DDMFormTestUtil.createDDMForm();
+
+		DDMFormField ddmFormField = DDMFormTestUtil.createTextDDMFormField(
+			"Field1", false, false, false);
+
+		ddmFormField.setProperty("displayStyle", "multiline");
+
+		ddmForm.addDDMFormField(ddmFormField);
+
+		String instanceId = StringUtil.randomString();
+
+		DDMFormFieldEvaluationResult ddmFormFieldEvaluationResult =
+			new DDMFormFieldEvaluationResult("Field1", instanceId);
+
+		DDMFormEvaluationResult ddmFormEvaluationResult =
+			getDDMFormEvaluationResult(ddmFormFieldEvaluationResult);
+
+		List<DDMFormFieldValue> ddmFormFieldValues = new ArrayList<>();
+
+		DDMFormFieldValue ddmFormFieldValue =
+			DDMFormValuesTestUtil.createUnlocalizedDDMFormFieldValue(
+				"Field1", "Value 1");
+
+		ddmFormFieldValue.setInstanceId(instanceId);
+
+		ddmFormFieldValues.add(ddmFormFieldValue);
+
+		DDMFormFieldTemplateContextFactory ddmFormFieldTemplateContextFactory =
+			createDDMFormFieldTemplateContextFactory(
+				ddmForm, ddmFormEvaluationResult, ddmFormFieldValues, false,
+				getTextDDMFormFieldRenderer(),
+				getTextDDMFormFieldTemplateContextContributor());
+
+		DDMFormFieldOptionsFactory ddmFormFieldOptionsFactory = Mockito.mock(
+			DDMFormFieldOptionsFactory.class);
+
+		DDMFormFieldTemplateContextContributions
+			ddmFormFieldTemplateContextContributions =
+				new DDMFormFieldTemplateContextContributions(
+					ddmFormFieldOptionsFactory);
+
+		ddmFormFieldTemplateContextFactory.
+			setDDMFormFieldTemplateContextContributions(
+				ddmFormFieldTemplateContextContributions);
+
+		List<Object> fields = ddmFormFieldTemplateContextFactory.create();
+
+		Map<String, Object> fieldTemplateContext =
+			(Map<String, Object>)fields.get(0);
+
+		Assert.assertFalse(fieldTemplateContext.containsKey("displayStyle"));
+
+		ddmFormFieldTemplateContextContributions.contribute();
+
+		Mockito.verify(
+			ddmFormFieldOptionsFactory
+		).prefetch(
+			Matchers.eq(ddmFormField),
+			Matchers.any(DDMFormFieldRenderingContext.class)
+		);
+
+		Assert.assertEquals(
+			"multiline", fieldTemplateContext.get("displayStyle"));
+	}
+
 	@Test
 	public void testFieldValueChangedPropertyIsFalse() {
 		DDMForm ddmForm = DDMFormTestUtil.createDDMForm();
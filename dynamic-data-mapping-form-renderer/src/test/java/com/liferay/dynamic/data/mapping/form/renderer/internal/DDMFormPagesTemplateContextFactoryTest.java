@@ -15,7 +15,9 @@
 package com.liferay.dynamic.data.mapping.form.renderer.internal;
 
 import com.liferay.dynamic.data.mapping.expression.internal.DDMExpressionFactoryImpl;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluationResult;
 import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormEvaluator;
+import com.liferay.dynamic.data.mapping.form.evaluator.DDMFormFieldEvaluationResult;
 import com.liferay.dynamic.data.mapping.form.evaluator.internal.DDMFormEvaluatorImpl;
 import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
 import com.liferay.dynamic.data.mapping.form.renderer.DDMFormRenderingContext;
@@ -26,6 +28,7 @@ import com.liferay.dynamic.data.mapping.model.DDMFormLayoutPage;
 import com.liferay.dynamic.data.mapping.model.DDMFormLayoutRow;
 import com.liferay.dynamic.data.mapping.model.DDMFormRule;
 import com.liferay.dynamic.data.mapping.model.LocalizedValue;
+import com.liferay.dynamic.data.mapping.model.UnlocalizedValue;
 import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.test.util.DDMFormTestUtil;
 import com.liferay.dynamic.data.mapping.test.util.DDMFormValuesTestUtil;
@@ -39,6 +42,7 @@ import com.liferay.portal.kernel.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -73,6 +77,96 @@ public class DDMFormPagesTemplateContextFactoryTest extends PowerMockito {
 		setUpResourceBundleLoaderUtil();
 	}
 
+	@Test
+	public void testChangedFieldsKeepPreviousResultOfOtherFields()
+		throws Exception {
+
+		// Dynamic data mapping form
+
+		DDMForm ddmForm = DDMFormTestUtil.createDDMForm(
+			"Field1", "Field2", "Field3");
+
+		ddmForm.addDDMFormRule(
+			new DDMFormRule(
+				"getValue(\"Field1\") == \"A\"",
+				Arrays.asList("setVisible(\"Field2\", false)")));
+
+		// Dynamic data mapping form layout
+
+		DDMFormLayout ddmFormLayout = new DDMFormLayout();
+
+		DDMFormLayoutPage ddmFormLayoutPage = createDDMFormLayoutPage(
+			"Page 1", "Page 1 Description");
+
+		DDMFormLayoutRow ddmFormLayoutRow = new DDMFormLayoutRow();
+
+		ddmFormLayoutRow.setDDMFormLayoutColumns(
+			createDDMFormLayoutColumns("Field1", "Field2", "Field3"));
+
+		ddmFormLayoutPage.addDDMFormLayoutRow(ddmFormLayoutRow);
+
+		ddmFormLayout.addDDMFormLayoutPage(ddmFormLayoutPage);
+
+		// Dynamic data mapping form values
+
+		DDMFormValues ddmFormValues = DDMFormValuesTestUtil.createDDMFormValues(
+			ddmForm);
+
+		ddmFormValues.addDDMFormFieldValue(
+			DDMFormValuesTestUtil.createDDMFormFieldValue(
+				"Field1_instanceId", "Field1", new UnlocalizedValue("A")));
+		ddmFormValues.addDDMFormFieldValue(
+			DDMFormValuesTestUtil.createDDMFormFieldValue(
+				"Field2_instanceId", "Field2", new UnlocalizedValue("")));
+		ddmFormValues.addDDMFormFieldValue(
+			DDMFormValuesTestUtil.createDDMFormFieldValue(
+				"Field3_instanceId", "Field3", new UnlocalizedValue("")));
+
+		// Previous evaluation result
+
+		DDMFormEvaluationResult previousDDMFormEvaluationResult =
+			new DDMFormEvaluationResult();
+
+		previousDDMFormEvaluationResult.setDDMFormFieldEvaluationResults(
+			Arrays.asList(
+				createDDMFormFieldEvaluationResult("Field1", true),
+				createDDMFormFieldEvaluationResult("Field2", true),
+				createDDMFormFieldEvaluationResult("Field3", false)));
+
+		// Template context
+
+		DDMFormPagesTemplateContextFactory ddmFormPagesTemplateContextFactory =
+			createDDMFormPagesTemplateContextFactory(
+				ddmForm, ddmFormLayout, ddmFormValues, false, false);
+
+		ddmFormPagesTemplateContextFactory.setChangedDDMFormFieldNames(
+			Collections.singleton("Field1"));
+		ddmFormPagesTemplateContextFactory.setPreviousDDMFormEvaluationResult(
+			previousDDMFormEvaluationResult);
+
+		List<Object> pagesTemplateContext =
+			ddmFormPagesTemplateContextFactory.create();
+
+		Map<String, Object> pageTemplateContext =
+			(Map<String, Object>)pagesTemplateContext.get(0);
+
+		List<Object> rowsTemplateContext =
+			(List<Object>)pageTemplateContext.get("rows");
+
+		Map<String, Object> rowTemplateContext =
+			(Map<String, Object>)rowsTemplateContext.get(0);
+
+		List<Object> columnsTemplateContext =
+			(List<Object>)rowTemplateContext.get("columns");
+
+		Assert.assertTrue(
+			isFieldVisible((Map<String, Object>)columnsTemplateContext.get(0)));
+		Assert.assertFalse(
+			isFieldVisible((Map<String, Object>)columnsTemplateContext.get(1)));
+		Assert.assertFalse(
+			isFieldVisible((Map<String, Object>)columnsTemplateContext.get(2)));
+	}
+
 	@Test
 	public void testDisablePages() throws Exception {
 
@@ -419,6 +513,19 @@ public class DDMFormPagesTemplateContextFactoryTest extends PowerMockito {
 			expectedSize, MapUtil.getInteger(columnTemplateContex, "size"));
 	}
 
+	protected DDMFormFieldEvaluationResult createDDMFormFieldEvaluationResult(
+		String fieldName, boolean visible) {
+
+		DDMFormFieldEvaluationResult ddmFormFieldEvaluationResult =
+			new DDMFormFieldEvaluationResult(
+				fieldName, fieldName + "_instanceId");
+
+		ddmFormFieldEvaluationResult.setValid(true);
+		ddmFormFieldEvaluationResult.setVisible(visible);
+
+		return ddmFormFieldEvaluationResult;
+	}
+
 	protected DDMFormLayoutColumn createDDMFormLayoutColumn(
 		String ddmFormFieldName, int size) {
 
@@ -509,6 +616,18 @@ public class DDMFormPagesTemplateContextFactoryTest extends PowerMockito {
 		return ddmFormEvaluator;
 	}
 
+	protected boolean isFieldVisible(
+		Map<String, Object> columnTemplateContext) {
+
+		List<Object> fieldsTemplateContext =
+			(List<Object>)columnTemplateContext.get("fields");
+
+		Map<String, Object> fieldTemplateContext =
+			(Map<String, Object>)fieldsTemplateContext.get(0);
+
+		return MapUtil.getBoolean(fieldTemplateContext, "visible");
+	}
+
 	protected void setUpLanguageUtil() {
 		Language language = mock(Language.class);
 
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.web.internal.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+/**
+ * @author agent
+ */
+@ExtendedObjectClassDefinition(category = "forms-and-workflow")
+@Meta.OCD(
+	id = "com.liferay.dynamic.data.mapping.form.web.internal.configuration.DDMFormEmailNotificationConfiguration",
+	localization = "content/Language",
+	name = "ddm-form-email-notification-configuration-name"
+)
+public interface DDMFormEmailNotificationConfiguration {
+
+	/**
+	 * Returns the number of notifications that can wait to be sent. When it
+	 * is reached, notifications are sent by the thread that adds the record.
+	 *
+	 * @return the number of notifications that can wait to be sent
+	 */
+	@Meta.AD(
+		deflt = "1000", description = "maximum-queue-size-description",
+		name = "maximum-queue-size", required = false
+	)
+	public int maximumQueueSize();
+
+	@Meta.AD(
+		deflt = "3", description = "maximum-retries-description",
+		name = "maximum-retries", required = false
+	)
+	public int maximumRetries();
+
+	/**
+	 * Returns the time, in milliseconds, to wait before the first retry of a
+	 * notification that failed. The time is doubled for each later retry.
+	 *
+	 * @return the time, in milliseconds, to wait before the first retry
+	 */
+	@Meta.AD(
+		deflt = "1000", description = "retry-delay-description",
+		name = "retry-delay", required = false
+	)
+	public long retryDelay();
+
+	@Meta.AD(
+		deflt = "1",
+		description = "email-notification-workers-count-description",
+		name = "workers-count", required = false
+	)
+	public int workersCount();
+
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.web.internal.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+/**
+ * @author agent
+ */
+@ExtendedObjectClassDefinition(category = "forms-and-workflow")
+@Meta.OCD(
+	id = "com.liferay.dynamic.data.mapping.form.web.internal.configuration.DDMFormInstanceRecordSubmissionQueueConfiguration",
+	localization = "content/Language",
+	name = "ddm-form-instance-record-submission-queue-configuration-name"
+)
+public interface DDMFormInstanceRecordSubmissionQueueConfiguration {
+
+	@Meta.AD(
+		deflt = "100", description = "batch-size-description",
+		name = "batch-size", required = false
+	)
+	public int batchSize();
+
+	/**
+	 * Returns the time after which an entry claimed by a node that did not
+	 * process it, for example because the node stopped, is claimed again.
+	 *
+	 * @return the claim timeout in milliseconds
+	 */
+	@Meta.AD(
+		deflt = "600000", description = "claim-timeout-description",
+		name = "claim-timeout", required = false
+	)
+	public long claimTimeout();
+
+	@Meta.AD(
+		deflt = "1000", description = "drain-interval-description",
+		name = "drain-interval", required = false
+	)
+	public long drainInterval();
+
+	/**
+	 * Returns the number of pending entries above which new entries are
+	 * processed on the request thread instead of being queued.
+	 *
+	 * @return the maximum number of pending entries
+	 */
+	@Meta.AD(
+		deflt = "10000", description = "maximum-queue-depth-description",
+		name = "maximum-queue-depth", required = false
+	)
+	public int maximumQueueDepth();
+
+	@Meta.AD(
+		deflt = "2", description = "workers-count-description",
+		name = "workers-count", required = false
+	)
+	public int workersCount();
+
+}
\ No newline at end of file
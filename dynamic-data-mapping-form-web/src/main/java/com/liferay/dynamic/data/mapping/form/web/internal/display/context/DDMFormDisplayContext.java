@@ -130,6 +130,10 @@ public class DDMFormDisplayContext {
 		DDMFormRenderingContext ddmFormRenderingContext =
 			createDDMFormRenderingContext(ddmForm);
 
+		ddmFormRenderingContext.addProperty(
+			"ddmStructureId", ddmStructure.getStructureId());
+		ddmFormRenderingContext.addProperty(
+			"ddmStructureVersion", ddmStructure.getVersion());
 		ddmFormRenderingContext.setGroupId(ddmFormInstance.getGroupId());
 
 		DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion =
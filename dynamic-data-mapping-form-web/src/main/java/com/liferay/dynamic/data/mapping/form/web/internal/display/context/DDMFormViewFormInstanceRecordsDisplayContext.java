@@ -53,6 +53,7 @@ import com.liferay.portal.kernel.workflow.WorkflowConstants;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.portlet.PortletURL;
 import javax.portlet.RenderRequest;
@@ -142,6 +143,18 @@ public class DDMFormViewFormInstanceRecordsDisplayContext {
 		DDMFormInstanceRecordVersion formInstanceRecordVersion =
 			formInstanceRecord.getFormInstanceRecordVersion();
 
+		if (_ddmFormValuesMap == null) {
+			_ddmFormValuesMap = getDDMFormValuesMap(
+				_ddmFormInstanceRecordSearchContainer.getResults());
+		}
+
+		DDMFormValues ddmFormValues = _ddmFormValuesMap.get(
+			formInstanceRecordVersion.getStorageId());
+
+		if (ddmFormValues != null) {
+			return ddmFormValues;
+		}
+
 		return _storageEngine.getDDMFormValues(
 			formInstanceRecordVersion.getStorageId());
 	}
@@ -205,7 +218,7 @@ public class DDMFormViewFormInstanceRecordsDisplayContext {
 		List<String> headerNames = new ArrayList<>();
 
 		List<DDMFormField> formfields = getNontransientFormFields(
-			structure.getDDMForm());
+			structure.getReadOnlyDDMForm());
 
 		int totalColumns = _MAX_COLUMNS;
 
@@ -241,6 +254,25 @@ public class DDMFormViewFormInstanceRecordsDisplayContext {
 		updateSearchContainerResults();
 	}
 
+	protected Map<Long, DDMFormValues> getDDMFormValuesMap(
+			List<DDMFormInstanceRecord> formInstanceRecords)
+		throws PortalException {
+
+		long[] storageIds = new long[formInstanceRecords.size()];
+
+		for (int i = 0; i < storageIds.length; i++) {
+			DDMFormInstanceRecord formInstanceRecord = formInstanceRecords.get(
+				i);
+
+			DDMFormInstanceRecordVersion formInstanceRecordVersion =
+				formInstanceRecord.getFormInstanceRecordVersion();
+
+			storageIds[i] = formInstanceRecordVersion.getStorageId();
+		}
+
+		return _storageEngine.getDDMFormValues(storageIds);
+	}
+
 	protected List<DDMFormField> getNontransientFormFields(DDMForm form) {
 		List<DDMFormField> formfields = new ArrayList<>();
 
@@ -308,6 +340,7 @@ public class DDMFormViewFormInstanceRecordsDisplayContext {
 	private final DDMFormInstanceRecordLocalService
 		_ddmFormInstanceRecordLocalService;
 	private FormInstanceRecordSearch _ddmFormInstanceRecordSearchContainer;
+	private Map<Long, DDMFormValues> _ddmFormValuesMap;
 	private final RenderRequest _renderRequest;
 	private final RenderResponse _renderResponse;
 	private final StorageEngine _storageEngine;
@@ -0,0 +1,312 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.web.internal.notification;
+
+import com.liferay.dynamic.data.mapping.form.web.internal.configuration.DDMFormEmailNotificationConfiguration;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Sends the email notifications of form instance records in the background,
+ * so rendering and handing off the email does not delay the request that
+ * added the record. Only the record ID is queued, and the record is fetched
+ * when the notification is sent. Notifications that fail are sent again after
+ * a delay that doubles on each retry.
+ *
+ * @author agent
+ */
+@Component(
+	configurationPid = "com.liferay.dynamic.data.mapping.form.web.internal.configuration.DDMFormEmailNotificationConfiguration",
+	immediate = true, service = DDMFormEmailNotificationDispatcher.class
+)
+public class DDMFormEmailNotificationDispatcher {
+
+	public void dispatch(long formInstanceRecordId) {
+		_dispatchedCount.increment();
+
+		execute(formInstanceRecordId, 0);
+	}
+
+	public long getDispatchedCount() {
+		return _dispatchedCount.sum();
+	}
+
+	public long getFailedCount() {
+		return _failedCount.sum();
+	}
+
+	public int getQueueSize() {
+		ThreadPoolExecutor threadPoolExecutor = _threadPoolExecutor;
+
+		if (threadPoolExecutor == null) {
+			return 0;
+		}
+
+		return threadPoolExecutor.getQueue().size();
+	}
+
+	public long getRetriedCount() {
+		return _retriedCount.sum();
+	}
+
+	public long getSentCount() {
+		return _sentCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"{dispatchedCount=%d, failedCount=%d, queueSize=%d, " +
+				"retriedCount=%d, sentCount=%d}",
+			getDispatchedCount(), getFailedCount(), getQueueSize(),
+			getRetriedCount(), getSentCount());
+	}
+
+	@Activate
+	protected void activate(Map<String, Object> properties) {
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			new NamedThreadFactory(
+				DDMFormEmailNotificationDispatcher.class.getName() + "-retry",
+				Thread.NORM_PRIORITY,
+				DDMFormEmailNotificationDispatcher.class.getClassLoader()));
+
+		modified(properties);
+	}
+
+	/**
+	 * Discards the retries that are still waiting for their delay. They are
+	 * counted as failed and logged, since their notifications are not sent.
+	 */
+	@Deactivate
+	protected void deactivate() {
+		if (_scheduledExecutorService != null) {
+			List<Runnable> runnables =
+				_scheduledExecutorService.shutdownNow();
+
+			if (!runnables.isEmpty()) {
+				_failedCount.add(runnables.size());
+
+				_log.error(
+					"Discarded " + runnables.size() +
+						" form email retries that were still pending");
+			}
+
+			_scheduledExecutorService = null;
+		}
+
+		if (_threadPoolExecutor != null) {
+			_threadPoolExecutor.shutdown();
+
+			_threadPoolExecutor = null;
+		}
+	}
+
+	protected void execute(long formInstanceRecordId, int attempt) {
+		ThreadPoolExecutor threadPoolExecutor = _threadPoolExecutor;
+
+		if (threadPoolExecutor == null) {
+			send(formInstanceRecordId, attempt);
+
+			return;
+		}
+
+		threadPoolExecutor.execute(() -> send(formInstanceRecordId, attempt));
+	}
+
+	/**
+	 * Replaces the workers with ones that match the new configuration. The
+	 * previous workers finish the notifications they already have, and the
+	 * pending retries are kept, so no notification is lost.
+	 */
+	@Modified
+	protected void modified(Map<String, Object> properties) {
+		_configuration = ConfigurableUtil.createConfigurable(
+			DDMFormEmailNotificationConfiguration.class, properties);
+
+		int workersCount = Math.max(1, _configuration.workersCount());
+
+		ThreadPoolExecutor threadPoolExecutor = _threadPoolExecutor;
+
+		// Unlike CallerRunsPolicy, the rejection handler also sends the
+		// notifications that reach the previous workers after they are shut
+		// down
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			workersCount, workersCount, 0, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(
+				Math.max(1, _configuration.maximumQueueSize())),
+			new NamedThreadFactory(
+				DDMFormEmailNotificationDispatcher.class.getName(),
+				Thread.NORM_PRIORITY,
+				DDMFormEmailNotificationDispatcher.class.getClassLoader()),
+			(runnable, curThreadPoolExecutor) -> runnable.run());
+
+		if (threadPoolExecutor != null) {
+			threadPoolExecutor.shutdown();
+		}
+	}
+
+	protected void retry(long formInstanceRecordId, int attempt) {
+		ScheduledExecutorService scheduledExecutorService =
+			_scheduledExecutorService;
+
+		if (scheduledExecutorService == null) {
+			_failedCount.increment();
+
+			return;
+		}
+
+		long delay = _configuration.retryDelay() << (attempt - 1);
+
+		try {
+			scheduledExecutorService.schedule(
+				() -> execute(formInstanceRecordId, attempt), delay,
+				TimeUnit.MILLISECONDS);
+
+			_retriedCount.increment();
+		}
+		catch (RejectedExecutionException ree) {
+			_failedCount.increment();
+
+			_log.error(
+				"Unable to retry form email for form instance record " +
+					formInstanceRecordId,
+				ree);
+		}
+	}
+
+	/**
+	 * Sends the notification with the company and the permissions of the user
+	 * who added the record, as it would be sent on the request thread.
+	 */
+	protected void send(long formInstanceRecordId, int attempt) {
+		Long companyId = CompanyThreadLocal.getCompanyId();
+		String name = PrincipalThreadLocal.getName();
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		try {
+			DDMFormInstanceRecord ddmFormInstanceRecord =
+				_ddmFormInstanceRecordLocalService.fetchFormInstanceRecord(
+					formInstanceRecordId);
+
+			if (ddmFormInstanceRecord == null) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(
+						"Skipping form email for deleted form instance " +
+							"record " + formInstanceRecordId);
+				}
+
+				return;
+			}
+
+			CompanyThreadLocal.setCompanyId(
+				ddmFormInstanceRecord.getCompanyId());
+
+			User user = _userLocalService.fetchUser(
+				ddmFormInstanceRecord.getUserId());
+
+			if (user == null) {
+				user = _userLocalService.getDefaultUser(
+					ddmFormInstanceRecord.getCompanyId());
+			}
+
+			PrincipalThreadLocal.setName(user.getUserId());
+			PermissionThreadLocal.setPermissionChecker(
+				PermissionCheckerFactoryUtil.create(user));
+
+			_ddmFormEmailNotificationSender.sendEmailNotification(
+				ddmFormInstanceRecord);
+
+			_sentCount.increment();
+		}
+		catch (Exception e) {
+			if (attempt < _configuration.maximumRetries()) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to send form email for form instance record " +
+							formInstanceRecordId + ", it will be retried",
+						e);
+				}
+
+				retry(formInstanceRecordId, attempt + 1);
+
+				return;
+			}
+
+			_failedCount.increment();
+
+			_log.error(
+				"Unable to send form email for form instance record " +
+					formInstanceRecordId,
+				e);
+		}
+		finally {
+			CompanyThreadLocal.setCompanyId(companyId);
+			PrincipalThreadLocal.setName(name);
+			PermissionThreadLocal.setPermissionChecker(permissionChecker);
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		DDMFormEmailNotificationDispatcher.class);
+
+	private volatile DDMFormEmailNotificationConfiguration _configuration;
+
+	@Reference
+	private DDMFormEmailNotificationSender _ddmFormEmailNotificationSender;
+
+	@Reference
+	private DDMFormInstanceRecordLocalService
+		_ddmFormInstanceRecordLocalService;
+
+	private final LongAdder _dispatchedCount = new LongAdder();
+	private final LongAdder _failedCount = new LongAdder();
+	private final LongAdder _retriedCount = new LongAdder();
+	private volatile ScheduledExecutorService _scheduledExecutorService;
+	private final LongAdder _sentCount = new LongAdder();
+	private volatile ThreadPoolExecutor _threadPoolExecutor;
+
+	@Reference
+	private UserLocalService _userLocalService;
+
+}
\ No newline at end of file
@@ -32,6 +32,8 @@ import com.liferay.dynamic.data.mapping.storage.DDMFormFieldValue;
 import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.mail.kernel.model.MailMessage;
 import com.liferay.mail.kernel.service.MailService;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPool;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.io.unsync.UnsyncStringWriter;
 import com.liferay.portal.kernel.language.LanguageUtil;
@@ -55,6 +57,7 @@ import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.ResourceBundleUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.util.WebKeys;
 import com.liferay.portal.template.soy.utils.SoyHTMLContextValue;
@@ -65,16 +68,19 @@ import java.io.Writer;
 import java.net.URL;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ResourceBundle;
 
 import javax.mail.internet.InternetAddress;
 
 import javax.portlet.PortletRequest;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -84,6 +90,23 @@ import org.osgi.service.component.annotations.Reference;
 @Component(immediate = true, service = DDMFormEmailNotificationSender.class)
 public class DDMFormEmailNotificationSender {
 
+	/**
+	 * Sends the email notification of the record without the request that
+	 * added it, so the links to the record are built from the site of the
+	 * form. Unlike {@link #sendEmailNotification(PortletRequest,
+	 * DDMFormInstanceRecord)}, failures are thrown to the caller so they can
+	 * be retried.
+	 */
+	public void sendEmailNotification(
+			DDMFormInstanceRecord ddmFormInstanceRecord)
+		throws Exception {
+
+		MailMessage mailMessage = createMailMessage(
+			null, ddmFormInstanceRecord);
+
+		_mailService.sendEmail(mailMessage);
+	}
+
 	public void sendEmailNotification(
 		PortletRequest portletRequest,
 		DDMFormInstanceRecord ddmFormInstanceRecord) {
@@ -130,14 +153,18 @@ public class DDMFormEmailNotificationSender {
 		return mailMessage;
 	}
 
+	@Activate
+	protected void activate() {
+		_templateResource = getTemplateResource(_TEMPLATE_PATH);
+	}
+
 	protected Template createTemplate(
 			PortletRequest portletRequest, DDMFormInstance ddmFormInstance,
 			DDMFormInstanceRecord ddmFormInstanceRecord)
 		throws PortalException {
 
 		Template template = TemplateManagerUtil.getTemplate(
-			TemplateConstants.LANG_TYPE_SOY,
-			getTemplateResource(_TEMPLATE_PATH), false);
+			TemplateConstants.LANG_TYPE_SOY, _templateResource, false);
 
 		populateParameters(
 			template, portletRequest, ddmFormInstance, ddmFormInstanceRecord);
@@ -153,6 +180,48 @@ public class DDMFormEmailNotificationSender {
 		return ddmStructure.getDDMForm();
 	}
 
+	/**
+	 * Returns the parts of the form used by its email notifications, which
+	 * are kept for each version of the form so they are not deserialized for
+	 * every notification. Entries are checked against the modified date of
+	 * the structure, which changes when a draft of the form is saved without
+	 * a new version.
+	 */
+	protected DDMFormEmailNotificationCacheEntry
+			getDDMFormEmailNotificationCacheEntry(
+				DDMFormInstance ddmFormInstance)
+		throws PortalException {
+
+		DDMStructure ddmStructure = ddmFormInstance.getStructure();
+
+		String key = StringUtil.merge(
+			new Object[] {
+				ddmFormInstance.getFormInstanceId(),
+				ddmFormInstance.getVersion()
+			},
+			StringPool.POUND);
+
+		DDMFormEmailNotificationCacheEntry ddmFormEmailNotificationCacheEntry =
+			_portalCache.get(key);
+
+		if ((ddmFormEmailNotificationCacheEntry == null) ||
+			!Objects.equals(
+				ddmFormEmailNotificationCacheEntry.getModifiedDate(),
+				ddmStructure.getModifiedDate())) {
+
+			DDMForm ddmForm = getDDMForm(ddmFormInstance);
+
+			ddmFormEmailNotificationCacheEntry =
+				new DDMFormEmailNotificationCacheEntry(
+					getDDMFormLayout(ddmFormInstance),
+					ddmForm.getDefaultLocale(), ddmStructure.getModifiedDate());
+
+			_portalCache.put(key, ddmFormEmailNotificationCacheEntry);
+		}
+
+		return ddmFormEmailNotificationCacheEntry;
+	}
+
 	protected Map<String, List<DDMFormFieldValue>> getDDMFormFieldValuesMap(
 			DDMFormInstanceRecord ddmFormInstanceRecord)
 		throws PortalException {
@@ -213,11 +282,7 @@ public class DDMFormEmailNotificationSender {
 		DDMFormInstanceSettings formInstancetings =
 			ddmFormInstance.getSettingsModel();
 
-		DDMStructure ddmStructure = ddmFormInstance.getStructure();
-
-		DDMForm ddmForm = ddmStructure.getDDMForm();
-
-		Locale locale = ddmForm.getDefaultLocale();
+		Locale locale = getLocale(ddmFormInstance);
 
 		ResourceBundle resourceBundle = ResourceBundleUtil.getBundle(
 			"content.Language", locale, getClass());
@@ -327,9 +392,10 @@ public class DDMFormEmailNotificationSender {
 	protected Locale getLocale(DDMFormInstance ddmFormInstance)
 		throws PortalException {
 
-		DDMForm ddmForm = getDDMForm(ddmFormInstance);
+		DDMFormEmailNotificationCacheEntry ddmFormEmailNotificationCacheEntry =
+			getDDMFormEmailNotificationCacheEntry(ddmFormInstance);
 
-		return ddmForm.getDefaultLocale();
+		return ddmFormEmailNotificationCacheEntry.getLocale();
 	}
 
 	protected Map<String, Object> getPage(
@@ -358,15 +424,21 @@ public class DDMFormEmailNotificationSender {
 
 		List<Object> pages = new ArrayList<>();
 
-		DDMFormLayout ddmFormLayout = getDDMFormLayout(ddmFormInstance);
+		DDMFormEmailNotificationCacheEntry ddmFormEmailNotificationCacheEntry =
+			getDDMFormEmailNotificationCacheEntry(ddmFormInstance);
+
+		DDMFormLayout ddmFormLayout =
+			ddmFormEmailNotificationCacheEntry.getDDMFormLayout();
+
+		Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
+			getDDMFormFieldValuesMap(ddmFormInstanceRecord);
 
 		for (DDMFormLayoutPage ddmFormLayoutPage :
 				ddmFormLayout.getDDMFormLayoutPages()) {
 
 			Map<String, Object> page = getPage(
-				ddmFormLayoutPage,
-				getDDMFormFieldValuesMap(ddmFormInstanceRecord),
-				getLocale(ddmFormInstance));
+				ddmFormLayoutPage, ddmFormFieldValuesMap,
+				ddmFormEmailNotificationCacheEntry.getLocale());
 
 			pages.add(page);
 		}
@@ -379,6 +451,23 @@ public class DDMFormEmailNotificationSender {
 			"content.Language", locale, getClass());
 	}
 
+	protected String getSiteAdminURL(
+			DDMFormInstance ddmFormInstance, ThemeDisplay themeDisplay,
+			Map<String, String[]> params)
+		throws PortalException {
+
+		if (themeDisplay != null) {
+			return _portal.getSiteAdminURL(
+				themeDisplay,
+				DDMFormPortletKeys.DYNAMIC_DATA_MAPPING_FORM_ADMIN, params);
+		}
+
+		Group group = _groupLocalService.getGroup(ddmFormInstance.getGroupId());
+
+		return _portal.getSiteAdminURL(
+			group, DDMFormPortletKeys.DYNAMIC_DATA_MAPPING_FORM_ADMIN, params);
+	}
+
 	protected String getSiteName(long groupId, Locale locale) {
 		Group siteGroup = _groupLocalService.fetchGroup(groupId);
 
@@ -400,6 +489,10 @@ public class DDMFormEmailNotificationSender {
 	}
 
 	protected ThemeDisplay getThemeDisplay(PortletRequest portletRequest) {
+		if (portletRequest == null) {
+			return null;
+		}
+
 		return (ThemeDisplay)portletRequest.getAttribute(WebKeys.THEME_DISPLAY);
 	}
 
@@ -433,9 +526,7 @@ public class DDMFormEmailNotificationSender {
 			portletNamespace.concat("formInstanceId"),
 			new String[] {String.valueOf(ddmFormInstance.getFormInstanceId())});
 
-		return _portal.getSiteAdminURL(
-			themeDisplay, DDMFormPortletKeys.DYNAMIC_DATA_MAPPING_FORM_ADMIN,
-			params);
+		return getSiteAdminURL(ddmFormInstance, themeDisplay, params);
 	}
 
 	protected String getViewFormURL(
@@ -461,9 +552,7 @@ public class DDMFormEmailNotificationSender {
 			portletNamespace.concat("formInstanceId"),
 			new String[] {String.valueOf(ddmFormInstance.getFormInstanceId())});
 
-		return _portal.getSiteAdminURL(
-			themeDisplay, DDMFormPortletKeys.DYNAMIC_DATA_MAPPING_FORM_ADMIN,
-			params);
+		return getSiteAdminURL(ddmFormInstance, themeDisplay, params);
 	}
 
 	protected void populateParameters(
@@ -529,6 +618,14 @@ public class DDMFormEmailNotificationSender {
 		_mailService = mailService;
 	}
 
+	@Reference(unbind = "-")
+	protected void setSingleVMPool(SingleVMPool singleVMPool) {
+		_portalCache =
+			(PortalCache<String, DDMFormEmailNotificationCacheEntry>)
+				singleVMPool.getPortalCache(
+					DDMFormEmailNotificationSender.class.getName());
+	}
+
 	@Reference(unbind = "-")
 	protected void setUserLocalService(UserLocalService userLocalService) {
 		_userLocalService = userLocalService;
@@ -552,6 +649,37 @@ public class DDMFormEmailNotificationSender {
 	@Reference
 	private Portal _portal;
 
+	private PortalCache<String, DDMFormEmailNotificationCacheEntry>
+		_portalCache;
+	private TemplateResource _templateResource;
 	private UserLocalService _userLocalService;
 
+	private static class DDMFormEmailNotificationCacheEntry {
+
+		public DDMFormEmailNotificationCacheEntry(
+			DDMFormLayout ddmFormLayout, Locale locale, Date modifiedDate) {
+
+			_ddmFormLayout = ddmFormLayout;
+			_locale = locale;
+			_modifiedDate = modifiedDate;
+		}
+
+		public DDMFormLayout getDDMFormLayout() {
+			return _ddmFormLayout;
+		}
+
+		public Locale getLocale() {
+			return _locale;
+		}
+
+		public Date getModifiedDate() {
+			return _modifiedDate;
+		}
+
+		private final DDMFormLayout _ddmFormLayout;
+		private final Locale _locale;
+		private final Date _modifiedDate;
+
+	}
+
 }
\ No newline at end of file
@@ -15,10 +15,12 @@
 package com.liferay.dynamic.data.mapping.form.web.internal.portlet.action;
 
 import com.liferay.captcha.util.CaptchaUtil;
+import com.liferay.dynamic.data.mapping.constants.DDMActionKeys;
 import com.liferay.dynamic.data.mapping.form.values.factory.DDMFormValuesFactory;
 import com.liferay.dynamic.data.mapping.form.web.internal.constants.DDMFormPortletKeys;
 import com.liferay.dynamic.data.mapping.form.web.internal.constants.DDMFormWebKeys;
-import com.liferay.dynamic.data.mapping.form.web.internal.notification.DDMFormEmailNotificationSender;
+import com.liferay.dynamic.data.mapping.form.web.internal.notification.DDMFormEmailNotificationDispatcher;
+import com.liferay.dynamic.data.mapping.form.web.internal.submission.DDMFormInstanceRecordSubmissionQueue;
 import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstance;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
@@ -29,7 +31,9 @@ import com.liferay.dynamic.data.mapping.model.DDMStructure;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordService;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordVersionLocalService;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceService;
+import com.liferay.dynamic.data.mapping.service.permission.DDMFormInstancePermission;
 import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.validator.DDMFormValuesValidator;
 import com.liferay.portal.kernel.captcha.CaptchaTextException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.portlet.bridges.mvc.BaseMVCActionCommand;
@@ -118,23 +122,28 @@ public class AddFormInstanceRecordMVCActionCommand
 					ddmFormInstance.getVersion(),
 					WorkflowConstants.STATUS_DRAFT);
 
-		DDMFormInstanceRecord ddmFormInstanceRecord;
+		DDMFormInstanceRecord ddmFormInstanceRecord = null;
 
-		if (ddmFormInstanceRecordVersion == null) {
-			ddmFormInstanceRecord =
-				_ddmFormInstanceRecordService.addFormInstanceRecord(
-					groupId, formInstanceId, ddmFormValues, serviceContext);
-		}
-		else {
+		if (ddmFormInstanceRecordVersion != null) {
 			ddmFormInstanceRecord =
 				_ddmFormInstanceRecordService.updateFormInstanceRecord(
 					ddmFormInstanceRecordVersion.getFormInstanceRecordId(),
 					false, ddmFormValues, serviceContext);
 		}
+		else if (!queueFormInstanceRecord(
+					groupId, ddmFormInstance, ddmFormValues, serviceContext,
+					themeDisplay)) {
 
-		if (isEmailNotificationEnabled(ddmFormInstance)) {
-			_ddmFormEmailNotificationSender.sendEmailNotification(
-				actionRequest, ddmFormInstanceRecord);
+			ddmFormInstanceRecord =
+				_ddmFormInstanceRecordService.addFormInstanceRecord(
+					groupId, formInstanceId, ddmFormValues, serviceContext);
+		}
+
+		if ((ddmFormInstanceRecord != null) &&
+			isEmailNotificationEnabled(ddmFormInstance)) {
+
+			_ddmFormEmailNotificationDispatcher.dispatch(
+				ddmFormInstanceRecord.getFormInstanceRecordId());
 		}
 
 		if (SessionErrors.isEmpty(actionRequest)) {
@@ -186,11 +195,38 @@ public class AddFormInstanceRecordMVCActionCommand
 		return formInstanceSettings.sendEmailNotification();
 	}
 
-	@Reference(unbind = "-")
-	protected void setDDLFormEmailNotificationSender(
-		DDMFormEmailNotificationSender ddmFormEmailNotificationSender) {
+	/**
+	 * Queues the entry to be added in the background if the form is set to
+	 * process entries that way. The entry is validated and the permission to
+	 * add it is checked before it is queued, so the user still gets the same
+	 * errors as if the record had been added right away.
+	 *
+	 * @return <code>true</code> if the entry was queued; <code>false</code> if
+	 *         the record must be added right away
+	 */
+	protected boolean queueFormInstanceRecord(
+			long groupId, DDMFormInstance ddmFormInstance,
+			DDMFormValues ddmFormValues, ServiceContext serviceContext,
+			ThemeDisplay themeDisplay)
+		throws PortalException {
 
-		_ddmFormEmailNotificationSender = ddmFormEmailNotificationSender;
+		DDMFormInstanceSettings formInstanceSettings =
+			ddmFormInstance.getSettingsModel();
+
+		if (!formInstanceSettings.processEntriesInBackground()) {
+			return false;
+		}
+
+		DDMFormInstancePermission.check(
+			themeDisplay.getPermissionChecker(),
+			ddmFormInstance.getFormInstanceId(),
+			DDMActionKeys.ADD_FORM_INSTANCE_RECORD);
+
+		_ddmFormValuesValidator.validate(ddmFormValues);
+
+		return _ddmFormInstanceRecordSubmissionQueue.offer(
+			themeDisplay.getUserId(), groupId, ddmFormInstance, ddmFormValues,
+			serviceContext);
 	}
 
 	@Reference(unbind = "-")
@@ -238,9 +274,16 @@ public class AddFormInstanceRecordMVCActionCommand
 	private AddFormInstanceRecordMVCCommandHelper
 		_addFormInstanceMVCCommandHelper;
 
-	private DDMFormEmailNotificationSender _ddmFormEmailNotificationSender;
+	@Reference
+	private DDMFormEmailNotificationDispatcher
+		_ddmFormEmailNotificationDispatcher;
+
 	private DDMFormInstanceRecordService _ddmFormInstanceRecordService;
 
+	@Reference
+	private DDMFormInstanceRecordSubmissionQueue
+		_ddmFormInstanceRecordSubmissionQueue;
+
 	@Reference
 	private DDMFormInstanceRecordVersionLocalService
 		_ddmFormInstanceRecordVersionLocalService;
@@ -248,6 +291,9 @@ public class AddFormInstanceRecordMVCActionCommand
 	private DDMFormInstanceService _ddmFormInstanceService;
 	private DDMFormValuesFactory _ddmFormValuesFactory;
 
+	@Reference
+	private DDMFormValuesValidator _ddmFormValuesValidator;
+
 	@Reference
 	private Portal _portal;
 
@@ -99,22 +99,35 @@ public class AddFormInstanceRecordMVCCommandHelper {
 		ddmFormEvaluatorContext.addProperty(
 			"request", _portal.getHttpServletRequest(actionRequest));
 
+		DDMStructure ddmStructure = getDDMStructure(actionRequest);
+
+		ddmFormEvaluatorContext.setDDMStructureId(
+			ddmStructure.getStructureId());
+		ddmFormEvaluatorContext.setDDMStructureVersion(
+			ddmStructure.getVersion());
+
 		return _ddmFormEvaluator.evaluate(ddmFormEvaluatorContext);
 	}
 
 	protected DDMFormLayout getDDMFormLayout(ActionRequest actionRequest)
 		throws PortalException {
 
+		DDMStructure ddmStructure = getDDMStructure(actionRequest);
+
+		return ddmStructure.getDDMFormLayout();
+	}
+
+	protected DDMStructure getDDMStructure(ActionRequest actionRequest)
+		throws PortalException {
+
 		long formInstanceId = ParamUtil.getLong(
 			actionRequest, "formInstanceId");
 
 		DDMFormInstance formInstance = _ddmFormInstanceService.getFormInstance(
 			formInstanceId);
 
-		DDMStructure ddmStructure = _ddmStructureLocalService.getStructure(
+		return _ddmStructureLocalService.getStructure(
 			formInstance.getStructureId());
-
-		return ddmStructure.getDDMFormLayout();
 	}
 
 	protected Set<String> getFieldNamesFromDisabledPages(
@@ -20,15 +20,18 @@ import com.liferay.dynamic.data.mapping.io.exporter.DDMFormExporter;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstance;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceService;
 import com.liferay.petra.string.CharPool;
-import com.liferay.portal.kernel.portlet.PortletResponseUtil;
 import com.liferay.portal.kernel.portlet.bridges.mvc.BaseMVCResourceCommand;
 import com.liferay.portal.kernel.portlet.bridges.mvc.MVCResourceCommand;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
 import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.MimeTypesUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.WebKeys;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 
+import java.io.OutputStream;
+
 import javax.portlet.ResourceRequest;
 import javax.portlet.ResourceResponse;
 
@@ -75,13 +78,21 @@ public class ExportFormInstanceMVCResourceCommand
 
 		exporter.setLocale(themeDisplay.getLocale());
 
-		byte[] bytes = exporter.export(
-			formInstanceId, WorkflowConstants.STATUS_APPROVED);
+		resourceResponse.setContentType(
+			MimeTypesUtil.getContentType(fileName));
+		resourceResponse.setProperty(
+			HttpHeaders.CACHE_CONTROL, HttpHeaders.CACHE_CONTROL_PRIVATE_VALUE);
+		resourceResponse.setProperty(
+			HttpHeaders.CONTENT_DISPOSITION,
+			HttpHeaders.CONTENT_DISPOSITION_ATTACHMENT +
+				"; filename*=UTF-8''" + HttpUtil.encodeURL(fileName, true));
+
+		OutputStream outputStream = resourceResponse.getPortletOutputStream();
 
-		String contentType = MimeTypesUtil.getContentType(fileName);
+		exporter.export(
+			formInstanceId, WorkflowConstants.STATUS_APPROVED, outputStream);
 
-		PortletResponseUtil.sendFile(
-			resourceRequest, resourceResponse, fileName, bytes, contentType);
+		outputStream.flush();
 	}
 
 	@Reference(unbind = "-")
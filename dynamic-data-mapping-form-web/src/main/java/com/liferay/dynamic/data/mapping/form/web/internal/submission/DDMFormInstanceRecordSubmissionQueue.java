@@ -0,0 +1,717 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.web.internal.submission;
+
+import com.liferay.dynamic.data.mapping.form.web.internal.configuration.DDMFormInstanceRecordSubmissionQueueConfiguration;
+import com.liferay.dynamic.data.mapping.form.web.internal.notification.DDMFormEmailNotificationDispatcher;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONSerializer;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstance;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceSettings;
+import com.liferay.dynamic.data.mapping.model.DDMStructure;
+import com.liferay.dynamic.data.mapping.model.DDMStructureVersion;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
+import com.liferay.dynamic.data.mapping.service.DDMStructureVersionLocalService;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.submission.DDMFormInstanceRecordSubmissionQueueEntry;
+import com.liferay.dynamic.data.mapping.submission.DDMFormInstanceRecordSubmissionQueueStore;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.cluster.ClusterMasterExecutor;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactory;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.service.permission.ModelPermissions;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.TransactionConfig;
+import com.liferay.portal.kernel.transaction.TransactionInvokerUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Stores validated form entries so they can be acknowledged right away and
+ * turned into form instance records later, in batches. Entries are kept in
+ * their own table, so they survive restarts and are visible to every node of
+ * a cluster, but only the master node processes them.
+ *
+ * @author agent
+ */
+@Component(
+	configurationPid = "com.liferay.dynamic.data.mapping.form.web.internal.configuration.DDMFormInstanceRecordSubmissionQueueConfiguration",
+	immediate = true, service = DDMFormInstanceRecordSubmissionQueue.class
+)
+public class DDMFormInstanceRecordSubmissionQueue {
+
+	public long getFailedCount() {
+		return _failedCount.sum();
+	}
+
+	public long getOfferedCount() {
+		return _offeredCount.sum();
+	}
+
+	public long getProcessedCount() {
+		return _processedCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries waiting to be processed. Every node counts
+	 * the queued entries at each drain interval, and keeps the value up to
+	 * date in between as it offers and processes entries.
+	 *
+	 * @return the number of entries waiting to be processed
+	 */
+	public long getQueueDepth() {
+		return _queueDepth.get();
+	}
+
+	public long getRejectedCount() {
+		return _rejectedCount.sum();
+	}
+
+	/**
+	 * Queues a validated form entry. Returns <code>false</code> when the queue
+	 * is full, in which case the caller must add the record itself.
+	 *
+	 * @return <code>true</code> if the entry was queued; <code>false</code>
+	 *         otherwise
+	 */
+	public boolean offer(
+			long userId, long groupId, DDMFormInstance ddmFormInstance,
+			DDMFormValues ddmFormValues, ServiceContext serviceContext)
+		throws PortalException {
+
+		if (getQueueDepth() >= _configuration.maximumQueueDepth()) {
+			_rejectedCount.increment();
+
+			return false;
+		}
+
+		DDMStructure ddmStructure = ddmFormInstance.getStructure();
+
+		DDMStructureVersion ddmStructureVersion =
+			ddmStructure.getStructureVersion();
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry =
+			new DDMFormInstanceRecordSubmissionQueueEntry();
+
+		entry.setAttributes(
+			serializeAttributes(serviceContext.getAttributes()));
+		entry.setCompanyId(ddmFormInstance.getCompanyId());
+		entry.setDDMFormValues(
+			_ddmFormValuesJSONSerializer.serialize(ddmFormValues));
+		entry.setFormInstanceId(ddmFormInstance.getFormInstanceId());
+		entry.setGroupId(groupId);
+		entry.setServiceContext(serializeServiceContext(serviceContext));
+		entry.setStructureVersionId(
+			ddmStructureVersion.getStructureVersionId());
+		entry.setUserId(userId);
+
+		try {
+			_ddmFormInstanceRecordSubmissionQueueStore.addEntry(entry);
+		}
+		catch (Exception e) {
+			throw new PortalException(e);
+		}
+
+		_offeredCount.increment();
+
+		_queueDepth.incrementAndGet();
+
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"{failedCount=%d, offeredCount=%d, processedCount=%d, " +
+				"queueDepth=%d, rejectedCount=%d}",
+			getFailedCount(), getOfferedCount(), getProcessedCount(),
+			getQueueDepth(), getRejectedCount());
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		deactivate();
+
+		_configuration = ConfigurableUtil.createConfigurable(
+			DDMFormInstanceRecordSubmissionQueueConfiguration.class,
+			properties);
+
+		ClassLoader classLoader =
+			DDMFormInstanceRecordSubmissionQueue.class.getClassLoader();
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			new NamedThreadFactory(
+				DDMFormInstanceRecordSubmissionQueue.class.getName(),
+				Thread.NORM_PRIORITY, classLoader));
+
+		_workerExecutorService = Executors.newFixedThreadPool(
+			Math.max(1, _configuration.workersCount()),
+			new NamedThreadFactory(
+				DDMFormInstanceRecordSubmissionQueue.class.getName() +
+					"-worker",
+				Thread.NORM_PRIORITY, classLoader));
+
+		long drainInterval = Math.max(100, _configuration.drainInterval());
+
+		_scheduledExecutorService.scheduleWithFixedDelay(
+			this::drain, drainInterval, drainInterval, TimeUnit.MILLISECONDS);
+	}
+
+	protected List<DDMFormInstanceRecord> addFormInstanceRecords(
+			List<DDMFormInstanceRecordSubmissionQueueEntry> entries)
+		throws Exception {
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry = entries.get(0);
+
+		DDMStructureVersion ddmStructureVersion =
+			_ddmStructureVersionLocalService.getStructureVersion(
+				entry.getStructureVersionId());
+
+		DDMForm ddmForm = ddmStructureVersion.getDDMForm();
+
+		List<DDMFormValues> ddmFormValuesList = new ArrayList<>(
+			entries.size());
+
+		for (DDMFormInstanceRecordSubmissionQueueEntry curEntry : entries) {
+			ddmFormValuesList.add(
+				_ddmFormValuesJSONDeserializer.deserialize(
+					ddmForm, curEntry.getDDMFormValues()));
+		}
+
+		List<DDMFormInstanceRecord> ddmFormInstanceRecords =
+			_ddmFormInstanceRecordLocalService.addFormInstanceRecords(
+				entry.getUserId(), entry.getGroupId(),
+				entry.getFormInstanceId(), ddmFormValuesList,
+				createServiceContext(entries));
+
+		for (DDMFormInstanceRecordSubmissionQueueEntry curEntry : entries) {
+			_ddmFormInstanceRecordSubmissionQueueStore.deleteEntry(
+				curEntry.getEntryId());
+		}
+
+		return ddmFormInstanceRecords;
+	}
+
+	/**
+	 * Returns the service context the records of the queued entries are added
+	 * with. Entries are only grouped together if they were submitted with the
+	 * same service context, so it is rebuilt from the first one. Only the
+	 * attributes that have the same value in every entry are kept. The others
+	 * are request parameters that hold each entry's own field values, which
+	 * are already in the entry's form values.
+	 */
+	protected ServiceContext createServiceContext(
+			List<DDMFormInstanceRecordSubmissionQueueEntry> entries)
+		throws Exception {
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry = entries.get(0);
+
+		JSONObject jsonObject = _jsonFactory.createJSONObject(
+			entry.getServiceContext());
+
+		ServiceContext serviceContext = new ServiceContext();
+
+		serviceContext.setAddGroupPermissions(
+			jsonObject.getBoolean("addGroupPermissions"));
+		serviceContext.setAddGuestPermissions(
+			jsonObject.getBoolean("addGuestPermissions"));
+		serviceContext.setAssetCategoryIds(
+			StringUtil.split(jsonObject.getString("assetCategoryIds"), 0L));
+		serviceContext.setAssetLinkEntryIds(
+			StringUtil.split(jsonObject.getString("assetLinkEntryIds"), 0L));
+		serviceContext.setAssetPriority(jsonObject.getDouble("assetPriority"));
+		serviceContext.setAssetTagNames(
+			ArrayUtil.toStringArray(jsonObject.getJSONArray("assetTagNames")));
+
+		Map<String, Serializable> attributes = deserializeAttributes(
+			entry.getAttributes());
+
+		for (DDMFormInstanceRecordSubmissionQueueEntry curEntry : entries) {
+			if (curEntry == entry) {
+				continue;
+			}
+
+			Map<String, Serializable> curAttributes = deserializeAttributes(
+				curEntry.getAttributes());
+
+			Set<Map.Entry<String, Serializable>> attributesEntrySet =
+				attributes.entrySet();
+
+			attributesEntrySet.removeIf(
+				attributesEntry -> !Objects.deepEquals(
+					attributesEntry.getValue(),
+					curAttributes.get(attributesEntry.getKey())));
+		}
+
+		serviceContext.setAttributes(attributes);
+
+		serviceContext.setAttribute("validateDDMFormValues", Boolean.FALSE);
+		serviceContext.setCompanyId(entry.getCompanyId());
+
+		// The model permissions are set first because setting them replaces
+		// the group and guest permissions if the portal stores them together
+
+		JSONObject modelPermissionsJSONObject = jsonObject.getJSONObject(
+			"modelPermissions");
+
+		if (modelPermissionsJSONObject != null) {
+			ModelPermissions modelPermissions = new ModelPermissions();
+
+			Iterator<String> iterator = modelPermissionsJSONObject.keys();
+
+			while (iterator.hasNext()) {
+				String roleName = iterator.next();
+
+				modelPermissions.addRolePermissions(
+					roleName,
+					ArrayUtil.toStringArray(
+						modelPermissionsJSONObject.getJSONArray(roleName)));
+			}
+
+			serviceContext.setModelPermissions(modelPermissions);
+		}
+
+		serviceContext.setGroupPermissions(
+			ArrayUtil.toStringArray(
+				jsonObject.getJSONArray("groupPermissions")));
+		serviceContext.setGuestPermissions(
+			ArrayUtil.toStringArray(
+				jsonObject.getJSONArray("guestPermissions")));
+		serviceContext.setLanguageId(jsonObject.getString("languageId"));
+		serviceContext.setLayoutFullURL(jsonObject.getString("layoutFullURL"));
+
+		serviceContext.setPathMain(jsonObject.getString("pathMain"));
+		serviceContext.setPortalURL(jsonObject.getString("portalURL"));
+		serviceContext.setScopeGroupId(entry.getGroupId());
+		serviceContext.setUserId(entry.getUserId());
+		serviceContext.setWorkflowAction(jsonObject.getInt("workflowAction"));
+
+		return serviceContext;
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_scheduledExecutorService != null) {
+			_scheduledExecutorService.shutdown();
+
+			_scheduledExecutorService = null;
+		}
+
+		if (_workerExecutorService != null) {
+			_workerExecutorService.shutdown();
+
+			_workerExecutorService = null;
+		}
+	}
+
+	protected Map<String, Serializable> deserializeAttributes(
+			String attributes)
+		throws Exception {
+
+		JSONObject jsonObject = _jsonFactory.createJSONObject(attributes);
+
+		Map<String, Serializable> attributesMap = new HashMap<>();
+
+		Iterator<String> iterator = jsonObject.keys();
+
+		while (iterator.hasNext()) {
+			String name = iterator.next();
+
+			JSONArray jsonArray = jsonObject.getJSONArray(name);
+
+			if (jsonArray != null) {
+				attributesMap.put(name, ArrayUtil.toStringArray(jsonArray));
+			}
+			else {
+				attributesMap.put(name, jsonObject.getString(name));
+			}
+		}
+
+		return attributesMap;
+	}
+
+	/**
+	 * Counts the queued entries and, on the master node, processes them in
+	 * batches. Each batch is claimed before it is processed, so an entry is
+	 * never processed twice, even while the master node changes.
+	 */
+	protected void drain() {
+		try {
+			_queueDepth.set(
+				_ddmFormInstanceRecordSubmissionQueueStore.countEntries());
+
+			if (!_clusterMasterExecutor.isMaster()) {
+				return;
+			}
+
+			int batchSize = Math.max(1, _configuration.batchSize());
+
+			Date expirationDate = new Date(
+				System.currentTimeMillis() - _configuration.claimTimeout());
+
+			List<Long> entryIds =
+				_ddmFormInstanceRecordSubmissionQueueStore.getEntryIds(
+					expirationDate);
+
+			for (int i = 0; i < entryIds.size(); i += batchSize) {
+				int endIndex = Math.min(i + batchSize, entryIds.size());
+
+				List<DDMFormInstanceRecordSubmissionQueueEntry> entries =
+					_ddmFormInstanceRecordSubmissionQueueStore.claimEntries(
+						entryIds.get(i), entryIds.get(endIndex - 1),
+						expirationDate);
+
+				List<Future<?>> futures = new ArrayList<>();
+
+				for (List<DDMFormInstanceRecordSubmissionQueueEntry>
+						groupEntries : groupEntries(entries)) {
+
+					futures.add(
+						_workerExecutorService.submit(
+							() -> process(groupEntries)));
+				}
+
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			}
+		}
+		catch (Throwable t) {
+			_log.error("Unable to process queued form entries", t);
+		}
+	}
+
+	/**
+	 * Groups the queued entries that can be added in a single call, which
+	 * are the ones for the same form and structure version that were
+	 * submitted by the same user to the same site with the same service
+	 * context.
+	 */
+	protected Iterable<List<DDMFormInstanceRecordSubmissionQueueEntry>>
+		groupEntries(List<DDMFormInstanceRecordSubmissionQueueEntry> entries) {
+
+		Map<String, List<DDMFormInstanceRecordSubmissionQueueEntry>>
+			entriesMap = new LinkedHashMap<>();
+
+		for (DDMFormInstanceRecordSubmissionQueueEntry entry : entries) {
+			StringBundler sb = new StringBundler(9);
+
+			sb.append(entry.getFormInstanceId());
+			sb.append(StringPool.POUND);
+			sb.append(entry.getStructureVersionId());
+			sb.append(StringPool.POUND);
+			sb.append(entry.getGroupId());
+			sb.append(StringPool.POUND);
+			sb.append(entry.getUserId());
+			sb.append(StringPool.POUND);
+			sb.append(entry.getServiceContext());
+
+			List<DDMFormInstanceRecordSubmissionQueueEntry> groupEntries =
+				entriesMap.computeIfAbsent(
+					sb.toString(), key -> new ArrayList<>());
+
+			groupEntries.add(entry);
+		}
+
+		return entriesMap.values();
+	}
+
+	/**
+	 * Adds the records of the queued entries in a single transaction. If the
+	 * transaction fails, each entry is retried on its own so that a single
+	 * invalid entry does not hold back the others. Entries that still fail are
+	 * marked as failed so they are not retried again. If an entry cannot be
+	 * marked either, it keeps its claim and is retried once the claim expires.
+	 */
+	protected void process(
+		List<DDMFormInstanceRecordSubmissionQueueEntry> entries) {
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry = entries.get(0);
+
+		Long companyId = CompanyThreadLocal.getCompanyId();
+		String name = PrincipalThreadLocal.getName();
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<DDMFormInstanceRecord> ddmFormInstanceRecords = null;
+
+		try {
+			CompanyThreadLocal.setCompanyId(entry.getCompanyId());
+
+			User user = _userLocalService.getUser(entry.getUserId());
+
+			PrincipalThreadLocal.setName(user.getUserId());
+			PermissionThreadLocal.setPermissionChecker(
+				PermissionCheckerFactoryUtil.create(user));
+
+			ddmFormInstanceRecords = TransactionInvokerUtil.invoke(
+				_transactionConfig, () -> addFormInstanceRecords(entries));
+
+			_processedCount.add(entries.size());
+
+			_queueDepth.updateAndGet(
+				queueDepth -> Math.max(0, queueDepth - entries.size()));
+		}
+		catch (Throwable t) {
+			if (entries.size() > 1) {
+				for (DDMFormInstanceRecordSubmissionQueueEntry curEntry :
+						entries) {
+
+					process(Collections.singletonList(curEntry));
+				}
+
+				return;
+			}
+
+			_log.error(
+				"Unable to process queued form entry " + entry.getEntryId(),
+				t);
+
+			_failedCount.increment();
+
+			_queueDepth.updateAndGet(
+				queueDepth -> Math.max(0, queueDepth - 1));
+
+			try {
+				_ddmFormInstanceRecordSubmissionQueueStore.failEntry(
+					entry.getEntryId());
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to mark queued form entry " + entry.getEntryId() +
+						" as failed",
+					e);
+			}
+
+			return;
+		}
+		finally {
+			CompanyThreadLocal.setCompanyId(companyId);
+			PrincipalThreadLocal.setName(name);
+			PermissionThreadLocal.setPermissionChecker(permissionChecker);
+		}
+
+		sendEmailNotifications(ddmFormInstanceRecords);
+	}
+
+	protected void sendEmailNotifications(
+		List<DDMFormInstanceRecord> ddmFormInstanceRecords) {
+
+		for (DDMFormInstanceRecord ddmFormInstanceRecord :
+				ddmFormInstanceRecords) {
+
+			try {
+				DDMFormInstance ddmFormInstance =
+					ddmFormInstanceRecord.getFormInstance();
+
+				DDMFormInstanceSettings ddmFormInstanceSettings =
+					ddmFormInstance.getSettingsModel();
+
+				if (ddmFormInstanceSettings.sendEmailNotification()) {
+					_ddmFormEmailNotificationDispatcher.dispatch(
+						ddmFormInstanceRecord.getFormInstanceRecordId());
+				}
+			}
+			catch (PortalException pe) {
+				_log.error("Unable to send form email", pe);
+			}
+		}
+	}
+
+	/**
+	 * Returns the attributes of the service context as a JSON object. The
+	 * attributes are the request parameters, so each value is stored as a
+	 * string or, for parameters with several values, as an array of strings.
+	 */
+	protected String serializeAttributes(Map<String, Serializable> attributes) {
+		JSONObject jsonObject = _jsonFactory.createJSONObject();
+
+		for (Map.Entry<String, Serializable> entry : attributes.entrySet()) {
+			Serializable value = entry.getValue();
+
+			if (value instanceof String[]) {
+				jsonObject.put(entry.getKey(), toJSONArray((String[])value));
+			}
+			else if (value != null) {
+				jsonObject.put(entry.getKey(), String.valueOf(value));
+			}
+		}
+
+		return jsonObject.toString();
+	}
+
+	/**
+	 * Returns the parts of the service context the records are added with,
+	 * other than the attributes, which are stored on their own. Entries
+	 * submitted with the same service context serialize to the same string,
+	 * which is what allows them to be added together.
+	 */
+	protected String serializeServiceContext(ServiceContext serviceContext) {
+		JSONObject jsonObject = _jsonFactory.createJSONObject();
+
+		jsonObject.put(
+			"addGroupPermissions", serviceContext.isAddGroupPermissions());
+		jsonObject.put(
+			"addGuestPermissions", serviceContext.isAddGuestPermissions());
+		jsonObject.put(
+			"assetCategoryIds",
+			StringUtil.merge(serviceContext.getAssetCategoryIds()));
+		jsonObject.put(
+			"assetLinkEntryIds",
+			StringUtil.merge(serviceContext.getAssetLinkEntryIds()));
+		jsonObject.put("assetPriority", serviceContext.getAssetPriority());
+		jsonObject.put(
+			"assetTagNames", toJSONArray(serviceContext.getAssetTagNames()));
+		jsonObject.put(
+			"groupPermissions",
+			toJSONArray(serviceContext.getGroupPermissions()));
+		jsonObject.put(
+			"guestPermissions",
+			toJSONArray(serviceContext.getGuestPermissions()));
+		jsonObject.put("languageId", serviceContext.getLanguageId());
+		jsonObject.put("layoutFullURL", serviceContext.getLayoutFullURL());
+
+		ModelPermissions modelPermissions =
+			serviceContext.getModelPermissions();
+
+		if (modelPermissions != null) {
+			JSONObject modelPermissionsJSONObject =
+				_jsonFactory.createJSONObject();
+
+			for (String roleName : modelPermissions.getRoleNames()) {
+				modelPermissionsJSONObject.put(
+					roleName,
+					toJSONArray(modelPermissions.getActionIds(roleName)));
+			}
+
+			jsonObject.put("modelPermissions", modelPermissionsJSONObject);
+		}
+
+		jsonObject.put("pathMain", serviceContext.getPathMain());
+		jsonObject.put("portalURL", serviceContext.getPortalURL());
+		jsonObject.put("workflowAction", serviceContext.getWorkflowAction());
+
+		return jsonObject.toString();
+	}
+
+	protected JSONArray toJSONArray(String[] values) {
+		JSONArray jsonArray = _jsonFactory.createJSONArray();
+
+		if (values == null) {
+			return jsonArray;
+		}
+
+		for (String value : values) {
+			jsonArray.put(value);
+		}
+
+		return jsonArray;
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		DDMFormInstanceRecordSubmissionQueue.class);
+
+	private static final TransactionConfig _transactionConfig =
+		TransactionConfig.Factory.create(
+			Propagation.REQUIRED, new Class<?>[] {Exception.class});
+
+	@Reference
+	private ClusterMasterExecutor _clusterMasterExecutor;
+
+	private volatile DDMFormInstanceRecordSubmissionQueueConfiguration
+		_configuration;
+
+	@Reference
+	private DDMFormEmailNotificationDispatcher
+		_ddmFormEmailNotificationDispatcher;
+
+	@Reference
+	private DDMFormInstanceRecordLocalService
+		_ddmFormInstanceRecordLocalService;
+
+	@Reference
+	private DDMFormInstanceRecordSubmissionQueueStore
+		_ddmFormInstanceRecordSubmissionQueueStore;
+
+	@Reference
+	private DDMFormValuesJSONDeserializer _ddmFormValuesJSONDeserializer;
+
+	@Reference
+	private DDMFormValuesJSONSerializer _ddmFormValuesJSONSerializer;
+
+	@Reference
+	private DDMStructureVersionLocalService _ddmStructureVersionLocalService;
+
+	private final LongAdder _failedCount = new LongAdder();
+
+	@Reference
+	private JSONFactory _jsonFactory;
+
+	private final LongAdder _offeredCount = new LongAdder();
+	private final LongAdder _processedCount = new LongAdder();
+	private final AtomicLong _queueDepth = new AtomicLong();
+	private final LongAdder _rejectedCount = new LongAdder();
+	private ScheduledExecutorService _scheduledExecutorService;
+
+	@Reference
+	private UserLocalService _userLocalService;
+
+	private ExecutorService _workerExecutorService;
+
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.web.internal.notification;
+
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.kernel.service.UserLocalService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.api.support.membermodification.MemberMatcher;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * @author agent
+ */
+@PrepareForTest({CompanyThreadLocal.class, PermissionCheckerFactoryUtil.class})
+@RunWith(PowerMockRunner.class)
+@SuppressStaticInitializationFor(
+	{
+		"com.liferay.portal.kernel.security.auth.CompanyThreadLocal",
+		"com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil"
+	}
+)
+public class DDMFormEmailNotificationDispatcherTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_ddmFormEmailNotificationDispatcher =
+			new DDMFormEmailNotificationDispatcher();
+
+		MemberMatcher.field(
+			DDMFormEmailNotificationDispatcher.class,
+			"_ddmFormEmailNotificationSender"
+		).set(
+			_ddmFormEmailNotificationDispatcher,
+			_ddmFormEmailNotificationSender
+		);
+
+		MemberMatcher.field(
+			DDMFormEmailNotificationDispatcher.class,
+			"_ddmFormInstanceRecordLocalService"
+		).set(
+			_ddmFormEmailNotificationDispatcher,
+			_ddmFormInstanceRecordLocalService
+		);
+
+		MemberMatcher.field(
+			DDMFormEmailNotificationDispatcher.class, "_userLocalService"
+		).set(
+			_ddmFormEmailNotificationDispatcher, _userLocalService
+		);
+
+		PowerMockito.mockStatic(CompanyThreadLocal.class);
+		PowerMockito.mockStatic(PermissionCheckerFactoryUtil.class);
+
+		PowerMockito.when(
+			_userLocalService.fetchUser(Matchers.anyLong())
+		).thenReturn(
+			Mockito.mock(User.class)
+		);
+
+		_ddmFormEmailNotificationDispatcher.activate(createProperties(10));
+	}
+
+	@After
+	public void tearDown() {
+		_ddmFormEmailNotificationDispatcher.deactivate();
+	}
+
+	@Test(timeout = 30000)
+	public void testDeactivateCountsPendingRetries() throws Exception {
+		_ddmFormEmailNotificationDispatcher.modified(createProperties(60000));
+
+		mockFetchFormInstanceRecord();
+
+		Mockito.doThrow(
+			new Exception()
+		).when(
+			_ddmFormEmailNotificationSender
+		).sendEmailNotification(
+			_ddmFormInstanceRecord
+		);
+
+		_ddmFormEmailNotificationDispatcher.dispatch(_FORM_INSTANCE_RECORD_ID);
+
+		while (_ddmFormEmailNotificationDispatcher.getRetriedCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		_ddmFormEmailNotificationDispatcher.deactivate();
+
+		Assert.assertEquals(
+			1, _ddmFormEmailNotificationDispatcher.getFailedCount());
+	}
+
+	@Test
+	public void testDispatchDeletedRecord() throws Exception {
+		_ddmFormEmailNotificationDispatcher.dispatch(_FORM_INSTANCE_RECORD_ID);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordLocalService, Mockito.timeout(10000)
+		).fetchFormInstanceRecord(
+			_FORM_INSTANCE_RECORD_ID
+		);
+
+		Mockito.verify(
+			_ddmFormEmailNotificationSender, Mockito.never()
+		).sendEmailNotification(
+			Matchers.any(DDMFormInstanceRecord.class)
+		);
+
+		Assert.assertEquals(
+			0, _ddmFormEmailNotificationDispatcher.getSentCount());
+	}
+
+	@Test(timeout = 30000)
+	public void testDispatchFailsAfterMaximumRetries() throws Exception {
+		mockFetchFormInstanceRecord();
+
+		Mockito.doThrow(
+			new Exception()
+		).when(
+			_ddmFormEmailNotificationSender
+		).sendEmailNotification(
+			_ddmFormInstanceRecord
+		);
+
+		_ddmFormEmailNotificationDispatcher.dispatch(_FORM_INSTANCE_RECORD_ID);
+
+		while (_ddmFormEmailNotificationDispatcher.getFailedCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		Mockito.verify(
+			_ddmFormEmailNotificationSender, Mockito.times(3)
+		).sendEmailNotification(
+			_ddmFormInstanceRecord
+		);
+
+		Assert.assertEquals(
+			2, _ddmFormEmailNotificationDispatcher.getRetriedCount());
+		Assert.assertEquals(
+			0, _ddmFormEmailNotificationDispatcher.getSentCount());
+	}
+
+	@Test(timeout = 30000)
+	public void testDispatchRetriesFailedNotification() throws Exception {
+		mockFetchFormInstanceRecord();
+
+		Mockito.doThrow(
+			new Exception()
+		).doNothing(
+		).when(
+			_ddmFormEmailNotificationSender
+		).sendEmailNotification(
+			_ddmFormInstanceRecord
+		);
+
+		_ddmFormEmailNotificationDispatcher.dispatch(_FORM_INSTANCE_RECORD_ID);
+
+		while (_ddmFormEmailNotificationDispatcher.getSentCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		Assert.assertEquals(
+			0, _ddmFormEmailNotificationDispatcher.getFailedCount());
+		Assert.assertEquals(
+			1, _ddmFormEmailNotificationDispatcher.getRetriedCount());
+	}
+
+	@Test(timeout = 30000)
+	public void testModifiedKeepsPendingRetries() throws Exception {
+		_ddmFormEmailNotificationDispatcher.modified(createProperties(500));
+
+		mockFetchFormInstanceRecord();
+
+		Mockito.doThrow(
+			new Exception()
+		).doNothing(
+		).when(
+			_ddmFormEmailNotificationSender
+		).sendEmailNotification(
+			_ddmFormInstanceRecord
+		);
+
+		_ddmFormEmailNotificationDispatcher.dispatch(_FORM_INSTANCE_RECORD_ID);
+
+		while (_ddmFormEmailNotificationDispatcher.getRetriedCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		_ddmFormEmailNotificationDispatcher.modified(createProperties(500));
+
+		while (_ddmFormEmailNotificationDispatcher.getSentCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		Assert.assertEquals(
+			0, _ddmFormEmailNotificationDispatcher.getFailedCount());
+	}
+
+	protected Map<String, Object> createProperties(long retryDelay) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("maximumRetries", "2");
+		properties.put("retryDelay", String.valueOf(retryDelay));
+
+		return properties;
+	}
+
+	protected void mockFetchFormInstanceRecord() {
+		PowerMockito.when(
+			_ddmFormInstanceRecordLocalService.fetchFormInstanceRecord(
+				_FORM_INSTANCE_RECORD_ID)
+		).thenReturn(
+			_ddmFormInstanceRecord
+		);
+	}
+
+	private static final long _FORM_INSTANCE_RECORD_ID = 1;
+
+	private DDMFormEmailNotificationDispatcher
+		_ddmFormEmailNotificationDispatcher;
+
+	@Mock
+	private DDMFormEmailNotificationSender _ddmFormEmailNotificationSender;
+
+	@Mock
+	private DDMFormInstanceRecord _ddmFormInstanceRecord;
+
+	@Mock
+	private DDMFormInstanceRecordLocalService
+		_ddmFormInstanceRecordLocalService;
+
+	@Mock
+	private UserLocalService _userLocalService;
+
+}
\ No newline at end of file
@@ -0,0 +1,699 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.form.web.internal.submission;
+
+import com.liferay.dynamic.data.mapping.form.web.internal.notification.DDMFormEmailNotificationDispatcher;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
+import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONSerializer;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstance;
+import com.liferay.dynamic.data.mapping.model.DDMStructure;
+import com.liferay.dynamic.data.mapping.model.DDMStructureVersion;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
+import com.liferay.dynamic.data.mapping.service.DDMStructureVersionLocalService;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.submission.DDMFormInstanceRecordSubmissionQueueEntry;
+import com.liferay.dynamic.data.mapping.submission.DDMFormInstanceRecordSubmissionQueueStore;
+import com.liferay.portal.json.JSONFactoryImpl;
+import com.liferay.portal.kernel.cluster.ClusterMasterExecutor;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.service.permission.ModelPermissions;
+import com.liferay.portal.kernel.transaction.TransactionConfig;
+import com.liferay.portal.kernel.transaction.TransactionInvoker;
+import com.liferay.portal.kernel.transaction.TransactionInvokerUtil;
+
+import java.sql.SQLException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.api.support.membermodification.MemberMatcher;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * @author agent
+ */
+@PrepareForTest({CompanyThreadLocal.class, PermissionCheckerFactoryUtil.class})
+@RunWith(PowerMockRunner.class)
+@SuppressStaticInitializationFor(
+	{
+		"com.liferay.portal.kernel.security.auth.CompanyThreadLocal",
+		"com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil"
+	}
+)
+public class DDMFormInstanceRecordSubmissionQueueTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_ddmFormInstanceRecordSubmissionQueue =
+			new DDMFormInstanceRecordSubmissionQueue();
+
+		setUpField("_clusterMasterExecutor", _clusterMasterExecutor);
+		setUpField(
+			"_ddmFormEmailNotificationDispatcher",
+			_ddmFormEmailNotificationDispatcher);
+		setUpField(
+			"_ddmFormInstanceRecordLocalService",
+			_ddmFormInstanceRecordLocalService);
+		setUpField(
+			"_ddmFormInstanceRecordSubmissionQueueStore",
+			_ddmFormInstanceRecordSubmissionQueueStore);
+		setUpField(
+			"_ddmFormValuesJSONDeserializer", _ddmFormValuesJSONDeserializer);
+		setUpField(
+			"_ddmFormValuesJSONSerializer", _ddmFormValuesJSONSerializer);
+		setUpField(
+			"_ddmStructureVersionLocalService",
+			_ddmStructureVersionLocalService);
+		setUpField("_jsonFactory", new JSONFactoryImpl());
+		setUpField("_userLocalService", _userLocalService);
+
+		setUpCompanyThreadLocal();
+		setUpDDMStructureVersionLocalService();
+		setUpPermissionCheckerFactoryUtil();
+		setUpTransactionInvokerUtil();
+
+		PowerMockito.when(
+			_clusterMasterExecutor.isMaster()
+		).thenReturn(
+			true
+		);
+
+		setUpConfiguration(10);
+	}
+
+	@After
+	public void tearDown() {
+		_ddmFormInstanceRecordSubmissionQueue.deactivate();
+	}
+
+	@Test
+	public void testCreateServiceContext() throws Exception {
+		ServiceContext serviceContext = createServiceContext();
+
+		serviceContext.setAttribute("fieldValue", "1");
+		serviceContext.setAttribute("status", "0");
+		serviceContext.setAttribute("values", new String[] {"1", "2"});
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry1 = createEntry(
+			1, _USER_ID, serviceContext, "{}");
+
+		serviceContext.setAttribute("fieldValue", "2");
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry2 = createEntry(
+			2, _USER_ID, serviceContext, "{}");
+
+		ServiceContext entriesServiceContext =
+			_ddmFormInstanceRecordSubmissionQueue.createServiceContext(
+				Arrays.asList(entry1, entry2));
+
+		Assert.assertArrayEquals(
+			new long[] {1, 2}, entriesServiceContext.getAssetCategoryIds());
+		Assert.assertArrayEquals(
+			new String[] {"tag"}, entriesServiceContext.getAssetTagNames());
+		Assert.assertNull(entriesServiceContext.getAttribute("fieldValue"));
+		Assert.assertEquals("0", entriesServiceContext.getAttribute("status"));
+		Assert.assertArrayEquals(
+			new String[] {"1", "2"},
+			(String[])entriesServiceContext.getAttribute("values"));
+		Assert.assertEquals(_COMPANY_ID, entriesServiceContext.getCompanyId());
+		Assert.assertArrayEquals(
+			new String[] {"VIEW"},
+			entriesServiceContext.getGroupPermissions());
+		Assert.assertEquals("pt_BR", entriesServiceContext.getLanguageId());
+
+		ModelPermissions modelPermissions =
+			entriesServiceContext.getModelPermissions();
+
+		Assert.assertArrayEquals(
+			new String[] {"UPDATE", "VIEW"},
+			modelPermissions.getActionIds("Owner"));
+
+		Assert.assertEquals(_GROUP_ID, entriesServiceContext.getScopeGroupId());
+		Assert.assertEquals(_USER_ID, entriesServiceContext.getUserId());
+		Assert.assertEquals(2, entriesServiceContext.getWorkflowAction());
+	}
+
+	@Test
+	public void testDrainAddsEntriesOfTheSameGroupTogether() throws Exception {
+		ServiceContext serviceContext = createServiceContext();
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry1 = createEntry(
+			1, _USER_ID, serviceContext, "1");
+		DDMFormInstanceRecordSubmissionQueueEntry entry2 = createEntry(
+			2, _USER_ID + 1, serviceContext, "2");
+		DDMFormInstanceRecordSubmissionQueueEntry entry3 = createEntry(
+			3, _USER_ID, serviceContext, "3");
+
+		mockGetEntries(entry1, entry2, entry3);
+
+		DDMFormValues ddmFormValues1 = mockDeserialize("1");
+		DDMFormValues ddmFormValues2 = mockDeserialize("2");
+		DDMFormValues ddmFormValues3 = mockDeserialize("3");
+
+		_ddmFormInstanceRecordSubmissionQueue.drain();
+
+		verifyAddFormInstanceRecords(
+			_USER_ID, Arrays.asList(ddmFormValues1, ddmFormValues3));
+		verifyAddFormInstanceRecords(
+			_USER_ID + 1, Collections.singletonList(ddmFormValues2));
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).deleteEntry(
+			1
+		);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).deleteEntry(
+			2
+		);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).deleteEntry(
+			3
+		);
+
+		PowerMockito.verifyStatic(Mockito.times(2));
+
+		CompanyThreadLocal.setCompanyId(_COMPANY_ID);
+
+		Assert.assertEquals(
+			3, _ddmFormInstanceRecordSubmissionQueue.getProcessedCount());
+		Assert.assertEquals(
+			0, _ddmFormInstanceRecordSubmissionQueue.getQueueDepth());
+	}
+
+	@Test
+	public void testDrainFailsOnlyTheInvalidEntry() throws Exception {
+		ServiceContext serviceContext = createServiceContext();
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry1 = createEntry(
+			1, _USER_ID, serviceContext, "1");
+		DDMFormInstanceRecordSubmissionQueueEntry entry2 = createEntry(
+			2, _USER_ID, serviceContext, "2");
+
+		mockGetEntries(entry1, entry2);
+
+		DDMFormValues ddmFormValues1 = mockDeserialize("1");
+		DDMFormValues ddmFormValues2 = mockDeserialize("2");
+
+		PowerMockito.when(
+			_ddmFormInstanceRecordLocalService.addFormInstanceRecords(
+				Matchers.anyLong(), Matchers.anyLong(), Matchers.anyLong(),
+				Matchers.argThat(
+					new ArgumentMatcher<List<DDMFormValues>>() {
+
+						@Override
+						public boolean matches(Object argument) {
+							List<?> list = (List<?>)argument;
+
+							return list.contains(ddmFormValues2);
+						}
+
+					}),
+				Matchers.any(ServiceContext.class))
+		).thenThrow(
+			new RuntimeException()
+		);
+
+		_ddmFormInstanceRecordSubmissionQueue.drain();
+
+		verifyAddFormInstanceRecords(
+			_USER_ID, Collections.singletonList(ddmFormValues1));
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).deleteEntry(
+			1
+		);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).failEntry(
+			2
+		);
+
+		Assert.assertEquals(
+			1, _ddmFormInstanceRecordSubmissionQueue.getFailedCount());
+		Assert.assertEquals(
+			1, _ddmFormInstanceRecordSubmissionQueue.getProcessedCount());
+	}
+
+	@Test
+	public void testDrainClaimsEntriesInBatches() throws Exception {
+		setUpConfiguration(2);
+
+		PowerMockito.when(
+			_ddmFormInstanceRecordSubmissionQueueStore.getEntryIds(
+				Matchers.any(Date.class))
+		).thenReturn(
+			Arrays.asList(1L, 2L, 3L)
+		);
+
+		_ddmFormInstanceRecordSubmissionQueue.drain();
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).claimEntries(
+			Matchers.eq(1L), Matchers.eq(2L), Matchers.any(Date.class)
+		);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).claimEntries(
+			Matchers.eq(3L), Matchers.eq(3L), Matchers.any(Date.class)
+		);
+	}
+
+	@Test
+	public void testDrainKeepsClaimOfEntryThatCannotBeMarkedAsFailed()
+		throws Exception {
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry = createEntry(
+			1, _USER_ID, createServiceContext(), "1");
+
+		mockGetEntries(entry);
+
+		mockDeserialize("1");
+
+		PowerMockito.when(
+			_ddmFormInstanceRecordLocalService.addFormInstanceRecords(
+				Matchers.anyLong(), Matchers.anyLong(), Matchers.anyLong(),
+				Matchers.anyListOf(DDMFormValues.class),
+				Matchers.any(ServiceContext.class))
+		).thenThrow(
+			new RuntimeException()
+		);
+
+		Mockito.doThrow(
+			new SQLException()
+		).when(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).failEntry(
+			1
+		);
+
+		_ddmFormInstanceRecordSubmissionQueue.drain();
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).failEntry(
+			1
+		);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore, Mockito.never()
+		).deleteEntry(
+			Matchers.anyLong()
+		);
+
+		Assert.assertEquals(
+			1, _ddmFormInstanceRecordSubmissionQueue.getFailedCount());
+	}
+
+	@Test
+	public void testDrainOnlyOnMaster() throws Exception {
+		PowerMockito.when(
+			_clusterMasterExecutor.isMaster()
+		).thenReturn(
+			false
+		);
+
+		PowerMockito.when(
+			_ddmFormInstanceRecordSubmissionQueueStore.countEntries()
+		).thenReturn(
+			5L
+		);
+
+		_ddmFormInstanceRecordSubmissionQueue.drain();
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore, Mockito.never()
+		).getEntryIds(
+			Matchers.any(Date.class)
+		);
+
+		Assert.assertEquals(
+			5, _ddmFormInstanceRecordSubmissionQueue.getQueueDepth());
+	}
+
+	@Test
+	public void testOffer() throws Exception {
+		DDMFormValues ddmFormValues = Mockito.mock(DDMFormValues.class);
+
+		PowerMockito.when(
+			_ddmFormValuesJSONSerializer.serialize(ddmFormValues)
+		).thenReturn(
+			"1"
+		);
+
+		Assert.assertTrue(
+			_ddmFormInstanceRecordSubmissionQueue.offer(
+				_USER_ID, _GROUP_ID, mockDDMFormInstance(), ddmFormValues,
+				createServiceContext()));
+
+		ArgumentCaptor<DDMFormInstanceRecordSubmissionQueueEntry>
+			argumentCaptor = ArgumentCaptor.forClass(
+				DDMFormInstanceRecordSubmissionQueueEntry.class);
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore
+		).addEntry(
+			argumentCaptor.capture()
+		);
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry =
+			argumentCaptor.getValue();
+
+		Assert.assertEquals(_COMPANY_ID, entry.getCompanyId());
+		Assert.assertEquals("1", entry.getDDMFormValues());
+		Assert.assertEquals(_FORM_INSTANCE_ID, entry.getFormInstanceId());
+		Assert.assertEquals(_GROUP_ID, entry.getGroupId());
+		Assert.assertEquals(
+			_STRUCTURE_VERSION_ID, entry.getStructureVersionId());
+		Assert.assertEquals(_USER_ID, entry.getUserId());
+
+		Assert.assertEquals(
+			1, _ddmFormInstanceRecordSubmissionQueue.getOfferedCount());
+		Assert.assertEquals(
+			1, _ddmFormInstanceRecordSubmissionQueue.getQueueDepth());
+	}
+
+	@Test
+	public void testOfferRejectsEntriesWhenQueueIsFull() throws Exception {
+		DDMFormInstance ddmFormInstance = mockDDMFormInstance();
+		DDMFormValues ddmFormValues = Mockito.mock(DDMFormValues.class);
+		ServiceContext serviceContext = createServiceContext();
+
+		for (int i = 0; i < 2; i++) {
+			Assert.assertTrue(
+				_ddmFormInstanceRecordSubmissionQueue.offer(
+					_USER_ID, _GROUP_ID, ddmFormInstance, ddmFormValues,
+					serviceContext));
+		}
+
+		Assert.assertFalse(
+			_ddmFormInstanceRecordSubmissionQueue.offer(
+				_USER_ID, _GROUP_ID, ddmFormInstance, ddmFormValues,
+				serviceContext));
+
+		Mockito.verify(
+			_ddmFormInstanceRecordSubmissionQueueStore, Mockito.times(2)
+		).addEntry(
+			Matchers.any(DDMFormInstanceRecordSubmissionQueueEntry.class)
+		);
+
+		Assert.assertEquals(
+			1, _ddmFormInstanceRecordSubmissionQueue.getRejectedCount());
+	}
+
+	protected DDMFormInstanceRecordSubmissionQueueEntry createEntry(
+		long entryId, long userId, ServiceContext serviceContext,
+		String ddmFormValues) {
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry =
+			new DDMFormInstanceRecordSubmissionQueueEntry();
+
+		entry.setAttributes(
+			_ddmFormInstanceRecordSubmissionQueue.serializeAttributes(
+				serviceContext.getAttributes()));
+		entry.setCompanyId(_COMPANY_ID);
+		entry.setDDMFormValues(ddmFormValues);
+		entry.setEntryId(entryId);
+		entry.setFormInstanceId(_FORM_INSTANCE_ID);
+		entry.setGroupId(_GROUP_ID);
+		entry.setServiceContext(
+			_ddmFormInstanceRecordSubmissionQueue.serializeServiceContext(
+				serviceContext));
+		entry.setStructureVersionId(_STRUCTURE_VERSION_ID);
+		entry.setUserId(userId);
+
+		return entry;
+	}
+
+	protected ServiceContext createServiceContext() {
+		ServiceContext serviceContext = new ServiceContext();
+
+		ModelPermissions modelPermissions = new ModelPermissions();
+
+		modelPermissions.addRolePermissions(
+			"Owner", new String[] {"UPDATE", "VIEW"});
+
+		serviceContext.setModelPermissions(modelPermissions);
+
+		serviceContext.setAssetCategoryIds(new long[] {1, 2});
+		serviceContext.setAssetTagNames(new String[] {"tag"});
+		serviceContext.setGroupPermissions(new String[] {"VIEW"});
+		serviceContext.setLanguageId("pt_BR");
+		serviceContext.setWorkflowAction(2);
+
+		return serviceContext;
+	}
+
+	protected DDMFormInstance mockDDMFormInstance() throws Exception {
+		DDMFormInstance ddmFormInstance = Mockito.mock(DDMFormInstance.class);
+
+		PowerMockito.when(
+			ddmFormInstance.getCompanyId()
+		).thenReturn(
+			_COMPANY_ID
+		);
+
+		PowerMockito.when(
+			ddmFormInstance.getFormInstanceId()
+		).thenReturn(
+			_FORM_INSTANCE_ID
+		);
+
+		DDMStructure ddmStructure = Mockito.mock(DDMStructure.class);
+
+		PowerMockito.when(
+			ddmFormInstance.getStructure()
+		).thenReturn(
+			ddmStructure
+		);
+
+		PowerMockito.when(
+			ddmStructure.getStructureVersion()
+		).thenReturn(
+			_ddmStructureVersion
+		);
+
+		return ddmFormInstance;
+	}
+
+	protected DDMFormValues mockDeserialize(String serializedDDMFormValues)
+		throws Exception {
+
+		DDMFormValues ddmFormValues = Mockito.mock(DDMFormValues.class);
+
+		PowerMockito.when(
+			_ddmFormValuesJSONDeserializer.deserialize(
+				_ddmForm, serializedDDMFormValues)
+		).thenReturn(
+			ddmFormValues
+		);
+
+		return ddmFormValues;
+	}
+
+	protected void mockGetEntries(
+			DDMFormInstanceRecordSubmissionQueueEntry... entries)
+		throws Exception {
+
+		List<Long> entryIds = new ArrayList<>();
+
+		for (DDMFormInstanceRecordSubmissionQueueEntry entry : entries) {
+			entryIds.add(entry.getEntryId());
+		}
+
+		PowerMockito.when(
+			_ddmFormInstanceRecordSubmissionQueueStore.getEntryIds(
+				Matchers.any(Date.class))
+		).thenReturn(
+			entryIds
+		);
+
+		PowerMockito.when(
+			_ddmFormInstanceRecordSubmissionQueueStore.claimEntries(
+				Matchers.eq(entryIds.get(0)),
+				Matchers.eq(entryIds.get(entryIds.size() - 1)),
+				Matchers.any(Date.class))
+		).thenReturn(
+			Arrays.asList(entries)
+		);
+	}
+
+	protected void setUpCompanyThreadLocal() {
+		PowerMockito.mockStatic(CompanyThreadLocal.class);
+	}
+
+	protected void setUpConfiguration(int batchSize) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("batchSize", String.valueOf(batchSize));
+		properties.put("drainInterval", "3600000");
+		properties.put("maximumQueueDepth", "2");
+
+		_ddmFormInstanceRecordSubmissionQueue.activate(properties);
+	}
+
+	protected void setUpDDMStructureVersionLocalService() throws Exception {
+		PowerMockito.when(
+			_ddmStructureVersion.getDDMForm()
+		).thenReturn(
+			_ddmForm
+		);
+
+		PowerMockito.when(
+			_ddmStructureVersion.getStructureVersionId()
+		).thenReturn(
+			_STRUCTURE_VERSION_ID
+		);
+
+		PowerMockito.when(
+			_ddmStructureVersionLocalService.getStructureVersion(
+				_STRUCTURE_VERSION_ID)
+		).thenReturn(
+			_ddmStructureVersion
+		);
+	}
+
+	protected void setUpField(String fieldName, Object value)
+		throws Exception {
+
+		MemberMatcher.field(
+			DDMFormInstanceRecordSubmissionQueue.class, fieldName
+		).set(
+			_ddmFormInstanceRecordSubmissionQueue, value
+		);
+	}
+
+	protected void setUpPermissionCheckerFactoryUtil() throws Exception {
+		PowerMockito.mockStatic(PermissionCheckerFactoryUtil.class);
+
+		PowerMockito.when(
+			_userLocalService.getUser(Matchers.anyLong())
+		).thenReturn(
+			Mockito.mock(User.class)
+		);
+	}
+
+	protected void setUpTransactionInvokerUtil() {
+		TransactionInvokerUtil transactionInvokerUtil =
+			new TransactionInvokerUtil();
+
+		transactionInvokerUtil.setTransactionInvoker(
+			new TransactionInvoker() {
+
+				@Override
+				public <T> T invoke(
+						TransactionConfig transactionConfig,
+						Callable<T> callable)
+					throws Throwable {
+
+					return callable.call();
+				}
+
+			});
+	}
+
+	protected void verifyAddFormInstanceRecords(
+			long userId, List<DDMFormValues> ddmFormValuesList)
+		throws Exception {
+
+		Mockito.verify(
+			_ddmFormInstanceRecordLocalService
+		).addFormInstanceRecords(
+			Matchers.eq(userId), Matchers.eq(_GROUP_ID),
+			Matchers.eq(_FORM_INSTANCE_ID), Matchers.eq(ddmFormValuesList),
+			Matchers.any(ServiceContext.class)
+		);
+	}
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final long _FORM_INSTANCE_ID = 2;
+
+	private static final long _GROUP_ID = 3;
+
+	private static final long _STRUCTURE_VERSION_ID = 4;
+
+	private static final long _USER_ID = 5;
+
+	@Mock
+	private ClusterMasterExecutor _clusterMasterExecutor;
+
+	private final DDMForm _ddmForm = new DDMForm();
+
+	@Mock
+	private DDMFormEmailNotificationDispatcher
+		_ddmFormEmailNotificationDispatcher;
+
+	@Mock
+	private DDMFormInstanceRecordLocalService
+		_ddmFormInstanceRecordLocalService;
+
+	private DDMFormInstanceRecordSubmissionQueue
+		_ddmFormInstanceRecordSubmissionQueue;
+
+	@Mock
+	private DDMFormInstanceRecordSubmissionQueueStore
+		_ddmFormInstanceRecordSubmissionQueueStore;
+
+	@Mock
+	private DDMFormValuesJSONDeserializer _ddmFormValuesJSONDeserializer;
+
+	@Mock
+	private DDMFormValuesJSONSerializer _ddmFormValuesJSONSerializer;
+
+	@Mock
+	private DDMStructureVersion _ddmStructureVersion;
+
+	@Mock
+	private DDMStructureVersionLocalService _ddmStructureVersionLocalService;
+
+	@Mock
+	private UserLocalService _userLocalService;
+
+}
\ No newline at end of file
@@ -17,6 +17,8 @@ package com.liferay.dynamic.data.mapping.io.exporter;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
 import com.liferay.portal.kernel.util.OrderByComparator;
 
+import java.io.OutputStream;
+
 import java.util.Locale;
 
 /**
@@ -29,6 +31,13 @@ public interface DDMFormExporter {
 
 	public byte[] export(long formInstanceId, int status) throws Exception;
 
+	public default void export(
+			long formInstanceId, int status, OutputStream outputStream)
+		throws Exception {
+
+		outputStream.write(export(formInstanceId, status));
+	}
+
 	public byte[] export(long formInstanceId, int status, int start, int end)
 		throws Exception;
 
@@ -37,6 +46,22 @@ public interface DDMFormExporter {
 			OrderByComparator<DDMFormInstanceRecord> orderByComparator)
 		throws Exception;
 
+	/**
+	 * Writes the records of the form instance to the output stream. The output
+	 * stream is not closed. By default, the export is built in memory and then
+	 * written. Exporters can override this method to write the records as they
+	 * are read, in batches.
+	 */
+	public default void export(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			OutputStream outputStream)
+		throws Exception {
+
+		outputStream.write(
+			export(formInstanceId, status, start, end, orderByComparator));
+	}
+
 	public String getFormat();
 
 	public Locale getLocale();
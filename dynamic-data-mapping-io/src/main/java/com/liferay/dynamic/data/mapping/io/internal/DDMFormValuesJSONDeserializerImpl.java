@@ -246,7 +246,7 @@ public class DDMFormValuesJSONDeserializerImpl
 		JSONArray jsonArray, DDMForm ddmForm, DDMFormValues ddmFormValues) {
 
 		List<DDMFormFieldValue> ddmFormFieldValues = getDDMFormFieldValues(
-			jsonArray, ddmForm.getDDMFormFieldsMap(true));
+			jsonArray, ddmForm.getReadOnlyDDMFormFieldsMap(true));
 
 		ddmFormValues.setDDMFormFieldValues(ddmFormFieldValues);
 	}
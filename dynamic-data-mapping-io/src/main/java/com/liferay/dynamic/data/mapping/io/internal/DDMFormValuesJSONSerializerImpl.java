@@ -59,7 +59,7 @@ public class DDMFormValuesJSONSerializerImpl
 		DDMForm ddmForm = ddmFormValues.getDDMForm();
 
 		addFieldValues(
-			jsonObject, ddmForm.getDDMFormFieldsMap(true),
+			jsonObject, ddmForm.getReadOnlyDDMFormFieldsMap(true),
 			ddmFormValues.getDDMFormFieldValues());
 
 		return jsonObject.toString();
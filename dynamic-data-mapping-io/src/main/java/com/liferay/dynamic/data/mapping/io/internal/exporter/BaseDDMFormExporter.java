@@ -20,19 +20,26 @@ import com.liferay.dynamic.data.mapping.io.exporter.DDMFormExporter;
 import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.model.DDMFormField;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecordVersion;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceVersion;
 import com.liferay.dynamic.data.mapping.model.DDMStructureVersion;
 import com.liferay.dynamic.data.mapping.model.LocalizedValue;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceVersionLocalService;
 import com.liferay.dynamic.data.mapping.storage.DDMFormFieldValue;
 import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.storage.StorageEngine;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -67,6 +74,16 @@ public abstract class BaseDDMFormExporter implements DDMFormExporter {
 			formInstanceId, status, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
 	}
 
+	@Override
+	public void export(
+			long formInstanceId, int status, OutputStream outputStream)
+		throws Exception {
+
+		doExport(
+			formInstanceId, status, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null,
+			outputStream);
+	}
+
 	@Override
 	public byte[] export(long formInstanceId, int status, int start, int end)
 		throws Exception {
@@ -83,9 +100,24 @@ public abstract class BaseDDMFormExporter implements DDMFormExporter {
 		return doExport(formInstanceId, status, start, end, orderByComparator);
 	}
 
+	@Override
+	public void export(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			OutputStream outputStream)
+		throws Exception {
+
+		doExport(
+			formInstanceId, status, start, end, orderByComparator,
+			outputStream);
+	}
+
 	public abstract DDMFormFieldTypeServicesTracker
 		getDDMFormFieldTypeServicesTracker();
 
+	public abstract DDMFormInstanceRecordLocalService
+		getDDMFormInstanceRecordLocalService();
+
 	public abstract DDMFormInstanceVersionLocalService
 		getDDMFormInstanceVersionLocalService();
 
@@ -98,16 +130,133 @@ public abstract class BaseDDMFormExporter implements DDMFormExporter {
 		return _locale;
 	}
 
+	public abstract StorageEngine getStorageEngine();
+
 	@Override
 	public void setLocale(Locale locale) {
 		_locale = locale;
 	}
 
-	protected abstract byte[] doExport(
+	protected byte[] doExport(
 			long formInstanceId, int status, int start, int end,
 			OrderByComparator<DDMFormInstanceRecord> orderByComparator)
+		throws Exception {
+
+		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+		doExport(
+			formInstanceId, status, start, end, orderByComparator,
+			unsyncByteArrayOutputStream);
+
+		return unsyncByteArrayOutputStream.toByteArray();
+	}
+
+	protected abstract void doExport(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			OutputStream outputStream)
 		throws Exception;
 
+	/**
+	 * Reads the records between <code>start</code> and <code>end</code> in
+	 * fixed size batches and passes them to the consumer one by one, so that
+	 * only a single batch is held in memory at a time. The form values of
+	 * each batch are loaded together.
+	 *
+	 * @return the number of records passed to the consumer
+	 */
+	protected int forEachFormInstanceRecord(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			FormInstanceRecordConsumer formInstanceRecordConsumer)
+		throws Exception {
+
+		return forEachFormInstanceRecord(
+			formInstanceId, status, start, end, orderByComparator,
+			formInstanceRecordConsumer, null);
+	}
+
+	/**
+	 * Works like {@link #forEachFormInstanceRecord(long, int, int, int,
+	 * OrderByComparator, FormInstanceRecordConsumer)}, and calls the flusher
+	 * once the first batch has been passed to the consumer. Exporters that
+	 * write through a {@link DeferredOutputStream} use it to release the
+	 * output only after the first batch was read and rendered.
+	 */
+	protected int forEachFormInstanceRecord(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			FormInstanceRecordConsumer formInstanceRecordConsumer,
+			FirstBatchFlusher firstBatchFlusher)
+		throws Exception {
+
+		if ((start == QueryUtil.ALL_POS) || (end == QueryUtil.ALL_POS)) {
+			start = 0;
+			end = Integer.MAX_VALUE;
+		}
+
+		DDMFormInstanceRecordLocalService ddmFormInstanceRecordLocalService =
+			getDDMFormInstanceRecordLocalService();
+
+		int batchStart = start;
+		int count = 0;
+
+		while (batchStart < end) {
+			int batchEnd = (int)Math.min((long)batchStart + _BATCH_SIZE, end);
+
+			List<DDMFormInstanceRecord> formInstanceRecords =
+				ddmFormInstanceRecordLocalService.getFormInstanceRecords(
+					formInstanceId, status, batchStart, batchEnd,
+					orderByComparator);
+
+			List<DDMFormInstanceRecordVersion> formInstanceRecordVersions =
+				new ArrayList<>(formInstanceRecords.size());
+
+			long[] storageIds = new long[formInstanceRecords.size()];
+
+			for (int i = 0; i < storageIds.length; i++) {
+				DDMFormInstanceRecord formInstanceRecord =
+					formInstanceRecords.get(i);
+
+				DDMFormInstanceRecordVersion formInstanceRecordVersion =
+					formInstanceRecord.getFormInstanceRecordVersion();
+
+				formInstanceRecordVersions.add(formInstanceRecordVersion);
+
+				storageIds[i] = formInstanceRecordVersion.getStorageId();
+			}
+
+			StorageEngine storageEngine = getStorageEngine();
+
+			Map<Long, DDMFormValues> ddmFormValuesMap =
+				storageEngine.getDDMFormValues(storageIds);
+
+			for (DDMFormInstanceRecordVersion formInstanceRecordVersion :
+					formInstanceRecordVersions) {
+
+				formInstanceRecordConsumer.accept(
+					formInstanceRecordVersion,
+					ddmFormValuesMap.get(
+						formInstanceRecordVersion.getStorageId()));
+			}
+
+			if ((batchStart == start) && (firstBatchFlusher != null)) {
+				firstBatchFlusher.flush();
+			}
+
+			count += formInstanceRecords.size();
+
+			if (formInstanceRecords.size() < (batchEnd - batchStart)) {
+				break;
+			}
+
+			batchStart = batchEnd;
+		}
+
+		return count;
+	}
+
 	protected String formatDate(
 		Date date, DateTimeFormatter dateTimeFormatter) {
 
@@ -155,7 +304,7 @@ public abstract class BaseDDMFormExporter implements DDMFormExporter {
 		Map<String, DDMFormField> ddmFormFields = new LinkedHashMap<>();
 
 		for (DDMStructureVersion ddmStructureVersion : ddmStructureVersions) {
-			DDMForm ddmForm = ddmStructureVersion.getDDMForm();
+			DDMForm ddmForm = ddmStructureVersion.getReadOnlyDDMForm();
 
 			ddmFormFields.putAll(ddmForm.getDDMFormFieldsMap(true));
 		}
@@ -213,6 +362,21 @@ public abstract class BaseDDMFormExporter implements DDMFormExporter {
 		return ddmStructureVersions;
 	}
 
+	protected interface FirstBatchFlusher {
+
+		public void flush() throws Exception;
+
+	}
+
+	protected interface FormInstanceRecordConsumer {
+
+		public void accept(
+				DDMFormInstanceRecordVersion formInstanceRecordVersion,
+				DDMFormValues ddmFormValues)
+			throws Exception;
+
+	}
+
 	protected static class DDMFormFieldRenderedValue {
 
 		protected DDMFormFieldRenderedValue(
@@ -241,6 +405,60 @@ public abstract class BaseDDMFormExporter implements DDMFormExporter {
 
 	}
 
+	/**
+	 * Holds the written bytes in memory until the stream is flushed for the
+	 * first time, and writes straight to the wrapped stream afterwards. An
+	 * export that fails before that leaves the wrapped stream untouched, so
+	 * that the caller can still report the error instead of sending a
+	 * truncated file.
+	 */
+	protected static class DeferredOutputStream extends OutputStream {
+
+		public DeferredOutputStream(OutputStream outputStream) {
+			_outputStream = outputStream;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (_unsyncByteArrayOutputStream != null) {
+				_unsyncByteArrayOutputStream.writeTo(_outputStream);
+
+				_unsyncByteArrayOutputStream = null;
+			}
+
+			_outputStream.flush();
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			if (_unsyncByteArrayOutputStream != null) {
+				_unsyncByteArrayOutputStream.write(bytes, offset, length);
+			}
+			else {
+				_outputStream.write(bytes, offset, length);
+			}
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (_unsyncByteArrayOutputStream != null) {
+				_unsyncByteArrayOutputStream.write(b);
+			}
+			else {
+				_outputStream.write(b);
+			}
+		}
+
+		private final OutputStream _outputStream;
+		private UnsyncByteArrayOutputStream _unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+	}
+
+	private static final int _BATCH_SIZE = 100;
+
 	private Locale _locale;
 
 }
\ No newline at end of file
@@ -18,23 +18,25 @@ import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServices
 import com.liferay.dynamic.data.mapping.io.exporter.DDMFormExporter;
 import com.liferay.dynamic.data.mapping.model.DDMFormField;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
-import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecordVersion;
 import com.liferay.dynamic.data.mapping.model.LocalizedValue;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceVersionLocalService;
-import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.storage.StorageEngine;
 import com.liferay.petra.string.CharPool;
+import com.liferay.portal.kernel.io.unsync.UnsyncBufferedWriter;
 import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.util.CSVUtil;
 import com.liferay.portal.kernel.util.OrderByComparator;
-import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.nio.charset.StandardCharsets;
+
 import java.time.format.DateTimeFormatter;
 
-import java.util.Iterator;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -55,6 +57,13 @@ public class DDMFormCSVExporter extends BaseDDMFormExporter {
 		return _ddmFormFieldTypeServicesTracker;
 	}
 
+	@Override
+	public DDMFormInstanceRecordLocalService
+		getDDMFormInstanceRecordLocalService() {
+
+		return _ddmFormInstanceRecordLocalService;
+	}
+
 	@Override
 	public DDMFormInstanceVersionLocalService
 		getDDMFormInstanceVersionLocalService() {
@@ -68,12 +77,21 @@ public class DDMFormCSVExporter extends BaseDDMFormExporter {
 	}
 
 	@Override
-	protected byte[] doExport(
+	public StorageEngine getStorageEngine() {
+		return _storageEngine;
+	}
+
+	@Override
+	protected void doExport(
 			long formInstanceId, int status, int start, int end,
-			OrderByComparator<DDMFormInstanceRecord> orderByComparator)
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			OutputStream outputStream)
 		throws Exception {
 
-		StringBundler sb = new StringBundler();
+		Writer writer = new UnsyncBufferedWriter(
+			new OutputStreamWriter(
+				new DeferredOutputStream(outputStream),
+				StandardCharsets.UTF_8));
 
 		Map<String, DDMFormField> ddmFormFields = getDistinctFields(
 			formInstanceId);
@@ -83,75 +101,64 @@ public class DDMFormCSVExporter extends BaseDDMFormExporter {
 		for (DDMFormField ddmFormField : ddmFormFields.values()) {
 			LocalizedValue label = ddmFormField.getLabel();
 
-			sb.append(CSVUtil.encode(label.getString(locale)));
+			writer.write(CSVUtil.encode(label.getString(locale)));
 
-			sb.append(CharPool.COMMA);
+			writer.write(CharPool.COMMA);
 		}
 
-		sb.append(LanguageUtil.get(locale, "status"));
-		sb.append(CharPool.COMMA);
-		sb.append(LanguageUtil.get(locale, "modified-date"));
-		sb.append(CharPool.COMMA);
-		sb.append(LanguageUtil.get(locale, "author"));
-		sb.append(StringPool.NEW_LINE);
-
-		List<DDMFormInstanceRecord> formInstanceRecords =
-			_ddmFormInstanceRecordLocalService.getFormInstanceRecords(
-				formInstanceId, status, start, end, orderByComparator);
-
-		Iterator<DDMFormInstanceRecord> iterator =
-			formInstanceRecords.iterator();
+		writer.write(LanguageUtil.get(locale, "status"));
+		writer.write(CharPool.COMMA);
+		writer.write(LanguageUtil.get(locale, "modified-date"));
+		writer.write(CharPool.COMMA);
+		writer.write(LanguageUtil.get(locale, "author"));
 
 		DateTimeFormatter dateTimeFormatter = getDateTimeFormatter();
 
-		while (iterator.hasNext()) {
-			DDMFormInstanceRecord record = iterator.next();
-
-			DDMFormInstanceRecordVersion recordVersion =
-				record.getFormInstanceRecordVersion();
+		int count = forEachFormInstanceRecord(
+			formInstanceId, status, start, end, orderByComparator,
+			(recordVersion, ddmFormValues) -> {
+				writer.write(StringPool.NEW_LINE);
 
-			DDMFormValues ddmFormValues = _storageEngine.getDDMFormValues(
-				recordVersion.getStorageId());
+				Map<String, DDMFormFieldRenderedValue> values =
+					getRenderedValues(ddmFormFields.values(), ddmFormValues);
 
-			Map<String, DDMFormFieldRenderedValue> values = getRenderedValues(
-				ddmFormFields.values(), ddmFormValues);
+				for (Map.Entry<String, DDMFormField> entry :
+						ddmFormFields.entrySet()) {
 
-			for (Map.Entry<String, DDMFormField> entry :
-					ddmFormFields.entrySet()) {
+					if (values.containsKey(entry.getKey())) {
+						DDMFormFieldRenderedValue ddmFormFieldRenderedValue =
+							values.get(entry.getKey());
 
-				if (values.containsKey(entry.getKey())) {
-					DDMFormFieldRenderedValue ddmFormFieldRenderedValue =
-						values.get(entry.getKey());
+						writer.write(
+							CSVUtil.encode(
+								ddmFormFieldRenderedValue.getValue()));
+					}
+					else {
+						writer.write(StringPool.BLANK);
+					}
 
-					sb.append(
-						CSVUtil.encode(ddmFormFieldRenderedValue.getValue()));
+					writer.write(CharPool.COMMA);
 				}
-				else {
-					sb.append(StringPool.BLANK);
-				}
-
-				sb.append(CharPool.COMMA);
-			}
 
-			sb.append(getStatusMessage(recordVersion.getStatus()));
+				writer.write(getStatusMessage(recordVersion.getStatus()));
 
-			sb.append(CharPool.COMMA);
+				writer.write(CharPool.COMMA);
 
-			sb.append(
-				formatDate(recordVersion.getStatusDate(), dateTimeFormatter));
+				writer.write(
+					formatDate(
+						recordVersion.getStatusDate(), dateTimeFormatter));
 
-			sb.append(CharPool.COMMA);
+				writer.write(CharPool.COMMA);
 
-			sb.append(CSVUtil.encode(recordVersion.getUserName()));
+				writer.write(CSVUtil.encode(recordVersion.getUserName()));
+			},
+			writer::flush);
 
-			if (iterator.hasNext()) {
-				sb.append(StringPool.NEW_LINE);
-			}
+		if (count == 0) {
+			writer.write(StringPool.NEW_LINE);
 		}
 
-		String csv = sb.toString();
-
-		return csv.getBytes();
+		writer.flush();
 	}
 
 	@Reference
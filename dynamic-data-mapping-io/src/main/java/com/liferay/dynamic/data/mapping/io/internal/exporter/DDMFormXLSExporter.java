@@ -18,25 +18,21 @@ import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServices
 import com.liferay.dynamic.data.mapping.io.exporter.DDMFormExporter;
 import com.liferay.dynamic.data.mapping.model.DDMFormField;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
-import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecordVersion;
 import com.liferay.dynamic.data.mapping.model.LocalizedValue;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceVersionLocalService;
-import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.storage.StorageEngine;
 import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringPool;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 import java.time.format.DateTimeFormatter;
 
 import java.util.Collection;
 import java.util.Date;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -65,6 +61,13 @@ public class DDMFormXLSExporter extends BaseDDMFormExporter {
 		return _ddmFormFieldTypeServicesTracker;
 	}
 
+	@Override
+	public DDMFormInstanceRecordLocalService
+		getDDMFormInstanceRecordLocalService() {
+
+		return _ddmFormInstanceRecordLocalService;
+	}
+
 	@Override
 	public DDMFormInstanceVersionLocalService
 		getDDMFormInstanceVersionLocalService() {
@@ -77,6 +80,11 @@ public class DDMFormXLSExporter extends BaseDDMFormExporter {
 		return "xls";
 	}
 
+	@Override
+	public StorageEngine getStorageEngine() {
+		return _storageEngine;
+	}
+
 	protected CellStyle createCellStyle(
 		Workbook workbook, boolean bold, String fontName,
 		short heightInPoints) {
@@ -179,63 +187,72 @@ public class DDMFormXLSExporter extends BaseDDMFormExporter {
 		cell.setCellValue(LanguageUtil.get(locale, "author"));
 	}
 
+	protected Workbook createWorkbook() {
+		return new HSSFWorkbook();
+	}
+
+	protected void disposeWorkbook(Workbook workbook) {
+	}
+
 	@Override
 	protected byte[] doExport(
 			long formInstanceId, int status, int start, int end,
 			OrderByComparator<DDMFormInstanceRecord> orderByComparator)
 		throws Exception {
 
+		try {
+			return super.doExport(
+				formInstanceId, status, start, end, orderByComparator);
+		}
+		catch (Exception e) {
+			return new byte[0];
+		}
+	}
+
+	@Override
+	protected void doExport(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			OutputStream outputStream)
+		throws Exception {
+
 		Map<String, DDMFormField> ddmFormFields = getDistinctFields(
 			formInstanceId);
 
 		DateTimeFormatter dateTimeFormatter = getDateTimeFormatter();
 
-		try (ByteArrayOutputStream byteArrayOutputStream =
-				new ByteArrayOutputStream();
-			Workbook workbook = new HSSFWorkbook()) {
+		Workbook workbook = createWorkbook();
 
+		try {
 			Sheet sheet = workbook.createSheet();
 
 			createHeaderRow(ddmFormFields.values(), sheet, workbook);
 
-			List<DDMFormInstanceRecord> formInstanceRecords =
-				_ddmFormInstanceRecordLocalService.getFormInstanceRecords(
-					formInstanceId, status, start, end, orderByComparator);
-
-			Iterator<DDMFormInstanceRecord> iterator =
-				formInstanceRecords.iterator();
-
-			int rowIndex = 1;
-
 			CellStyle cellStyle = createCellStyle(
 				workbook, false, "Courier New", (short)12);
 
-			while (iterator.hasNext()) {
-				DDMFormInstanceRecord formInstanceRecord = iterator.next();
-
-				DDMFormInstanceRecordVersion formInstanceRecordVersion =
-					formInstanceRecord.getFormInstanceRecordVersion();
-
-				DDMFormValues ddmFormValues = _storageEngine.getDDMFormValues(
-					formInstanceRecordVersion.getStorageId());
-
-				Map<String, DDMFormFieldRenderedValue> values =
-					getRenderedValues(ddmFormFields.values(), ddmFormValues);
-
-				createDataRow(
-					rowIndex++, sheet, dateTimeFormatter,
-					formInstanceRecordVersion.getUserName(),
-					getStatusMessage(formInstanceRecordVersion.getStatus()),
-					formInstanceRecordVersion.getStatusDate(), cellStyle,
-					ddmFormFields, values);
-			}
-
-			workbook.write(byteArrayOutputStream);
-
-			return byteArrayOutputStream.toByteArray();
+			forEachFormInstanceRecord(
+				formInstanceId, status, start, end, orderByComparator,
+				(formInstanceRecordVersion, ddmFormValues) -> {
+					Map<String, DDMFormFieldRenderedValue> values =
+						getRenderedValues(
+							ddmFormFields.values(), ddmFormValues);
+
+					createDataRow(
+						sheet.getLastRowNum() + 1, sheet, dateTimeFormatter,
+						formInstanceRecordVersion.getUserName(),
+						getStatusMessage(
+							formInstanceRecordVersion.getStatus()),
+						formInstanceRecordVersion.getStatusDate(), cellStyle,
+						ddmFormFields, values);
+				});
+
+			workbook.write(outputStream);
 		}
-		catch (Exception e) {
-			return new byte[0];
+		finally {
+			disposeWorkbook(workbook);
+
+			workbook.close();
 		}
 	}
 
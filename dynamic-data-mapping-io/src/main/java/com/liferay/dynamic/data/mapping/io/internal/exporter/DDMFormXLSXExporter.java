@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.io.internal.exporter;
+
+import com.liferay.dynamic.data.mapping.io.exporter.DDMFormExporter;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Writes the workbook with the streaming variant of the OOXML format, which
+ * only keeps a window of rows in memory and flushes the rest to a temporary
+ * file, unlike the binary XLS format that needs the whole workbook in memory.
+ *
+ * @author agent
+ */
+@Component(immediate = true, service = DDMFormExporter.class)
+public class DDMFormXLSXExporter extends DDMFormXLSExporter {
+
+	@Override
+	public String getFormat() {
+		return "xlsx";
+	}
+
+	@Override
+	protected Workbook createWorkbook() {
+		SXSSFWorkbook sxssfWorkbook = new SXSSFWorkbook(
+			_ROW_ACCESS_WINDOW_SIZE);
+
+		sxssfWorkbook.setCompressTempFiles(true);
+
+		return sxssfWorkbook;
+	}
+
+	@Override
+	protected void disposeWorkbook(Workbook workbook) {
+		SXSSFWorkbook sxssfWorkbook = (SXSSFWorkbook)workbook;
+
+		sxssfWorkbook.dispose();
+	}
+
+	private static final int _ROW_ACCESS_WINDOW_SIZE = 100;
+
+}
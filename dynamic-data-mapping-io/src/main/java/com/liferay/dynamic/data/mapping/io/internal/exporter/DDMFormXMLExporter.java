@@ -18,27 +18,26 @@ import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServices
 import com.liferay.dynamic.data.mapping.io.exporter.DDMFormExporter;
 import com.liferay.dynamic.data.mapping.model.DDMFormField;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
-import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecordVersion;
 import com.liferay.dynamic.data.mapping.model.LocalizedValue;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
 import com.liferay.dynamic.data.mapping.service.DDMFormInstanceVersionLocalService;
-import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.storage.StorageEngine;
 import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringPool;
-import com.liferay.portal.kernel.xml.Document;
-import com.liferay.portal.kernel.xml.Element;
-import com.liferay.portal.kernel.xml.SAXReaderUtil;
 
+import java.io.OutputStream;
 import java.io.Serializable;
 
 import java.time.format.DateTimeFormatter;
 
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -56,6 +55,13 @@ public class DDMFormXMLExporter extends BaseDDMFormExporter {
 		return _ddmFormFieldTypeServicesTracker;
 	}
 
+	@Override
+	public DDMFormInstanceRecordLocalService
+		getDDMFormInstanceRecordLocalService() {
+
+		return _ddmFormInstanceRecordLocalService;
+	}
+
 	@Override
 	public DDMFormInstanceVersionLocalService
 		getDDMFormInstanceVersionLocalService() {
@@ -68,102 +74,123 @@ public class DDMFormXMLExporter extends BaseDDMFormExporter {
 		return "xml";
 	}
 
-	protected void addFieldElement(
-		DDMFormFieldRenderedValue ddmFormFieldRenderedValue, Element element,
-		Map.Entry<String, DDMFormField> entry) {
+	@Override
+	public StorageEngine getStorageEngine() {
+		return _storageEngine;
+	}
 
-		LocalizedValue label = null;
-		String value = null;
+	@Override
+	protected void doExport(
+			long formInstanceId, int status, int start, int end,
+			OrderByComparator<DDMFormInstanceRecord> orderByComparator,
+			OutputStream outputStream)
+		throws Exception {
 
-		if (ddmFormFieldRenderedValue == null) {
-			DDMFormField ddmFormField = entry.getValue();
+		Map<String, DDMFormField> ddmFormFields = getDistinctFields(
+			formInstanceId);
 
-			label = ddmFormField.getLabel();
+		XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newInstance();
 
-			value = StringPool.BLANK;
-		}
-		else {
-			label = ddmFormFieldRenderedValue.getLabel();
+		XMLStreamWriter xmlStreamWriter =
+			xmlOutputFactory.createXMLStreamWriter(
+				new DeferredOutputStream(outputStream), StringPool.UTF8);
 
-			value = ddmFormFieldRenderedValue.getValue();
-		}
+		xmlStreamWriter.writeStartDocument(StringPool.UTF8, "1.0");
 
-		addFieldElement(element, label.getString(getLocale()), value);
-	}
+		xmlStreamWriter.writeStartElement("root");
 
-	protected void addFieldElement(
-		Element fieldsElement, String label, Serializable value) {
+		DateTimeFormatter dateTimeFormatter = getDateTimeFormatter();
 
-		Element fieldElement = fieldsElement.addElement("field");
+		forEachFormInstanceRecord(
+			formInstanceId, status, start, end, orderByComparator,
+			(recordVersion, ddmFormValues) -> {
+				xmlStreamWriter.writeStartElement("fields");
 
-		Element labelElement = fieldElement.addElement("label");
+				Map<String, DDMFormFieldRenderedValue> values =
+					getRenderedValues(ddmFormFields.values(), ddmFormValues);
 
-		labelElement.addText(label);
+				for (Map.Entry<String, DDMFormField> entry :
+						ddmFormFields.entrySet()) {
 
-		Element valueElement = fieldElement.addElement("value");
+					DDMFormFieldRenderedValue ddmFormFieldRenderedValue =
+						values.get(entry.getKey());
 
-		valueElement.addText(String.valueOf(value));
-	}
+					writeFieldElement(
+						ddmFormFieldRenderedValue, xmlStreamWriter, entry);
+				}
 
-	@Override
-	protected byte[] doExport(
-			long formInstanceId, int status, int start, int end,
-			OrderByComparator<DDMFormInstanceRecord> orderByComparator)
-		throws Exception {
+				Locale locale = getLocale();
 
-		Map<String, DDMFormField> ddmFormFields = getDistinctFields(
-			formInstanceId);
+				writeFieldElement(
+					xmlStreamWriter, LanguageUtil.get(locale, "status"),
+					getStatusMessage(recordVersion.getStatus()));
 
-		Document document = SAXReaderUtil.createDocument();
+				writeFieldElement(
+					xmlStreamWriter, LanguageUtil.get(locale, "modified-date"),
+					formatDate(
+						recordVersion.getStatusDate(), dateTimeFormatter));
 
-		Element rootElement = document.addElement("root");
+				writeFieldElement(
+					xmlStreamWriter, LanguageUtil.get(locale, "author"),
+					recordVersion.getUserName());
 
-		List<DDMFormInstanceRecord> formInstanceRecords =
-			_ddmFormInstanceRecordLocalService.getFormInstanceRecords(
-				formInstanceId, status, start, end, orderByComparator);
+				xmlStreamWriter.writeEndElement();
+			},
+			xmlStreamWriter::flush);
 
-		DateTimeFormatter dateTimeFormatter = getDateTimeFormatter();
+		xmlStreamWriter.writeEndElement();
+
+		xmlStreamWriter.writeEndDocument();
+
+		xmlStreamWriter.flush();
+
+		xmlStreamWriter.close();
+	}
+
+	protected void writeFieldElement(
+			DDMFormFieldRenderedValue ddmFormFieldRenderedValue,
+			XMLStreamWriter xmlStreamWriter,
+			Map.Entry<String, DDMFormField> entry)
+		throws XMLStreamException {
+
+		LocalizedValue label = null;
+		String value = null;
 
-		for (DDMFormInstanceRecord formInstanceRecord : formInstanceRecords) {
-			Element fieldsElement = rootElement.addElement("fields");
+		if (ddmFormFieldRenderedValue == null) {
+			DDMFormField ddmFormField = entry.getValue();
 
-			DDMFormInstanceRecordVersion recordVersion =
-				formInstanceRecord.getFormInstanceRecordVersion();
+			label = ddmFormField.getLabel();
 
-			DDMFormValues ddmFormValues = _storageEngine.getDDMFormValues(
-				recordVersion.getStorageId());
+			value = StringPool.BLANK;
+		}
+		else {
+			label = ddmFormFieldRenderedValue.getLabel();
+
+			value = ddmFormFieldRenderedValue.getValue();
+		}
 
-			Map<String, DDMFormFieldRenderedValue> values = getRenderedValues(
-				ddmFormFields.values(), ddmFormValues);
+		writeFieldElement(xmlStreamWriter, label.getString(getLocale()), value);
+	}
 
-			for (Map.Entry<String, DDMFormField> entry :
-					ddmFormFields.entrySet()) {
+	protected void writeFieldElement(
+			XMLStreamWriter xmlStreamWriter, String label, Serializable value)
+		throws XMLStreamException {
 
-				DDMFormFieldRenderedValue ddmFormFieldRenderedValue =
-					values.get(entry.getKey());
+		xmlStreamWriter.writeStartElement("field");
 
-				addFieldElement(
-					ddmFormFieldRenderedValue, fieldsElement, entry);
-			}
+		xmlStreamWriter.writeStartElement("label");
 
-			Locale locale = getLocale();
+		xmlStreamWriter.writeCharacters(label);
 
-			addFieldElement(
-				fieldsElement, LanguageUtil.get(locale, "status"),
-				getStatusMessage(recordVersion.getStatus()));
+		xmlStreamWriter.writeEndElement();
 
-			addFieldElement(
-				fieldsElement, LanguageUtil.get(locale, "modified-date"),
-				formatDate(recordVersion.getStatusDate(), dateTimeFormatter));
+		xmlStreamWriter.writeStartElement("value");
 
-			addFieldElement(
-				fieldsElement, LanguageUtil.get(locale, "author"),
-				recordVersion.getUserName());
-		}
+		xmlStreamWriter.writeCharacters(String.valueOf(value));
 
-		String xml = document.asXML();
+		xmlStreamWriter.writeEndElement();
 
-		return xml.getBytes();
+		xmlStreamWriter.writeEndElement();
 	}
 
 	@Reference
@@ -0,0 +1,328 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.io.internal.exporter;
+
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldTypeServicesTracker;
+import com.liferay.dynamic.data.mapping.form.field.type.DDMFormFieldValueRenderer;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecordVersion;
+import com.liferay.dynamic.data.mapping.model.DDMFormInstanceVersion;
+import com.liferay.dynamic.data.mapping.model.DDMStructureVersion;
+import com.liferay.dynamic.data.mapping.model.LocalizedValue;
+import com.liferay.dynamic.data.mapping.model.UnlocalizedValue;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordLocalService;
+import com.liferay.dynamic.data.mapping.service.DDMFormInstanceVersionLocalService;
+import com.liferay.dynamic.data.mapping.storage.DDMFormFieldValue;
+import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
+import com.liferay.dynamic.data.mapping.storage.StorageEngine;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+import com.liferay.portal.kernel.language.Language;
+import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.util.Html;
+import com.liferay.portal.kernel.util.HtmlUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+
+/**
+ * @author agent
+ */
+public class DDMFormCSVExporterTest extends PowerMockito {
+
+	@Before
+	public void setUp() throws Exception {
+		setUpDDMFormCSVExporter();
+		setUpHtmlUtil();
+		setUpLanguageUtil();
+	}
+
+	@Test
+	public void testExport() throws Exception {
+		addFormInstanceRecord("Joe");
+		addFormInstanceRecord("Ann");
+
+		String[] lines = StringUtil.split(export(), '\n');
+
+		Assert.assertEquals(lines.length, 3, lines.length);
+		Assert.assertEquals("Name,status,modified-date,author", lines[0]);
+		Assert.assertTrue(lines[1], lines[1].startsWith("Joe,approved,"));
+		Assert.assertTrue(lines[2], lines[2].startsWith("Ann,approved,"));
+		Assert.assertTrue(lines[2], lines[2].endsWith(",Test Test"));
+	}
+
+	@Test
+	public void testExportFailureInFirstBatchWritesNothing() throws Exception {
+		for (int i = 0; i < 99; i++) {
+			addFormInstanceRecord(StringUtil.randomString(300));
+		}
+
+		addFormInstanceRecord(null);
+
+		try {
+			export();
+
+			Assert.fail();
+		}
+		catch (IllegalStateException ise) {
+		}
+
+		Assert.assertEquals(0, _unsyncByteArrayOutputStream.size());
+	}
+
+	@Test
+	public void testExportWithoutRecords() throws Exception {
+		Assert.assertEquals("Name,status,modified-date,author\n", export());
+	}
+
+	protected void addFormInstanceRecord(String name) throws Exception {
+		long storageId = _formInstanceRecords.size() + 1;
+
+		DDMFormInstanceRecordVersion formInstanceRecordVersion = mock(
+			DDMFormInstanceRecordVersion.class);
+
+		when(
+			formInstanceRecordVersion.getStatus()
+		).thenReturn(
+			WorkflowConstants.STATUS_APPROVED
+		);
+
+		when(
+			formInstanceRecordVersion.getStatusDate()
+		).thenReturn(
+			new Date()
+		);
+
+		when(
+			formInstanceRecordVersion.getStorageId()
+		).thenReturn(
+			storageId
+		);
+
+		when(
+			formInstanceRecordVersion.getUserName()
+		).thenReturn(
+			"Test Test"
+		);
+
+		DDMFormInstanceRecord formInstanceRecord = mock(
+			DDMFormInstanceRecord.class);
+
+		when(
+			formInstanceRecord.getFormInstanceRecordVersion()
+		).thenReturn(
+			formInstanceRecordVersion
+		);
+
+		_formInstanceRecords.add(formInstanceRecord);
+
+		DDMFormValues ddmFormValues = new DDMFormValues(_ddmForm);
+
+		DDMFormFieldValue ddmFormFieldValue = new DDMFormFieldValue();
+
+		ddmFormFieldValue.setName("Name");
+		ddmFormFieldValue.setValue(new UnlocalizedValue(name));
+
+		ddmFormValues.addDDMFormFieldValue(ddmFormFieldValue);
+
+		_ddmFormValuesMap.put(storageId, ddmFormValues);
+	}
+
+	protected String export() throws Exception {
+		_ddmFormCSVExporter.export(
+			_FORM_INSTANCE_ID, WorkflowConstants.STATUS_APPROVED,
+			_unsyncByteArrayOutputStream);
+
+		return _unsyncByteArrayOutputStream.toString();
+	}
+
+	protected void setUpDDMFormCSVExporter() throws Exception {
+		DDMFormField ddmFormField = new DDMFormField("Name", "text");
+
+		LocalizedValue label = new LocalizedValue(Locale.US);
+
+		label.addString(Locale.US, "Name");
+
+		ddmFormField.setLabel(label);
+
+		_ddmForm.addDDMFormField(ddmFormField);
+
+		DDMStructureVersion ddmStructureVersion = mock(
+			DDMStructureVersion.class);
+
+		when(
+			ddmStructureVersion.getReadOnlyDDMForm()
+		).thenReturn(
+			_ddmForm
+		);
+
+		DDMFormInstanceVersion formInstanceVersion = mock(
+			DDMFormInstanceVersion.class);
+
+		when(
+			formInstanceVersion.getStructureVersion()
+		).thenReturn(
+			ddmStructureVersion
+		);
+
+		DDMFormInstanceVersionLocalService ddmFormInstanceVersionLocalService =
+			mock(DDMFormInstanceVersionLocalService.class);
+
+		when(
+			ddmFormInstanceVersionLocalService.getFormInstanceVersions(
+				_FORM_INSTANCE_ID, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null)
+		).thenReturn(
+			Collections.singletonList(formInstanceVersion)
+		);
+
+		DDMFormInstanceRecordLocalService ddmFormInstanceRecordLocalService =
+			mock(DDMFormInstanceRecordLocalService.class);
+
+		when(
+			ddmFormInstanceRecordLocalService.getFormInstanceRecords(
+				Matchers.eq(_FORM_INSTANCE_ID),
+				Matchers.eq(WorkflowConstants.STATUS_APPROVED),
+				Matchers.eq(0), Matchers.anyInt(), Matchers.any())
+		).thenReturn(
+			_formInstanceRecords
+		);
+
+		StorageEngine storageEngine = mock(StorageEngine.class);
+
+		when(
+			storageEngine.getDDMFormValues(Matchers.any(long[].class))
+		).thenReturn(
+			_ddmFormValuesMap
+		);
+
+		DDMFormFieldValueRenderer ddmFormFieldValueRenderer = mock(
+			DDMFormFieldValueRenderer.class);
+
+		when(
+			ddmFormFieldValueRenderer.render(
+				Matchers.any(DDMFormFieldValue.class),
+				Matchers.any(Locale.class))
+		).thenAnswer(
+			invocation -> {
+				DDMFormFieldValue ddmFormFieldValue =
+					(DDMFormFieldValue)invocation.getArguments()[0];
+
+				UnlocalizedValue value =
+					(UnlocalizedValue)ddmFormFieldValue.getValue();
+
+				String valueString = value.getString(Locale.US);
+
+				if (valueString == null) {
+					throw new IllegalStateException();
+				}
+
+				return valueString;
+			}
+		);
+
+		DDMFormFieldTypeServicesTracker ddmFormFieldTypeServicesTracker = mock(
+			DDMFormFieldTypeServicesTracker.class);
+
+		when(
+			ddmFormFieldTypeServicesTracker.getDDMFormFieldValueRenderer(
+				"text")
+		).thenReturn(
+			ddmFormFieldValueRenderer
+		);
+
+		field(
+			DDMFormCSVExporter.class, "_ddmFormFieldTypeServicesTracker"
+		).set(
+			_ddmFormCSVExporter, ddmFormFieldTypeServicesTracker
+		);
+
+		field(
+			DDMFormCSVExporter.class, "_ddmFormInstanceRecordLocalService"
+		).set(
+			_ddmFormCSVExporter, ddmFormInstanceRecordLocalService
+		);
+
+		field(
+			DDMFormCSVExporter.class, "_ddmFormInstanceVersionService"
+		).set(
+			_ddmFormCSVExporter, ddmFormInstanceVersionLocalService
+		);
+
+		field(
+			DDMFormCSVExporter.class, "_storageEngine"
+		).set(
+			_ddmFormCSVExporter, storageEngine
+		);
+
+		_ddmFormCSVExporter.setLocale(Locale.US);
+	}
+
+	protected void setUpHtmlUtil() {
+		Html html = mock(Html.class);
+
+		when(
+			html.render(Matchers.anyString())
+		).thenAnswer(
+			invocation -> invocation.getArguments()[0]
+		);
+
+		HtmlUtil htmlUtil = new HtmlUtil();
+
+		htmlUtil.setHtml(html);
+	}
+
+	protected void setUpLanguageUtil() {
+		Language language = mock(Language.class);
+
+		when(
+			language.get(Matchers.any(Locale.class), Matchers.anyString())
+		).thenAnswer(
+			invocation -> invocation.getArguments()[1]
+		);
+
+		LanguageUtil languageUtil = new LanguageUtil();
+
+		languageUtil.setLanguage(language);
+	}
+
+	private static final long _FORM_INSTANCE_ID = 1;
+
+	private final DDMForm _ddmForm = new DDMForm();
+	private final DDMFormCSVExporter _ddmFormCSVExporter =
+		new DDMFormCSVExporter();
+	private final Map<Long, DDMFormValues> _ddmFormValuesMap = new HashMap<>();
+	private final List<DDMFormInstanceRecord> _formInstanceRecords =
+		new ArrayList<>();
+	private final UnsyncByteArrayOutputStream _unsyncByteArrayOutputStream =
+		new UnsyncByteArrayOutputStream();
+
+}
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.dynamic.data.mapping.background.task;
 
 import com.liferay.dynamic.data.mapping.model.DDMStructure;
 import com.liferay.dynamic.data.mapping.service.DDMStructureLocalService;
+import com.liferay.dynamic.data.mapping.util.DDMStructureFieldsIndexer;
 import com.liferay.portal.kernel.backgroundtask.BackgroundTask;
 import com.liferay.portal.kernel.backgroundtask.BackgroundTaskConstants;
 import com.liferay.portal.kernel.backgroundtask.BackgroundTaskExecutor;
@@ -23,20 +24,42 @@ import com.liferay.portal.kernel.backgroundtask.BackgroundTaskResult;
 import com.liferay.portal.kernel.backgroundtask.BaseBackgroundTaskExecutor;
 import com.liferay.portal.kernel.backgroundtask.display.BackgroundTaskDisplay;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
 import com.liferay.portal.kernel.search.DDMStructureIndexer;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistry;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
 
 import java.io.Serializable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
+ * Reindexes the entities of a structure and of its descendant structures,
+ * spreading the structures across a pool of threads shared by all the tasks.
+ * When the task context holds the names of the changed fields and the indexer
+ * implements {@link DDMStructureFieldsIndexer}, only the document fields of
+ * those fields are updated. Either way, the indexer is called concurrently
+ * for different structures.
+ *
  * @author Marcellus Tavares
  */
 @Component(
@@ -74,7 +97,19 @@ public class DDMStructureIndexerBackgroundTaskExecutor
 
 		List<Long> ddmStructureIds = getChildrenStructureIds(structureId);
 
-		structureIndexer.reindexDDMStructures(ddmStructureIds);
+		String ddmFormFieldNames = GetterUtil.getString(
+			taskContextMap.get("ddmFormFieldNames"));
+
+		if (Validator.isNotNull(ddmFormFieldNames) &&
+			(structureIndexer instanceof DDMStructureFieldsIndexer)) {
+
+			reindexDDMStructureFields(
+				(DDMStructureFieldsIndexer)structureIndexer, ddmStructureIds,
+				SetUtil.fromArray(StringUtil.split(ddmFormFieldNames)));
+		}
+		else {
+			reindexDDMStructures(structureIndexer, ddmStructureIds);
+		}
 
 		return BackgroundTaskResult.SUCCESS;
 	}
@@ -96,6 +131,29 @@ public class DDMStructureIndexerBackgroundTaskExecutor
 		return true;
 	}
 
+	@Activate
+	protected void activate() {
+		int threadsCount = Runtime.getRuntime().availableProcessors();
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			threadsCount, threadsCount, 60, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			new NamedThreadFactory(
+				DDMStructureIndexerBackgroundTaskExecutor.class.getName(),
+				Thread.NORM_PRIORITY,
+				DDMStructureIndexerBackgroundTaskExecutor.class.
+					getClassLoader()));
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		_threadPoolExecutor = threadPoolExecutor;
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_threadPoolExecutor.shutdownNow();
+	}
+
 	protected void getChildrenStructureIds(
 			List<Long> structureIds, long parentStructureId)
 		throws PortalException {
@@ -134,6 +192,94 @@ public class DDMStructureIndexerBackgroundTaskExecutor
 		return (DDMStructureIndexer)indexer;
 	}
 
+	/**
+	 * Runs the reindex of each structure on the pool of threads, as the
+	 * entities of different structures are indexed independently, and
+	 * rethrows the first failure once all of them are done. The thread locals
+	 * of the task, such as the company, are copied to the pool threads.
+	 */
+	protected void reindex(
+			List<Long> ddmStructureIds, StructureReindexer structureReindexer)
+		throws Exception {
+
+		if (ddmStructureIds.size() == 1) {
+			structureReindexer.reindex(ddmStructureIds);
+
+			return;
+		}
+
+		List<Future<Void>> futures = new ArrayList<>(ddmStructureIds.size());
+
+		try {
+			for (long ddmStructureId : ddmStructureIds) {
+				futures.add(
+					_threadPoolExecutor.submit(
+						new CopyThreadLocalCallable<Void>(true, false) {
+
+							@Override
+							public Void doCall() throws Exception {
+								structureReindexer.reindex(
+									Collections.singletonList(ddmStructureId));
+
+								return null;
+							}
+
+						}));
+			}
+
+			Exception exception = null;
+
+			for (Future<Void> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ee) {
+					if (exception != null) {
+						continue;
+					}
+
+					Throwable cause = ee.getCause();
+
+					if (cause instanceof Exception) {
+						exception = (Exception)cause;
+					}
+					else {
+						exception = ee;
+					}
+				}
+			}
+
+			if (exception != null) {
+				throw exception;
+			}
+		}
+		finally {
+			for (Future<Void> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	protected void reindexDDMStructureFields(
+			DDMStructureFieldsIndexer ddmStructureFieldsIndexer,
+			List<Long> ddmStructureIds, Set<String> ddmFormFieldNames)
+		throws Exception {
+
+		reindex(
+			ddmStructureIds,
+			structureIds ->
+				ddmStructureFieldsIndexer.reindexDDMStructureFields(
+					structureIds, ddmFormFieldNames));
+	}
+
+	protected void reindexDDMStructures(
+			DDMStructureIndexer ddmStructureIndexer,
+			List<Long> ddmStructureIds)
+		throws Exception {
+
+		reindex(ddmStructureIds, ddmStructureIndexer::reindexDDMStructures);
+	}
+
 	@Reference(unbind = "-")
 	protected void setDDMStructureLocalService(
 		DDMStructureLocalService ddmStructureLocalService) {
@@ -151,5 +297,12 @@ public class DDMStructureIndexerBackgroundTaskExecutor
 
 	private DDMStructureLocalService _ddmStructureLocalService;
 	private IndexerRegistry _indexerRegistry;
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+	private interface StructureReindexer {
+
+		public void reindex(List<Long> ddmStructureIds) throws Exception;
+
+	}
 
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.internal.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+/**
+ * @author agent
+ */
+@ExtendedObjectClassDefinition(category = "forms-and-workflow")
+@Meta.OCD(
+	id = "com.liferay.dynamic.data.mapping.internal.configuration.DDMFormInstanceRecordIndexerConfiguration",
+	localization = "content/Language",
+	name = "ddm-form-instance-record-indexer-configuration-name"
+)
+public interface DDMFormInstanceRecordIndexerConfiguration {
+
+	@Meta.AD(
+		deflt = "false", description = "parallel-reindex-enabled-description",
+		name = "parallel-reindex-enabled", required = false
+	)
+	public boolean parallelReindexEnabled();
+
+	@Meta.AD(
+		deflt = "1000", description = "reindex-chunk-size-description",
+		name = "reindex-chunk-size", required = false
+	)
+	public int reindexChunkSize();
+
+	@Meta.AD(
+		deflt = "4", description = "reindex-workers-count-description",
+		name = "reindex-workers-count", required = false
+	)
+	public int reindexWorkersCount();
+
+}
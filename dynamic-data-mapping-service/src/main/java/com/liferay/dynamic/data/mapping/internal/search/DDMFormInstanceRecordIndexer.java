@@ -14,6 +14,7 @@
 
 package com.liferay.dynamic.data.mapping.internal.search;
 
+import com.liferay.dynamic.data.mapping.internal.configuration.DDMFormInstanceRecordIndexerConfiguration;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstance;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord;
 import com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecordVersion;
@@ -24,16 +25,24 @@ import com.liferay.dynamic.data.mapping.service.DDMFormInstanceRecordVersionLoca
 import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.storage.StorageEngine;
 import com.liferay.dynamic.data.mapping.util.DDMIndexer;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.cluster.ClusterMasterExecutor;
 import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.Property;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.lock.DuplicateLockException;
+import com.liferay.portal.kernel.lock.Lock;
+import com.liferay.portal.kernel.lock.LockManager;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.Company;
 import com.liferay.portal.kernel.search.BaseIndexer;
 import com.liferay.portal.kernel.search.BooleanClauseOccur;
 import com.liferay.portal.kernel.search.BooleanQuery;
@@ -42,33 +51,62 @@ import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.search.IndexWriterHelper;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.SearchException;
 import com.liferay.portal.kernel.search.SearchPermissionChecker;
 import com.liferay.portal.kernel.search.Summary;
 import com.liferay.portal.kernel.search.filter.BooleanFilter;
 import com.liferay.portal.kernel.search.filter.QueryFilter;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
 import com.liferay.portal.kernel.service.ClassNameLocalService;
+import com.liferay.portal.kernel.service.CompanyLocalService;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PrefsProps;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 
 import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.portlet.PortletPreferences;
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * @author Leonardo Barros
  */
-@Component(immediate = true, service = Indexer.class)
+@Component(
+	configurationPid = "com.liferay.dynamic.data.mapping.internal.configuration.DDMFormInstanceRecordIndexerConfiguration",
+	immediate = true, service = Indexer.class
+)
 public class DDMFormInstanceRecordIndexer
 	extends BaseIndexer<DDMFormInstanceRecord> {
 
@@ -159,26 +197,48 @@ public class DDMFormInstanceRecordIndexer
 		addContentSearchTerm(searchQuery, searchContext);
 	}
 
-	protected void addContent(
-			DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion,
-			DDMFormValues ddmFormValues, Document document)
-		throws Exception {
-
-		Set<Locale> locales = ddmFormValues.getAvailableLocales();
+	@Override
+	public void reindex(
+		Collection<DDMFormInstanceRecord> ddmFormInstanceRecords) {
 
-		for (Locale locale : locales) {
-			StringBundler sb = new StringBundler(3);
+		if (indexWriterHelper.isIndexReadOnly() ||
+			indexWriterHelper.isIndexReadOnly(getClassName()) ||
+			!isIndexerEnabled()) {
 
-			sb.append("ddmContent");
-			sb.append(StringPool.UNDERLINE);
-			sb.append(LocaleUtil.toLanguageId(locale));
+			return;
+		}
 
-			document.addText(
-				sb.toString(),
-				extractContent(ddmFormInstanceRecordVersion, locale));
+		Map<Long, List<Document>> documentsMap = getDocumentsMap(
+			ddmFormInstanceRecords);
+
+		for (Map.Entry<Long, List<Document>> entry : documentsMap.entrySet()) {
+			try {
+				indexWriterHelper.updateDocuments(
+					getSearchEngineId(), entry.getKey(), entry.getValue(),
+					isCommitImmediately());
+			}
+			catch (SearchException se) {
+				_log.error(
+					"Unable to index form instance records of company " +
+						entry.getKey(),
+					se);
+			}
 		}
 	}
 
+	@Activate
+	protected void activate(Map<String, Object> properties) {
+		modified(properties);
+
+		_executorService = Executors.newSingleThreadExecutor(
+			new NamedThreadFactory(
+				DDMFormInstanceRecordIndexer.class.getName(),
+				Thread.NORM_PRIORITY,
+				DDMFormInstanceRecordIndexer.class.getClassLoader()));
+
+		_executorService.execute(this::resumeReindexFormInstanceRecords);
+	}
+
 	protected void addContentSearchTerm(
 			BooleanQuery searchQuery, SearchContext searchContext)
 		throws Exception {
@@ -194,6 +254,57 @@ public class DDMFormInstanceRecordIndexer
 		addSearchTerm(searchQuery, searchContext, sb.toString(), false);
 	}
 
+	protected void addReindexCriteria(DynamicQuery dynamicQuery) {
+		Property ddmFormInstanceRecordIdProperty = PropertyFactoryUtil.forName(
+			"formInstanceRecordId");
+
+		DynamicQuery ddmFormInstanceRecordVersionDynamicQuery =
+			ddmFormInstanceRecordVersionLocalService.dynamicQuery();
+
+		ddmFormInstanceRecordVersionDynamicQuery.setProjection(
+			ProjectionFactoryUtil.property("formInstanceRecordId"));
+
+		dynamicQuery.add(
+			ddmFormInstanceRecordIdProperty.in(
+				ddmFormInstanceRecordVersionDynamicQuery));
+
+		Property ddmFormInstanceProperty = PropertyFactoryUtil.forName(
+			"formInstanceId");
+
+		DynamicQuery ddmFormInstanceDynamicQuery =
+			ddmFormInstanceLocalService.dynamicQuery();
+
+		ddmFormInstanceDynamicQuery.setProjection(
+			ProjectionFactoryUtil.property("formInstanceId"));
+
+		dynamicQuery.add(
+			ddmFormInstanceProperty.in(ddmFormInstanceDynamicQuery));
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_executorService != null) {
+			_executorService.shutdownNow();
+
+			_executorService = null;
+		}
+
+		for (ThreadPoolExecutor threadPoolExecutor :
+				_reindexThreadPoolExecutors) {
+
+			threadPoolExecutor.shutdownNow();
+		}
+	}
+
+	protected void deleteReindexCheckpoint(long companyId) throws Exception {
+		PortletPreferences portletPreferences = prefsProps.getPreferences(
+			companyId, false);
+
+		portletPreferences.reset(_REINDEX_CHECKPOINT_KEY);
+
+		portletPreferences.store();
+	}
+
 	@Override
 	protected void doDelete(DDMFormInstanceRecord ddmFormInstanceRecord)
 		throws Exception {
@@ -236,12 +347,11 @@ public class DDMFormInstanceRecordIndexer
 
 		DDMStructure ddmStructure = ddmFormInstance.getStructure();
 
-		DDMFormValues ddmFormValues = storageEngine.getDDMFormValues(
-			ddmFormInstanceRecordVersion.getStorageId());
-
-		addContent(ddmFormInstanceRecordVersion, ddmFormValues, document);
+		DDMFormValues ddmFormValues = getDDMFormValues(
+			ddmFormInstanceRecordVersion);
 
-		ddmIndexer.addAttributes(document, ddmStructure, ddmFormValues);
+		ddmIndexer.addAttributes(
+			document, ddmStructure, ddmFormValues, "ddmContent");
 
 		return document;
 	}
@@ -291,23 +401,148 @@ public class DDMFormInstanceRecordIndexer
 		reindexFormInstanceRecords(companyId);
 	}
 
-	protected String extractContent(
-			DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion,
-			Locale locale)
+	protected DDMFormValues getDDMFormValues(
+			DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion)
 		throws Exception {
 
-		DDMFormValues ddmFormValues = storageEngine.getDDMFormValues(
+		Map<Long, DDMFormValues> ddmFormValuesMap =
+			_ddmFormValuesMapThreadLocal.get();
+
+		if (ddmFormValuesMap != null) {
+			DDMFormValues ddmFormValues = ddmFormValuesMap.get(
+				ddmFormInstanceRecordVersion.getStorageId());
+
+			if (ddmFormValues != null) {
+				return ddmFormValues;
+			}
+		}
+
+		return storageEngine.getDDMFormValues(
 			ddmFormInstanceRecordVersion.getStorageId());
+	}
 
-		if (ddmFormValues == null) {
-			return StringPool.BLANK;
+	/**
+	 * Loads the form values of the records with a single storage call. If any
+	 * of them cannot be loaded, <code>null</code> is returned and each record
+	 * loads its own form values, so that only the failing records are left
+	 * out of the index.
+	 */
+	protected Map<Long, DDMFormValues> getDDMFormValuesMap(
+		Collection<DDMFormInstanceRecord> ddmFormInstanceRecords) {
+
+		try {
+			long[] storageIds = new long[ddmFormInstanceRecords.size()];
+
+			int i = 0;
+
+			for (DDMFormInstanceRecord ddmFormInstanceRecord :
+					ddmFormInstanceRecords) {
+
+				DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion =
+					ddmFormInstanceRecord.getFormInstanceRecordVersion();
+
+				storageIds[i++] = ddmFormInstanceRecordVersion.getStorageId();
+			}
+
+			return storageEngine.getDDMFormValues(storageIds);
+		}
+		catch (PortalException pe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to load the form values of form instance records " +
+						"in bulk",
+					pe);
+			}
+
+			return null;
 		}
+	}
 
-		DDMFormInstance ddmFormInstance =
-			ddmFormInstanceRecordVersion.getFormInstance();
+	/**
+	 * Builds the documents of the records, grouped by company. The form values
+	 * of all the records are loaded beforehand with a single storage call.
+	 */
+	protected Map<Long, List<Document>> getDocumentsMap(
+		Collection<DDMFormInstanceRecord> ddmFormInstanceRecords) {
+
+		Map<Long, List<Document>> documentsMap = new HashMap<>();
 
-		return ddmIndexer.extractIndexableAttributes(
-			ddmFormInstance.getStructure(), ddmFormValues, locale);
+		_ddmFormValuesMapThreadLocal.set(
+			getDDMFormValuesMap(ddmFormInstanceRecords));
+
+		try {
+			for (DDMFormInstanceRecord ddmFormInstanceRecord :
+					ddmFormInstanceRecords) {
+
+				try {
+					Document document = getDocument(ddmFormInstanceRecord);
+
+					List<Document> documents = documentsMap.computeIfAbsent(
+						ddmFormInstanceRecord.getCompanyId(),
+						companyId -> new ArrayList<>());
+
+					documents.add(document);
+				}
+				catch (SearchException se) {
+					_log.error(
+						"Unable to index form instance record " +
+							ddmFormInstanceRecord.getFormInstanceRecordId(),
+						se);
+				}
+			}
+		}
+		finally {
+			_ddmFormValuesMapThreadLocal.remove();
+		}
+
+		return documentsMap;
+	}
+
+	/**
+	 * Returns the ID of the last record of the chunk that starts after the
+	 * given record ID. Record IDs come from a counter shared by other
+	 * entities, so chunks are bounded by the IDs of existing records rather
+	 * than by fixed ranges of IDs, which would be mostly empty.
+	 */
+	protected long getReindexChunkEndFormInstanceRecordId(
+		long companyId, long formInstanceRecordId, int chunkSize) {
+
+		Property property = PropertyFactoryUtil.forName("formInstanceRecordId");
+
+		DynamicQuery dynamicQuery =
+			ddmFormInstanceRecordLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("companyId", companyId));
+		dynamicQuery.add(property.gt(formInstanceRecordId));
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("formInstanceRecordId"));
+		dynamicQuery.setProjection(
+			ProjectionFactoryUtil.property("formInstanceRecordId"));
+
+		List<Long> formInstanceRecordIds =
+			ddmFormInstanceRecordLocalService.dynamicQuery(
+				dynamicQuery, chunkSize - 1, chunkSize);
+
+		if (!formInstanceRecordIds.isEmpty()) {
+			return formInstanceRecordIds.get(0);
+		}
+
+		dynamicQuery = ddmFormInstanceRecordLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("companyId", companyId));
+		dynamicQuery.add(property.gt(formInstanceRecordId));
+		dynamicQuery.setProjection(
+			ProjectionFactoryUtil.max("formInstanceRecordId"));
+
+		formInstanceRecordIds = ddmFormInstanceRecordLocalService.dynamicQuery(
+			dynamicQuery);
+
+		if (formInstanceRecordIds.isEmpty() ||
+			(formInstanceRecordIds.get(0) == null)) {
+
+			return formInstanceRecordId;
+		}
+
+		return formInstanceRecordIds.get(0);
 	}
 
 	protected String getTitle(long ddmFormInstanceId, Locale locale) {
@@ -332,7 +567,54 @@ public class DDMFormInstanceRecordIndexer
 		return StringPool.BLANK;
 	}
 
+	/**
+	 * Locks the reindex of the company across the cluster, so that a requested
+	 * reindex and the resume of an interrupted one never run at the same time,
+	 * since both move the same checkpoint. The lock expires unless the reindex
+	 * refreshes it, so a node that goes down while reindexing does not keep
+	 * the reindex from being resumed.
+	 */
+	protected Lock lockReindex(long companyId, boolean wait) throws Exception {
+		while (true) {
+			try {
+				return lockManager.lock(
+					userLocalService.getDefaultUserId(companyId),
+					DDMFormInstanceRecordIndexer.class.getName(),
+					String.valueOf(companyId), PortalUUIDUtil.generate(),
+					false, _REINDEX_LOCK_EXPIRATION_TIME);
+			}
+			catch (DuplicateLockException dle) {
+				if (!wait) {
+					return null;
+				}
+
+				Thread.sleep(_REINDEX_LOCK_RETRY_DELAY);
+			}
+		}
+	}
+
+	@Modified
+	protected void modified(Map<String, Object> properties) {
+		_configuration = ConfigurableUtil.createConfigurable(
+			DDMFormInstanceRecordIndexerConfiguration.class, properties);
+	}
+
 	protected void reindexFormInstanceRecords(long companyId) throws Exception {
+		if (_configuration.parallelReindexEnabled()) {
+			Lock lock = lockReindex(companyId, true);
+
+			try {
+				deleteReindexCheckpoint(companyId);
+
+				reindexFormInstanceRecords(companyId, 0, lock);
+			}
+			finally {
+				unlockReindex(lock);
+			}
+
+			return;
+		}
+
 		final IndexableActionableDynamicQuery indexableActionableDynamicQuery =
 			ddmFormInstanceRecordLocalService.
 				getIndexableActionableDynamicQuery();
@@ -342,31 +624,7 @@ public class DDMFormInstanceRecordIndexer
 
 				@Override
 				public void addCriteria(DynamicQuery dynamicQuery) {
-					Property ddmFormInstanceRecordIdProperty =
-						PropertyFactoryUtil.forName("formInstanceRecordId");
-
-					DynamicQuery ddmFormInstanceRecordVersionDynamicQuery =
-						ddmFormInstanceRecordVersionLocalService.dynamicQuery();
-
-					ddmFormInstanceRecordVersionDynamicQuery.setProjection(
-						ProjectionFactoryUtil.property("formInstanceRecordId"));
-
-					dynamicQuery.add(
-						ddmFormInstanceRecordIdProperty.in(
-							ddmFormInstanceRecordVersionDynamicQuery));
-
-					Property ddmFormInstanceProperty =
-						PropertyFactoryUtil.forName("formInstanceId");
-
-					DynamicQuery ddmFormInstanceDynamicQuery =
-						ddmFormInstanceLocalService.dynamicQuery();
-
-					ddmFormInstanceDynamicQuery.setProjection(
-						ProjectionFactoryUtil.property("formInstanceId"));
-
-					dynamicQuery.add(
-						ddmFormInstanceProperty.in(
-							ddmFormInstanceDynamicQuery));
+					addReindexCriteria(dynamicQuery);
 				}
 
 			});
@@ -405,9 +663,233 @@ public class DDMFormInstanceRecordIndexer
 		indexableActionableDynamicQuery.performActions();
 	}
 
+	/**
+	 * Reindexes the records of the company whose IDs are greater than the
+	 * given record ID. The records are split into chunks that are indexed by
+	 * a pool of workers, each chunk with one bulk load of form values and one
+	 * bulk index request. The highest record ID below which every chunk has
+	 * been indexed is saved in the company preferences, so a reindex that is
+	 * interrupted is resumed from there. The reindex lock is refreshed before
+	 * each chunk is submitted.
+	 */
+	protected void reindexFormInstanceRecords(
+			long companyId, long formInstanceRecordId, Lock lock)
+		throws Exception {
+
+		DDMFormInstanceRecordIndexerConfiguration configuration =
+			_configuration;
+
+		int chunkSize = Math.max(1, configuration.reindexChunkSize());
+		int workersCount = Math.max(1, configuration.reindexWorkersCount());
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			workersCount, workersCount, 0, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(workersCount),
+			new NamedThreadFactory(
+				DDMFormInstanceRecordIndexer.class.getName() + "-" + companyId,
+				Thread.NORM_PRIORITY,
+				DDMFormInstanceRecordIndexer.class.getClassLoader()),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+
+		_reindexThreadPoolExecutors.add(threadPoolExecutor);
+
+		int chunksCount = 0;
+		AtomicInteger completedChunksCount = new AtomicInteger();
+		AtomicReference<Exception> exceptionReference =
+			new AtomicReference<>();
+		boolean lastChunkSubmitted = false;
+		ReindexCheckpoint reindexCheckpoint = new ReindexCheckpoint(
+			companyId, formInstanceRecordId);
+
+		try {
+			long startFormInstanceRecordId = formInstanceRecordId;
+
+			while ((exceptionReference.get() == null) &&
+				   !threadPoolExecutor.isShutdown()) {
+
+				long endFormInstanceRecordId =
+					getReindexChunkEndFormInstanceRecordId(
+						companyId, startFormInstanceRecordId, chunkSize);
+
+				if (endFormInstanceRecordId <= startFormInstanceRecordId) {
+					lastChunkSubmitted = true;
+
+					break;
+				}
+
+				lockManager.refresh(
+					lock.getUuid(), lock.getCompanyId(),
+					_REINDEX_LOCK_EXPIRATION_TIME);
+
+				long chunkStartFormInstanceRecordId = startFormInstanceRecordId;
+
+				chunksCount++;
+
+				threadPoolExecutor.execute(
+					() -> {
+						if (exceptionReference.get() != null) {
+							return;
+						}
+
+						try {
+							reindexFormInstanceRecords(
+								companyId, chunkStartFormInstanceRecordId,
+								endFormInstanceRecordId);
+
+							reindexCheckpoint.complete(
+								chunkStartFormInstanceRecordId,
+								endFormInstanceRecordId);
+
+							completedChunksCount.incrementAndGet();
+						}
+						catch (Exception e) {
+							exceptionReference.compareAndSet(null, e);
+						}
+					});
+
+				startFormInstanceRecordId = endFormInstanceRecordId;
+			}
+		}
+		finally {
+			threadPoolExecutor.shutdown();
+
+			threadPoolExecutor.awaitTermination(
+				Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+			_reindexThreadPoolExecutors.remove(threadPoolExecutor);
+		}
+
+		Exception exception = exceptionReference.get();
+
+		if (exception != null) {
+			throw exception;
+		}
+
+		if (!lastChunkSubmitted ||
+			(completedChunksCount.get() < chunksCount)) {
+
+			throw new SearchException(
+				"Reindex of form instance records of company " + companyId +
+					" was stopped before it completed");
+		}
+
+		deleteReindexCheckpoint(companyId);
+	}
+
+	protected void reindexFormInstanceRecords(
+			long companyId, long startFormInstanceRecordId,
+			long endFormInstanceRecordId)
+		throws Exception {
+
+		Long currentCompanyId = CompanyThreadLocal.getCompanyId();
+
+		CompanyThreadLocal.setCompanyId(companyId);
+
+		try {
+			Property property = PropertyFactoryUtil.forName(
+				"formInstanceRecordId");
+
+			DynamicQuery dynamicQuery =
+				ddmFormInstanceRecordLocalService.dynamicQuery();
+
+			addReindexCriteria(dynamicQuery);
+
+			dynamicQuery.add(
+				RestrictionsFactoryUtil.eq("companyId", companyId));
+			dynamicQuery.add(property.gt(startFormInstanceRecordId));
+			dynamicQuery.add(property.le(endFormInstanceRecordId));
+
+			List<DDMFormInstanceRecord> ddmFormInstanceRecords =
+				ddmFormInstanceRecordLocalService.dynamicQuery(dynamicQuery);
+
+			Map<Long, List<Document>> documentsMap = getDocumentsMap(
+				ddmFormInstanceRecords);
+
+			List<Document> documents = documentsMap.get(companyId);
+
+			if (documents != null) {
+				indexWriterHelper.updateDocuments(
+					getSearchEngineId(), companyId, documents,
+					isCommitImmediately());
+			}
+		}
+		finally {
+			CompanyThreadLocal.setCompanyId(currentCompanyId);
+		}
+	}
+
+	/**
+	 * Resumes the parallel reindexes that were interrupted, for instance by a
+	 * shutdown. Their checkpoints are left in place, so this runs when the
+	 * indexer is activated instead of on the next reindex, which clears the
+	 * index and starts over. Companies whose reindex was requested again in
+	 * the meantime are skipped.
+	 */
+	protected void resumeReindexFormInstanceRecords() {
+		if (!_configuration.parallelReindexEnabled() ||
+			!clusterMasterExecutor.isMaster() ||
+			indexWriterHelper.isIndexReadOnly() ||
+			indexWriterHelper.isIndexReadOnly(getClassName())) {
+
+			return;
+		}
+
+		for (Company company : companyLocalService.getCompanies()) {
+			Lock lock = null;
+
+			try {
+				lock = lockReindex(company.getCompanyId(), false);
+
+				if (lock == null) {
+					continue;
+				}
+
+				long formInstanceRecordId = prefsProps.getLong(
+					company.getCompanyId(), _REINDEX_CHECKPOINT_KEY, 0);
+
+				if (formInstanceRecordId <= 0) {
+					continue;
+				}
+
+				if (_log.isInfoEnabled()) {
+					_log.info(
+						StringBundler.concat(
+							"Resuming reindex of form instance records of ",
+							"company ", String.valueOf(company.getCompanyId()),
+							" after form instance record ",
+							String.valueOf(formInstanceRecordId)));
+				}
+
+				reindexFormInstanceRecords(
+					company.getCompanyId(), formInstanceRecordId, lock);
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to resume reindex of form instance records of " +
+						"company " + company.getCompanyId(),
+					e);
+			}
+			finally {
+				if (lock != null) {
+					unlockReindex(lock);
+				}
+			}
+		}
+	}
+
+	protected void unlockReindex(Lock lock) {
+		lockManager.unlock(lock.getClassName(), lock.getKey(), lock.getOwner());
+	}
+
 	@Reference
 	protected ClassNameLocalService classNameLocalService;
 
+	@Reference
+	protected ClusterMasterExecutor clusterMasterExecutor;
+
+	@Reference
+	protected CompanyLocalService companyLocalService;
+
 	@Reference
 	protected DDMFormInstanceLocalService ddmFormInstanceLocalService;
 
@@ -425,13 +907,82 @@ public class DDMFormInstanceRecordIndexer
 	@Reference
 	protected IndexWriterHelper indexWriterHelper;
 
+	@Reference
+	protected LockManager lockManager;
+
+	@Reference
+	protected PrefsProps prefsProps;
+
 	@Reference
 	protected SearchPermissionChecker searchPermissionChecker;
 
 	@Reference
 	protected StorageEngine storageEngine;
 
+	@Reference
+	protected UserLocalService userLocalService;
+
+	private static final String _REINDEX_CHECKPOINT_KEY =
+		DDMFormInstanceRecordIndexer.class.getName() +
+			"#lastFormInstanceRecordId";
+	private static final long _REINDEX_LOCK_EXPIRATION_TIME = 10 * Time.MINUTE;
+	private static final long _REINDEX_LOCK_RETRY_DELAY = Time.SECOND;
+
+	private static final ThreadLocal<Map<Long, DDMFormValues>>
+		_ddmFormValuesMapThreadLocal = new CentralizedThreadLocal<>(false);
 	private static final Log _log = LogFactoryUtil.getLog(
 		DDMFormInstanceRecordIndexer.class);
 
+	private volatile DDMFormInstanceRecordIndexerConfiguration _configuration;
+	private ExecutorService _executorService;
+	private final Set<ThreadPoolExecutor> _reindexThreadPoolExecutors =
+		ConcurrentHashMap.newKeySet();
+
+	protected class ReindexCheckpoint {
+
+		public ReindexCheckpoint(long companyId, long formInstanceRecordId) {
+			_companyId = companyId;
+			_formInstanceRecordId = formInstanceRecordId;
+		}
+
+		/**
+		 * Marks the chunk as indexed. Chunks can be completed in any order,
+		 * so the checkpoint only moves past the chunks that follow it without
+		 * gaps.
+		 */
+		public synchronized void complete(
+				long startFormInstanceRecordId, long endFormInstanceRecordId)
+			throws Exception {
+
+			_completedChunks.put(
+				startFormInstanceRecordId, endFormInstanceRecordId);
+
+			long formInstanceRecordId = _formInstanceRecordId;
+
+			while (_completedChunks.containsKey(formInstanceRecordId)) {
+				formInstanceRecordId = _completedChunks.remove(
+					formInstanceRecordId);
+			}
+
+			if (formInstanceRecordId == _formInstanceRecordId) {
+				return;
+			}
+
+			_formInstanceRecordId = formInstanceRecordId;
+
+			PortletPreferences portletPreferences = prefsProps.getPreferences(
+				_companyId, false);
+
+			portletPreferences.setValue(
+				_REINDEX_CHECKPOINT_KEY, String.valueOf(formInstanceRecordId));
+
+			portletPreferences.store();
+		}
+
+		private final long _companyId;
+		private final Map<Long, Long> _completedChunks = new HashMap<>();
+		private long _formInstanceRecordId;
+
+	}
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.dynamic.data.mapping.internal.util;
 
+import com.liferay.dynamic.data.mapping.internal.util.DDMStructureIndexPlan.DDMFormFieldIndexPlan;
 import com.liferay.dynamic.data.mapping.model.DDMFormFieldType;
 import com.liferay.dynamic.data.mapping.model.DDMStructure;
 import com.liferay.dynamic.data.mapping.service.DDMStructureLocalService;
@@ -24,6 +25,7 @@ import com.liferay.dynamic.data.mapping.util.DDM;
 import com.liferay.dynamic.data.mapping.util.DDMFormValuesToFieldsConverter;
 import com.liferay.dynamic.data.mapping.util.DDMIndexer;
 import com.liferay.petra.string.StringPool;
+import com.liferay.portal.kernel.concurrent.ConcurrentLFUCache;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.json.JSONArray;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
@@ -39,11 +41,11 @@ import com.liferay.portal.kernel.util.FastDateFormatFactoryUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.ObjectValuePair;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.PropsUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringUtil;
-import com.liferay.portal.kernel.util.Validator;
 
 import java.io.Serializable;
 
@@ -52,7 +54,9 @@ import java.math.BigDecimal;
 import java.text.Format;
 
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.osgi.service.component.annotations.Component;
@@ -69,138 +73,26 @@ public class DDMIndexerImpl implements DDMIndexer {
 		Document document, DDMStructure ddmStructure,
 		DDMFormValues ddmFormValues) {
 
-		Set<Locale> locales = ddmFormValues.getAvailableLocales();
-
-		Fields fields = toFields(ddmStructure, ddmFormValues);
-
-		for (Field field : fields) {
-			try {
-				String indexType = ddmStructure.getFieldProperty(
-					field.getName(), "indexType");
-
-				if (Validator.isNull(indexType)) {
-					continue;
-				}
-
-				for (Locale locale : locales) {
-					String name = encodeName(
-						ddmStructure.getStructureId(), field.getName(), locale,
-						indexType);
-
-					Serializable value = field.getValue(locale);
+		doAddAttributes(document, ddmStructure, ddmFormValues, null, null);
+	}
 
-					if (value instanceof BigDecimal) {
-						document.addNumberSortable(name, (BigDecimal)value);
-					}
-					else if (value instanceof BigDecimal[]) {
-						document.addNumberSortable(name, (BigDecimal[])value);
-					}
-					else if (value instanceof Boolean) {
-						document.addKeywordSortable(name, (Boolean)value);
-					}
-					else if (value instanceof Boolean[]) {
-						document.addKeywordSortable(name, (Boolean[])value);
-					}
-					else if (value instanceof Date) {
-						document.addDateSortable(name, (Date)value);
-					}
-					else if (value instanceof Date[]) {
-						document.addDateSortable(name, (Date[])value);
-					}
-					else if (value instanceof Double) {
-						document.addNumberSortable(name, (Double)value);
-					}
-					else if (value instanceof Double[]) {
-						document.addNumberSortable(name, (Double[])value);
-					}
-					else if (value instanceof Integer) {
-						document.addNumberSortable(name, (Integer)value);
-					}
-					else if (value instanceof Integer[]) {
-						document.addNumberSortable(name, (Integer[])value);
-					}
-					else if (value instanceof Long) {
-						document.addNumberSortable(name, (Long)value);
-					}
-					else if (value instanceof Long[]) {
-						document.addNumberSortable(name, (Long[])value);
-					}
-					else if (value instanceof Float) {
-						document.addNumberSortable(name, (Float)value);
-					}
-					else if (value instanceof Float[]) {
-						document.addNumberSortable(name, (Float[])value);
-					}
-					else if (value instanceof Number[]) {
-						Number[] numbers = (Number[])value;
+	@Override
+	public void addAttributes(
+		Document document, DDMStructure ddmStructure,
+		DDMFormValues ddmFormValues, Set<String> ddmFormFieldNames) {
 
-						Double[] doubles = new Double[numbers.length];
+		doAddAttributes(
+			document, ddmStructure, ddmFormValues, ddmFormFieldNames, null);
+	}
 
-						for (int i = 0; i < numbers.length; i++) {
-							doubles[i] = numbers[i].doubleValue();
-						}
+	@Override
+	public void addAttributes(
+		Document document, DDMStructure ddmStructure,
+		DDMFormValues ddmFormValues, String indexableAttributesFieldName) {
 
-						document.addNumberSortable(name, doubles);
-					}
-					else if (value instanceof Object[]) {
-						String[] valuesString = ArrayUtil.toStringArray(
-							(Object[])value);
-
-						if (indexType.equals("keyword")) {
-							document.addKeywordSortable(name, valuesString);
-						}
-						else {
-							document.addTextSortable(name, valuesString);
-						}
-					}
-					else {
-						String valueString = String.valueOf(value);
-
-						String type = field.getType();
-
-						if (type.equals(DDMFormFieldType.GEOLOCATION)) {
-							JSONObject jsonObject =
-								JSONFactoryUtil.createJSONObject(valueString);
-
-							double latitude = jsonObject.getDouble(
-								"latitude", 0);
-							double longitude = jsonObject.getDouble(
-								"longitude", 0);
-
-							document.addGeoLocation(
-								name.concat("_geolocation"), latitude,
-								longitude);
-						}
-						else if (type.equals(DDMImpl.TYPE_SELECT)) {
-							JSONArray jsonArray =
-								JSONFactoryUtil.createJSONArray(valueString);
-
-							String[] stringArray = ArrayUtil.toStringArray(
-								jsonArray);
-
-							document.addKeywordSortable(name, stringArray);
-						}
-						else {
-							if (type.equals(DDMImpl.TYPE_DDM_TEXT_HTML)) {
-								valueString = HtmlUtil.extractText(valueString);
-							}
-
-							if (indexType.equals("keyword")) {
-								document.addKeywordSortable(name, valueString);
-							}
-							else {
-								document.addTextSortable(name, valueString);
-							}
-						}
-					}
-				}
-			}
-			catch (Exception e) {
-				if (_log.isWarnEnabled()) {
-					_log.warn(e, e);
-				}
-			}
-		}
+		doAddAttributes(
+			document, ddmStructure, ddmFormValues, null,
+			indexableAttributesFieldName);
 	}
 
 	@Override
@@ -222,9 +114,15 @@ public class DDMIndexerImpl implements DDMIndexer {
 			StringPool.UNDERLINE.concat(LocaleUtil.toLanguageId(locale)),
 			StringPool.BLANK);
 
-		if (structure.hasField(fieldName)) {
+		DDMStructureIndexPlan ddmStructureIndexPlan = getDDMStructureIndexPlan(
+			structure);
+
+		DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+			ddmStructureIndexPlan.getDDMFormFieldIndexPlan(fieldName);
+
+		if (ddmFormFieldIndexPlan != null) {
 			ddmStructureFieldValue = _ddm.getIndexedFieldValue(
-				ddmStructureFieldValue, structure.getFieldType(fieldName));
+				ddmStructureFieldValue, ddmFormFieldIndexPlan.getType());
 		}
 
 		booleanQuery.addRequiredTerm(
@@ -250,6 +148,16 @@ public class DDMIndexerImpl implements DDMIndexer {
 				_ddmStructureLocalService.fetchDDMStructure(ddmStructureId);
 
 			if (ddmStructure != null) {
+				DDMStructureIndexPlan ddmStructureIndexPlan =
+					getDDMStructureIndexPlan(ddmStructure);
+
+				DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+					ddmStructureIndexPlan.getDDMFormFieldIndexPlan(fieldName);
+
+				if (ddmFormFieldIndexPlan != null) {
+					return ddmFormFieldIndexPlan.getName(locale);
+				}
+
 				try {
 					indexType = ddmStructure.getFieldProperty(
 						fieldName, "indexType");
@@ -277,67 +185,250 @@ public class DDMIndexerImpl implements DDMIndexer {
 
 		StringBundler sb = new StringBundler();
 
+		DDMStructureIndexPlan ddmStructureIndexPlan =
+			getDDMStructureIndexPlan(ddmStructure);
+
 		Fields fields = toFields(ddmStructure, ddmFormValues);
 
 		for (Field field : fields) {
-			try {
-				String indexType = ddmStructure.getFieldProperty(
-					field.getName(), "indexType");
+			DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+				ddmStructureIndexPlan.getDDMFormFieldIndexPlan(field.getName());
 
-				if (Validator.isNull(indexType)) {
-					continue;
-				}
+			if ((ddmFormFieldIndexPlan == null) ||
+				!ddmFormFieldIndexPlan.isIndexable()) {
 
-				Serializable value = field.getValue(locale);
+				continue;
+			}
 
-				if (value instanceof Boolean || value instanceof Number) {
-					sb.append(value);
-					sb.append(StringPool.SPACE);
-				}
-				else if (value instanceof Date) {
-					sb.append(dateFormat.format(value));
-					sb.append(StringPool.SPACE);
+			try {
+				appendIndexableAttribute(
+					sb, ddmFormFieldIndexPlan.getType(),
+					ddmFormFieldIndexPlan.getValue(field, locale), dateFormat);
+			}
+			catch (Exception e) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(e, e);
 				}
-				else if (value instanceof Date[]) {
-					Date[] dates = (Date[])value;
+			}
+		}
 
-					for (Date date : dates) {
-						sb.append(dateFormat.format(date));
-						sb.append(StringPool.SPACE);
-					}
+		return sb.toString();
+	}
+
+	protected void addAttribute(
+			Document document, String type, String name, String indexType,
+			Serializable value)
+		throws Exception {
+
+		if (value instanceof BigDecimal) {
+			document.addNumberSortable(name, (BigDecimal)value);
+		}
+		else if (value instanceof BigDecimal[]) {
+			document.addNumberSortable(name, (BigDecimal[])value);
+		}
+		else if (value instanceof Boolean) {
+			document.addKeywordSortable(name, (Boolean)value);
+		}
+		else if (value instanceof Boolean[]) {
+			document.addKeywordSortable(name, (Boolean[])value);
+		}
+		else if (value instanceof Date) {
+			document.addDateSortable(name, (Date)value);
+		}
+		else if (value instanceof Date[]) {
+			document.addDateSortable(name, (Date[])value);
+		}
+		else if (value instanceof Double) {
+			document.addNumberSortable(name, (Double)value);
+		}
+		else if (value instanceof Double[]) {
+			document.addNumberSortable(name, (Double[])value);
+		}
+		else if (value instanceof Integer) {
+			document.addNumberSortable(name, (Integer)value);
+		}
+		else if (value instanceof Integer[]) {
+			document.addNumberSortable(name, (Integer[])value);
+		}
+		else if (value instanceof Long) {
+			document.addNumberSortable(name, (Long)value);
+		}
+		else if (value instanceof Long[]) {
+			document.addNumberSortable(name, (Long[])value);
+		}
+		else if (value instanceof Float) {
+			document.addNumberSortable(name, (Float)value);
+		}
+		else if (value instanceof Float[]) {
+			document.addNumberSortable(name, (Float[])value);
+		}
+		else if (value instanceof Number[]) {
+			Number[] numbers = (Number[])value;
+
+			Double[] doubles = new Double[numbers.length];
+
+			for (int i = 0; i < numbers.length; i++) {
+				doubles[i] = numbers[i].doubleValue();
+			}
+
+			document.addNumberSortable(name, doubles);
+		}
+		else if (value instanceof Object[]) {
+			String[] valuesString = ArrayUtil.toStringArray((Object[])value);
+
+			if (indexType.equals("keyword")) {
+				document.addKeywordSortable(name, valuesString);
+			}
+			else {
+				document.addTextSortable(name, valuesString);
+			}
+		}
+		else {
+			String valueString = String.valueOf(value);
+
+			if (type.equals(DDMFormFieldType.GEOLOCATION)) {
+				JSONObject jsonObject = JSONFactoryUtil.createJSONObject(
+					valueString);
+
+				double latitude = jsonObject.getDouble("latitude", 0);
+				double longitude = jsonObject.getDouble("longitude", 0);
+
+				document.addGeoLocation(
+					name.concat("_geolocation"), latitude, longitude);
+			}
+			else if (type.equals(DDMImpl.TYPE_SELECT)) {
+				JSONArray jsonArray = JSONFactoryUtil.createJSONArray(
+					valueString);
+
+				String[] stringArray = ArrayUtil.toStringArray(jsonArray);
+
+				document.addKeywordSortable(name, stringArray);
+			}
+			else {
+				if (type.equals(DDMImpl.TYPE_DDM_TEXT_HTML)) {
+					valueString = HtmlUtil.extractText(valueString);
 				}
-				else if (value instanceof Object[]) {
-					Object[] values = (Object[])value;
 
-					for (Object object : values) {
-						sb.append(object);
-						sb.append(StringPool.SPACE);
-					}
+				if (indexType.equals("keyword")) {
+					document.addKeywordSortable(name, valueString);
 				}
 				else {
-					String valueString = String.valueOf(value);
+					document.addTextSortable(name, valueString);
+				}
+			}
+		}
+	}
 
-					String type = field.getType();
+	protected void appendIndexableAttribute(
+			StringBundler sb, String type, Serializable value,
+			Format dateFormat)
+		throws Exception {
+
+		if (value instanceof Boolean || value instanceof Number) {
+			sb.append(value);
+			sb.append(StringPool.SPACE);
+		}
+		else if (value instanceof Date) {
+			sb.append(dateFormat.format(value));
+			sb.append(StringPool.SPACE);
+		}
+		else if (value instanceof Date[]) {
+			Date[] dates = (Date[])value;
+
+			for (Date date : dates) {
+				sb.append(dateFormat.format(date));
+				sb.append(StringPool.SPACE);
+			}
+		}
+		else if (value instanceof Object[]) {
+			Object[] values = (Object[])value;
 
-					if (type.equals(DDMImpl.TYPE_SELECT)) {
-						JSONArray jsonArray = JSONFactoryUtil.createJSONArray(
-							valueString);
+			for (Object object : values) {
+				sb.append(object);
+				sb.append(StringPool.SPACE);
+			}
+		}
+		else {
+			String valueString = String.valueOf(value);
 
-						String[] stringArray = ArrayUtil.toStringArray(
-							jsonArray);
+			if (type.equals(DDMImpl.TYPE_SELECT)) {
+				JSONArray jsonArray = JSONFactoryUtil.createJSONArray(
+					valueString);
 
-						sb.append(stringArray);
+				String[] stringArray = ArrayUtil.toStringArray(jsonArray);
 
-						sb.append(StringPool.SPACE);
-					}
-					else {
-						if (type.equals(DDMImpl.TYPE_DDM_TEXT_HTML)) {
-							valueString = HtmlUtil.extractText(valueString);
-						}
+				sb.append(stringArray);
+
+				sb.append(StringPool.SPACE);
+			}
+			else {
+				if (type.equals(DDMImpl.TYPE_DDM_TEXT_HTML)) {
+					valueString = HtmlUtil.extractText(valueString);
+				}
+
+				sb.append(valueString);
+				sb.append(StringPool.SPACE);
+			}
+		}
+	}
+
+	protected void doAddAttributes(
+		Document document, DDMStructure ddmStructure,
+		DDMFormValues ddmFormValues, Set<String> ddmFormFieldNames,
+		String indexableAttributesFieldName) {
+
+		Set<Locale> locales = ddmFormValues.getAvailableLocales();
+
+		Format dateFormat = null;
+		Map<Locale, StringBundler> indexableAttributesMap = null;
+
+		if (indexableAttributesFieldName != null) {
+			dateFormat = FastDateFormatFactoryUtil.getSimpleDateFormat(
+				PropsUtil.get(PropsKeys.INDEX_DATE_FORMAT_PATTERN));
+
+			indexableAttributesMap = new LinkedHashMap<>();
+
+			for (Locale locale : locales) {
+				indexableAttributesMap.put(locale, new StringBundler());
+			}
+		}
+
+		DDMStructureIndexPlan ddmStructureIndexPlan =
+			getDDMStructureIndexPlan(ddmStructure);
+
+		Fields fields = toFields(ddmStructure, ddmFormValues);
+
+		for (Field field : fields) {
+			if ((ddmFormFieldNames != null) &&
+				!ddmFormFieldNames.contains(field.getName())) {
+
+				continue;
+			}
+
+			DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+				ddmStructureIndexPlan.getDDMFormFieldIndexPlan(field.getName());
+
+			if ((ddmFormFieldIndexPlan == null) ||
+				!ddmFormFieldIndexPlan.isIndexable()) {
+
+				continue;
+			}
+
+			try {
+				for (Locale locale : locales) {
+					Serializable value = ddmFormFieldIndexPlan.getValue(
+						field, locale);
 
-						sb.append(valueString);
-						sb.append(StringPool.SPACE);
+					if (indexableAttributesMap != null) {
+						appendIndexableAttribute(
+							indexableAttributesMap.get(locale),
+							ddmFormFieldIndexPlan.getType(), value, dateFormat);
 					}
+
+					addAttribute(
+						document, ddmFormFieldIndexPlan.getType(),
+						ddmFormFieldIndexPlan.getName(locale),
+						ddmFormFieldIndexPlan.getIndexType(), value);
 				}
 			}
 			catch (Exception e) {
@@ -347,32 +438,78 @@ public class DDMIndexerImpl implements DDMIndexer {
 			}
 		}
 
-		return sb.toString();
+		if (indexableAttributesMap == null) {
+			return;
+		}
+
+		for (Map.Entry<Locale, StringBundler> entry :
+				indexableAttributesMap.entrySet()) {
+
+			StringBundler sb = entry.getValue();
+
+			document.addText(
+				StringBundler.concat(
+					indexableAttributesFieldName, StringPool.UNDERLINE,
+					LocaleUtil.toLanguageId(entry.getKey())),
+				sb.toString());
+		}
 	}
 
 	protected String encodeName(
 		long ddmStructureId, String fieldName, Locale locale,
 		String indexType) {
 
-		StringBundler sb = new StringBundler(8);
+		return DDMStructureIndexPlan.encodeName(
+			ddmStructureId, fieldName, locale, indexType);
+	}
+
+	/**
+	 * Returns the index plan of the structure. Plans are cached by structure
+	 * along with the versions of the structure and of its parents they were
+	 * built from. Updating any of them yields a new plan that replaces the
+	 * cached one, so plans of previous versions are not kept.
+	 */
+	protected DDMStructureIndexPlan getDDMStructureIndexPlan(
+		DDMStructure ddmStructure) {
+
+		StringBundler sb = new StringBundler();
+
+		DDMStructure curDDMStructure = ddmStructure;
 
-		sb.append(DDM_FIELD_PREFIX);
+		while (curDDMStructure != null) {
+			sb.append(curDDMStructure.getStructureId());
+			sb.append(StringPool.COLON);
+			sb.append(curDDMStructure.getVersion());
+			sb.append(StringPool.SEMICOLON);
 
-		if (Validator.isNotNull(indexType)) {
-			sb.append(indexType);
-			sb.append(DDM_FIELD_SEPARATOR);
+			if (curDDMStructure.getParentStructureId() == 0) {
+				break;
+			}
+
+			curDDMStructure = _ddmStructureLocalService.fetchDDMStructure(
+				curDDMStructure.getParentStructureId());
 		}
 
-		sb.append(ddmStructureId);
-		sb.append(DDM_FIELD_SEPARATOR);
-		sb.append(fieldName);
+		String versionKey = sb.toString();
+
+		ObjectValuePair<String, DDMStructureIndexPlan> objectValuePair =
+			_ddmStructureIndexPlans.get(ddmStructure.getStructureId());
 
-		if (locale != null) {
-			sb.append(StringPool.UNDERLINE);
-			sb.append(LocaleUtil.toLanguageId(locale));
+		if ((objectValuePair != null) &&
+			versionKey.equals(objectValuePair.getKey())) {
+
+			return objectValuePair.getValue();
 		}
 
-		return sb.toString();
+		DDMStructureIndexPlan ddmStructureIndexPlan = new DDMStructureIndexPlan(
+			ddmStructure.getStructureId(),
+			ddmStructure.getFullHierarchyDDMForm());
+
+		_ddmStructureIndexPlans.put(
+			ddmStructure.getStructureId(),
+			new ObjectValuePair<>(versionKey, ddmStructureIndexPlan));
+
+		return ddmStructureIndexPlan;
 	}
 
 	@Reference(unbind = "-")
@@ -408,10 +545,16 @@ public class DDMIndexerImpl implements DDMIndexer {
 		return new Fields();
 	}
 
+	private static final int _DDM_STRUCTURE_INDEX_PLANS_MAX_SIZE = 1000;
+
 	private static final Log _log = LogFactoryUtil.getLog(DDMIndexerImpl.class);
 
 	private DDM _ddm;
 	private DDMFormValuesToFieldsConverter _ddmFormValuesToFieldsConverter;
 	private DDMStructureLocalService _ddmStructureLocalService;
+	private final ConcurrentLFUCache
+		<Long, ObjectValuePair<String, DDMStructureIndexPlan>>
+			_ddmStructureIndexPlans = new ConcurrentLFUCache<>(
+				_DDM_STRUCTURE_INDEX_PLANS_MAX_SIZE);
 
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.internal.util;
+
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.storage.Field;
+import com.liferay.dynamic.data.mapping.storage.FieldConstants;
+import com.liferay.dynamic.data.mapping.util.DDMIndexer;
+import com.liferay.petra.string.StringPool;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds what indexing the values of a structure version needs from its full
+ * hierarchy form: the index type, type and data type of each field, and the
+ * names of the document fields its values are stored in. A plan is built
+ * once per structure version, so indexing a record does not look up or copy
+ * the form for each field and locale.
+ *
+ * @author agent
+ */
+public class DDMStructureIndexPlan {
+
+	public DDMStructureIndexPlan(long ddmStructureId, DDMForm ddmForm) {
+		Set<Locale> availableLocales = ddmForm.getAvailableLocales();
+
+		Map<String, DDMFormFieldIndexPlan> ddmFormFieldIndexPlans =
+			new HashMap<>();
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		for (DDMFormField ddmFormField : ddmFormFieldsMap.values()) {
+			ddmFormFieldIndexPlans.put(
+				ddmFormField.getName(),
+				new DDMFormFieldIndexPlan(
+					ddmStructureId, ddmFormField, availableLocales));
+		}
+
+		_ddmFormFieldIndexPlans = Collections.unmodifiableMap(
+			ddmFormFieldIndexPlans);
+	}
+
+	public static String encodeName(
+		long ddmStructureId, String fieldName, Locale locale,
+		String indexType) {
+
+		StringBundler sb = new StringBundler(8);
+
+		sb.append(DDMIndexer.DDM_FIELD_PREFIX);
+
+		if (Validator.isNotNull(indexType)) {
+			sb.append(indexType);
+			sb.append(DDMIndexer.DDM_FIELD_SEPARATOR);
+		}
+
+		sb.append(ddmStructureId);
+		sb.append(DDMIndexer.DDM_FIELD_SEPARATOR);
+		sb.append(fieldName);
+
+		if (locale != null) {
+			sb.append(StringPool.UNDERLINE);
+			sb.append(LocaleUtil.toLanguageId(locale));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the names of the fields whose document fields may differ from
+	 * the ones built with the previous plan: the fields that are indexable in
+	 * only one of the plans, and the indexable fields whose index type, type,
+	 * data type or repeatable property changed. Label or layout changes do
+	 * not change any field.
+	 */
+	public Set<String> getChangedFieldNames(
+		DDMStructureIndexPlan previousDDMStructureIndexPlan) {
+
+		Set<String> fieldNames = new HashSet<>(
+			_ddmFormFieldIndexPlans.keySet());
+
+		fieldNames.addAll(
+			previousDDMStructureIndexPlan._ddmFormFieldIndexPlans.keySet());
+
+		Set<String> changedFieldNames = new HashSet<>();
+
+		for (String fieldName : fieldNames) {
+			DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+				getIndexableDDMFormFieldIndexPlan(fieldName);
+			DDMFormFieldIndexPlan previousDDMFormFieldIndexPlan =
+				previousDDMStructureIndexPlan.getIndexableDDMFormFieldIndexPlan(
+					fieldName);
+
+			if (!Objects.equals(
+					ddmFormFieldIndexPlan, previousDDMFormFieldIndexPlan)) {
+
+				changedFieldNames.add(fieldName);
+			}
+		}
+
+		return changedFieldNames;
+	}
+
+	public DDMFormFieldIndexPlan getDDMFormFieldIndexPlan(String fieldName) {
+		return _ddmFormFieldIndexPlans.get(fieldName);
+	}
+
+	/**
+	 * Returns whether the document fields of the changed fields, built with
+	 * this plan, replace all the ones built for them with the previous plan.
+	 * It is not the case when a field is no longer indexed or is indexed with
+	 * another index type, since document field names include the index type
+	 * and the previous document fields would be left in the documents.
+	 */
+	public boolean isPartiallyUpdatable(
+		DDMStructureIndexPlan previousDDMStructureIndexPlan,
+		Set<String> changedFieldNames) {
+
+		for (String fieldName : changedFieldNames) {
+			DDMFormFieldIndexPlan previousDDMFormFieldIndexPlan =
+				previousDDMStructureIndexPlan.getIndexableDDMFormFieldIndexPlan(
+					fieldName);
+
+			if (previousDDMFormFieldIndexPlan == null) {
+				continue;
+			}
+
+			DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+				getIndexableDDMFormFieldIndexPlan(fieldName);
+
+			if ((ddmFormFieldIndexPlan == null) ||
+				!Objects.equals(
+					ddmFormFieldIndexPlan.getIndexType(),
+					previousDDMFormFieldIndexPlan.getIndexType())) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	protected DDMFormFieldIndexPlan getIndexableDDMFormFieldIndexPlan(
+		String fieldName) {
+
+		DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+			_ddmFormFieldIndexPlans.get(fieldName);
+
+		if ((ddmFormFieldIndexPlan == null) ||
+			!ddmFormFieldIndexPlan.isIndexable()) {
+
+			return null;
+		}
+
+		return ddmFormFieldIndexPlan;
+	}
+
+	private final Map<String, DDMFormFieldIndexPlan> _ddmFormFieldIndexPlans;
+
+	public static class DDMFormFieldIndexPlan {
+
+		/**
+		 * Returns whether both plans build the same document fields for the
+		 * same values.
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof DDMFormFieldIndexPlan)) {
+				return false;
+			}
+
+			DDMFormFieldIndexPlan ddmFormFieldIndexPlan =
+				(DDMFormFieldIndexPlan)obj;
+
+			if (Objects.equals(_dataType, ddmFormFieldIndexPlan._dataType) &&
+				(_ddmStructureId == ddmFormFieldIndexPlan._ddmStructureId) &&
+				Objects.equals(_fieldName, ddmFormFieldIndexPlan._fieldName) &&
+				Objects.equals(_indexType, ddmFormFieldIndexPlan._indexType) &&
+				(_repeatable == ddmFormFieldIndexPlan._repeatable) &&
+				Objects.equals(_type, ddmFormFieldIndexPlan._type)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		public String getDataType() {
+			return _dataType;
+		}
+
+		public String getIndexType() {
+			return _indexType;
+		}
+
+		/**
+		 * Returns the name of the document field that stores the field values
+		 * of the locale. Names of locales the form is not available in are
+		 * encoded on first use.
+		 */
+		public String getName(Locale locale) {
+			if (locale == null) {
+				return _name;
+			}
+
+			return _names.computeIfAbsent(
+				locale,
+				key -> encodeName(
+					_ddmStructureId, _fieldName, key, _indexType));
+		}
+
+		public String getType() {
+			return _type;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = HashUtil.hash(0, _ddmStructureId);
+
+			hash = HashUtil.hash(hash, _fieldName);
+
+			return HashUtil.hash(hash, _indexType);
+		}
+
+		/**
+		 * Returns the value of the field in the locale, as {@link
+		 * Field#getValue(Locale)} does, without fetching the structure to read
+		 * the data type and repeatable property of the field.
+		 */
+		public Serializable getValue(Field field, Locale locale) {
+			List<Serializable> values = field.getValues(locale);
+
+			if (values.isEmpty()) {
+				return null;
+			}
+
+			if (_repeatable || (values.size() > 1)) {
+				return FieldConstants.getSerializable(_dataType, values);
+			}
+
+			return values.get(0);
+		}
+
+		public boolean isIndexable() {
+			return Validator.isNotNull(_indexType);
+		}
+
+		protected DDMFormFieldIndexPlan(
+			long ddmStructureId, DDMFormField ddmFormField,
+			Set<Locale> availableLocales) {
+
+			_dataType = ddmFormField.getDataType();
+			_ddmStructureId = ddmStructureId;
+			_fieldName = ddmFormField.getName();
+			_indexType = ddmFormField.getIndexType();
+			_repeatable = ddmFormField.isRepeatable();
+			_type = ddmFormField.getType();
+
+			_name = encodeName(ddmStructureId, _fieldName, null, _indexType);
+
+			for (Locale locale : availableLocales) {
+				_names.put(
+					locale,
+					encodeName(ddmStructureId, _fieldName, locale, _indexType));
+			}
+		}
+
+		private final String _dataType;
+		private final long _ddmStructureId;
+		private final String _fieldName;
+		private final String _indexType;
+		private final String _name;
+		private final Map<Locale, String> _names = new ConcurrentHashMap<>();
+		private final boolean _repeatable;
+		private final String _type;
+
+	}
+
+}
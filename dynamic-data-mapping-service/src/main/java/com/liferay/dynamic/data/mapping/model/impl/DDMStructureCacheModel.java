@@ -218,7 +218,7 @@ public class DDMStructureCacheModel implements CacheModel<DDMStructure>,
 
 		ddmStructureImpl.setClassName(_className);
 
-		ddmStructureImpl.setDDMForm(_ddmForm);
+		ddmStructureImpl.setReadOnlyDDMForm(_ddmForm);
 
 		return ddmStructureImpl;
 	}
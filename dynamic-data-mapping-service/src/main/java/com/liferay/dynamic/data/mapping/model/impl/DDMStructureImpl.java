@@ -23,6 +23,7 @@ import com.liferay.dynamic.data.mapping.model.DDMStructureLayout;
 import com.liferay.dynamic.data.mapping.model.DDMStructureVersion;
 import com.liferay.dynamic.data.mapping.model.DDMTemplate;
 import com.liferay.dynamic.data.mapping.model.LocalizedValue;
+import com.liferay.dynamic.data.mapping.model.ReadOnlyDDMForm;
 import com.liferay.dynamic.data.mapping.service.DDMStructureLayoutLocalServiceUtil;
 import com.liferay.dynamic.data.mapping.service.DDMStructureLocalServiceUtil;
 import com.liferay.dynamic.data.mapping.service.DDMStructureVersionLocalServiceUtil;
@@ -78,7 +79,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 
 	@Override
 	public String[] getAvailableLanguageIds() {
-		DDMForm ddmForm = getDDMForm();
+		DDMForm ddmForm = getReadOnlyDDMForm();
 
 		Set<Locale> availableLocales = ddmForm.getAvailableLocales();
 
@@ -90,7 +91,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 	public List<String> getChildrenFieldNames(String fieldName)
 		throws PortalException {
 
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return getDDMFormFieldNames(ddmFormField.getNestedDDMFormFields());
 	}
@@ -106,19 +107,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 
 	@Override
 	public DDMForm getDDMForm() {
-		if (_ddmForm == null) {
-			try {
-				_ddmForm = DDMStructureLocalServiceUtil.getStructureDDMForm(
-					this);
-			}
-			catch (Exception e) {
-				_log.error(e, e);
-
-				return new DDMForm();
-			}
-		}
-
-		return new DDMForm(_ddmForm);
+		return new DDMForm(getReadOnlyDDMForm());
 	}
 
 	@Override
@@ -167,14 +156,14 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 
 	@Override
 	public String getDefaultLanguageId() {
-		DDMForm ddmForm = getDDMForm();
+		DDMForm ddmForm = getReadOnlyDDMForm();
 
 		return LocaleUtil.toLanguageId(ddmForm.getDefaultLocale());
 	}
 
 	@Override
 	public String getFieldDataType(String fieldName) throws PortalException {
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return ddmFormField.getDataType();
 	}
@@ -183,7 +172,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 	public String getFieldLabel(String fieldName, Locale locale)
 		throws PortalException {
 
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		LocalizedValue label = ddmFormField.getLabel();
 
@@ -199,7 +188,11 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 
 	@Override
 	public Set<String> getFieldNames() {
-		List<DDMFormField> ddmFormFields = getDDMFormFields(false);
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			getReadOnlyFullHierarchyDDMFormFieldsMap(true);
+
+		List<DDMFormField> ddmFormFields = filterTransientDDMFormFields(
+			new ArrayList<>(ddmFormFieldsMap.values()));
 
 		List<String> ddmFormFieldNames = getDDMFormFieldNames(ddmFormFields);
 
@@ -210,21 +203,21 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 	public String getFieldProperty(String fieldName, String property)
 		throws PortalException {
 
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return BeanPropertiesUtil.getString(ddmFormField, property);
 	}
 
 	@Override
 	public boolean getFieldRepeatable(String fieldName) throws PortalException {
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return ddmFormField.isRepeatable();
 	}
 
 	@Override
 	public boolean getFieldRequired(String fieldName) throws PortalException {
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return ddmFormField.isRequired();
 	}
@@ -233,7 +226,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 	public String getFieldTip(String fieldName, Locale locale)
 		throws PortalException {
 
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		LocalizedValue tip = ddmFormField.getTip();
 
@@ -249,7 +242,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 
 	@Override
 	public String getFieldType(String fieldName) throws PortalException {
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return ddmFormField.getType();
 	}
@@ -285,9 +278,26 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 			getStructureId());
 	}
 
+	@Override
+	public DDMForm getReadOnlyDDMForm() {
+		if (_ddmForm == null) {
+			try {
+				_ddmForm = new ReadOnlyDDMForm(
+					DDMStructureLocalServiceUtil.getStructureDDMForm(this));
+			}
+			catch (Exception e) {
+				_log.error(e, e);
+
+				return new ReadOnlyDDMForm(new DDMForm());
+			}
+		}
+
+		return _ddmForm;
+	}
+
 	@Override
 	public List<String> getRootFieldNames() {
-		DDMForm ddmForm = getFullHierarchyDDMForm();
+		DDMForm ddmForm = getReadOnlyFullHierarchyDDMForm();
 
 		return getDDMFormFieldNames(ddmForm.getDDMFormFields());
 	}
@@ -389,21 +399,21 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 	@Override
 	public boolean hasField(String fieldName) {
 		Map<String, DDMFormField> ddmFormFieldsMap =
-			getFullHierarchyDDMFormFieldsMap(true);
+			getReadOnlyFullHierarchyDDMFormFieldsMap(true);
 
 		return ddmFormFieldsMap.containsKey(fieldName);
 	}
 
 	@Override
 	public boolean isFieldRepeatable(String fieldName) throws PortalException {
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		return ddmFormField.isRepeatable();
 	}
 
 	@Override
 	public boolean isFieldTransient(String fieldName) throws PortalException {
-		DDMFormField ddmFormField = getDDMFormField(fieldName);
+		DDMFormField ddmFormField = getReadOnlyDDMFormField(fieldName);
 
 		if (Validator.isNull(ddmFormField.getDataType())) {
 			return true;
@@ -436,7 +446,7 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 
 	@Override
 	public void setDDMForm(DDMForm ddmForm) {
-		_ddmForm = ddmForm;
+		setReadOnlyDDMForm(ddmForm);
 	}
 
 	@Override
@@ -446,6 +456,15 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 		_ddmForm = null;
 	}
 
+	@Override
+	public void setReadOnlyDDMForm(DDMForm ddmForm) {
+		if ((ddmForm != null) && !(ddmForm instanceof ReadOnlyDDMForm)) {
+			ddmForm = new ReadOnlyDDMForm(ddmForm);
+		}
+
+		_ddmForm = ddmForm;
+	}
+
 	protected List<DDMFormField> filterTransientDDMFormFields(
 		List<DDMFormField> ddmFormFields) {
 
@@ -489,13 +508,50 @@ public class DDMStructureImpl extends DDMStructureBaseImpl {
 		return parentStructure;
 	}
 
+	protected DDMFormField getReadOnlyDDMFormField(String fieldName)
+		throws PortalException {
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			getReadOnlyFullHierarchyDDMFormFieldsMap(true);
+
+		DDMFormField ddmFormField = ddmFormFieldsMap.get(fieldName);
+
+		if (ddmFormField == null) {
+			throw new StructureFieldException(
+				"Unable to find field " + fieldName);
+		}
+
+		return ddmFormField;
+	}
+
+	/**
+	 * Returns the shared read only form when the structure has no parent, and
+	 * a newly merged form otherwise. Callers must not modify it.
+	 */
+	protected DDMForm getReadOnlyFullHierarchyDDMForm() {
+		if (getParentStructureId() == 0) {
+			return getReadOnlyDDMForm();
+		}
+
+		return getFullHierarchyDDMForm();
+	}
+
+	protected Map<String, DDMFormField>
+		getReadOnlyFullHierarchyDDMFormFieldsMap(
+			boolean includeNestedDDMFormFields) {
+
+		DDMForm ddmForm = getReadOnlyFullHierarchyDDMForm();
+
+		return ddmForm.getDDMFormFieldsMap(includeNestedDDMFormFields);
+	}
+
 	private static final Log _log = LogFactoryUtil.getLog(
 		DDMStructureImpl.class);
 
 	@CacheField
 	private String _className;
 
-	@CacheField(methodName = "DDMForm", propagateToInterface = true)
+	@CacheField(methodName = "ReadOnlyDDMForm", propagateToInterface = true)
 	private DDMForm _ddmForm;
 
 }
\ No newline at end of file
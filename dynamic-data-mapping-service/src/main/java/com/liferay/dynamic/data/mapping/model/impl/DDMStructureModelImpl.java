@@ -966,11 +966,11 @@ public class DDMStructureModelImpl extends BaseModelImpl<DDMStructure>
 	public void setClassName(java.lang.String className) {
 	}
 
-	public com.liferay.dynamic.data.mapping.model.DDMForm getDDMForm() {
+	public com.liferay.dynamic.data.mapping.model.DDMForm getReadOnlyDDMForm() {
 		return null;
 	}
 
-	public void setDDMForm(
+	public void setReadOnlyDDMForm(
 		com.liferay.dynamic.data.mapping.model.DDMForm ddmForm) {
 	}
 
@@ -1203,7 +1203,7 @@ public class DDMStructureModelImpl extends BaseModelImpl<DDMStructure>
 
 		setClassName(null);
 
-		setDDMForm(null);
+		setReadOnlyDDMForm(null);
 
 		ddmStructureModelImpl._columnBitmask = 0;
 	}
@@ -1329,7 +1329,7 @@ public class DDMStructureModelImpl extends BaseModelImpl<DDMStructure>
 
 		ddmStructureCacheModel._className = getClassName();
 
-		ddmStructureCacheModel._ddmForm = getDDMForm();
+		ddmStructureCacheModel._ddmForm = getReadOnlyDDMForm();
 
 		return ddmStructureCacheModel;
 	}
@@ -192,7 +192,7 @@ public class DDMStructureVersionCacheModel implements CacheModel<DDMStructureVer
 
 		ddmStructureVersionImpl.resetOriginalValues();
 
-		ddmStructureVersionImpl.setDDMForm(_ddmForm);
+		ddmStructureVersionImpl.setReadOnlyDDMForm(_ddmForm);
 
 		return ddmStructureVersionImpl;
 	}
@@ -20,6 +20,7 @@ import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.model.DDMFormLayout;
 import com.liferay.dynamic.data.mapping.model.DDMStructure;
 import com.liferay.dynamic.data.mapping.model.DDMStructureLayout;
+import com.liferay.dynamic.data.mapping.model.ReadOnlyDDMForm;
 import com.liferay.dynamic.data.mapping.service.DDMStructureLayoutLocalServiceUtil;
 import com.liferay.dynamic.data.mapping.service.DDMStructureLocalServiceUtil;
 import com.liferay.dynamic.data.mapping.service.DDMStructureVersionLocalServiceUtil;
@@ -37,29 +38,34 @@ public class DDMStructureVersionImpl extends DDMStructureVersionBaseImpl {
 
 	@Override
 	public DDMForm getDDMForm() {
+		return new DDMForm(getReadOnlyDDMForm());
+	}
+
+	@Override
+	public DDMFormLayout getDDMFormLayout() throws PortalException {
+		DDMStructureLayout ddmStructureLayout =
+			DDMStructureLayoutLocalServiceUtil.
+				getStructureLayoutByStructureVersionId(getStructureVersionId());
+
+		return ddmStructureLayout.getDDMFormLayout();
+	}
+
+	@Override
+	public DDMForm getReadOnlyDDMForm() {
 		if (_ddmForm == null) {
 			try {
-				_ddmForm =
+				_ddmForm = new ReadOnlyDDMForm(
 					DDMStructureVersionLocalServiceUtil.
-						getStructureVersionDDMForm(this);
+						getStructureVersionDDMForm(this));
 			}
 			catch (Exception e) {
 				_log.error(e, e);
 
-				return new DDMForm();
+				return new ReadOnlyDDMForm(new DDMForm());
 			}
 		}
 
-		return new DDMForm(_ddmForm);
-	}
-
-	@Override
-	public DDMFormLayout getDDMFormLayout() throws PortalException {
-		DDMStructureLayout ddmStructureLayout =
-			DDMStructureLayoutLocalServiceUtil.
-				getStructureLayoutByStructureVersionId(getStructureVersionId());
-
-		return ddmStructureLayout.getDDMFormLayout();
+		return _ddmForm;
 	}
 
 	@Override
@@ -69,13 +75,22 @@ public class DDMStructureVersionImpl extends DDMStructureVersionBaseImpl {
 
 	@Override
 	public void setDDMForm(DDMForm ddmForm) {
+		setReadOnlyDDMForm(ddmForm);
+	}
+
+	@Override
+	public void setReadOnlyDDMForm(DDMForm ddmForm) {
+		if ((ddmForm != null) && !(ddmForm instanceof ReadOnlyDDMForm)) {
+			ddmForm = new ReadOnlyDDMForm(ddmForm);
+		}
+
 		_ddmForm = ddmForm;
 	}
 
 	private static final Log _log = LogFactoryUtil.getLog(
 		DDMStructureVersionImpl.class);
 
-	@CacheField(methodName = "DDMForm", propagateToInterface = true)
+	@CacheField(methodName = "ReadOnlyDDMForm", propagateToInterface = true)
 	private DDMForm _ddmForm;
 
 }
\ No newline at end of file
@@ -843,11 +843,11 @@ public class DDMStructureVersionModelImpl extends BaseModelImpl<DDMStructureVers
 		_statusDate = statusDate;
 	}
 
-	public com.liferay.dynamic.data.mapping.model.DDMForm getDDMForm() {
+	public com.liferay.dynamic.data.mapping.model.DDMForm getReadOnlyDDMForm() {
 		return null;
 	}
 
-	public void setDDMForm(
+	public void setReadOnlyDDMForm(
 		com.liferay.dynamic.data.mapping.model.DDMForm ddmForm) {
 	}
 
@@ -1134,7 +1134,7 @@ public class DDMStructureVersionModelImpl extends BaseModelImpl<DDMStructureVers
 
 		ddmStructureVersionModelImpl._setOriginalStatus = false;
 
-		setDDMForm(null);
+		setReadOnlyDDMForm(null);
 
 		ddmStructureVersionModelImpl._columnBitmask = 0;
 	}
@@ -1235,7 +1235,7 @@ public class DDMStructureVersionModelImpl extends BaseModelImpl<DDMStructureVers
 			ddmStructureVersionCacheModel.statusDate = Long.MIN_VALUE;
 		}
 
-		ddmStructureVersionCacheModel._ddmForm = getDDMForm();
+		ddmStructureVersionCacheModel._ddmForm = getReadOnlyDDMForm();
 
 		return ddmStructureVersionCacheModel;
 	}
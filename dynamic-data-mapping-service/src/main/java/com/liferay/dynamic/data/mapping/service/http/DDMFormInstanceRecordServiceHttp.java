@@ -90,13 +90,48 @@ public class DDMFormInstanceRecordServiceHttp {
 		}
 	}
 
+	public static java.util.List<com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord> addFormInstanceRecords(
+		HttpPrincipal httpPrincipal, long groupId, long ddmFormInstanceId,
+		java.util.List<com.liferay.dynamic.data.mapping.storage.DDMFormValues> ddmFormValuesList,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(DDMFormInstanceRecordServiceUtil.class,
+					"addFormInstanceRecords",
+					_addFormInstanceRecordsParameterTypes1);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey, groupId,
+					ddmFormInstanceId, ddmFormValuesList, serviceContext);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<com.liferay.dynamic.data.mapping.model.DDMFormInstanceRecord>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
 	public static void deleteFormInstanceRecord(HttpPrincipal httpPrincipal,
 		long ddmFormInstanceRecordId)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(DDMFormInstanceRecordServiceUtil.class,
 					"deleteFormInstanceRecord",
-					_deleteFormInstanceRecordParameterTypes1);
+					_deleteFormInstanceRecordParameterTypes2);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					ddmFormInstanceRecordId);
@@ -125,7 +160,7 @@ public class DDMFormInstanceRecordServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(DDMFormInstanceRecordServiceUtil.class,
 					"getFormInstanceRecord",
-					_getFormInstanceRecordParameterTypes2);
+					_getFormInstanceRecordParameterTypes3);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					ddmFormInstanceRecordId);
@@ -158,7 +193,7 @@ public class DDMFormInstanceRecordServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(DDMFormInstanceRecordServiceUtil.class,
 					"getFormInstanceRecords",
-					_getFormInstanceRecordsParameterTypes3);
+					_getFormInstanceRecordsParameterTypes4);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					ddmFormInstanceId);
@@ -192,7 +227,7 @@ public class DDMFormInstanceRecordServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(DDMFormInstanceRecordServiceUtil.class,
 					"revertFormInstanceRecord",
-					_revertFormInstanceRecordParameterTypes4);
+					_revertFormInstanceRecordParameterTypes5);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					ddmFormInstanceRecordId, version, serviceContext);
@@ -224,7 +259,7 @@ public class DDMFormInstanceRecordServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(DDMFormInstanceRecordServiceUtil.class,
 					"updateFormInstanceRecord",
-					_updateFormInstanceRecordParameterTypes5);
+					_updateFormInstanceRecordParameterTypes6);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					ddmFormInstanceRecordId, majorVersion, ddmFormValues,
@@ -258,20 +293,24 @@ public class DDMFormInstanceRecordServiceHttp {
 			com.liferay.dynamic.data.mapping.storage.DDMFormValues.class,
 			com.liferay.portal.kernel.service.ServiceContext.class
 		};
-	private static final Class<?>[] _deleteFormInstanceRecordParameterTypes1 = new Class[] {
+	private static final Class<?>[] _addFormInstanceRecordsParameterTypes1 = new Class[] {
+			long.class, long.class, java.util.List.class,
+			com.liferay.portal.kernel.service.ServiceContext.class
+		};
+	private static final Class<?>[] _deleteFormInstanceRecordParameterTypes2 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _getFormInstanceRecordParameterTypes2 = new Class[] {
+	private static final Class<?>[] _getFormInstanceRecordParameterTypes3 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _getFormInstanceRecordsParameterTypes3 = new Class[] {
+	private static final Class<?>[] _getFormInstanceRecordsParameterTypes4 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _revertFormInstanceRecordParameterTypes4 = new Class[] {
+	private static final Class<?>[] _revertFormInstanceRecordParameterTypes5 = new Class[] {
 			long.class, java.lang.String.class,
 			com.liferay.portal.kernel.service.ServiceContext.class
 		};
-	private static final Class<?>[] _updateFormInstanceRecordParameterTypes5 = new Class[] {
+	private static final Class<?>[] _updateFormInstanceRecordParameterTypes6 = new Class[] {
 			long.class, boolean.class,
 			com.liferay.dynamic.data.mapping.storage.DDMFormValues.class,
 			com.liferay.portal.kernel.service.ServiceContext.class
@@ -14,6 +14,7 @@
 
 package com.liferay.dynamic.data.mapping.service.impl;
 
+import com.liferay.counter.kernel.model.Counter;
 import com.liferay.document.library.kernel.util.DLUtil;
 import com.liferay.dynamic.data.mapping.exception.FormInstanceRecordGroupIdException;
 import com.liferay.dynamic.data.mapping.exception.NoSuchFormInstanceRecordException;
@@ -38,6 +39,7 @@ import com.liferay.portal.kernel.search.BaseModelSearchResult;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.IndexStatusManagerThreadLocal;
 import com.liferay.portal.kernel.search.Indexable;
 import com.liferay.portal.kernel.search.IndexableType;
 import com.liferay.portal.kernel.search.Indexer;
@@ -144,6 +146,132 @@ public class DDMFormInstanceRecordLocalServiceImpl
 		return ddmFormInstanceRecord;
 	}
 
+	@Override
+	public List<DDMFormInstanceRecord> addFormInstanceRecords(
+			long userId, long groupId, long ddmFormInstanceId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws PortalException {
+
+		List<DDMFormInstanceRecord> ddmFormInstanceRecords = new ArrayList<>(
+			ddmFormValuesList.size());
+
+		if (ddmFormValuesList.isEmpty()) {
+			return ddmFormInstanceRecords;
+		}
+
+		User user = userLocalService.getUser(userId);
+
+		DDMFormInstance ddmFormInstance =
+			ddmFormInstancePersistence.findByPrimaryKey(ddmFormInstanceId);
+
+		validate(groupId, ddmFormInstance);
+
+		// Indexing of the records is deferred to a single bulk request that is
+		// sent after all records are added
+
+		boolean indexReadOnly = IndexStatusManagerThreadLocal.isIndexReadOnly();
+
+		IndexStatusManagerThreadLocal.setIndexReadOnly(true);
+
+		try {
+			StorageEngine storageEngine =
+				storageEngineAccessor.getStorageEngine();
+
+			long[] ddmStorageIds = storageEngine.create(
+				ddmFormInstance.getCompanyId(),
+				ddmFormInstance.getStructureId(), ddmFormValuesList,
+				serviceContext);
+
+			// Reserve the IDs of all records and record versions at once and
+			// add the rows of each table together so they can be batched
+
+			int count = ddmStorageIds.length * 2;
+
+			long id =
+				counterLocalService.increment(Counter.class.getName(), count) -
+					count;
+
+			for (long ddmStorageId : ddmStorageIds) {
+				DDMFormInstanceRecord ddmFormInstanceRecord =
+					ddmFormInstanceRecordPersistence.create(++id);
+
+				ddmFormInstanceRecord.setGroupId(groupId);
+				ddmFormInstanceRecord.setCompanyId(user.getCompanyId());
+				ddmFormInstanceRecord.setUserId(user.getUserId());
+				ddmFormInstanceRecord.setUserName(user.getFullName());
+				ddmFormInstanceRecord.setVersionUserId(user.getUserId());
+				ddmFormInstanceRecord.setVersionUserName(user.getFullName());
+				ddmFormInstanceRecord.setStorageId(ddmStorageId);
+				ddmFormInstanceRecord.setFormInstanceId(ddmFormInstanceId);
+				ddmFormInstanceRecord.setFormInstanceVersion(
+					ddmFormInstance.getVersion());
+				ddmFormInstanceRecord.setVersion(_VERSION_DEFAULT);
+
+				ddmFormInstanceRecordPersistence.update(ddmFormInstanceRecord);
+
+				ddmFormInstanceRecords.add(ddmFormInstanceRecord);
+			}
+
+			int status = GetterUtil.getInteger(
+				serviceContext.getAttribute("status"),
+				WorkflowConstants.STATUS_DRAFT);
+
+			List<DDMFormInstanceRecordVersion> ddmFormInstanceRecordVersions =
+				new ArrayList<>(ddmFormInstanceRecords.size());
+
+			for (DDMFormInstanceRecord ddmFormInstanceRecord :
+					ddmFormInstanceRecords) {
+
+				ddmFormInstanceRecordVersions.add(
+					addFormInstanceRecordVersion(
+						++id, user, ddmFormInstanceRecord,
+						ddmFormInstanceRecord.getStorageId(), status,
+						_VERSION_DEFAULT));
+			}
+
+			// Asset
+
+			Locale locale = serviceContext.getLocale();
+
+			for (int i = 0; i < ddmFormInstanceRecords.size(); i++) {
+				updateAsset(
+					userId, ddmFormInstanceRecords.get(i),
+					ddmFormInstanceRecordVersions.get(i),
+					serviceContext.getAssetCategoryIds(),
+					serviceContext.getAssetTagNames(), locale,
+					serviceContext.getAssetPriority());
+			}
+
+			if (serviceContext.getWorkflowAction() ==
+					WorkflowConstants.ACTION_PUBLISH) {
+
+				for (DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion :
+						ddmFormInstanceRecordVersions) {
+
+					WorkflowHandlerRegistryUtil.startWorkflowInstance(
+						user.getCompanyId(), groupId, userId,
+						DDMFormInstanceRecord.class.getName(),
+						ddmFormInstanceRecordVersion.
+							getFormInstanceRecordVersionId(),
+						ddmFormInstanceRecordVersion, serviceContext);
+				}
+			}
+		}
+		finally {
+			IndexStatusManagerThreadLocal.setIndexReadOnly(indexReadOnly);
+		}
+
+		// Indexer
+
+		Indexer<DDMFormInstanceRecord> indexer =
+			getDDMFormInstanceRecordIndexer();
+
+		indexer.reindex(ddmFormInstanceRecords);
+
+		return ddmFormInstanceRecords;
+	}
+
 	@Indexable(type = IndexableType.DELETE)
 	@Override
 	@SystemEvent(
@@ -487,7 +615,15 @@ public class DDMFormInstanceRecordLocalServiceImpl
 		User user, DDMFormInstanceRecord ddmFormInstanceRecord,
 		long ddmStorageId, int status, String version) {
 
-		long ddmFormInstanceRecordVersionId = counterLocalService.increment();
+		return addFormInstanceRecordVersion(
+			counterLocalService.increment(), user, ddmFormInstanceRecord,
+			ddmStorageId, status, version);
+	}
+
+	protected DDMFormInstanceRecordVersion addFormInstanceRecordVersion(
+		long ddmFormInstanceRecordVersionId, User user,
+		DDMFormInstanceRecord ddmFormInstanceRecord, long ddmStorageId,
+		int status, String version) {
 
 		DDMFormInstanceRecordVersion ddmFormInstanceRecordVersion =
 			ddmFormInstanceRecordVersionPersistence.create(
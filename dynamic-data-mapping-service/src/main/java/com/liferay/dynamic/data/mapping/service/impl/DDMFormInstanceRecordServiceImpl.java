@@ -48,6 +48,22 @@ public class DDMFormInstanceRecordServiceImpl
 			serviceContext);
 	}
 
+	@Override
+	public List<DDMFormInstanceRecord> addFormInstanceRecords(
+			long groupId, long ddmFormInstanceId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws PortalException {
+
+		DDMFormInstancePermission.check(
+			getPermissionChecker(), ddmFormInstanceId,
+			DDMActionKeys.ADD_FORM_INSTANCE_RECORD);
+
+		return ddmFormInstanceRecordLocalService.addFormInstanceRecords(
+			getGuestOrUserId(), groupId, ddmFormInstanceId, ddmFormValuesList,
+			serviceContext);
+	}
+
 	@Override
 	public void deleteFormInstanceRecord(long ddmFormInstanceRecordId)
 		throws PortalException {
@@ -24,6 +24,7 @@ import com.liferay.dynamic.data.mapping.exception.StructureDuplicateElementExcep
 import com.liferay.dynamic.data.mapping.exception.StructureDuplicateStructureKeyException;
 import com.liferay.dynamic.data.mapping.exception.StructureNameException;
 import com.liferay.dynamic.data.mapping.internal.util.DDMFormTemplateSynchonizer;
+import com.liferay.dynamic.data.mapping.internal.util.DDMStructureIndexPlan;
 import com.liferay.dynamic.data.mapping.io.DDMFormJSONDeserializer;
 import com.liferay.dynamic.data.mapping.io.DDMFormJSONSerializer;
 import com.liferay.dynamic.data.mapping.io.DDMFormXSDDeserializer;
@@ -51,6 +52,8 @@ import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.exception.LocaleException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.model.ResourceConstants;
 import com.liferay.portal.kernel.model.SystemEventConstants;
 import com.liferay.portal.kernel.model.User;
@@ -1599,6 +1602,9 @@ public class DDMStructureLocalServiceImpl
 
 		User user = userLocalService.getUser(userId);
 
+		DDMForm previousFullHierarchyDDMForm =
+			structure.getFullHierarchyDDMForm();
+
 		DDMForm parentDDMForm = getParentDDMForm(parentStructureId);
 
 		validateParentStructure(structure.getStructureId(), parentStructureId);
@@ -1659,7 +1665,8 @@ public class DDMStructureLocalServiceImpl
 
 		// Indexer
 
-		reindexStructure(structure, serviceContext);
+		reindexStructure(
+			structure, previousFullHierarchyDDMForm, serviceContext);
 
 		return structure;
 	}
@@ -1786,8 +1793,16 @@ public class DDMStructureLocalServiceImpl
 			type);
 	}
 
+	/**
+	 * Reindexes the entities of the structure and of its descendants when the
+	 * update changed how their values are indexed. When the changed fields can
+	 * be updated on their own, their names are passed to the background task,
+	 * so indexers supporting it only update the document fields of those
+	 * fields.
+	 */
 	protected void reindexStructure(
-			DDMStructure structure, ServiceContext serviceContext)
+			DDMStructure structure, DDMForm previousFullHierarchyDDMForm,
+			ServiceContext serviceContext)
 		throws PortalException {
 
 		if (!serviceContext.isIndexingEnabled()) {
@@ -1801,12 +1816,42 @@ public class DDMStructureLocalServiceImpl
 			return;
 		}
 
+		DDMStructureIndexPlan previousDDMStructureIndexPlan =
+			new DDMStructureIndexPlan(
+				structure.getStructureId(), previousFullHierarchyDDMForm);
+
+		DDMStructureIndexPlan ddmStructureIndexPlan = new DDMStructureIndexPlan(
+			structure.getStructureId(), structure.getFullHierarchyDDMForm());
+
+		Set<String> changedFieldNames =
+			ddmStructureIndexPlan.getChangedFieldNames(
+				previousDDMStructureIndexPlan);
+
+		if (changedFieldNames.isEmpty()) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					StringBundler.concat(
+						"Skipping reindex of structure ",
+						String.valueOf(structure.getStructureId()),
+						" because no indexed field changed"));
+			}
+
+			return;
+		}
+
 		String backgroundTaskName =
 			DDMStructureIndexerBackgroundTaskExecutor.getBackgroundTaskName(
 				structure.getStructureId());
 
 		Map<String, Serializable> taskContextMap = new HashMap<>();
 
+		if (ddmStructureIndexPlan.isPartiallyUpdatable(
+				previousDDMStructureIndexPlan, changedFieldNames)) {
+
+			taskContextMap.put(
+				"ddmFormFieldNames", StringUtil.merge(changedFieldNames));
+		}
+
 		taskContextMap.put("structureId", structure.getStructureId());
 
 		backgroundTaskmanager.addBackgroundTask(
@@ -2011,6 +2056,9 @@ public class DDMStructureLocalServiceImpl
 	@ServiceReference(type = DDMXML.class)
 	protected DDMXML ddmXML;
 
+	private static final Log _log = LogFactoryUtil.getLog(
+		DDMStructureLocalServiceImpl.class);
+
 	private final Pattern _callFunctionPattern = Pattern.compile(
 		"call\\(\\s*\'([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-" +
 			"[0-9a-f]{12})\'\\s*,\\s*\'(.*)\'\\s*,\\s*\'(.*)\'\\s*\\)");
@@ -14,9 +14,14 @@
 
 package com.liferay.dynamic.data.mapping.storage.impl;
 
+import com.liferay.counter.kernel.model.Counter;
+import com.liferay.counter.kernel.service.CounterLocalService;
+import com.liferay.dynamic.data.mapping.exception.NoSuchContentException;
+import com.liferay.dynamic.data.mapping.exception.NoSuchStorageLinkException;
 import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONDeserializer;
 import com.liferay.dynamic.data.mapping.io.DDMFormValuesJSONSerializer;
 import com.liferay.dynamic.data.mapping.model.DDMContent;
+import com.liferay.dynamic.data.mapping.model.DDMForm;
 import com.liferay.dynamic.data.mapping.model.DDMStorageLink;
 import com.liferay.dynamic.data.mapping.model.DDMStructure;
 import com.liferay.dynamic.data.mapping.model.DDMStructureVersion;
@@ -29,11 +34,20 @@ import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.storage.StorageAdapter;
 import com.liferay.dynamic.data.mapping.storage.StorageType;
 import com.liferay.dynamic.data.mapping.validator.DDMFormValuesValidator;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.Portal;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -102,6 +116,71 @@ public class JSONStorageAdapter extends BaseStorageAdapter {
 		return StorageType.JSON.toString();
 	}
 
+	@Override
+	protected long[] doCreate(
+			long companyId, long ddmStructureId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws Exception {
+
+		for (DDMFormValues ddmFormValues : ddmFormValuesList) {
+			validate(ddmFormValues, serviceContext);
+		}
+
+		User user = _userLocalService.getUser(serviceContext.getUserId());
+
+		DDMStructure ddmStructure = _ddmStructureLocalService.getDDMStructure(
+			ddmStructureId);
+
+		DDMStructureVersion ddmStructureVersion =
+			ddmStructure.getLatestStructureVersion();
+
+		// Reserve the IDs of all contents and storage links at once and add
+		// the rows of each table together so they can be batched
+
+		int count = ddmFormValuesList.size() * 2;
+
+		long id =
+			_counterLocalService.increment(Counter.class.getName(), count) -
+				count;
+
+		long[] classPKs = new long[ddmFormValuesList.size()];
+
+		for (int i = 0; i < classPKs.length; i++) {
+			DDMContent ddmContent = _ddmContentLocalService.createDDMContent(
+				++id);
+
+			ddmContent.setGroupId(serviceContext.getScopeGroupId());
+			ddmContent.setCompanyId(user.getCompanyId());
+			ddmContent.setUserId(user.getUserId());
+			ddmContent.setUserName(user.getFullName());
+			ddmContent.setName(DDMStorageLink.class.getName());
+			ddmContent.setData(
+				_ddmFormValuesJSONSerializer.serialize(
+					ddmFormValuesList.get(i)));
+
+			_ddmContentLocalService.addDDMContent(ddmContent);
+
+			classPKs[i] = ddmContent.getPrimaryKey();
+		}
+
+		long classNameId = _portal.getClassNameId(DDMContent.class.getName());
+
+		for (long classPK : classPKs) {
+			DDMStorageLink ddmStorageLink =
+				_ddmStorageLinkLocalService.createDDMStorageLink(++id);
+
+			ddmStorageLink.setClassNameId(classNameId);
+			ddmStorageLink.setClassPK(classPK);
+			ddmStorageLink.setStructureVersionId(
+				ddmStructureVersion.getStructureVersionId());
+
+			_ddmStorageLinkLocalService.addDDMStorageLink(ddmStorageLink);
+		}
+
+		return classPKs;
+	}
+
 	@Override
 	protected void doDeleteByClass(long classPK) throws Exception {
 		_ddmContentLocalService.deleteDDMContent(classPK);
@@ -141,6 +220,116 @@ public class JSONStorageAdapter extends BaseStorageAdapter {
 		return ddmFormValues;
 	}
 
+	/**
+	 * Reads the contents and storage links of the class PKs with one query
+	 * each per chunk of class PKs, and deserializes every content against
+	 * its own copy of the form of its structure version, which is read only
+	 * once per structure version.
+	 */
+	@Override
+	protected Map<Long, DDMFormValues> doGetDDMFormValues(long[] classPKs)
+		throws Exception {
+
+		Map<Long, DDMContent> ddmContents = new HashMap<>();
+		Map<Long, DDMStorageLink> ddmStorageLinks = new HashMap<>();
+
+		for (int i = 0; i < classPKs.length; i += _IN_CLAUSE_SIZE) {
+			Long[] chunkClassPKs = ArrayUtil.toArray(
+				ArrayUtil.subset(
+					classPKs, i,
+					Math.min(i + _IN_CLAUSE_SIZE, classPKs.length)));
+
+			DynamicQuery ddmContentDynamicQuery =
+				_ddmContentLocalService.dynamicQuery();
+
+			ddmContentDynamicQuery.add(
+				RestrictionsFactoryUtil.in("contentId", chunkClassPKs));
+
+			List<DDMContent> chunkDDMContents =
+				_ddmContentLocalService.dynamicQuery(ddmContentDynamicQuery);
+
+			for (DDMContent ddmContent : chunkDDMContents) {
+				ddmContents.put(ddmContent.getContentId(), ddmContent);
+			}
+
+			DynamicQuery ddmStorageLinkDynamicQuery =
+				_ddmStorageLinkLocalService.dynamicQuery();
+
+			ddmStorageLinkDynamicQuery.add(
+				RestrictionsFactoryUtil.in("classPK", chunkClassPKs));
+
+			List<DDMStorageLink> chunkDDMStorageLinks =
+				_ddmStorageLinkLocalService.dynamicQuery(
+					ddmStorageLinkDynamicQuery);
+
+			for (DDMStorageLink ddmStorageLink : chunkDDMStorageLinks) {
+				ddmStorageLinks.put(
+					ddmStorageLink.getClassPK(), ddmStorageLink);
+			}
+		}
+
+		Map<Long, List<Long>> structureVersionClassPKs = new HashMap<>();
+
+		for (long classPK : classPKs) {
+			if (!ddmContents.containsKey(classPK)) {
+				throw new NoSuchContentException(
+					"No DDMContent exists with the primary key " + classPK);
+			}
+
+			DDMStorageLink ddmStorageLink = ddmStorageLinks.get(classPK);
+
+			if (ddmStorageLink == null) {
+				throw new NoSuchStorageLinkException(
+					"No DDMStorageLink exists with the class PK " + classPK);
+			}
+
+			List<Long> structureVersionClassPKsList =
+				structureVersionClassPKs.computeIfAbsent(
+					ddmStorageLink.getStructureVersionId(),
+					key -> new ArrayList<>());
+
+			structureVersionClassPKsList.add(classPK);
+		}
+
+		Map<Long, DDMFormValues> ddmFormValuesMap = new HashMap<>();
+
+		for (Map.Entry<Long, List<Long>> entry :
+				structureVersionClassPKs.entrySet()) {
+
+			DDMStructureVersion ddmStructureVersion =
+				_ddmStructureVersionLocalService.getDDMStructureVersion(
+					entry.getKey());
+
+			DDMForm ddmForm = ddmStructureVersion.getReadOnlyDDMForm();
+
+			for (long classPK : entry.getValue()) {
+				DDMContent ddmContent = ddmContents.get(classPK);
+
+				ddmFormValuesMap.put(
+					classPK,
+					_ddmFormValuesJSONDeserializer.deserialize(
+						new DDMForm(ddmForm), ddmContent.getData()));
+			}
+		}
+
+		Map<Long, DDMFormValues> orderedDDMFormValuesMap =
+			new LinkedHashMap<>();
+
+		for (long classPK : classPKs) {
+			orderedDDMFormValuesMap.put(
+				classPK, ddmFormValuesMap.get(classPK));
+		}
+
+		return orderedDDMFormValuesMap;
+	}
+
+	@Reference(unbind = "-")
+	protected void setCounterLocalService(
+		CounterLocalService counterLocalService) {
+
+		_counterLocalService = counterLocalService;
+	}
+
 	@Reference(unbind = "-")
 	protected void setDDMContentLocalService(
 		DDMContentLocalService ddmContentLocalService) {
@@ -190,6 +379,11 @@ public class JSONStorageAdapter extends BaseStorageAdapter {
 		_ddmStructureVersionLocalService = ddmStructureVersionLocalService;
 	}
 
+	@Reference(unbind = "-")
+	protected void setUserLocalService(UserLocalService userLocalService) {
+		_userLocalService = userLocalService;
+	}
+
 	protected void validate(
 			DDMFormValues ddmFormValues, ServiceContext serviceContext)
 		throws Exception {
@@ -204,6 +398,9 @@ public class JSONStorageAdapter extends BaseStorageAdapter {
 		_ddmFormValuesValidator.validate(ddmFormValues);
 	}
 
+	private static final int _IN_CLAUSE_SIZE = 500;
+
+	private CounterLocalService _counterLocalService;
 	private DDMContentLocalService _ddmContentLocalService;
 	private DDMFormValuesJSONDeserializer _ddmFormValuesJSONDeserializer;
 	private DDMFormValuesJSONSerializer _ddmFormValuesJSONSerializer;
@@ -211,6 +408,7 @@ public class JSONStorageAdapter extends BaseStorageAdapter {
 	private DDMStorageLinkLocalService _ddmStorageLinkLocalService;
 	private DDMStructureLocalService _ddmStructureLocalService;
 	private DDMStructureVersionLocalService _ddmStructureVersionLocalService;
+	private UserLocalService _userLocalService;
 
 	@Reference
 	private Portal _portal;
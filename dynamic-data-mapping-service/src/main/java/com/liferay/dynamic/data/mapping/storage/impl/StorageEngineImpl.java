@@ -24,7 +24,16 @@ import com.liferay.dynamic.data.mapping.storage.DDMFormValues;
 import com.liferay.dynamic.data.mapping.storage.StorageAdapter;
 import com.liferay.dynamic.data.mapping.storage.StorageAdapterRegistry;
 import com.liferay.dynamic.data.mapping.storage.StorageEngine;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.ArrayUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -48,6 +57,20 @@ public class StorageEngineImpl implements StorageEngine {
 			companyId, ddmStructureId, ddmFormValues, serviceContext);
 	}
 
+	@Override
+	public long[] create(
+			long companyId, long ddmStructureId,
+			List<DDMFormValues> ddmFormValuesList,
+			ServiceContext serviceContext)
+		throws StorageException {
+
+		StorageAdapter storageAdapter = getStructureStorageAdapter(
+			ddmStructureId);
+
+		return storageAdapter.create(
+			companyId, ddmStructureId, ddmFormValuesList, serviceContext);
+	}
+
 	@Override
 	public void deleteByClass(long classPK) throws StorageException {
 		StorageAdapter storageAdapter = getClassStorageAdapter(classPK);
@@ -74,6 +97,58 @@ public class StorageEngineImpl implements StorageEngine {
 		return storageAdapter.getDDMFormValues(classPK);
 	}
 
+	@Override
+	public Map<Long, DDMFormValues> getDDMFormValues(long[] classPKs)
+		throws StorageException {
+
+		Map<StorageAdapter, List<Long>> storageAdapterClassPKs =
+			new LinkedHashMap<>();
+
+		Map<Long, String> storageTypes = getStorageTypes(classPKs);
+
+		for (long classPK : classPKs) {
+			StorageAdapter storageAdapter = null;
+
+			String storageType = storageTypes.get(classPK);
+
+			if (storageType == null) {
+				storageAdapter =
+					_storageAdapterRegistry.getDefaultStorageAdapter();
+			}
+			else {
+				storageAdapter = getStorageAdapter(storageType);
+			}
+
+			List<Long> storageAdapterClassPKsList =
+				storageAdapterClassPKs.computeIfAbsent(
+					storageAdapter, key -> new ArrayList<>());
+
+			storageAdapterClassPKsList.add(classPK);
+		}
+
+		Map<Long, DDMFormValues> ddmFormValuesMap = new HashMap<>();
+
+		for (Map.Entry<StorageAdapter, List<Long>> entry :
+				storageAdapterClassPKs.entrySet()) {
+
+			StorageAdapter storageAdapter = entry.getKey();
+
+			ddmFormValuesMap.putAll(
+				storageAdapter.getDDMFormValues(
+					ArrayUtil.toLongArray(entry.getValue())));
+		}
+
+		Map<Long, DDMFormValues> orderedDDMFormValuesMap =
+			new LinkedHashMap<>();
+
+		for (long classPK : classPKs) {
+			orderedDDMFormValuesMap.put(
+				classPK, ddmFormValuesMap.get(classPK));
+		}
+
+		return orderedDDMFormValuesMap;
+	}
+
 	@Override
 	public String getStorageType() {
 		throw new UnsupportedOperationException();
@@ -121,6 +196,58 @@ public class StorageEngineImpl implements StorageEngine {
 		return _storageAdapterRegistry.getDefaultStorageAdapter();
 	}
 
+	/**
+	 * Returns the storage types of the class PKs, reading their storage links
+	 * with one query per chunk of class PKs instead of one query per class
+	 * PK. The storage type is resolved once per structure version. Class PKs
+	 * without a storage link are left out of the returned map.
+	 */
+	protected Map<Long, String> getStorageTypes(long[] classPKs)
+		throws StorageException {
+
+		Map<Long, String> storageTypes = new HashMap<>();
+
+		Map<Long, String> structureVersionStorageTypes = new HashMap<>();
+
+		try {
+			for (int i = 0; i < classPKs.length; i += _IN_CLAUSE_SIZE) {
+				Long[] chunkClassPKs = ArrayUtil.toArray(
+					ArrayUtil.subset(
+						classPKs, i,
+						Math.min(i + _IN_CLAUSE_SIZE, classPKs.length)));
+
+				DynamicQuery dynamicQuery =
+					_ddmStorageLinkLocalService.dynamicQuery();
+
+				dynamicQuery.add(
+					RestrictionsFactoryUtil.in("classPK", chunkClassPKs));
+
+				List<DDMStorageLink> ddmStorageLinks =
+					_ddmStorageLinkLocalService.dynamicQuery(dynamicQuery);
+
+				for (DDMStorageLink ddmStorageLink : ddmStorageLinks) {
+					String storageType = structureVersionStorageTypes.get(
+						ddmStorageLink.getStructureVersionId());
+
+					if (storageType == null) {
+						storageType = ddmStorageLink.getStorageType();
+
+						structureVersionStorageTypes.put(
+							ddmStorageLink.getStructureVersionId(),
+							storageType);
+					}
+
+					storageTypes.put(ddmStorageLink.getClassPK(), storageType);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw new StorageException(e);
+		}
+
+		return storageTypes;
+	}
+
 	protected StorageAdapter getStructureStorageAdapter(long ddmStructureId)
 		throws StorageException {
 
@@ -162,6 +289,8 @@ public class StorageEngineImpl implements StorageEngine {
 		_storageAdapterRegistry = storageAdapterRegistry;
 	}
 
+	private static final int _IN_CLAUSE_SIZE = 500;
+
 	private DDMStorageLinkLocalService _ddmStorageLinkLocalService;
 	private DDMStructureLocalService _ddmStructureLocalService;
 	private StorageAdapterRegistry _storageAdapterRegistry;
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.submission;
+
+/**
+ * @author agent
+ */
+public class DDMFormInstanceRecordSubmissionQueueEntry {
+
+	public String getAttributes() {
+		return _attributes;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public String getDDMFormValues() {
+		return _ddmFormValues;
+	}
+
+	public long getEntryId() {
+		return _entryId;
+	}
+
+	public long getFormInstanceId() {
+		return _formInstanceId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public String getServiceContext() {
+		return _serviceContext;
+	}
+
+	public long getStructureVersionId() {
+		return _structureVersionId;
+	}
+
+	public long getUserId() {
+		return _userId;
+	}
+
+	public void setAttributes(String attributes) {
+		_attributes = attributes;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public void setDDMFormValues(String ddmFormValues) {
+		_ddmFormValues = ddmFormValues;
+	}
+
+	public void setEntryId(long entryId) {
+		_entryId = entryId;
+	}
+
+	public void setFormInstanceId(long formInstanceId) {
+		_formInstanceId = formInstanceId;
+	}
+
+	public void setGroupId(long groupId) {
+		_groupId = groupId;
+	}
+
+	public void setServiceContext(String serviceContext) {
+		_serviceContext = serviceContext;
+	}
+
+	public void setStructureVersionId(long structureVersionId) {
+		_structureVersionId = structureVersionId;
+	}
+
+	public void setUserId(long userId) {
+		_userId = userId;
+	}
+
+	private String _attributes;
+	private long _companyId;
+	private String _ddmFormValues;
+	private long _entryId;
+	private long _formInstanceId;
+	private long _groupId;
+	private String _serviceContext;
+	private long _structureVersionId;
+	private long _userId;
+
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.submission;
+
+import com.liferay.counter.kernel.service.CounterLocalService;
+import com.liferay.portal.kernel.dao.jdbc.MappingSqlQuery;
+import com.liferay.portal.kernel.dao.jdbc.MappingSqlQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.jdbc.ParamSetter;
+import com.liferay.portal.kernel.dao.jdbc.RowMapper;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdate;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdateFactoryUtil;
+import com.liferay.portal.kernel.util.InfrastructureUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Stores the entries of the form entry submission queue in the
+ * DDMFormSubmissionQueue table, which is created by the 2.1.0 upgrade of this
+ * module. The statements run on the portal data source, so they join the
+ * current transaction when there is one.
+ *
+ * <p>
+ * An entry is pending until a node claims it. Claiming sets the status, the
+ * owner and the claim date of the entry in a single conditional update, so
+ * two nodes never claim the same entry. An entry whose claim expired, because
+ * the node that claimed it stopped before processing it, can be claimed again.
+ * </p>
+ *
+ * @author agent
+ */
+@Component(
+	immediate = true, service = DDMFormInstanceRecordSubmissionQueueStore.class
+)
+public class DDMFormInstanceRecordSubmissionQueueStore {
+
+	public void addEntry(DDMFormInstanceRecordSubmissionQueueEntry entry)
+		throws SQLException {
+
+		entry.setEntryId(_counterLocalService.increment());
+
+		_addEntrySqlUpdate.update(
+			entry.getEntryId(), entry.getCompanyId(), entry.getGroupId(),
+			entry.getUserId(), entry.getFormInstanceId(),
+			entry.getStructureVersionId(), _STATUS_PENDING,
+			entry.getServiceContext(), entry.getAttributes(),
+			entry.getDDMFormValues());
+	}
+
+	/**
+	 * Claims the pending entries whose IDs are in the given range, along with
+	 * the ones in the range whose claim expired before the given date, and
+	 * returns the entries that were claimed, in the order they were queued.
+	 */
+	public List<DDMFormInstanceRecordSubmissionQueueEntry> claimEntries(
+			long startEntryId, long endEntryId, Date expirationDate)
+		throws SQLException {
+
+		String owner = PortalUUIDUtil.generate();
+		Timestamp claimDate = new Timestamp(System.currentTimeMillis());
+
+		_claimEntriesSqlUpdate.update(
+			_STATUS_PROCESSING, owner, claimDate, startEntryId, endEntryId,
+			_STATUS_PENDING, _STATUS_PROCESSING,
+			new Timestamp(expirationDate.getTime()));
+
+		return _getEntriesMappingSqlQuery.execute(owner, _STATUS_PROCESSING);
+	}
+
+	/**
+	 * Returns the number of entries that are pending or claimed.
+	 */
+	public long countEntries() throws SQLException {
+		List<Integer> counts = _countEntriesMappingSqlQuery.execute(
+			_STATUS_FAILED);
+
+		return counts.get(0);
+	}
+
+	public void deleteEntry(long entryId) throws SQLException {
+		_deleteEntrySqlUpdate.update(entryId);
+	}
+
+	/**
+	 * Marks the entry as failed, so it is kept for inspection but is never
+	 * claimed again.
+	 */
+	public void failEntry(long entryId) throws SQLException {
+		_failEntrySqlUpdate.update(_STATUS_FAILED, entryId);
+	}
+
+	/**
+	 * Returns the IDs of the entries that can be claimed, which are the
+	 * pending entries and the ones whose claim expired before the given date,
+	 * in the order they were queued.
+	 */
+	public List<Long> getEntryIds(Date expirationDate) throws SQLException {
+		return _getEntryIdsMappingSqlQuery.execute(
+			_STATUS_PENDING, _STATUS_PROCESSING,
+			new Timestamp(expirationDate.getTime()));
+	}
+
+	@Activate
+	protected void activate() {
+		DataSource dataSource = InfrastructureUtil.getDataSource();
+
+		_addEntrySqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(
+			dataSource,
+			StringBundler.concat(
+				"insert into DDMFormSubmissionQueue (entryId, companyId, ",
+				"groupId, userId, formInstanceId, structureVersionId, status, ",
+				"serviceContext, attributes, ddmFormValues) values (?, ?, ?, ",
+				"?, ?, ?, ?, ?, ?, ?)"),
+			ParamSetter.BIGINT, ParamSetter.BIGINT, ParamSetter.BIGINT,
+			ParamSetter.BIGINT, ParamSetter.BIGINT, ParamSetter.BIGINT,
+			_INTEGER, _VARCHAR, _VARCHAR, _VARCHAR);
+		_claimEntriesSqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(
+			dataSource,
+			StringBundler.concat(
+				"update DDMFormSubmissionQueue set status = ?, owner = ?, ",
+				"claimDate = ? where entryId >= ? and entryId <= ? and ",
+				"(status = ? or (status = ? and claimDate < ?))"),
+			_INTEGER, _VARCHAR, _TIMESTAMP, ParamSetter.BIGINT,
+			ParamSetter.BIGINT, _INTEGER, _INTEGER, _TIMESTAMP);
+		_countEntriesMappingSqlQuery =
+			MappingSqlQueryFactoryUtil.getMappingSqlQuery(
+				dataSource,
+				"select count(*) from DDMFormSubmissionQueue where status <> ?",
+				RowMapper.COUNT, _INTEGER);
+		_deleteEntrySqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(
+			dataSource, "delete from DDMFormSubmissionQueue where entryId = ?",
+			ParamSetter.BIGINT);
+		_failEntrySqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(
+			dataSource,
+			"update DDMFormSubmissionQueue set status = ? where entryId = ?",
+			_INTEGER, ParamSetter.BIGINT);
+		_getEntriesMappingSqlQuery =
+			MappingSqlQueryFactoryUtil.getMappingSqlQuery(
+				dataSource,
+				StringBundler.concat(
+					"select entryId, companyId, groupId, userId, ",
+					"formInstanceId, structureVersionId, serviceContext, ",
+					"attributes, ddmFormValues from DDMFormSubmissionQueue ",
+					"where owner = ? and status = ? order by entryId asc"),
+				this::_getEntry, _VARCHAR, _INTEGER);
+		_getEntryIdsMappingSqlQuery =
+			MappingSqlQueryFactoryUtil.getMappingSqlQuery(
+				dataSource,
+				StringBundler.concat(
+					"select entryId from DDMFormSubmissionQueue where status ",
+					"= ? or (status = ? and claimDate < ?) order by entryId ",
+					"asc"),
+				RowMapper.PRIMARY_KEY, _INTEGER, _INTEGER, _TIMESTAMP);
+	}
+
+	private DDMFormInstanceRecordSubmissionQueueEntry _getEntry(ResultSet rs)
+		throws SQLException {
+
+		DDMFormInstanceRecordSubmissionQueueEntry entry =
+			new DDMFormInstanceRecordSubmissionQueueEntry();
+
+		entry.setAttributes(rs.getString("attributes"));
+		entry.setCompanyId(rs.getLong("companyId"));
+		entry.setDDMFormValues(rs.getString("ddmFormValues"));
+		entry.setEntryId(rs.getLong("entryId"));
+		entry.setFormInstanceId(rs.getLong("formInstanceId"));
+		entry.setGroupId(rs.getLong("groupId"));
+		entry.setServiceContext(rs.getString("serviceContext"));
+		entry.setStructureVersionId(rs.getLong("structureVersionId"));
+		entry.setUserId(rs.getLong("userId"));
+
+		return entry;
+	}
+
+	private static final ParamSetter _INTEGER =
+		(ps, index, param) -> ps.setInt(index, (Integer)param);
+
+	private static final int _STATUS_FAILED = 1;
+
+	private static final int _STATUS_PENDING = 0;
+
+	private static final int _STATUS_PROCESSING = 2;
+
+	private static final ParamSetter _TIMESTAMP =
+		(ps, index, param) -> ps.setTimestamp(index, (Timestamp)param);
+
+	private static final ParamSetter _VARCHAR =
+		(ps, index, param) -> ps.setString(index, (String)param);
+
+	private SqlUpdate _addEntrySqlUpdate;
+	private SqlUpdate _claimEntriesSqlUpdate;
+	private MappingSqlQuery<Integer> _countEntriesMappingSqlQuery;
+
+	@Reference
+	private CounterLocalService _counterLocalService;
+
+	private SqlUpdate _deleteEntrySqlUpdate;
+	private SqlUpdate _failEntrySqlUpdate;
+	private MappingSqlQuery<DDMFormInstanceRecordSubmissionQueueEntry>
+		_getEntriesMappingSqlQuery;
+	private MappingSqlQuery<Long> _getEntryIdsMappingSqlQuery;
+
+}
\ No newline at end of file
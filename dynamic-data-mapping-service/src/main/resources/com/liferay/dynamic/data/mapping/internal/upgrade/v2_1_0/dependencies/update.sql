@@ -0,0 +1,17 @@
+create table DDMFormSubmissionQueue (
+	entryId LONG not null primary key,
+	companyId LONG,
+	groupId LONG,
+	userId LONG,
+	formInstanceId LONG,
+	structureVersionId LONG,
+	status INTEGER,
+	owner VARCHAR(75) null,
+	claimDate DATE null,
+	serviceContext TEXT null,
+	attributes TEXT null,
+	ddmFormValues TEXT null
+);
+
+create index IX_3B9D04E7 on DDMFormSubmissionQueue (owner);
+create index IX_5E7F1C3A on DDMFormSubmissionQueue (status, entryId);
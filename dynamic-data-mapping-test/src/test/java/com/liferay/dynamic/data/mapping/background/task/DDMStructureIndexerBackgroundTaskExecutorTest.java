@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.background.task;
+
+import com.liferay.dynamic.data.mapping.model.DDMStructure;
+import com.liferay.dynamic.data.mapping.service.DDMStructureLocalService;
+import com.liferay.dynamic.data.mapping.util.DDMStructureFieldsIndexer;
+import com.liferay.portal.kernel.backgroundtask.BackgroundTask;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistry;
+import com.liferay.portal.kernel.search.SearchException;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.util.SetUtil;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class DDMStructureIndexerBackgroundTaskExecutorTest {
+
+	@Before
+	public void setUp() throws Exception {
+		setUpDDMStructureLocalService();
+		setUpIndexerRegistry();
+
+		_ddmStructureIndexerBackgroundTaskExecutor.activate();
+
+		_companyId = CompanyThreadLocal.getCompanyId();
+
+		CompanyThreadLocal.setCompanyId(_COMPANY_ID);
+	}
+
+	@After
+	public void tearDown() {
+		_ddmStructureIndexerBackgroundTaskExecutor.deactivate();
+
+		CompanyThreadLocal.setCompanyId(_companyId);
+	}
+
+	@Test
+	public void testExecuteReindexesChangedFields() throws Exception {
+		List<Long> companyIds = Collections.synchronizedList(
+			new ArrayList<>());
+		List<Long> ddmStructureIds = Collections.synchronizedList(
+			new ArrayList<>());
+
+		Mockito.doAnswer(
+			invocation -> {
+				companyIds.add(CompanyThreadLocal.getCompanyId());
+				ddmStructureIds.addAll(
+					(List<Long>)invocation.getArguments()[0]);
+
+				return null;
+			}
+		).when(
+			_ddmStructureFieldsIndexer
+		).reindexDDMStructureFields(
+			Mockito.anyList(), Mockito.eq(SetUtil.fromArray(_FIELD_NAMES))
+		);
+
+		_ddmStructureIndexerBackgroundTaskExecutor.execute(
+			createBackgroundTask("field1,field2"));
+
+		Collections.sort(ddmStructureIds);
+
+		Assert.assertEquals(Arrays.asList(1L, 2L, 3L), ddmStructureIds);
+
+		Assert.assertEquals(
+			Arrays.asList(_COMPANY_ID, _COMPANY_ID, _COMPANY_ID), companyIds);
+
+		Mockito.verify(
+			_ddmStructureFieldsIndexer, Mockito.never()
+		).reindexDDMStructures(
+			Mockito.anyList()
+		);
+	}
+
+	@Test
+	public void testExecuteReindexesStructures() throws Exception {
+		_ddmStructureIndexerBackgroundTaskExecutor.execute(
+			createBackgroundTask(null));
+
+		for (long ddmStructureId : new long[] {1, 2, 3}) {
+			Mockito.verify(
+				_ddmStructureFieldsIndexer
+			).reindexDDMStructures(
+				Collections.singletonList(ddmStructureId)
+			);
+		}
+
+		Mockito.verify(
+			_ddmStructureFieldsIndexer, Mockito.never()
+		).reindexDDMStructureFields(
+			Mockito.anyList(), Mockito.anySet()
+		);
+	}
+
+	@Test
+	public void testExecuteRethrowsFailure() throws Exception {
+		SearchException searchException = new SearchException();
+
+		Mockito.doThrow(
+			searchException
+		).when(
+			_ddmStructureFieldsIndexer
+		).reindexDDMStructureFields(
+			Mockito.eq(Collections.singletonList(2L)), Mockito.anySet()
+		);
+
+		try {
+			_ddmStructureIndexerBackgroundTaskExecutor.execute(
+				createBackgroundTask("field1,field2"));
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+			Assert.assertSame(searchException, e);
+		}
+
+		Mockito.verify(
+			_ddmStructureFieldsIndexer
+		).reindexDDMStructureFields(
+			Mockito.eq(Collections.singletonList(3L)), Mockito.anySet()
+		);
+	}
+
+	protected BackgroundTask createBackgroundTask(String ddmFormFieldNames) {
+		BackgroundTask backgroundTask = Mockito.mock(BackgroundTask.class);
+
+		Map<String, Serializable> taskContextMap = new HashMap<>();
+
+		taskContextMap.put("ddmFormFieldNames", ddmFormFieldNames);
+		taskContextMap.put("structureId", 1L);
+
+		Mockito.when(
+			backgroundTask.getTaskContextMap()
+		).thenReturn(
+			taskContextMap
+		);
+
+		return backgroundTask;
+	}
+
+	protected DDMStructure createDDMStructure(long structureId) {
+		DDMStructure ddmStructure = Mockito.mock(DDMStructure.class);
+
+		Mockito.when(
+			ddmStructure.getClassName()
+		).thenReturn(
+			_CLASS_NAME
+		);
+
+		Mockito.when(
+			ddmStructure.getStructureId()
+		).thenReturn(
+			structureId
+		);
+
+		return ddmStructure;
+	}
+
+	protected void setUpDDMStructureLocalService() throws Exception {
+		DDMStructureLocalService ddmStructureLocalService = Mockito.mock(
+			DDMStructureLocalService.class);
+
+		Mockito.when(
+			ddmStructureLocalService.getChildrenStructures(Mockito.anyLong())
+		).thenReturn(
+			Collections.emptyList()
+		);
+
+		List<DDMStructure> childrenDDMStructures = Arrays.asList(
+			createDDMStructure(2), createDDMStructure(3));
+
+		Mockito.when(
+			ddmStructureLocalService.getChildrenStructures(1)
+		).thenReturn(
+			childrenDDMStructures
+		);
+
+		DDMStructure ddmStructure = createDDMStructure(1);
+
+		Mockito.when(
+			ddmStructureLocalService.getStructure(1)
+		).thenReturn(
+			ddmStructure
+		);
+
+		_ddmStructureIndexerBackgroundTaskExecutor.setDDMStructureLocalService(
+			ddmStructureLocalService);
+	}
+
+	protected void setUpIndexerRegistry() {
+		IndexerRegistry indexerRegistry = Mockito.mock(IndexerRegistry.class);
+
+		Mockito.when(
+			indexerRegistry.nullSafeGetIndexer(_CLASS_NAME)
+		).thenReturn(
+			(Indexer<Object>)_ddmStructureFieldsIndexer
+		);
+
+		_ddmStructureIndexerBackgroundTaskExecutor.setIndexerRegistry(
+			indexerRegistry);
+	}
+
+	private static final String _CLASS_NAME = "com.liferay.test.Entry";
+
+	private static final long _COMPANY_ID = 20116;
+
+	private static final String[] _FIELD_NAMES = {"field1", "field2"};
+
+	private long _companyId;
+	private final DDMStructureFieldsIndexer _ddmStructureFieldsIndexer =
+		Mockito.mock(
+			DDMStructureFieldsIndexer.class,
+			Mockito.withSettings().extraInterfaces(Indexer.class));
+	private final DDMStructureIndexerBackgroundTaskExecutor
+		_ddmStructureIndexerBackgroundTaskExecutor =
+			new DDMStructureIndexerBackgroundTaskExecutor();
+
+}
\ No newline at end of file
@@ -0,0 +1,467 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.internal.search;
+
+import com.liferay.portal.kernel.cluster.ClusterMasterExecutor;
+import com.liferay.portal.kernel.lock.DuplicateLockException;
+import com.liferay.portal.kernel.lock.Lock;
+import com.liferay.portal.kernel.lock.LockManager;
+import com.liferay.portal.kernel.model.Company;
+import com.liferay.portal.kernel.search.IndexWriterHelper;
+import com.liferay.portal.kernel.service.CompanyLocalService;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.util.PrefsProps;
+import com.liferay.portal.kernel.uuid.PortalUUID;
+import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.portlet.PortletPreferences;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.MockingDetails;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * @author agent
+ */
+@RunWith(PowerMockRunner.class)
+@SuppressStaticInitializationFor(
+	{
+		"com.liferay.portal.kernel.search.BaseIndexer",
+		"com.liferay.portal.kernel.search.DocumentImpl"
+	}
+)
+public class DDMFormInstanceRecordIndexerTest {
+
+	@Before
+	public void setUp() throws Exception {
+		Company company = Mockito.mock(Company.class);
+
+		Mockito.when(
+			company.getCompanyId()
+		).thenReturn(
+			_COMPANY_ID
+		);
+
+		Mockito.when(
+			_companyLocalService.getCompanies()
+		).thenReturn(
+			Collections.singletonList(company)
+		);
+
+		Mockito.when(
+			_clusterMasterExecutor.isMaster()
+		).thenReturn(
+			true
+		);
+
+		Mockito.when(
+			_lockManager.lock(
+				Mockito.anyLong(), Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyString(), Mockito.anyBoolean(), Mockito.anyLong())
+		).thenAnswer(
+			invocation -> {
+				String key = (String)invocation.getArguments()[2];
+
+				Lock lock = Mockito.mock(Lock.class);
+
+				Mockito.when(
+					lock.getKey()
+				).thenReturn(
+					key
+				);
+
+				if (!_lockedKeys.add(key)) {
+					throw new DuplicateLockException(lock);
+				}
+
+				return lock;
+			}
+		);
+
+		Mockito.doAnswer(
+			invocation -> _lockedKeys.remove(invocation.getArguments()[1])
+		).when(
+			_lockManager
+		).unlock(
+			Mockito.anyString(), Mockito.anyString(), Mockito.anyString()
+		);
+
+		Mockito.when(
+			_prefsProps.getPreferences(_COMPANY_ID, false)
+		).thenReturn(
+			_portletPreferences
+		);
+
+		PortalUUIDUtil portalUUIDUtil = new PortalUUIDUtil();
+
+		portalUUIDUtil.setPortalUUID(Mockito.mock(PortalUUID.class));
+
+		_ddmFormInstanceRecordIndexer.clusterMasterExecutor =
+			_clusterMasterExecutor;
+		_ddmFormInstanceRecordIndexer.companyLocalService =
+			_companyLocalService;
+		_ddmFormInstanceRecordIndexer.indexWriterHelper = Mockito.mock(
+			IndexWriterHelper.class);
+		_ddmFormInstanceRecordIndexer.lockManager = _lockManager;
+		_ddmFormInstanceRecordIndexer.prefsProps = _prefsProps;
+		_ddmFormInstanceRecordIndexer.userLocalService = Mockito.mock(
+			UserLocalService.class);
+
+		setUpConfiguration(3);
+	}
+
+	@After
+	public void tearDown() {
+		_executorService.shutdownNow();
+	}
+
+	@Test
+	public void testCompleteChunksInOrder() throws Exception {
+		DDMFormInstanceRecordIndexer.ReindexCheckpoint reindexCheckpoint =
+			_ddmFormInstanceRecordIndexer.new ReindexCheckpoint(_COMPANY_ID, 0);
+
+		reindexCheckpoint.complete(0, 5);
+		reindexCheckpoint.complete(5, 13);
+
+		assertCheckpoints("5", "13");
+	}
+
+	@Test
+	public void testCompleteChunksOutOfOrder() throws Exception {
+		DDMFormInstanceRecordIndexer.ReindexCheckpoint reindexCheckpoint =
+			_ddmFormInstanceRecordIndexer.new ReindexCheckpoint(_COMPANY_ID, 0);
+
+		reindexCheckpoint.complete(13, 34);
+		reindexCheckpoint.complete(5, 13);
+
+		assertCheckpoints();
+
+		reindexCheckpoint.complete(0, 5);
+
+		assertCheckpoints("34");
+
+		reindexCheckpoint.complete(55, 89);
+
+		assertCheckpoints("34");
+
+		reindexCheckpoint.complete(34, 55);
+
+		assertCheckpoints("34", "89");
+	}
+
+	@Test(timeout = 30000)
+	public void testDeactivateStopsReindexFormInstanceRecords()
+		throws Exception {
+
+		setUpConfiguration(1);
+
+		CountDownLatch releaseCountDownLatch = new CountDownLatch(1);
+		CountDownLatch startCountDownLatch = new CountDownLatch(1);
+
+		_ddmFormInstanceRecordIndexer.releaseCountDownLatch =
+			releaseCountDownLatch;
+		_ddmFormInstanceRecordIndexer.startCountDownLatch = startCountDownLatch;
+
+		Future<?> future = _executorService.submit(
+			() -> {
+				_ddmFormInstanceRecordIndexer.reindexFormInstanceRecords(
+					_COMPANY_ID);
+
+				return null;
+			});
+
+		startCountDownLatch.await();
+
+		_ddmFormInstanceRecordIndexer.deactivate();
+
+		releaseCountDownLatch.countDown();
+
+		try {
+			future.get();
+
+			Assert.fail();
+		}
+		catch (ExecutionException ee) {
+		}
+
+		Assert.assertTrue(_ddmFormInstanceRecordIndexer.chunks.size() < 4);
+		Assert.assertTrue(_lockedKeys.isEmpty());
+
+		Mockito.verify(
+			_portletPreferences
+		).reset(
+			_REINDEX_CHECKPOINT_KEY
+		);
+	}
+
+	@Test
+	public void testReindexFormInstanceRecords() throws Exception {
+		_ddmFormInstanceRecordIndexer.reindexFormInstanceRecords(_COMPANY_ID);
+
+		assertChunks(
+			new long[] {0, 5}, new long[] {5, 13}, new long[] {13, 34},
+			new long[] {34, 55});
+
+		Assert.assertTrue(_lockedKeys.isEmpty());
+
+		Mockito.verify(
+			_lockManager, Mockito.times(4)
+		).refresh(
+			Mockito.anyString(), Mockito.anyLong(), Mockito.anyLong()
+		);
+
+		Mockito.verify(
+			_portletPreferences, Mockito.times(2)
+		).reset(
+			_REINDEX_CHECKPOINT_KEY
+		);
+	}
+
+	@Test
+	public void testReindexFormInstanceRecordsKeepsCheckpointOnFailure()
+		throws Exception {
+
+		setUpConfiguration(1);
+
+		_ddmFormInstanceRecordIndexer.failingEndFormInstanceRecordId = 13;
+
+		try {
+			_ddmFormInstanceRecordIndexer.reindexFormInstanceRecords(
+				_COMPANY_ID, 0, Mockito.mock(Lock.class));
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+			Assert.assertEquals("13", e.getMessage());
+		}
+
+		assertCheckpoints("5");
+
+		Mockito.verify(
+			_portletPreferences, Mockito.never()
+		).reset(
+			_REINDEX_CHECKPOINT_KEY
+		);
+	}
+
+	@Test
+	public void testResumeReindexFormInstanceRecords() throws Exception {
+		Mockito.when(
+			_prefsProps.getLong(_COMPANY_ID, _REINDEX_CHECKPOINT_KEY, 0)
+		).thenReturn(
+			13L
+		);
+
+		_ddmFormInstanceRecordIndexer.resumeReindexFormInstanceRecords();
+
+		assertChunks(new long[] {13, 34}, new long[] {34, 55});
+
+		Mockito.verify(
+			_portletPreferences
+		).reset(
+			_REINDEX_CHECKPOINT_KEY
+		);
+	}
+
+	@Test(timeout = 30000)
+	public void testResumeReindexFormInstanceRecordsSkipsRunningReindex()
+		throws Exception {
+
+		setUpConfiguration(1);
+
+		Mockito.when(
+			_prefsProps.getLong(_COMPANY_ID, _REINDEX_CHECKPOINT_KEY, 0)
+		).thenReturn(
+			13L
+		);
+
+		CountDownLatch releaseCountDownLatch = new CountDownLatch(1);
+		CountDownLatch startCountDownLatch = new CountDownLatch(1);
+
+		_ddmFormInstanceRecordIndexer.releaseCountDownLatch =
+			releaseCountDownLatch;
+		_ddmFormInstanceRecordIndexer.startCountDownLatch = startCountDownLatch;
+
+		Future<?> future = _executorService.submit(
+			() -> {
+				_ddmFormInstanceRecordIndexer.reindexFormInstanceRecords(
+					_COMPANY_ID);
+
+				return null;
+			});
+
+		startCountDownLatch.await();
+
+		_ddmFormInstanceRecordIndexer.resumeReindexFormInstanceRecords();
+
+		Mockito.verify(
+			_prefsProps, Mockito.never()
+		).getLong(
+			_COMPANY_ID, _REINDEX_CHECKPOINT_KEY, 0
+		);
+
+		releaseCountDownLatch.countDown();
+
+		future.get();
+
+		assertChunks(
+			new long[] {0, 5}, new long[] {5, 13}, new long[] {13, 34},
+			new long[] {34, 55});
+	}
+
+	protected void assertCheckpoints(String... checkpoints) {
+		List<String> actualCheckpoints = new ArrayList<>();
+
+		MockingDetails mockingDetails = Mockito.mockingDetails(
+			_portletPreferences);
+
+		for (Invocation invocation : mockingDetails.getInvocations()) {
+			if ("setValue".equals(invocation.getMethod().getName())) {
+				actualCheckpoints.add((String)invocation.getArguments()[1]);
+			}
+		}
+
+		Assert.assertEquals(Arrays.asList(checkpoints), actualCheckpoints);
+	}
+
+	protected void assertChunks(long[]... chunks) {
+		List<String> expectedChunks = new ArrayList<>();
+
+		for (long[] chunk : chunks) {
+			expectedChunks.add(Arrays.toString(chunk));
+		}
+
+		List<String> actualChunks = new ArrayList<>(
+			_ddmFormInstanceRecordIndexer.chunks);
+
+		Collections.sort(actualChunks);
+		Collections.sort(expectedChunks);
+
+		Assert.assertEquals(expectedChunks, actualChunks);
+	}
+
+	protected void setUpConfiguration(int reindexWorkersCount) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("parallelReindexEnabled", true);
+		properties.put("reindexChunkSize", 2);
+		properties.put("reindexWorkersCount", reindexWorkersCount);
+
+		_ddmFormInstanceRecordIndexer.modified(properties);
+	}
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final long[] _FORM_INSTANCE_RECORD_IDS =
+		{3, 5, 8, 13, 21, 34, 55};
+
+	private static final String _REINDEX_CHECKPOINT_KEY =
+		DDMFormInstanceRecordIndexer.class.getName() +
+			"#lastFormInstanceRecordId";
+
+	private final ClusterMasterExecutor _clusterMasterExecutor = Mockito.mock(
+		ClusterMasterExecutor.class);
+	private final CompanyLocalService _companyLocalService = Mockito.mock(
+		CompanyLocalService.class);
+	private final TestDDMFormInstanceRecordIndexer
+		_ddmFormInstanceRecordIndexer = new TestDDMFormInstanceRecordIndexer();
+	private final ExecutorService _executorService =
+		Executors.newSingleThreadExecutor();
+	private final Set<String> _lockedKeys = ConcurrentHashMap.newKeySet();
+	private final LockManager _lockManager = Mockito.mock(LockManager.class);
+	private final PortletPreferences _portletPreferences = Mockito.mock(
+		PortletPreferences.class);
+	private final PrefsProps _prefsProps = Mockito.mock(PrefsProps.class);
+
+	private static class TestDDMFormInstanceRecordIndexer
+		extends DDMFormInstanceRecordIndexer {
+
+		public final List<String> chunks = Collections.synchronizedList(
+			new ArrayList<>());
+		public volatile long failingEndFormInstanceRecordId;
+		public volatile CountDownLatch releaseCountDownLatch;
+		public volatile CountDownLatch startCountDownLatch;
+
+		@Override
+		protected long getReindexChunkEndFormInstanceRecordId(
+			long companyId, long formInstanceRecordId, int chunkSize) {
+
+			long endFormInstanceRecordId = formInstanceRecordId;
+			int count = 0;
+
+			for (long curFormInstanceRecordId : _FORM_INSTANCE_RECORD_IDS) {
+				if (curFormInstanceRecordId <= formInstanceRecordId) {
+					continue;
+				}
+
+				endFormInstanceRecordId = curFormInstanceRecordId;
+
+				if (++count == chunkSize) {
+					break;
+				}
+			}
+
+			return endFormInstanceRecordId;
+		}
+
+		@Override
+		protected void reindexFormInstanceRecords(
+				long companyId, long startFormInstanceRecordId,
+				long endFormInstanceRecordId)
+			throws Exception {
+
+			if (startCountDownLatch != null) {
+				startCountDownLatch.countDown();
+
+				releaseCountDownLatch.await();
+			}
+
+			if (endFormInstanceRecordId == failingEndFormInstanceRecordId) {
+				throw new Exception(String.valueOf(endFormInstanceRecordId));
+			}
+
+			chunks.add(
+				Arrays.toString(
+					new long[] {
+						startFormInstanceRecordId, endFormInstanceRecordId
+					}));
+		}
+
+	}
+
+}
\ No newline at end of file
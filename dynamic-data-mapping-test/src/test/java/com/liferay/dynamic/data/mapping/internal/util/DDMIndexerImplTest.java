@@ -89,6 +89,124 @@ public class DDMIndexerImplTest {
 		documentFixture.tearDown();
 	}
 
+	@Test
+	public void testAddAttributesAfterStructureVersionChange() {
+		Locale defaultLocale = LocaleUtil.US;
+
+		Set<Locale> availableLocales = Collections.singleton(defaultLocale);
+
+		DDMForm ddmForm = DDMFormTestUtil.createDDMForm(
+			availableLocales, defaultLocale);
+
+		String fieldName = "text1";
+
+		ddmForm.addDDMFormField(createDDMFormField(fieldName, "text"));
+
+		String fieldValue = "Create New";
+
+		DDMFormFieldValue ddmFormFieldValue = createDDMFormFieldValue(
+			fieldName, defaultLocale, fieldValue, defaultLocale);
+
+		DDMStructure ddmStructure = createDDMStructure(ddmForm);
+
+		ddmStructure.setVersion("1.0");
+
+		ddmIndexer.addAttributes(
+			createDocument(), ddmStructure,
+			createDDMFormValues(ddmForm, ddmFormFieldValue));
+
+		DDMForm updatedDDMForm = DDMFormTestUtil.createDDMForm(
+			availableLocales, defaultLocale);
+
+		updatedDDMForm.addDDMFormField(
+			createDDMFormField(fieldName, "keyword"));
+
+		ddmStructure.setDDMForm(updatedDDMForm);
+		ddmStructure.setVersion("1.1");
+
+		Document document = createDocument();
+
+		ddmIndexer.addAttributes(
+			document, ddmStructure,
+			createDDMFormValues(updatedDDMForm, ddmFormFieldValue));
+
+		Map<String, String> map = _withSortableValues(
+			new HashMap<String, String>() {
+				{
+					put("ddm__keyword__NNNNN__text1_en_US", fieldValue);
+				}
+			});
+
+		FieldValuesAssert.assertFieldValues(
+			_replaceKeys(
+				"NNNNN", String.valueOf(ddmStructure.getStructureId()), map),
+			"ddm__", document, fieldValue);
+	}
+
+	@Test
+	public void testAddAttributesWithIndexableAttributesFieldName() {
+		Locale defaultLocale = LocaleUtil.JAPAN;
+		Locale translationLocale = LocaleUtil.US;
+
+		Set<Locale> availableLocales = new HashSet<>(
+			Arrays.asList(defaultLocale, translationLocale));
+
+		DDMForm ddmForm = DDMFormTestUtil.createDDMForm(
+			availableLocales, defaultLocale);
+
+		String fieldName = "text1";
+		String indexType = "text";
+
+		ddmForm.addDDMFormField(createDDMFormField(fieldName, indexType));
+
+		String fieldValueJP = "新規作成";
+		String fieldValueUS = "Create New";
+
+		DDMFormFieldValue ddmFormFieldValueJP = createDDMFormFieldValue(
+			fieldName, defaultLocale, fieldValueJP, defaultLocale);
+
+		DDMFormFieldValue ddmFormFieldValueUS = createDDMFormFieldValue(
+			fieldName, translationLocale, fieldValueUS, defaultLocale);
+
+		Document document = createDocument();
+
+		DDMStructure ddmStructure = createDDMStructure(ddmForm);
+
+		DDMFormValues ddmFormValues = createDDMFormValues(
+			ddmForm, ddmFormFieldValueJP, ddmFormFieldValueUS);
+
+		ddmIndexer.addAttributes(
+			document, ddmStructure, ddmFormValues, "ddmContent");
+
+		Map<String, String> map = _withSortableValues(
+			new HashMap<String, String>() {
+				{
+					put("ddm__text__NNNNN__text1_ja_JP", fieldValueJP);
+					put("ddm__text__NNNNN__text1_en_US", fieldValueUS);
+				}
+			});
+
+		FieldValuesAssert.assertFieldValues(
+			_replaceKeys(
+				"NNNNN", String.valueOf(ddmStructure.getStructureId()), map),
+			"ddm__text", document, fieldValueJP);
+
+		FieldValuesAssert.assertFieldValues(
+			new HashMap<String, String>() {
+				{
+					put(
+						"ddmContent_en_US",
+						ddmIndexer.extractIndexableAttributes(
+							ddmStructure, ddmFormValues, translationLocale));
+					put(
+						"ddmContent_ja_JP",
+						ddmIndexer.extractIndexableAttributes(
+							ddmStructure, ddmFormValues, defaultLocale));
+				}
+			},
+			"ddmContent", document, fieldValueUS);
+	}
+
 	@Test
 	public void testFormWithOneAvailableLocaleSameAsDefaultLocale() {
 		Locale defaultLocale = LocaleUtil.JAPAN;
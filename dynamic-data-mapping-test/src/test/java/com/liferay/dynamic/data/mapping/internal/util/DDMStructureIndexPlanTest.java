@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.internal.util;
+
+import com.liferay.dynamic.data.mapping.model.DDMForm;
+import com.liferay.dynamic.data.mapping.model.DDMFormField;
+import com.liferay.dynamic.data.mapping.model.LocalizedValue;
+import com.liferay.dynamic.data.mapping.test.util.DDMFormTestUtil;
+import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DDMStructureIndexPlanTest {
+
+	@Test
+	public void testAddIndexedField() {
+		DDMForm previousDDMForm = createDDMForm();
+
+		previousDDMForm.addDDMFormField(createDDMFormField("text1", "text"));
+
+		DDMForm ddmForm = createDDMForm();
+
+		ddmForm.addDDMFormField(createDDMFormField("text1", "text"));
+		ddmForm.addDDMFormField(createDDMFormField("text2", "keyword"));
+
+		assertChangedFieldNames(
+			previousDDMForm, ddmForm, Collections.singleton("text2"), true);
+	}
+
+	@Test
+	public void testChangeDataType() {
+		DDMForm previousDDMForm = createDDMForm();
+
+		previousDDMForm.addDDMFormField(createDDMFormField("text1", "text"));
+
+		DDMForm ddmForm = createDDMForm();
+
+		DDMFormField ddmFormField = createDDMFormField("text1", "text");
+
+		ddmFormField.setDataType("integer");
+
+		ddmForm.addDDMFormField(ddmFormField);
+
+		assertChangedFieldNames(
+			previousDDMForm, ddmForm, Collections.singleton("text1"), true);
+	}
+
+	@Test
+	public void testChangeIndexType() {
+		DDMForm previousDDMForm = createDDMForm();
+
+		previousDDMForm.addDDMFormField(createDDMFormField("text1", "text"));
+
+		DDMForm ddmForm = createDDMForm();
+
+		ddmForm.addDDMFormField(createDDMFormField("text1", "keyword"));
+
+		assertChangedFieldNames(
+			previousDDMForm, ddmForm, Collections.singleton("text1"), false);
+	}
+
+	@Test
+	public void testChangeLabel() {
+		DDMForm previousDDMForm = createDDMForm();
+
+		previousDDMForm.addDDMFormField(createDDMFormField("text1", "text"));
+
+		DDMForm ddmForm = createDDMForm();
+
+		DDMFormField ddmFormField = createDDMFormField("text1", "text");
+
+		LocalizedValue label = ddmFormField.getLabel();
+
+		label.addString(LocaleUtil.US, "New Label");
+
+		ddmForm.addDDMFormField(ddmFormField);
+
+		assertChangedFieldNames(
+			previousDDMForm, ddmForm, Collections.<String>emptySet(), true);
+	}
+
+	@Test
+	public void testChangeNotIndexedField() {
+		DDMForm previousDDMForm = createDDMForm();
+
+		previousDDMForm.addDDMFormField(createDDMFormField("text1", ""));
+
+		DDMForm ddmForm = createDDMForm();
+
+		DDMFormField ddmFormField = createDDMFormField("text1", "");
+
+		ddmFormField.setRepeatable(true);
+
+		ddmForm.addDDMFormField(ddmFormField);
+		ddmForm.addDDMFormField(createDDMFormField("text2", ""));
+
+		assertChangedFieldNames(
+			previousDDMForm, ddmForm, Collections.<String>emptySet(), true);
+	}
+
+	@Test
+	public void testRenameIndexedField() {
+		DDMForm previousDDMForm = createDDMForm();
+
+		previousDDMForm.addDDMFormField(createDDMFormField("text1", "text"));
+
+		DDMForm ddmForm = createDDMForm();
+
+		ddmForm.addDDMFormField(createDDMFormField("text2", "text"));
+
+		assertChangedFieldNames(
+			previousDDMForm, ddmForm,
+			SetUtil.fromArray(new String[] {"text1", "text2"}), false);
+	}
+
+	protected void assertChangedFieldNames(
+		DDMForm previousDDMForm, DDMForm ddmForm,
+		Set<String> expectedChangedFieldNames,
+		boolean expectedPartiallyUpdatable) {
+
+		DDMStructureIndexPlan previousDDMStructureIndexPlan =
+			new DDMStructureIndexPlan(_DDM_STRUCTURE_ID, previousDDMForm);
+
+		DDMStructureIndexPlan ddmStructureIndexPlan = new DDMStructureIndexPlan(
+			_DDM_STRUCTURE_ID, ddmForm);
+
+		Set<String> changedFieldNames =
+			ddmStructureIndexPlan.getChangedFieldNames(
+				previousDDMStructureIndexPlan);
+
+		Assert.assertEquals(expectedChangedFieldNames, changedFieldNames);
+		Assert.assertEquals(
+			expectedPartiallyUpdatable,
+			ddmStructureIndexPlan.isPartiallyUpdatable(
+				previousDDMStructureIndexPlan, changedFieldNames));
+	}
+
+	protected DDMForm createDDMForm() {
+		return DDMFormTestUtil.createDDMForm(
+			DDMFormTestUtil.createAvailableLocales(LocaleUtil.US),
+			LocaleUtil.US);
+	}
+
+	protected DDMFormField createDDMFormField(
+		String fieldName, String indexType) {
+
+		DDMFormField ddmFormField = DDMFormTestUtil.createTextDDMFormField(
+			fieldName, false, false, false);
+
+		ddmFormField.setIndexType(indexType);
+
+		return ddmFormField;
+	}
+
+	private static final long _DDM_STRUCTURE_ID = 1;
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DDMFormTest {
+
+	@Test
+	public void testDDMFormFieldsMap() {
+		DDMForm ddmForm = new DDMForm();
+
+		DDMFormField ddmFormField = new DDMFormField("Name", "text");
+
+		ddmFormField.addNestedDDMFormField(new DDMFormField("Phone", "text"));
+
+		ddmForm.addDDMFormField(ddmFormField);
+		ddmForm.addDDMFormField(new DDMFormField("Email", "text"));
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(false);
+
+		Assert.assertEquals(
+			ddmFormFieldsMap.toString(), 2, ddmFormFieldsMap.size());
+		Assert.assertSame(
+			ddmFormFieldsMap, ddmForm.getReadOnlyDDMFormFieldsMap(false));
+
+		Map<String, DDMFormField> nestedDDMFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertArrayEquals(
+			new String[] {"Name", "Phone", "Email"},
+			nestedDDMFormFieldsMap.keySet().toArray());
+		Assert.assertSame(
+			nestedDDMFormFieldsMap, ddmForm.getReadOnlyDDMFormFieldsMap(true));
+	}
+
+	@Test
+	public void testDDMFormFieldsMapAfterChanges() {
+		DDMForm ddmForm = new DDMForm();
+
+		DDMFormField ddmFormField = new DDMFormField("Name", "text");
+
+		ddmForm.addDDMFormField(ddmFormField);
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertTrue(ddmFormFieldsMap.containsKey("Name"));
+
+		ddmFormField.addNestedDDMFormField(new DDMFormField("Phone", "text"));
+
+		ddmFormFieldsMap = ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertTrue(ddmFormFieldsMap.containsKey("Phone"));
+
+		ddmFormField.setName("FullName");
+
+		ddmFormFieldsMap = ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertFalse(ddmFormFieldsMap.containsKey("Name"));
+		Assert.assertTrue(ddmFormFieldsMap.containsKey("FullName"));
+
+		List<DDMFormField> ddmFormFields = ddmForm.getDDMFormFields();
+
+		ddmFormFields.add(new DDMFormField("Email", "text"));
+
+		ddmFormFieldsMap = ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertTrue(ddmFormFieldsMap.containsKey("Email"));
+
+		ddmFormFields.set(1, new DDMFormField("Address", "text"));
+
+		ddmFormFieldsMap = ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertFalse(ddmFormFieldsMap.containsKey("Email"));
+		Assert.assertTrue(ddmFormFieldsMap.containsKey("Address"));
+
+		List<DDMFormField> nestedDDMFormFields =
+			ddmFormField.getNestedDDMFormFields();
+
+		nestedDDMFormFields.set(0, new DDMFormField("Mobile", "text"));
+
+		ddmFormFieldsMap = ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertFalse(ddmFormFieldsMap.containsKey("Phone"));
+		Assert.assertTrue(ddmFormFieldsMap.containsKey("Mobile"));
+	}
+
+	@Test
+	public void testModifyDDMFormFieldsMap() {
+		DDMForm ddmForm = new DDMForm();
+
+		ddmForm.addDDMFormField(new DDMFormField("Name", "text"));
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			ddmForm.getDDMFormFieldsMap(true);
+
+		ddmFormFieldsMap.put("Email", new DDMFormField("Email", "text"));
+		ddmFormFieldsMap.remove("Name");
+
+		Map<String, DDMFormField> readOnlyDDMFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertFalse(readOnlyDDMFormFieldsMap.containsKey("Email"));
+		Assert.assertTrue(readOnlyDDMFormFieldsMap.containsKey("Name"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyReadOnlyDDMFormFieldsMap() {
+		DDMForm ddmForm = new DDMForm();
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			ddmForm.getReadOnlyDDMFormFieldsMap(true);
+
+		ddmFormFieldsMap.put("Name", new DDMFormField("Name", "text"));
+	}
+
+}
@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.dynamic.data.mapping.model;
+
+import com.liferay.portal.kernel.util.LocaleUtil;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ReadOnlyDDMFormTest {
+
+	@Before
+	public void setUp() {
+		_ddmForm = new DDMForm();
+
+		_ddmForm.addAvailableLocale(LocaleUtil.US);
+		_ddmForm.setDefaultLocale(LocaleUtil.US);
+
+		DDMFormField ddmFormField = new DDMFormField("Name", "text");
+
+		DDMFormFieldOptions ddmFormFieldOptions = new DDMFormFieldOptions();
+
+		ddmFormFieldOptions.addOptionLabel("A", LocaleUtil.US, "Option A");
+
+		ddmFormField.setDDMFormFieldOptions(ddmFormFieldOptions);
+
+		LocalizedValue label = new LocalizedValue(LocaleUtil.US);
+
+		label.addString(LocaleUtil.US, "Name");
+
+		ddmFormField.setLabel(label);
+
+		ddmFormField.setProperty(
+			"placeholder", new LocalizedValue(LocaleUtil.US));
+
+		ddmFormField.addNestedDDMFormField(new DDMFormField("Phone", "text"));
+
+		_ddmForm.addDDMFormField(ddmFormField);
+
+		_ddmForm.addDDMFormRule(
+			new DDMFormRule("TRUE", "setVisible('Phone', false)"));
+	}
+
+	@Test
+	public void testCopyIsModifiable() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		DDMForm ddmForm = new DDMForm(readOnlyDDMForm);
+
+		ddmForm.addDDMFormField(new DDMFormField("Email", "text"));
+
+		List<DDMFormField> ddmFormFields = ddmForm.getDDMFormFields();
+
+		DDMFormField ddmFormField = ddmFormFields.get(0);
+
+		ddmFormField.setRequired(true);
+
+		List<DDMFormField> nestedDDMFormFields =
+			ddmFormField.getNestedDDMFormFields();
+
+		DDMFormField nestedDDMFormField = nestedDDMFormFields.get(0);
+
+		nestedDDMFormField.setRequired(true);
+
+		LocalizedValue label = ddmFormField.getLabel();
+
+		label.addString(LocaleUtil.BRAZIL, "Nome");
+
+		LocalizedValue placeholder = (LocalizedValue)ddmFormField.getProperty(
+			"placeholder");
+
+		placeholder.addString(LocaleUtil.US, "Type your name");
+
+		Assert.assertEquals(
+			ddmFormFields.toString(), 2, ddmFormFields.size());
+		Assert.assertSame(ddmForm, nestedDDMFormField.getDDMForm());
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			readOnlyDDMForm.getDDMFormFieldsMap(true);
+
+		Assert.assertFalse(ddmFormFieldsMap.containsKey("Email"));
+
+		DDMFormField readOnlyDDMFormField = ddmFormFieldsMap.get("Name");
+
+		Assert.assertFalse(readOnlyDDMFormField.isRequired());
+
+		label = readOnlyDDMFormField.getLabel();
+
+		Assert.assertNull(label.getValues().get(LocaleUtil.BRAZIL));
+
+		placeholder = (LocalizedValue)readOnlyDDMFormField.getProperty(
+			"placeholder");
+
+		Assert.assertNull(placeholder.getValues().get(LocaleUtil.US));
+	}
+
+	@Test
+	public void testDDMFormFieldsMap() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			readOnlyDDMForm.getReadOnlyDDMFormFieldsMap(false);
+
+		Assert.assertSame(
+			ddmFormFieldsMap,
+			readOnlyDDMForm.getReadOnlyDDMFormFieldsMap(false));
+		Assert.assertEquals(
+			_ddmForm.getDDMFormFieldsMap(false).keySet(),
+			ddmFormFieldsMap.keySet());
+
+		Map<String, DDMFormField> nestedDDMFormFieldsMap =
+			readOnlyDDMForm.getReadOnlyDDMFormFieldsMap(true);
+
+		Assert.assertSame(
+			nestedDDMFormFieldsMap,
+			readOnlyDDMForm.getReadOnlyDDMFormFieldsMap(true));
+		Assert.assertEquals(
+			_ddmForm.getDDMFormFieldsMap(true).keySet(),
+			nestedDDMFormFieldsMap.keySet());
+
+		for (DDMFormField ddmFormField : nestedDDMFormFieldsMap.values()) {
+			Assert.assertSame(readOnlyDDMForm, ddmFormField.getDDMForm());
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		Assert.assertEquals(_ddmForm, readOnlyDDMForm);
+		Assert.assertEquals(_ddmForm.hashCode(), readOnlyDDMForm.hashCode());
+		Assert.assertEquals(_ddmForm, new DDMForm(readOnlyDDMForm));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormField() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		List<DDMFormField> ddmFormFields = readOnlyDDMForm.getDDMFormFields();
+
+		DDMFormField ddmFormField = ddmFormFields.get(0);
+
+		ddmFormField.setRequired(true);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormFieldLabel() {
+		DDMFormField ddmFormField = getReadOnlyDDMFormField("Name");
+
+		LocalizedValue label = ddmFormField.getLabel();
+
+		label.addString(LocaleUtil.BRAZIL, "Nome");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormFieldOptionLabels() {
+		DDMFormField ddmFormField = getReadOnlyDDMFormField("Name");
+
+		DDMFormFieldOptions ddmFormFieldOptions =
+			ddmFormField.getDDMFormFieldOptions();
+
+		LocalizedValue optionLabels = ddmFormFieldOptions.getOptionLabels("A");
+
+		optionLabels.addString(LocaleUtil.BRAZIL, "Opcao A");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormFieldOptions() {
+		DDMFormField ddmFormField = getReadOnlyDDMFormField("Name");
+
+		DDMFormFieldOptions ddmFormFieldOptions =
+			ddmFormField.getDDMFormFieldOptions();
+
+		ddmFormFieldOptions.addOptionLabel("B", LocaleUtil.US, "Option B");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormFieldProperties() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		List<DDMFormField> ddmFormFields = readOnlyDDMForm.getDDMFormFields();
+
+		DDMFormField ddmFormField = ddmFormFields.get(0);
+
+		Map<String, Object> properties = ddmFormField.getProperties();
+
+		properties.put("required", true);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormFieldPropertyValue() {
+		DDMFormField ddmFormField = getReadOnlyDDMFormField("Name");
+
+		LocalizedValue placeholder = (LocalizedValue)ddmFormField.getProperty(
+			"placeholder");
+
+		placeholder.addString(LocaleUtil.US, "Type your name");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormFields() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		List<DDMFormField> ddmFormFields = readOnlyDDMForm.getDDMFormFields();
+
+		ddmFormFields.add(new DDMFormField("Email", "text"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormRule() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		List<DDMFormRule> ddmFormRules = readOnlyDDMForm.getDDMFormRules();
+
+		DDMFormRule ddmFormRule = ddmFormRules.get(0);
+
+		ddmFormRule.setCondition("FALSE");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormRuleActions() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		List<DDMFormRule> ddmFormRules = readOnlyDDMForm.getDDMFormRules();
+
+		DDMFormRule ddmFormRule = ddmFormRules.get(0);
+
+		List<String> actions = ddmFormRule.getActions();
+
+		actions.add("setVisible('Name', false)");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormRules() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		readOnlyDDMForm.addDDMFormRule(new DDMFormRule("TRUE", "true"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyDDMFormSuccessPageSettings() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		DDMFormSuccessPageSettings ddmFormSuccessPageSettings =
+			readOnlyDDMForm.getDDMFormSuccessPageSettings();
+
+		ddmFormSuccessPageSettings.setEnabled(true);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyNestedDDMFormField() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			readOnlyDDMForm.getDDMFormFieldsMap(true);
+
+		DDMFormField ddmFormField = ddmFormFieldsMap.get("Phone");
+
+		ddmFormField.setName("Email");
+	}
+
+	@Test
+	public void testSourceChangesAreNotVisible() {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		_ddmForm.addDDMFormField(new DDMFormField("Email", "text"));
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			readOnlyDDMForm.getDDMFormFieldsMap(true);
+
+		Assert.assertFalse(ddmFormFieldsMap.containsKey("Email"));
+	}
+
+	protected DDMFormField getReadOnlyDDMFormField(String name) {
+		DDMForm readOnlyDDMForm = new ReadOnlyDDMForm(_ddmForm);
+
+		Map<String, DDMFormField> ddmFormFieldsMap =
+			readOnlyDDMForm.getDDMFormFieldsMap(true);
+
+		return ddmFormFieldsMap.get(name);
+	}
+
+	private DDMForm _ddmForm;
+
+}
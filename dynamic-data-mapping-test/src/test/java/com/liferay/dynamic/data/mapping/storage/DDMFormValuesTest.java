@@ -53,6 +53,49 @@ public class DDMFormValuesTest extends BaseDDMTestCase {
 			ddmFormFieldValues.toString(), 3, ddmFormFieldValues.size());
 	}
 
+	@Test
+	public void testDDMFormFieldValuesMapAfterChanges() {
+		DDMFormValues ddmFormValues = createDDMFormValues(null);
+
+		DDMFormFieldValue ddmFormFieldValue = createDDMFormFieldValue(
+			"Name", null);
+
+		ddmFormValues.addDDMFormFieldValue(ddmFormFieldValue);
+
+		Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+		Assert.assertSame(
+			ddmFormFieldValuesMap,
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap());
+
+		ddmFormFieldValue.setName("Email");
+
+		ddmFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+		Assert.assertFalse(ddmFormFieldValuesMap.containsKey("Name"));
+		Assert.assertTrue(ddmFormFieldValuesMap.containsKey("Email"));
+
+		List<DDMFormFieldValue> ddmFormFieldValues =
+			ddmFormValues.getDDMFormFieldValues();
+
+		ddmFormFieldValues.add(createDDMFormFieldValue("Phone", null));
+
+		ddmFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+		Assert.assertTrue(ddmFormFieldValuesMap.containsKey("Phone"));
+
+		ddmFormFieldValues.set(1, createDDMFormFieldValue("Address", null));
+
+		ddmFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+		Assert.assertFalse(ddmFormFieldValuesMap.containsKey("Phone"));
+		Assert.assertTrue(ddmFormFieldValuesMap.containsKey("Address"));
+	}
+
 	@Test
 	public void testEqualsWithDifferentAvailableLocales() {
 		DDMFormValues ddmFormValues1 = createDDMFormValues(
@@ -141,4 +184,46 @@ public class DDMFormValuesTest extends BaseDDMTestCase {
 		Assert.assertTrue(ddmFormValues1.equals(ddmFormValues2));
 	}
 
+	@Test
+	public void testModifyDDMFormFieldValuesMap() {
+		DDMFormValues ddmFormValues = createDDMFormValues(null);
+
+		ddmFormValues.addDDMFormFieldValue(
+			createDDMFormFieldValue("Name", null));
+
+		Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
+			ddmFormValues.getDDMFormFieldValuesMap();
+
+		List<DDMFormFieldValue> ddmFormFieldValues = ddmFormFieldValuesMap.get(
+			"Name");
+
+		ddmFormFieldValues.add(createDDMFormFieldValue("Name", null));
+
+		ddmFormFieldValuesMap.remove("Name");
+
+		Map<String, List<DDMFormFieldValue>> readOnlyDDMFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+		ddmFormFieldValues = readOnlyDDMFormFieldValuesMap.get("Name");
+
+		Assert.assertEquals(
+			ddmFormFieldValues.toString(), 1, ddmFormFieldValues.size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testModifyReadOnlyDDMFormFieldValuesMap() {
+		DDMFormValues ddmFormValues = createDDMFormValues(null);
+
+		ddmFormValues.addDDMFormFieldValue(
+			createDDMFormFieldValue("Name", null));
+
+		Map<String, List<DDMFormFieldValue>> ddmFormFieldValuesMap =
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap();
+
+		List<DDMFormFieldValue> ddmFormFieldValues = ddmFormFieldValuesMap.get(
+			"Name");
+
+		ddmFormFieldValues.add(createDDMFormFieldValue("Name", null));
+	}
+
 }
\ No newline at end of file
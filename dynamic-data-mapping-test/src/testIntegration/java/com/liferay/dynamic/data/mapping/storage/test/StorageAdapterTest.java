@@ -45,6 +45,7 @@ import com.liferay.portal.kernel.test.rule.AggregateTestRule;
 import com.liferay.portal.kernel.test.util.RandomTestUtil;
 import com.liferay.portal.kernel.test.util.ServiceContextTestUtil;
 import com.liferay.portal.kernel.test.util.TestPropsValues;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.ContentTypes;
 import com.liferay.portal.kernel.util.ListUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
@@ -138,6 +139,62 @@ public class StorageAdapterTest extends BaseDDMServiceTestCase {
 		validate(structure.getStructureId(), fields);
 	}
 
+	@Test
+	public void testCreateMultipleDDMFormValues() throws Exception {
+		String definition = read("ddm-structure-text-field.xsd");
+
+		DDMStructure structure = addStructure(
+			_classNameId, null, "Text Field Structure", definition,
+			StorageType.JSON.getValue(), DDMStructureConstants.TYPE_DEFAULT);
+
+		JSONSerializer jsonSerializer = JSONFactoryUtil.createJSONSerializer();
+
+		List<DDMFormValues> ddmFormValuesList = new ArrayList<>();
+		List<String> expectedFieldsStrings = new ArrayList<>();
+
+		for (String value : new String[] {"one", "two", "three"}) {
+			Fields fields = new Fields();
+
+			Map<Locale, List<Serializable>> dataMap = new HashMap<>();
+
+			dataMap.put(_enLocale, createValuesList(value));
+
+			Field textField = new Field(
+				structure.getStructureId(), "text", dataMap, _enLocale);
+
+			fields.put(textField);
+
+			Field fieldsDisplayField = createFieldsDisplayField(
+				structure.getStructureId(), "text_INSTANCE_rztm");
+
+			fields.put(fieldsDisplayField);
+
+			expectedFieldsStrings.add(jsonSerializer.serializeDeep(fields));
+
+			ddmFormValuesList.add(
+				_fieldsToDDMFormValuesConverter.convert(structure, fields));
+		}
+
+		long[] classPKs = _jsonStorageAdapter.create(
+			TestPropsValues.getCompanyId(), structure.getStructureId(),
+			ddmFormValuesList,
+			ServiceContextTestUtil.getServiceContext(group.getGroupId()));
+
+		Assert.assertEquals(expectedFieldsStrings.size(), classPKs.length);
+
+		for (int i = 0; i < classPKs.length; i++) {
+			DDMFormValues actualDDMFormValues =
+				_jsonStorageAdapter.getDDMFormValues(classPKs[i]);
+
+			Fields actualFields = _ddmFormValuesToFieldsConverter.convert(
+				structure, actualDDMFormValues);
+
+			Assert.assertEquals(
+				expectedFieldsStrings.get(i),
+				jsonSerializer.serializeDeep(actualFields));
+		}
+	}
+
 	@Test(expected = DDMFormValuesValidationException.MustSetValidValue.class)
 	public void testCreateWithInvalidDDMFieldValue() throws Exception {
 		DDMStructure structure = addStructure(
@@ -369,6 +426,72 @@ public class StorageAdapterTest extends BaseDDMServiceTestCase {
 		validate(structure.getStructureId(), fields);
 	}
 
+	@Test
+	public void testGetMultipleDDMFormValues() throws Exception {
+		String definition = read("ddm-structure-text-field.xsd");
+
+		DDMStructure structure1 = addStructure(
+			_classNameId, null, "Text Field Structure 1", definition,
+			StorageType.JSON.getValue(), DDMStructureConstants.TYPE_DEFAULT);
+		DDMStructure structure2 = addStructure(
+			_classNameId, null, "Text Field Structure 2", definition,
+			StorageType.JSON.getValue(), DDMStructureConstants.TYPE_DEFAULT);
+
+		JSONSerializer jsonSerializer = JSONFactoryUtil.createJSONSerializer();
+
+		List<DDMStructure> structures = new ArrayList<>();
+		List<String> expectedFieldsStrings = new ArrayList<>();
+
+		long[] classPKs = new long[4];
+
+		for (int i = 0; i < classPKs.length; i++) {
+			DDMStructure structure = structure1;
+
+			if ((i % 2) == 1) {
+				structure = structure2;
+			}
+
+			Fields fields = new Fields();
+
+			Map<Locale, List<Serializable>> dataMap = new HashMap<>();
+
+			dataMap.put(_enLocale, createValuesList("value" + i));
+
+			Field textField = new Field(
+				structure.getStructureId(), "text", dataMap, _enLocale);
+
+			fields.put(textField);
+
+			Field fieldsDisplayField = createFieldsDisplayField(
+				structure.getStructureId(), "text_INSTANCE_rztm");
+
+			fields.put(fieldsDisplayField);
+
+			classPKs[i] = create(
+				_jsonStorageAdapter, structure.getStructureId(), fields);
+
+			structures.add(structure);
+			expectedFieldsStrings.add(jsonSerializer.serializeDeep(fields));
+		}
+
+		Map<Long, DDMFormValues> ddmFormValuesMap =
+			_jsonStorageAdapter.getDDMFormValues(classPKs);
+
+		Assert.assertArrayEquals(
+			classPKs,
+			ArrayUtil.toLongArray(
+				new ArrayList<Long>(ddmFormValuesMap.keySet())));
+
+		for (int i = 0; i < classPKs.length; i++) {
+			Fields actualFields = _ddmFormValuesToFieldsConverter.convert(
+				structures.get(i), ddmFormValuesMap.get(classPKs[i]));
+
+			Assert.assertEquals(
+				expectedFieldsStrings.get(i),
+				jsonSerializer.serializeDeep(actualFields));
+		}
+	}
+
 	@Test
 	public void testIntegerField() throws Exception {
 		String definition = read("ddm-structure-integer-field.xsd");
@@ -74,11 +74,11 @@ public class DDMFormValuesValidatorImpl implements DDMFormValuesValidator {
 
 		traverseDDMFormFields(
 			ddmForm.getDDMFormFields(),
-			ddmFormValues.getDDMFormFieldValuesMap());
+			ddmFormValues.getReadOnlyDDMFormFieldValuesMap());
 
 		traverseDDMFormFieldValues(
 			ddmFormValues.getDDMFormFieldValues(),
-			ddmForm.getDDMFormFieldsMap(false));
+			ddmForm.getReadOnlyDDMFormFieldsMap(false));
 	}
 
 	@Reference(